@@ -58,6 +58,10 @@ public class SecurityConfig {
                         .permitAll()
                     .requestMatchers(HttpMethod.POST, "/page/view")
                         .permitAll()
+                    .requestMatchers(HttpMethod.GET, "/l/*")
+                        .permitAll()
+                    .requestMatchers(HttpMethod.GET, "/p/*")
+                        .permitAll()
                     .anyRequest().authenticated()
                 .and()
                     .sessionManagement()
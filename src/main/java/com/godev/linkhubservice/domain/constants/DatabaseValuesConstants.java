@@ -10,4 +10,8 @@ public class DatabaseValuesConstants {
     public static final String DEFAULT_PAGE_BACKGROUND_TYPE_COLOR = "COLOR";
     public static final String DEFAULT_PAGE_BACKGROUND_VALUE = "#F4F4F4";
     public static final String PAGE_BACKGROUND_TYPE_IMAGE = "IMAGE";
+    public static final String DEFAULT_LINK_BACKGROUND_COLOR = "#cacaca";
+    public static final String DEFAULT_LINK_TEXT_COLOR = "#212121";
+    public static final String DEFAULT_LINK_BORDER_TYPE = "square";
+    public static final int LINK_ORDER_GAP = 1024;
 }
@@ -14,7 +14,22 @@ public class IssueDetails {
 
     public static final String  EMAIL_NOT_FOUND_ERROR = "Conta com o email '%s' não encontrada.";
     public static final String  ID_NOT_FOUND_ERROR = "Página com o ID '%s' não encontrada.";
+    public static final String  SLUG_NOT_FOUND_ERROR = "Página com o perfil '%s' não encontrada.";
+
+    public static final String  LINK_NOT_FOUND_ERROR = "Link com o ID '%s' não encontrado na página %s.";
+    public static final String  ACTIVE_LINK_NOT_FOUND_ERROR = "Link com o ID '%s' não encontrado.";
+    public static final String  LINK_MOVE_AFTER_ITSELF_ERROR = "O link %s não pode ser movido para depois dele mesmo.";
+    public static final String  INVALID_ACTIVATION_WINDOW_ERROR = "O início da ativação %s precisa ser anterior ao fim %s.";
+    public static final String  LINK_ORDER_MISMATCH_ERROR = "A nova ordem precisa conter cada link da página %s exatamente uma vez.";
 
     public static final String  USER_NOT_ALLOWED = "Usuário não autorizado a editar a página de id %s.";
 
+    public static final String  PAGE_VIEW_QUEUE_FULL_ERROR = "A fila de visualizações está cheia, tente novamente mais tarde.";
+    public static final String  INVALID_DATE_RANGE_ERROR = "A data inicial %s precisa ser anterior ou igual à data final %s.";
+    public static final String  INVALID_SERIES_GRANULARITY_ERROR = "A granularidade %s não é válida. Use day, week ou month.";
+    public static final String  INVALID_SOURCE_DIMENSION_ERROR = "A dimensão %s não é válida. Use referrer, utm_source, utm_medium ou utm_campaign.";
+    public static final String  INVALID_EXPORT_FORMAT_ERROR = "O formato %s não é válido. Use csv ou ndjson.";
+    public static final String  COMPACTED_RANGE_ERROR = "O período corta as visualizações já agregadas a partir de %s. Use um período que inclua esse agrupamento inteiro ou que não o alcance.";
+    public static final String  PAGE_VIEW_BATCH_FORMAT_ERROR = "Não foi possível ler o registro %s do lote de visualizações.";
+
 }
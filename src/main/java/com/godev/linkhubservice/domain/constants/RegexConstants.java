@@ -9,6 +9,8 @@ public class RegexConstants {
     public static final String  PASSWORD_VALIDATION_REGEX = "^(?=.*[a-z])(?=.*[A-Z])(?=.*[0-9])(?=.*[!@#$%^&*])[a-zA-Z0-9!@#$%^&*]{8,16}$";
     public static final String  URL_VALIDATION_REGEX = "^(?:https?:)\\/\\/i\\.imgur\\.com\\/[\\w-]+\\.(?:jpg|jpeg|png|gif|bmp)$";
     public static final String HEX_VALIDATION_REGEX = "^#([A-Fa-f0-9]{6}|[A-Fa-f0-9]{3})$";
+    public static final String LINK_URL_VALIDATION_REGEX = "^https?:\\/\\/[^\\s]+$";
+    public static final String BORDER_TYPE_VALIDATION_REGEX = "^(square|rounded)$";
     public static final String HEX_OR_URL_VALIDATION_REGEX = "^(?:(?:https?:)?\\/\\/i\\.imgur\\.com\\/[\\w-]+\\.(?:jpg|jpeg|png|gif|bmp))|#([A-Fa-f0-9]{6}|[A-Fa-f0-9]{3})$";
 
 }
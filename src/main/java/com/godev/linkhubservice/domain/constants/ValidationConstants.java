@@ -10,6 +10,7 @@ public class ValidationConstants {
     public static final String  SLUG_LENGTH_ERROR = "O campo slug precisa ter entre 4 e 50 caracteres.";
     public static final String  TITLE_LENGTH_ERROR = "O campo título precisa ter entre 4 e 100 caracteres.";
     public static final String  DESCRIPTION_LENGTH_ERROR = "O campo descrição precisa ter entre 20 e 200 caracteres.";
+    public static final String  LINK_TITLE_LENGTH_ERROR = "O campo título do link precisa ter no máximo 100 caracteres.";
 
     public static final String  EMAIL_FORMAT_ERROR = "O campo email precisa ser preenchido com um e-mail no formato válido.";
     public static final String  URL_OR_HEX_FORMAT_ERROR = "O campo valor de fundo precisa seguir o padrão da plataforma Imgur " +
@@ -21,6 +22,11 @@ public class ValidationConstants {
     public static final String INVALID_FONT_COLOR_FORMAT_ERROR = "O formato esperado de cor da fonte é em hexadecimal (#F4F4F4) " +
             "e precisa ter entre 4 e 7 caracteres.";
 
+    public static final String INVALID_LINK_URL_FORMAT_ERROR = "O link precisa ser uma url http ou https " +
+            "com no máximo 100 caracteres.";
+    public static final String INVALID_LINK_COLOR_FORMAT_ERROR = "O formato esperado das cores do link é em hexadecimal (#F4F4F4).";
+    public static final String INVALID_BORDER_TYPE_ERROR = "O tipo de borda esperado é square ou rounded.";
+
     public static final String  INVALID_BACKGROUND_TYPE_ERROR = "O tipo esperado de cor de fundo é COLOR ou IMAGE.";
     public static final String  INVALID_BG_VALUE_FOR_BG_TYPE_COLOR_ERROR = "O valor esperado para o fundo é em hexadecimal (#F4F4F4).";
     public static final String  INVALID_BG_VALUE_FOR_BG_TYPE_IMAGE_ERROR = "O valor esperado para o fundo deve seguir " +
@@ -31,4 +37,7 @@ public class ValidationConstants {
     public static final String  NAME_REQUIRED_ERROR = "O campo nome é obrigatório!";
     public static final String  SLUG_REQUIRED_ERROR = "O campo slug é obrigatório!";
     public static final String  PAGE_ID_REQUIRED_ERROR = "O campo pageId é obrigatório!";
+    public static final String  TITLE_REQUIRED_ERROR = "O campo título é obrigatório!";
+    public static final String  HREF_REQUIRED_ERROR = "O campo href é obrigatório!";
+    public static final String  LINK_IDS_REQUIRED_ERROR = "O campo linkIds é obrigatório!";
 }
@@ -0,0 +1,42 @@
+package com.godev.linkhubservice.domain.enums;
+
+import com.godev.linkhubservice.domain.vo.PageViewRequest;
+import org.apache.commons.lang3.StringUtils;
+
+import java.net.URI;
+import java.util.Locale;
+
+public enum PageViewDimension {
+    REFERRER,
+    UTM_SOURCE,
+    UTM_MEDIUM,
+    UTM_CAMPAIGN;
+
+    private static final int MAX_VALUE_LENGTH = 100;
+
+    public String read(PageViewRequest request) {
+        var value = switch (this) {
+            case REFERRER -> host(request.getReferrer());
+            case UTM_SOURCE -> request.getUtmSource();
+            case UTM_MEDIUM -> request.getUtmMedium();
+            case UTM_CAMPAIGN -> request.getUtmCampaign();
+        };
+
+        return StringUtils.truncate(StringUtils.lowerCase(StringUtils.trimToNull(value), Locale.ROOT), MAX_VALUE_LENGTH);
+    }
+
+    private static String host(String referrer) {
+        if (StringUtils.isBlank(referrer)) {
+            return null;
+        }
+
+        try {
+            var trimmed = referrer.trim();
+            var host = URI.create(trimmed.contains("://") ? trimmed : "http://" + trimmed).getHost();
+
+            return host == null ? null : StringUtils.removeStart(host.toLowerCase(Locale.ROOT), "www.");
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.godev.linkhubservice.domain.enums;
+
+import org.springframework.http.MediaType;
+
+public enum PageViewExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON(MediaType.APPLICATION_NDJSON_VALUE, "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    PageViewExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return this.contentType;
+    }
+
+    public String getExtension() {
+        return this.extension;
+    }
+}
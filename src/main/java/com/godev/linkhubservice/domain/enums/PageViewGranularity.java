@@ -0,0 +1,29 @@
+package com.godev.linkhubservice.domain.enums;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+public enum PageViewGranularity {
+    HOUR,
+    DAY,
+    MONTH;
+
+    public OffsetDateTime truncate(OffsetDateTime moment) {
+        var utc = moment.withOffsetSameInstant(ZoneOffset.UTC);
+
+        return switch (this) {
+            case HOUR -> utc.truncatedTo(ChronoUnit.HOURS);
+            case DAY -> utc.truncatedTo(ChronoUnit.DAYS);
+            case MONTH -> utc.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1);
+        };
+    }
+
+    public OffsetDateTime next(OffsetDateTime bucket) {
+        return switch (this) {
+            case HOUR -> bucket.plusHours(1);
+            case DAY -> bucket.plusDays(1);
+            case MONTH -> bucket.plusMonths(1);
+        };
+    }
+}
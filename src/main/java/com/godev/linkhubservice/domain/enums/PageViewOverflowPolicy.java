@@ -0,0 +1,7 @@
+package com.godev.linkhubservice.domain.enums;
+
+public enum PageViewOverflowPolicy {
+    DROP,
+    REJECT,
+    SYNC
+}
@@ -6,7 +6,8 @@ public enum IssueEnum {
     OBJECT_NOT_FOUND("O objeto da requisição não pode ser encontrado no banco de dados."),
     HEADER_REQUIRED_ERROR("Um erro ocorreu durante a validação dos headers obrigatórios"),
     AUTHENTICATION_ERROR("Um erro ocorreu durante a autenticação do usuário"),
-    FORBIDDEN("Um erro ocorreu durante a validação de autorizações")
+    FORBIDDEN("Um erro ocorreu durante a validação de autorizações"),
+    SERVICE_UNAVAILABLE("O serviço está temporariamente indisponível")
     ;
 
     private final String message;
@@ -0,0 +1,14 @@
+package com.godev.linkhubservice.domain.exceptions;
+
+import lombok.Getter;
+
+public class ServiceUnavailableException extends RuntimeException {
+
+    @Getter
+    private final transient Issue issue;
+
+    public ServiceUnavailableException(Issue issue) {
+        super(issue.getMessage());
+        this.issue = issue;
+    }
+}
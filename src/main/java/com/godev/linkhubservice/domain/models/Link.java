@@ -0,0 +1,63 @@
+package com.godev.linkhubservice.domain.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(setterPrefix = "with")
+@Entity(name = "links")
+public class Link {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    private Boolean status;
+
+    @Column(nullable = false)
+    private Integer linkOrder;
+
+    @Column(length = 100, nullable = false)
+    private String title;
+
+    @Column(length = 100, nullable = false)
+    private String href;
+
+    @Column(length = 7)
+    private String backgroundColor;
+
+    @Column(length = 7)
+    private String textColor;
+
+    @Column(length = 8)
+    private String borderType;
+
+    private OffsetDateTime activeFrom;
+
+    private OffsetDateTime activeUntil;
+
+    private OffsetDateTime nextTransitionAt;
+
+    @Column(insertable = false, updatable = false)
+    private Integer checkStatus;
+
+    @Column(insertable = false, updatable = false)
+    private OffsetDateTime checkedAt;
+
+    @ManyToOne
+    @JoinColumn(name = "page_id", nullable = false)
+    private Page page;
+}
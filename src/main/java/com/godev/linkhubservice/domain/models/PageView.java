@@ -1,7 +1,10 @@
 package com.godev.linkhubservice.domain.models;
 
+import com.godev.linkhubservice.domain.enums.PageViewGranularity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -31,6 +34,18 @@ public class PageView {
     @Column
     private Integer total;
 
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer shard = 0;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 5)
+    @Builder.Default
+    private PageViewGranularity granularity = PageViewGranularity.HOUR;
+
+    @Column(length = 1024)
+    private byte[] visitors;
+
     @ManyToOne
     @JoinColumn(name = "page_id", nullable = false)
     private Page pageId;
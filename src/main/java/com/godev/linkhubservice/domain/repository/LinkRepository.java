@@ -0,0 +1,40 @@
+package com.godev.linkhubservice.domain.repository;
+
+import com.godev.linkhubservice.domain.models.Link;
+import com.godev.linkhubservice.domain.vo.LinkTarget;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.godev.linkhubservice.domain.constants.DatabaseValuesConstants.LINK_ORDER_GAP;
+
+@Repository
+public interface LinkRepository extends JpaRepository<Link, Integer>, LinkRepositoryCustom {
+
+    List<Link> findByPage_IdOrderByLinkOrder(Integer pageId);
+
+    Optional<Link> findByIdAndPage_Id(Integer id, Integer pageId);
+
+    @Query("SELECT l.id FROM links l WHERE l.page.id = :pageId")
+    List<Integer> findIdsByPageId(Integer pageId);
+
+    @Query("SELECT COALESCE(MAX(l.linkOrder), 0) + " + LINK_ORDER_GAP + " FROM links l WHERE l.page.id = :pageId")
+    Integer findNextOrder(Integer pageId);
+
+    @Query("SELECT MIN(l.linkOrder) FROM links l WHERE l.page.id = :pageId AND l.id <> :linkId")
+    Integer findFirstOrder(Integer pageId, Integer linkId);
+
+    @Query("SELECT MIN(l.linkOrder) FROM links l " +
+            "WHERE l.page.id = :pageId AND l.id <> :linkId AND l.linkOrder > :linkOrder")
+    Integer findOrderAfter(Integer pageId, Integer linkId, Integer linkOrder);
+
+    @Query("SELECT l.linkOrder FROM links l WHERE l.id = :id AND l.page.id = :pageId")
+    Optional<Integer> findOrderByIdAndPageId(Integer id, Integer pageId);
+
+    @Query("SELECT new com.godev.linkhubservice.domain.vo.LinkTarget(l.page.id, l.href) FROM links l " +
+            "WHERE l.id = :id AND l.status = true")
+    Optional<LinkTarget> findActiveTargetById(Integer id);
+}
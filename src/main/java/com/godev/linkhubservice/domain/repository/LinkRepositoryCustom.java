@@ -0,0 +1,32 @@
+package com.godev.linkhubservice.domain.repository;
+
+import com.godev.linkhubservice.domain.vo.LinkCheck;
+import com.godev.linkhubservice.domain.vo.LinkCheckResult;
+import com.godev.linkhubservice.domain.vo.LinkClickKey;
+import com.godev.linkhubservice.domain.vo.LinkTransition;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+public interface LinkRepositoryCustom {
+
+    void lockPage(Integer pageId);
+
+    void touchPage(Integer pageId, OffsetDateTime updatedAt);
+
+    int reorder(Integer pageId, List<Integer> linkIds);
+
+    int renormalize(Integer pageId);
+
+    void incrementClicks(Map<LinkClickKey, Long> deltas);
+
+    List<LinkCheck> findCheckTargets(Integer afterId, int limit);
+
+    void updateChecks(List<LinkCheckResult> results);
+
+    void findTransitions(OffsetDateTime after, OffsetDateTime until, BiConsumer<Integer, OffsetDateTime> consumer);
+
+    List<LinkTransition> applyTransitions(List<Integer> linkIds, OffsetDateTime now);
+}
@@ -0,0 +1,204 @@
+package com.godev.linkhubservice.domain.repository;
+
+import com.godev.linkhubservice.domain.vo.LinkCheck;
+import com.godev.linkhubservice.domain.vo.LinkCheckResult;
+import com.godev.linkhubservice.domain.vo.LinkClickKey;
+import com.godev.linkhubservice.domain.vo.LinkTransition;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+
+import static com.godev.linkhubservice.domain.constants.DatabaseValuesConstants.LINK_ORDER_GAP;
+
+@Slf4j
+public class LinkRepositoryCustomImpl implements LinkRepositoryCustom {
+
+    private static final String REORDER = "UPDATE links SET link_order = CASE id %s END WHERE page_id = ? AND id IN (%s)";
+    private static final String LOCK_PAGE = "SELECT id FROM pages WHERE id = ? FOR UPDATE";
+    private static final String TOUCH_PAGE =
+            "UPDATE pages SET updated_at = GREATEST(?, updated_at + INTERVAL 1 MICROSECOND) WHERE id = ?";
+    private static final String RENORMALIZE = "UPDATE links l JOIN (SELECT id, ROW_NUMBER() OVER (ORDER BY link_order, id) " +
+            "AS position FROM links WHERE page_id = ?) r ON r.id = l.id SET l.link_order = r.position * ?";
+    private static final String INCREMENT_CLICKS = "UPDATE links SET clicks = clicks + ? WHERE id = ?";
+    private static final String UPSERT_DAILY_CLICKS =
+            "INSERT INTO link_clicks (link_id, page_id, date, total) SELECT id, page_id, ?, ? FROM links WHERE id = ? " +
+            "ON DUPLICATE KEY UPDATE total = total + VALUES(total)";
+    private static final String SELECT_CHECK_TARGETS = "SELECT id, href FROM links WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String UPDATE_CHECK = "UPDATE links SET check_status = ?, checked_at = ? WHERE id = ?";
+    private static final String SELECT_TRANSITIONS = "SELECT id, next_transition_at FROM links WHERE next_transition_at <= ?";
+    private static final String SELECT_TRANSITIONS_AFTER =
+            "SELECT id, next_transition_at FROM links WHERE next_transition_at > ? AND next_transition_at <= ?";
+    private static final String LOCK_DUE_TRANSITIONS =
+            "SELECT id FROM links WHERE id IN (%s) AND next_transition_at <= ? ORDER BY id FOR UPDATE";
+    private static final String APPLY_TRANSITIONS = "UPDATE links SET " +
+            "status = (active_from IS NULL OR active_from <= ?) AND (active_until IS NULL OR active_until > ?), " +
+            "next_transition_at = CASE WHEN active_from > ? THEN active_from WHEN active_until > ? THEN active_until END " +
+            "WHERE id IN (%s)";
+    private static final String TOUCH_PAGES =
+            "UPDATE pages SET updated_at = GREATEST(?, updated_at + INTERVAL 1 MICROSECOND) WHERE id IN (%s)";
+    private static final String SELECT_APPLIED_TRANSITIONS = "SELECT id, page_id, next_transition_at FROM links WHERE id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public LinkRepositoryCustomImpl(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public void lockPage(Integer pageId) {
+        // every write to the order of a page holds its row, so moves and renormalizations never interleave
+        this.jdbcTemplate.queryForList(LOCK_PAGE, Integer.class, pageId);
+    }
+
+    @Override
+    public void touchPage(Integer pageId, OffsetDateTime updatedAt) {
+        // never the same value twice, so other instances comparing it always see the page changed
+        this.jdbcTemplate.update(TOUCH_PAGE, Timestamp.from(updatedAt.toInstant()), pageId);
+    }
+
+    @Override
+    public int reorder(Integer pageId, List<Integer> linkIds) {
+        if (linkIds.isEmpty()) {
+            return 0;
+        }
+
+        var sql = String.format(REORDER, String.join(" ", Collections.nCopies(linkIds.size(), "WHEN ? THEN ?")),
+                String.join(", ", Collections.nCopies(linkIds.size(), "?")));
+        var args = new ArrayList<>(linkIds.size() * 3 + 1);
+
+        for (int position = 0; position < linkIds.size(); position++) {
+            args.add(linkIds.get(position));
+            args.add((position + 1) * LINK_ORDER_GAP);
+        }
+        args.add(pageId);
+        args.addAll(linkIds);
+
+        return this.jdbcTemplate.update(sql, args.toArray());
+    }
+
+    @Override
+    public int renormalize(Integer pageId) {
+        var updated = this.transactionTemplate.execute(status -> {
+            this.lockPage(pageId);
+            return this.jdbcTemplate.update(RENORMALIZE, pageId, LINK_ORDER_GAP);
+        });
+
+        return updated == null ? 0 : updated;
+    }
+
+    @Override
+    public void incrementClicks(Map<LinkClickKey, Long> deltas) {
+        Map<Integer, Long> totals = new TreeMap<>();
+        deltas.forEach((key, delta) -> totals.merge(key.linkId(), delta, Long::sum));
+
+        List<Object[]> totalArgs = totals.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+        List<Object[]> dailyArgs = deltas.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparing(LinkClickKey::linkId)
+                        .thenComparing(LinkClickKey::date)))
+                .map(entry -> new Object[]{Timestamp.from(entry.getKey().date().toInstant()), entry.getValue(),
+                        entry.getKey().linkId()})
+                .toList();
+
+        // links are updated first and in id order, so the upsert reading them never waits on another flush
+        this.transactionTemplate.execute(status -> {
+            this.jdbcTemplate.batchUpdate(INCREMENT_CLICKS, totalArgs);
+            return this.jdbcTemplate.batchUpdate(UPSERT_DAILY_CLICKS, dailyArgs);
+        });
+    }
+
+    @Override
+    public List<LinkCheck> findCheckTargets(Integer afterId, int limit) {
+        return this.jdbcTemplate.query(SELECT_CHECK_TARGETS,
+                (rs, rowNum) -> new LinkCheck(rs.getInt("id"), rs.getString("href")), afterId, limit);
+    }
+
+    @Override
+    public void updateChecks(List<LinkCheckResult> results) {
+        List<Object[]> args = results.stream()
+                .sorted(Comparator.comparing(LinkCheckResult::id))
+                .map(result -> new Object[]{result.status(), Timestamp.from(result.checkedAt().toInstant()), result.id()})
+                .toList();
+
+        this.jdbcTemplate.batchUpdate(UPDATE_CHECK, args);
+    }
+
+    @Override
+    public void findTransitions(OffsetDateTime after, OffsetDateTime until, BiConsumer<Integer, OffsetDateTime> consumer) {
+        RowCallbackHandler handler = rs -> consumer.accept(rs.getInt("id"),
+                rs.getTimestamp("next_transition_at").toInstant().atOffset(ZoneOffset.UTC));
+
+        if (after == null) {
+            this.jdbcTemplate.query(SELECT_TRANSITIONS, handler, Timestamp.from(until.toInstant()));
+        } else {
+            this.jdbcTemplate.query(SELECT_TRANSITIONS_AFTER, handler, Timestamp.from(after.toInstant()),
+                    Timestamp.from(until.toInstant()));
+        }
+    }
+
+    @Override
+    public List<LinkTransition> applyTransitions(List<Integer> linkIds, OffsetDateTime now) {
+        if (linkIds.isEmpty()) {
+            return List.of();
+        }
+
+        var at = Timestamp.from(now.toInstant());
+
+        // links moved to another time since they were scheduled are skipped, so a stale timer changes nothing
+        var transitions = this.transactionTemplate.execute(status -> {
+            var lockArgs = new ArrayList<Object>(linkIds);
+            lockArgs.add(at);
+
+            var due = this.jdbcTemplate.queryForList(String.format(LOCK_DUE_TRANSITIONS, placeholders(linkIds.size())),
+                    Integer.class, lockArgs.toArray());
+
+            if (due.isEmpty()) {
+                return List.<LinkTransition>of();
+            }
+
+            var in = placeholders(due.size());
+            var applyArgs = new ArrayList<Object>(List.of(at, at, at, at));
+            applyArgs.addAll(due);
+
+            this.jdbcTemplate.update(String.format(APPLY_TRANSITIONS, in), applyArgs.toArray());
+
+            return this.jdbcTemplate.query(String.format(SELECT_APPLIED_TRANSITIONS, in), (rs, rowNum) -> {
+                var next = rs.getTimestamp("next_transition_at");
+                return new LinkTransition(rs.getInt("id"), rs.getInt("page_id"),
+                        next == null ? null : next.toInstant().atOffset(ZoneOffset.UTC));
+            }, due.toArray());
+        });
+
+        if (transitions == null || transitions.isEmpty()) {
+            return List.of();
+        }
+
+        // outside the transaction, page rows are always locked before link rows and this one holds links
+        var pageIds = transitions.stream().map(LinkTransition::pageId).distinct().sorted().toList();
+        var touchArgs = new ArrayList<Object>(List.of(at));
+        touchArgs.addAll(pageIds);
+
+        this.jdbcTemplate.update(String.format(TOUCH_PAGES, placeholders(pageIds.size())), touchArgs.toArray());
+
+        return transitions;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
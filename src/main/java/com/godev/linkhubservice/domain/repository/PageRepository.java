@@ -1,15 +1,56 @@
 package com.godev.linkhubservice.domain.repository;
 
 import com.godev.linkhubservice.domain.models.Page;
+import com.godev.linkhubservice.domain.vo.PageListVersion;
+import com.godev.linkhubservice.domain.vo.PageRevision;
+import com.godev.linkhubservice.domain.vo.PageVersion;
+import com.godev.linkhubservice.domain.vo.PublicPageRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface PageRepository extends JpaRepository<Page, Integer> {
+
+    String PUBLIC_PAGE_ROWS = "SELECT new com.godev.linkhubservice.domain.vo.PublicPageRow(p.id, p.slug, p.title, " +
+            "p.description, p.photo, p.fontColor, p.backgroundType, p.backgroundValue, l.id, l.title, l.href, " +
+            "l.backgroundColor, l.textColor, l.borderType) " +
+            "FROM pages p LEFT JOIN links l ON l.page = p AND l.status = true ";
+
     Optional<Page> findBySlug(String slug);
 
     List<Page> findPagesByAccount_Id(Integer accountId);
+
+    @Query("SELECT new com.godev.linkhubservice.domain.vo.PageVersion(p.id, a.email, p.updatedAt) " +
+            "FROM pages p JOIN p.account a WHERE p.id = :id")
+    Optional<PageVersion> findVersionById(Integer id);
+
+    @Query("SELECT new com.godev.linkhubservice.domain.vo.PageListVersion(COUNT(p), MAX(p.updatedAt)) " +
+            "FROM pages p WHERE p.account.email = :email")
+    PageListVersion findVersionByAccountEmail(String email);
+
+    @Query("SELECT p.id FROM pages p")
+    List<Integer> findAllIds();
+
+    @Query("SELECT p.id FROM pages p WHERE p.account.email = :email")
+    Set<Integer> findIdsByAccountEmail(String email);
+
+    @Query("SELECT new com.godev.linkhubservice.domain.vo.PageRevision(p.id, p.updatedAt) FROM pages p")
+    List<PageRevision> findRevisions();
+
+    @Query("SELECT new com.godev.linkhubservice.domain.vo.PageRevision(p.id, p.updatedAt) FROM pages p " +
+            "WHERE p.updatedAt >= :since")
+    List<PageRevision> findRevisionsUpdatedSince(OffsetDateTime since);
+
+    @Query(PUBLIC_PAGE_ROWS + "WHERE p.slug = :slug ORDER BY l.linkOrder, l.id")
+    List<PublicPageRow> findPublicPageRows(String slug);
+
+    @Query(PUBLIC_PAGE_ROWS + "WHERE p.id IN :ids ORDER BY p.id, l.linkOrder, l.id")
+    List<PublicPageRow> findPublicPageRowsByIds(Collection<Integer> ids);
 }
@@ -1,5 +1,6 @@
 package com.godev.linkhubservice.domain.repository;
 
+import com.godev.linkhubservice.domain.enums.PageViewGranularity;
 import com.godev.linkhubservice.domain.models.Page;
 import com.godev.linkhubservice.domain.models.PageView;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,7 +10,8 @@ import java.time.OffsetDateTime;
 import java.util.Optional;
 
 @Repository
-public interface PageViewRepository extends JpaRepository<PageView, Integer> {
+public interface PageViewRepository extends JpaRepository<PageView, Integer>, PageViewRepositoryCustom {
 
-    Optional<PageView> findByPageIdAndDate(Page page, OffsetDateTime date);
+    Optional<PageView> findByPageIdAndGranularityAndDateAndShard(Page page, PageViewGranularity granularity,
+                                                                 OffsetDateTime date, Integer shard);
 }
@@ -0,0 +1,52 @@
+package com.godev.linkhubservice.domain.repository;
+
+import com.godev.linkhubservice.domain.enums.PageViewDimension;
+import com.godev.linkhubservice.domain.enums.PageViewGranularity;
+import com.godev.linkhubservice.domain.enums.PageViewSeriesGranularity;
+import com.godev.linkhubservice.domain.sketches.HyperLogLog;
+import com.godev.linkhubservice.domain.vo.PageClickThroughRatesResponse;
+import com.godev.linkhubservice.domain.vo.PageViewKey;
+import com.godev.linkhubservice.domain.vo.PageViewPoint;
+import com.godev.linkhubservice.domain.vo.PageViewRow;
+import com.godev.linkhubservice.domain.vo.PageViewSourceKey;
+import com.godev.linkhubservice.domain.vo.PageViewSourceTotal;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public interface PageViewRepositoryCustom {
+
+    int incrementTotal(PageViewKey key, int shard, long delta);
+
+    void incrementTotals(Map<PageViewKey, Long> deltas);
+
+    long sumTotals(Integer pageId, OffsetDateTime from, OffsetDateTime to);
+
+    void mergeVisitors(Map<PageViewKey, HyperLogLog> sketches);
+
+    HyperLogLog findVisitors(Integer pageId, OffsetDateTime from, OffsetDateTime to);
+
+    void incrementSources(Map<PageViewSourceKey, Long> deltas);
+
+    List<PageViewSourceTotal> findTopSources(Integer pageId, PageViewDimension dimension, OffsetDateTime from,
+                                             OffsetDateTime to, int limit);
+
+    void streamSeries(Integer pageId, PageViewSeriesGranularity granularity, LocalDate from, LocalDate to,
+                      Consumer<PageViewPoint> consumer);
+
+    List<LocalDate> findCompactedMonths(Integer pageId, LocalDate from, LocalDate to);
+
+    void streamRows(Integer pageId, LocalDate from, LocalDate to, Consumer<PageViewRow> consumer);
+
+    PageClickThroughRatesResponse findClickThroughRates(Integer pageId, LocalDate from, LocalDate to);
+
+    Optional<OffsetDateTime> findSplitBucket(Integer pageId, OffsetDateTime from, OffsetDateTime to);
+
+    Optional<OffsetDateTime> findOldestBucket(PageViewGranularity granularity, OffsetDateTime before);
+
+    int compact(PageViewGranularity source, PageViewGranularity target, OffsetDateTime bucket, int batchSize);
+}
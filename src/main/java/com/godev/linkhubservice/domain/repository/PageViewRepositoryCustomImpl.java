@@ -0,0 +1,489 @@
+package com.godev.linkhubservice.domain.repository;
+
+import com.godev.linkhubservice.domain.enums.PageViewDimension;
+import com.godev.linkhubservice.domain.enums.PageViewGranularity;
+import com.godev.linkhubservice.domain.enums.PageViewSeriesGranularity;
+import com.godev.linkhubservice.domain.sketches.HyperLogLog;
+import com.godev.linkhubservice.domain.vo.LinkClickThroughRate;
+import com.godev.linkhubservice.domain.vo.PageClickThroughRatesResponse;
+import com.godev.linkhubservice.domain.vo.PageViewKey;
+import com.godev.linkhubservice.domain.vo.PageViewPoint;
+import com.godev.linkhubservice.domain.vo.PageViewRow;
+import com.godev.linkhubservice.domain.vo.PageViewSourceKey;
+import com.godev.linkhubservice.domain.vo.PageViewSourceTotal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+@Slf4j
+public class PageViewRepositoryCustomImpl implements PageViewRepositoryCustom {
+
+    private static final String UPSERT_TOTAL =
+            "INSERT INTO page_views (date, total, shard, granularity, page_id) SELECT ?, ?, ?, ?, id FROM pages WHERE id = ? " +
+            "ON DUPLICATE KEY UPDATE total = total + VALUES(total)";
+
+    private static final String BUCKET_RANGE = "(granularity = ? AND date >= ? AND date < ?)";
+
+    private static final String BUCKET_AT = "(granularity = ? AND date = ?)";
+
+    private static final String SELECT_OLDEST_BUCKET =
+            "SELECT MIN(date) FROM page_views WHERE granularity = ? AND date < ?";
+
+    private static final String SELECT_BUCKET_PAGES =
+            "SELECT DISTINCT page_id FROM page_views WHERE granularity = ? AND date >= ? AND date < ? AND page_id > ? " +
+            "ORDER BY page_id LIMIT ?";
+
+    private static final String PAGES_BUCKET = "page_id IN (%s) AND granularity = ? AND date >= ? AND date < ?";
+
+    private static final String LOCK_BUCKET =
+            "SELECT id FROM page_views WHERE " + PAGES_BUCKET + " FOR UPDATE";
+
+    private static final String ROLL_UP_BUCKET =
+            "INSERT INTO page_views (date, total, shard, granularity, page_id) " +
+            "SELECT rolled.date, rolled.views, 0, rolled.granularity, rolled.page_id FROM (" +
+            "SELECT ? AS date, SUM(total) AS views, ? AS granularity, page_id FROM page_views " +
+            "WHERE " + PAGES_BUCKET + " GROUP BY page_id) rolled " +
+            "ON DUPLICATE KEY UPDATE total = page_views.total + VALUES(total)";
+
+    private static final String SELECT_BUCKET_VISITORS =
+            "SELECT page_id, visitors FROM page_views WHERE " + PAGES_BUCKET + " AND visitors IS NOT NULL";
+
+    private static final String ENSURE_VISITORS_ROW =
+            "INSERT INTO page_views (date, total, shard, granularity, page_id) SELECT ?, 0, 0, ?, id FROM pages WHERE id = ? " +
+            "ON DUPLICATE KEY UPDATE total = total";
+
+    private static final String LOCK_VISITORS =
+            "SELECT visitors FROM page_views WHERE page_id = ? AND granularity = ? AND date = ? AND shard = 0 FOR UPDATE";
+
+    private static final String UPDATE_VISITORS =
+            "UPDATE page_views SET visitors = ? WHERE page_id = ? AND granularity = ? AND date = ? AND shard = 0";
+
+    private static final String UPSERT_SOURCE =
+            "INSERT INTO page_view_sources (page_id, date, dimension_id, total) SELECT id, ?, ?, ? FROM pages WHERE id = ? " +
+            "ON DUPLICATE KEY UPDATE total = total + VALUES(total)";
+
+    private static final String SELECT_TOP_SOURCES =
+            "SELECT d.value, SUM(s.total) AS views FROM page_view_sources s " +
+            "JOIN view_dimensions d ON d.id = s.dimension_id " +
+            "WHERE s.page_id = ? AND s.date >= ? AND s.date < ? AND d.dimension = ? " +
+            "GROUP BY d.value ORDER BY views DESC, d.value LIMIT ?";
+
+    private static final String SELECT_SERIES =
+            "SELECT %s AS bucket, SUM(total) FROM page_views " +
+            "WHERE page_id = ? AND date >= ? AND date < ? AND granularity IN (%s) GROUP BY bucket ORDER BY bucket";
+
+    private static final String SELECT_COMPACTED_MONTHS =
+            "SELECT DISTINCT DATE(date) FROM page_views WHERE page_id = ? AND granularity = 'MONTH' AND date >= ? AND date < ? " +
+            "ORDER BY 1";
+
+    private static final String SELECT_ROWS =
+            "SELECT date, granularity, SUM(total) FROM page_views " +
+            "WHERE page_id = ? AND date >= ? AND date < ? GROUP BY date, granularity ORDER BY date, granularity";
+
+    private static final String SELECT_CLICK_THROUGH_RATES =
+            "SELECT v.views, l.id, l.title, COALESCE(c.clicks, 0) FROM " +
+            "(SELECT COALESCE(SUM(total), 0) AS views FROM page_views WHERE page_id = ? AND (%s)) v " +
+            "LEFT JOIN links l ON l.page_id = ? " +
+            "LEFT JOIN (SELECT link_id, SUM(total) AS clicks FROM link_clicks " +
+            "WHERE page_id = ? AND date >= ? AND date < ? GROUP BY link_id) c ON c.link_id = l.id " +
+            "ORDER BY l.link_order, l.id";
+
+    private static final String DELETE_BUCKET =
+            "DELETE FROM page_views WHERE " + PAGES_BUCKET;
+
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long BACKOFF_MILLIS = 10;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public PageViewRepositoryCustomImpl(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public int incrementTotal(PageViewKey key, int shard, long delta) {
+        return this.withDeadlockRetry(() -> this.jdbcTemplate.update(UPSERT_TOTAL,
+                Timestamp.from(key.date().toInstant()), delta, shard, key.granularity().name(), key.pageId()));
+    }
+
+    @Override
+    public void incrementTotals(Map<PageViewKey, Long> deltas) {
+        List<Object[]> upsertArgs = deltas.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparing(PageViewKey::pageId)
+                        .thenComparing(PageViewKey::granularity)
+                        .thenComparing(PageViewKey::date)))
+                .map(entry -> new Object[]{
+                        Timestamp.from(entry.getKey().date().toInstant()), entry.getValue(), 0,
+                        entry.getKey().granularity().name(), entry.getKey().pageId()})
+                .toList();
+
+        this.withDeadlockRetry(() ->
+                this.transactionTemplate.execute(status -> this.jdbcTemplate.batchUpdate(UPSERT_TOTAL, upsertArgs)));
+    }
+
+    @Override
+    public long sumTotals(Integer pageId, OffsetDateTime from, OffsetDateTime to) {
+        List<Object> coveredArgs = new ArrayList<>();
+        List<Object> splitArgs = new ArrayList<>();
+        var covered = this.coveredBuckets(from, to, List.of(PageViewGranularity.values()), coveredArgs);
+        var split = this.splitBuckets(from, to, splitArgs);
+
+        if (covered.isEmpty() && split.isEmpty()) {
+            return 0;
+        }
+
+        covered = covered.isEmpty() ? "FALSE" : covered;
+        split = split.isEmpty() ? "FALSE" : split;
+
+        List<Object> args = new ArrayList<>(coveredArgs);
+        args.addAll(splitArgs);
+        args.add(pageId);
+        args.addAll(coveredArgs);
+        args.addAll(splitArgs);
+
+        // the split buckets are read by the same statement, so an aligned range still costs a single query
+        var result = this.jdbcTemplate.queryForObject(
+                "SELECT SUM(CASE WHEN " + covered + " THEN total END), MIN(CASE WHEN " + split + " THEN date END) " +
+                "FROM page_views WHERE page_id = ? AND (" + covered + " OR " + split + ")",
+                (rs, rowNum) -> new CoveredTotal(rs.getLong(1), rs.getTimestamp(2)), args.toArray());
+
+        if (result.split() != null) {
+            throw new IllegalArgumentException(String.format(
+                    "Range from %s to %s splits the compacted bucket starting at %s of page %s", from, to,
+                    result.split().toInstant(), pageId));
+        }
+        return result.total();
+    }
+
+    @Override
+    public void mergeVisitors(Map<PageViewKey, HyperLogLog> sketches) {
+        var sorted = new TreeMap<PageViewKey, HyperLogLog>(Comparator.comparing(PageViewKey::pageId)
+                .thenComparing(PageViewKey::granularity)
+                .thenComparing(PageViewKey::date));
+        sorted.putAll(sketches);
+
+        this.withDeadlockRetry(() -> this.transactionTemplate.execute(status -> {
+            sorted.forEach(this::mergeVisitors);
+            return null;
+        }));
+    }
+
+    @Override
+    public HyperLogLog findVisitors(Integer pageId, OffsetDateTime from, OffsetDateTime to) {
+        List<Object> args = new ArrayList<>();
+        var ranges = this.coveredBuckets(from, to, List.of(PageViewGranularity.DAY, PageViewGranularity.MONTH), args);
+        var visitors = new HyperLogLog();
+
+        if (ranges.isEmpty()) {
+            return visitors;
+        }
+
+        this.jdbcTemplate.query(
+                "SELECT visitors FROM page_views WHERE page_id = ? AND visitors IS NOT NULL AND (" + ranges + ")",
+                (ResultSet rs) -> {
+                    visitors.merge(HyperLogLog.fromBytes(rs.getBytes(1)));
+                },
+                this.withPageId(pageId, args));
+
+        return visitors;
+    }
+
+    @Override
+    public void incrementSources(Map<PageViewSourceKey, Long> deltas) {
+        List<Object[]> upsertArgs = deltas.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparing(PageViewSourceKey::pageId)
+                        .thenComparing(PageViewSourceKey::date)
+                        .thenComparing(PageViewSourceKey::dimensionId)))
+                .map(entry -> new Object[]{Timestamp.from(entry.getKey().date().toInstant()),
+                        entry.getKey().dimensionId(), entry.getValue(), entry.getKey().pageId()})
+                .toList();
+
+        this.withDeadlockRetry(() ->
+                this.transactionTemplate.execute(status -> this.jdbcTemplate.batchUpdate(UPSERT_SOURCE, upsertArgs)));
+    }
+
+    @Override
+    public List<PageViewSourceTotal> findTopSources(Integer pageId, PageViewDimension dimension, OffsetDateTime from,
+                                                    OffsetDateTime to, int limit) {
+        return this.jdbcTemplate.query(SELECT_TOP_SOURCES,
+                (rs, rowNum) -> new PageViewSourceTotal(rs.getString(1), rs.getLong(2)),
+                pageId, Timestamp.from(from.toInstant()), Timestamp.from(to.toInstant()), dimension.name(), limit);
+    }
+
+    @Override
+    public void streamSeries(Integer pageId, PageViewSeriesGranularity granularity, LocalDate from, LocalDate to,
+                             Consumer<PageViewPoint> consumer) {
+        var bucket = switch (granularity) {
+            case DAY -> "DATE(date)";
+            case WEEK -> "DATE_SUB(DATE(date), INTERVAL WEEKDAY(date) DAY)";
+            case MONTH -> "DATE_SUB(DATE(date), INTERVAL DAYOFMONTH(date) - 1 DAY)";
+        };
+        // monthly rows cannot be split into days or weeks, so only month buckets read them
+        var tiers = granularity == PageViewSeriesGranularity.MONTH ? "'HOUR', 'DAY', 'MONTH'" : "'HOUR', 'DAY'";
+        var sql = String.format(SELECT_SERIES, bucket, tiers);
+
+        this.jdbcTemplate.query(connection -> {
+                    var statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(Integer.MIN_VALUE);
+                    statement.setInt(1, pageId);
+                    statement.setTimestamp(2, Timestamp.from(from.atStartOfDay().toInstant(ZoneOffset.UTC)));
+                    statement.setTimestamp(3, Timestamp.from(to.plusDays(1).atStartOfDay().toInstant(ZoneOffset.UTC)));
+                    return statement;
+                },
+                (ResultSet rs) -> {
+                    consumer.accept(new PageViewPoint(rs.getObject(1, LocalDate.class), rs.getLong(2)));
+                });
+    }
+
+    @Override
+    public List<LocalDate> findCompactedMonths(Integer pageId, LocalDate from, LocalDate to) {
+        var start = from.withDayOfMonth(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+        var end = to.plusDays(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+
+        return this.jdbcTemplate.query(SELECT_COMPACTED_MONTHS, (rs, rowNum) -> rs.getObject(1, LocalDate.class),
+                pageId, Timestamp.from(start), Timestamp.from(end));
+    }
+
+    @Override
+    public void streamRows(Integer pageId, LocalDate from, LocalDate to, Consumer<PageViewRow> consumer) {
+        this.jdbcTemplate.query(connection -> {
+                    var statement = connection.prepareStatement(SELECT_ROWS, ResultSet.TYPE_FORWARD_ONLY,
+                            ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(Integer.MIN_VALUE);
+                    statement.setInt(1, pageId);
+                    statement.setTimestamp(2, Timestamp.from(from.atStartOfDay().toInstant(ZoneOffset.UTC)));
+                    statement.setTimestamp(3, Timestamp.from(to.plusDays(1).atStartOfDay().toInstant(ZoneOffset.UTC)));
+                    return statement;
+                },
+                (ResultSet rs) -> {
+                    consumer.accept(new PageViewRow(rs.getTimestamp(1).toInstant().atOffset(ZoneOffset.UTC),
+                            PageViewGranularity.valueOf(rs.getString(2)), rs.getLong(3)));
+                });
+    }
+
+    @Override
+    public PageClickThroughRatesResponse findClickThroughRates(Integer pageId, LocalDate from, LocalDate to) {
+        var start = from.atStartOfDay().atOffset(ZoneOffset.UTC);
+        var end = to.plusDays(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+        List<Object> args = new ArrayList<>();
+        var ranges = this.coveredBuckets(start, end, List.of(PageViewGranularity.values()), args);
+
+        args.add(0, pageId);
+        args.add(pageId);
+        args.add(pageId);
+        args.add(Timestamp.from(start.toInstant()));
+        args.add(Timestamp.from(end.toInstant()));
+
+        // the views subquery always yields one row, so a page without links still reports its views
+        return this.jdbcTemplate.query(String.format(SELECT_CLICK_THROUGH_RATES, ranges), rs -> {
+            var views = 0L;
+            List<LinkClickThroughRate> links = new ArrayList<>();
+
+            while (rs.next()) {
+                views = rs.getLong(1);
+                var linkId = rs.getObject(2, Integer.class);
+
+                if (linkId != null) {
+                    var clicks = rs.getLong(4);
+                    links.add(LinkClickThroughRate.builder()
+                            .withId(linkId)
+                            .withTitle(rs.getString(3))
+                            .withClicks(clicks)
+                            .withRate(views == 0 ? null : (double) clicks / views)
+                            .build());
+                }
+            }
+
+            return PageClickThroughRatesResponse.builder()
+                    .withFrom(from)
+                    .withTo(to)
+                    .withViews(views)
+                    .withLinks(links)
+                    .build();
+        }, args.toArray());
+    }
+
+    @Override
+    public Optional<OffsetDateTime> findSplitBucket(Integer pageId, OffsetDateTime from, OffsetDateTime to) {
+        List<Object> args = new ArrayList<>();
+        var buckets = this.splitBuckets(from, to, args);
+
+        if (buckets.isEmpty()) {
+            return Optional.empty();
+        }
+
+        var split = this.jdbcTemplate.queryForObject(
+                "SELECT MIN(date) FROM page_views WHERE page_id = ? AND (" + buckets + ")",
+                Timestamp.class, this.withPageId(pageId, args));
+
+        return Optional.ofNullable(split).map(date -> date.toInstant().atOffset(ZoneOffset.UTC));
+    }
+
+    @Override
+    public Optional<OffsetDateTime> findOldestBucket(PageViewGranularity granularity, OffsetDateTime before) {
+        var oldest = this.jdbcTemplate.queryForObject(SELECT_OLDEST_BUCKET, Timestamp.class,
+                granularity.name(), Timestamp.from(before.toInstant()));
+
+        return Optional.ofNullable(oldest).map(date -> date.toInstant().atOffset(ZoneOffset.UTC));
+    }
+
+    @Override
+    public int compact(PageViewGranularity source, PageViewGranularity target, OffsetDateTime bucket, int batchSize) {
+        var from = Timestamp.from(bucket.toInstant());
+        var to = Timestamp.from(target.next(bucket).toInstant());
+        var removed = 0;
+        var lastPageId = 0;
+
+        // pages are compacted a batch at a time, each transaction only locks the rows of its own pages
+        while (true) {
+            var pageIds = this.jdbcTemplate.queryForList(SELECT_BUCKET_PAGES, Integer.class,
+                    source.name(), from, to, lastPageId, batchSize);
+
+            if (pageIds.isEmpty()) {
+                return removed;
+            }
+
+            removed += this.compact(source, target, bucket, pageIds);
+            lastPageId = pageIds.get(pageIds.size() - 1);
+        }
+    }
+
+    private int compact(PageViewGranularity source, PageViewGranularity target, OffsetDateTime bucket,
+                        List<Integer> pageIds) {
+        var from = Timestamp.from(bucket.toInstant());
+        var to = Timestamp.from(target.next(bucket).toInstant());
+        var placeholders = String.join(", ", Collections.nCopies(pageIds.size(), "?"));
+        List<Object> bucketArgs = new ArrayList<>(pageIds);
+        bucketArgs.addAll(List.of(source.name(), from, to));
+
+        List<Object> rollUpArgs = new ArrayList<>(List.of(from, target.name()));
+        rollUpArgs.addAll(bucketArgs);
+
+        return this.withDeadlockRetry(() -> this.transactionTemplate.execute(status -> {
+            this.jdbcTemplate.queryForList(String.format(LOCK_BUCKET, placeholders), Integer.class, bucketArgs.toArray());
+            this.jdbcTemplate.update(String.format(ROLL_UP_BUCKET, placeholders), rollUpArgs.toArray());
+
+            Map<Integer, HyperLogLog> visitors = new TreeMap<>();
+            this.jdbcTemplate.query(String.format(SELECT_BUCKET_VISITORS, placeholders),
+                    (ResultSet rs) -> {
+                        visitors.merge(rs.getInt(1), HyperLogLog.fromBytes(rs.getBytes(2)), HyperLogLog::merge);
+                    },
+                    bucketArgs.toArray());
+            visitors.forEach((pageId, sketch) -> this.mergeVisitors(new PageViewKey(pageId, target, bucket), sketch));
+
+            return this.jdbcTemplate.update(String.format(DELETE_BUCKET, placeholders), bucketArgs.toArray());
+        }));
+    }
+
+    private void mergeVisitors(PageViewKey key, HyperLogLog sketch) {
+        var date = Timestamp.from(key.date().toInstant());
+        var granularity = key.granularity().name();
+
+        this.jdbcTemplate.update(ENSURE_VISITORS_ROW, date, granularity, key.pageId());
+
+        var stored = this.jdbcTemplate.queryForList(LOCK_VISITORS, byte[].class, key.pageId(), granularity, date);
+
+        if (stored.isEmpty()) {
+            return;
+        }
+
+        var merged = HyperLogLog.fromBytes(stored.get(0)).merge(sketch);
+
+        this.jdbcTemplate.update(UPDATE_VISITORS, merged.toBytes(), key.pageId(), granularity, date);
+    }
+
+    private String coveredBuckets(OffsetDateTime from, OffsetDateTime to, List<PageViewGranularity> granularities,
+                                  List<Object> args) {
+        List<String> ranges = new ArrayList<>();
+
+        // every tier contributes only the buckets lying entirely inside the range, coarse rows cover its middle
+        for (PageViewGranularity granularity : granularities) {
+            var start = this.ceil(granularity, from);
+            var end = granularity.truncate(to);
+
+            if (start.isBefore(end)) {
+                ranges.add(BUCKET_RANGE);
+                args.add(granularity.name());
+                args.add(Timestamp.from(start.toInstant()));
+                args.add(Timestamp.from(end.toInstant()));
+            }
+        }
+
+        return String.join(" OR ", ranges);
+    }
+
+    private String splitBuckets(OffsetDateTime from, OffsetDateTime to, List<Object> args) {
+        List<String> buckets = new ArrayList<>();
+
+        // a compacted row is only read when the range covers it whole, so a range ending inside one misses its views
+        for (PageViewGranularity granularity : List.of(PageViewGranularity.DAY, PageViewGranularity.MONTH)) {
+            for (OffsetDateTime edge : List.of(from, to)) {
+                var bucket = granularity.truncate(edge);
+
+                if (!bucket.isEqual(edge) && bucket.isBefore(to) && granularity.next(bucket).isAfter(from)) {
+                    buckets.add(BUCKET_AT);
+                    args.add(granularity.name());
+                    args.add(Timestamp.from(bucket.toInstant()));
+                }
+            }
+        }
+
+        return String.join(" OR ", buckets);
+    }
+
+    private Object[] withPageId(Integer pageId, List<Object> args) {
+        args.add(0, pageId);
+        return args.toArray();
+    }
+
+    private OffsetDateTime ceil(PageViewGranularity granularity, OffsetDateTime moment) {
+        var floor = granularity.truncate(moment);
+
+        return floor.isEqual(moment) ? floor : granularity.next(floor);
+    }
+
+    private <T> T withDeadlockRetry(Supplier<T> statement) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return statement.get();
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("Lock conflict while incrementing page views, retrying (attempt {} of {})", attempt, MAX_ATTEMPTS);
+                this.backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(BACKOFF_MILLIS * attempt, BACKOFF_MILLIS * attempt * 2));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry page views increment", e);
+        }
+    }
+
+    private record CoveredTotal(long total, Timestamp split) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.godev.linkhubservice.domain.repository;
+
+import com.godev.linkhubservice.domain.enums.PageViewDimension;
+import com.godev.linkhubservice.domain.models.ViewDimension;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ViewDimensionRepository extends JpaRepository<ViewDimension, Integer> {
+
+    Optional<ViewDimension> findByDimensionAndValue(PageViewDimension dimension, String value);
+
+    List<ViewDimension> findByDimension(PageViewDimension dimension);
+
+    long countByDimension(PageViewDimension dimension);
+}
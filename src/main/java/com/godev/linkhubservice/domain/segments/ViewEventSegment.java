@@ -0,0 +1,233 @@
+package com.godev.linkhubservice.domain.segments;
+
+import com.godev.linkhubservice.domain.vo.ViewEvent;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+public class ViewEventSegment {
+
+    private static final int MAGIC = 0x4C485653;
+    private static final byte VERSION = 1;
+
+    private static final List<ToLongFunction<ViewEvent>> DIMENSION_COLUMNS = List.of(
+            ViewEvent::referrerId, ViewEvent::utmSourceId, ViewEvent::utmMediumId, ViewEvent::utmCampaignId);
+
+    private final Path path;
+    private final int count;
+    private final long minTimestamp;
+    private final long maxTimestamp;
+    private final int[] pageIds;
+
+    private ViewEventSegment(Path path, int count, long minTimestamp, long maxTimestamp, int[] pageIds) {
+        this.path = path;
+        this.count = count;
+        this.minTimestamp = minTimestamp;
+        this.maxTimestamp = maxTimestamp;
+        this.pageIds = pageIds;
+    }
+
+    public static ViewEventSegment write(Path path, List<ViewEvent> events) throws IOException {
+        if (events.isEmpty()) {
+            throw new IllegalArgumentException("Segment must have at least one event");
+        }
+
+        var sorted = events.stream().sorted(Comparator.comparingLong(ViewEvent::timestamp)).toList();
+        var pageIds = sorted.stream().mapToInt(ViewEvent::pageId).distinct().sorted().toArray();
+        var segment = new ViewEventSegment(path, sorted.size(), sorted.get(0).timestamp(),
+                sorted.get(sorted.size() - 1).timestamp(), pageIds);
+        var temporary = path.resolveSibling(path.getFileName() + ".tmp");
+
+        try (var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            segment.writeHeader(output);
+
+            // timestamps are sorted, so each one is stored as a small non negative delta from the previous
+            var previous = new long[]{segment.minTimestamp};
+            writeColumn(output, sorted, event -> {
+                var delta = event.timestamp() - previous[0];
+                previous[0] = event.timestamp();
+                return delta;
+            });
+            writeColumn(output, sorted, ViewEvent::pageId);
+            writeColumn(output, sorted, ViewEvent::count);
+
+            for (var column : DIMENSION_COLUMNS) {
+                writeColumn(output, sorted, column);
+            }
+        }
+
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return segment;
+    }
+
+    public static ViewEventSegment open(Path path) throws IOException {
+        try (var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            return readHeader(path, input);
+        }
+    }
+
+    public boolean overlaps(long from, long to) {
+        return this.minTimestamp < to && this.maxTimestamp >= from;
+    }
+
+    public boolean contains(int pageId) {
+        return Arrays.binarySearch(this.pageIds, pageId) >= 0;
+    }
+
+    public int scan(int pageId, long from, long to, Consumer<ViewEvent> consumer) throws IOException {
+        try (var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.path)))) {
+            readHeader(this.path, input);
+
+            var timestamps = readColumn(input, this.count);
+            var pages = readColumn(input, this.count);
+            var matches = 0;
+
+            for (int i = 0; i < this.count; i++) {
+                timestamps[i] += i == 0 ? this.minTimestamp : timestamps[i - 1];
+
+                if (pages[i] == pageId && timestamps[i] >= from && timestamps[i] < to) {
+                    matches++;
+                }
+            }
+
+            // the other columns are only inflated when some row of the page falls inside the range
+            if (matches == 0) {
+                return 0;
+            }
+
+            var counts = readColumn(input, this.count);
+            var dimensions = new long[DIMENSION_COLUMNS.size()][];
+
+            for (int column = 0; column < dimensions.length; column++) {
+                dimensions[column] = readColumn(input, this.count);
+            }
+
+            for (int i = 0; i < this.count; i++) {
+                if (pages[i] == pageId && timestamps[i] >= from && timestamps[i] < to) {
+                    consumer.accept(new ViewEvent(timestamps[i], pageId, counts[i], (int) dimensions[0][i],
+                            (int) dimensions[1][i], (int) dimensions[2][i], (int) dimensions[3][i]));
+                }
+            }
+            return matches;
+        }
+    }
+
+    public Path getPath() {
+        return this.path;
+    }
+
+    public int getCount() {
+        return this.count;
+    }
+
+    public long getMinTimestamp() {
+        return this.minTimestamp;
+    }
+
+    public long getMaxTimestamp() {
+        return this.maxTimestamp;
+    }
+
+    // the header keeps the time range and page ids so readers can skip a segment without inflating any column
+    private void writeHeader(DataOutputStream output) throws IOException {
+        output.writeInt(MAGIC);
+        output.writeByte(VERSION);
+        output.writeInt(this.count);
+        output.writeLong(this.minTimestamp);
+        output.writeLong(this.maxTimestamp);
+        output.writeInt(this.pageIds.length);
+
+        for (var pageId : this.pageIds) {
+            output.writeInt(pageId);
+        }
+    }
+
+    private static ViewEventSegment readHeader(Path path, DataInputStream input) throws IOException {
+        if (input.readInt() != MAGIC || input.readByte() != VERSION) {
+            throw new IOException("File " + path + " is not a view event segment");
+        }
+
+        var count = input.readInt();
+        var minTimestamp = input.readLong();
+        var maxTimestamp = input.readLong();
+        var pageIds = new int[input.readInt()];
+
+        for (int i = 0; i < pageIds.length; i++) {
+            pageIds[i] = input.readInt();
+        }
+        return new ViewEventSegment(path, count, minTimestamp, maxTimestamp, pageIds);
+    }
+
+    private static void writeColumn(DataOutputStream output, List<ViewEvent> events, ToLongFunction<ViewEvent> column)
+            throws IOException {
+        var bytes = new ByteArrayOutputStream();
+
+        try (var deflater = new DeflaterOutputStream(bytes, new Deflater(Deflater.BEST_SPEED))) {
+            for (var event : events) {
+                writeVarLong(deflater, column.applyAsLong(event));
+            }
+        }
+
+        output.writeInt(bytes.size());
+        bytes.writeTo(output);
+    }
+
+    private static long[] readColumn(DataInputStream input, int count) throws IOException {
+        var bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+
+        var values = new long[count];
+
+        try (var inflater = new BufferedInputStream(new InflaterInputStream(new ByteArrayInputStream(bytes)))) {
+            for (int i = 0; i < count; i++) {
+                values[i] = readVarLong(inflater);
+            }
+        }
+        return values;
+    }
+
+    private static void writeVarLong(OutputStream output, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            output.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        output.write((int) value);
+    }
+
+    private static long readVarLong(InputStream input) throws IOException {
+        long value = 0;
+
+        for (int shift = 0; shift < 64; shift += 7) {
+            var b = input.read();
+
+            if (b < 0) {
+                throw new IOException("Column ended before all values were read");
+            }
+
+            value |= (long) (b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed value in column");
+    }
+}
@@ -0,0 +1,75 @@
+package com.godev.linkhubservice.domain.sketches;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int hashes;
+    private final AtomicLong bitsSet = new AtomicLong();
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        var n = Math.max(expectedInsertions, 1);
+        var m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+
+        this.words = new AtomicLongArray((int) ((m + Long.SIZE - 1) / Long.SIZE));
+        this.bits = (long) this.words.length() * Long.SIZE;
+        this.hashes = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+    }
+
+    public boolean mightContain(long hash) {
+        var h1 = (int) hash;
+        var h2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= this.hashes; i++) {
+            var bit = this.index(h1 + i * h2);
+
+            if ((this.words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean put(long hash) {
+        var h1 = (int) hash;
+        var h2 = (int) (hash >>> 32);
+        var changed = false;
+
+        for (int i = 1; i <= this.hashes; i++) {
+            changed |= this.set(this.index(h1 + i * h2));
+        }
+        return changed;
+    }
+
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) this.bitsSet.get() / this.bits, this.hashes);
+    }
+
+    public long bitSize() {
+        return this.bits;
+    }
+
+    private long index(int combined) {
+        return (combined < 0 ? ~combined : combined) % this.bits;
+    }
+
+    private boolean set(long bit) {
+        var word = (int) (bit >>> 6);
+        var mask = 1L << bit;
+
+        while (true) {
+            var current = this.words.get(word);
+
+            if ((current & mask) != 0) {
+                return false;
+            }
+            if (this.words.compareAndSet(word, current, current | mask)) {
+                this.bitsSet.incrementAndGet();
+                return true;
+            }
+        }
+    }
+}
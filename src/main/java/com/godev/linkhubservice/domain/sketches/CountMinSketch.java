@@ -0,0 +1,87 @@
+package com.godev.linkhubservice.domain.sketches;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+public class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final double[] counters;
+
+    public CountMinSketch(int width, int depth) {
+        if (width < 1 || depth < 1) {
+            throw new IllegalArgumentException("Sketch must have at least one row and one column");
+        }
+        this.width = width;
+        this.depth = depth;
+        this.counters = new double[width * depth];
+    }
+
+    public static CountMinSketch readFrom(DataInput input) throws IOException {
+        var sketch = new CountMinSketch(input.readInt(), input.readInt());
+
+        for (int i = 0; i < sketch.counters.length; i++) {
+            sketch.counters[i] = input.readDouble();
+        }
+        return sketch;
+    }
+
+    public double add(long hash, double count) {
+        var h1 = (int) hash;
+        var h2 = (int) (hash >>> 32);
+        var estimate = this.estimate(h1, h2) + count;
+
+        // conservative update: no row is raised above what the item can have actually seen
+        for (int row = 0; row < this.depth; row++) {
+            var cell = this.cell(row, h1, h2);
+            this.counters[cell] = Math.max(this.counters[cell], estimate);
+        }
+        return estimate;
+    }
+
+    public double estimate(long hash) {
+        return this.estimate((int) hash, (int) (hash >>> 32));
+    }
+
+    public void scale(double factor) {
+        for (int i = 0; i < this.counters.length; i++) {
+            this.counters[i] *= factor;
+        }
+    }
+
+    public void writeTo(DataOutput output) throws IOException {
+        output.writeInt(this.width);
+        output.writeInt(this.depth);
+
+        for (double counter : this.counters) {
+            output.writeDouble(counter);
+        }
+    }
+
+    public int getWidth() {
+        return this.width;
+    }
+
+    public int getDepth() {
+        return this.depth;
+    }
+
+    public long byteSize() {
+        return (long) this.counters.length * Double.BYTES;
+    }
+
+    private double estimate(int h1, int h2) {
+        var estimate = Double.MAX_VALUE;
+
+        for (int row = 0; row < this.depth; row++) {
+            estimate = Math.min(estimate, this.counters[this.cell(row, h1, h2)]);
+        }
+        return estimate;
+    }
+
+    private int cell(int row, int h1, int h2) {
+        return row * this.width + Math.floorMod(h1 + (row + 1) * h2, this.width);
+    }
+}
@@ -0,0 +1,27 @@
+package com.godev.linkhubservice.domain.sketches;
+
+import java.nio.charset.StandardCharsets;
+
+public class Hashing {
+
+    private Hashing() {
+    }
+
+    public static long hash64(String value) {
+        // FNV-1a spreads the bytes, the MurmurHash3 finalizer gives every output bit a fair chance to flip
+        var hash = 0xcbf29ce484222325L;
+
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+
+        return hash;
+    }
+}
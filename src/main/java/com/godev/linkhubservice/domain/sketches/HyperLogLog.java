@@ -0,0 +1,80 @@
+package com.godev.linkhubservice.domain.sketches;
+
+import java.util.Arrays;
+
+public class HyperLogLog {
+
+    public static final int PRECISION = 10;
+    public static final int REGISTERS = 1 << PRECISION;
+
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTERS);
+
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this.registers = new byte[REGISTERS];
+    }
+
+    private HyperLogLog(byte[] registers) {
+        this.registers = registers;
+    }
+
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes == null) {
+            return new HyperLogLog();
+        }
+        if (bytes.length != REGISTERS) {
+            throw new IllegalArgumentException("Sketch must have " + REGISTERS + " registers but has " + bytes.length);
+        }
+        return new HyperLogLog(bytes.clone());
+    }
+
+    public void offer(long hash) {
+        var index = (int) (hash >>> (Long.SIZE - PRECISION));
+        var rank = (byte) Math.min(Long.numberOfLeadingZeros(hash << PRECISION) + 1, Long.SIZE - PRECISION + 1);
+
+        if (rank > this.registers[index]) {
+            this.registers[index] = rank;
+        }
+    }
+
+    public HyperLogLog merge(HyperLogLog other) {
+        for (int i = 0; i < REGISTERS; i++) {
+            this.registers[i] = (byte) Math.max(this.registers[i], other.registers[i]);
+        }
+        return this;
+    }
+
+    public long estimate() {
+        var sum = 0d;
+        var zeros = 0;
+
+        for (byte register : this.registers) {
+            sum += 1d / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+
+        var estimate = ALPHA * REGISTERS * REGISTERS / sum;
+
+        if (estimate <= 2.5 * REGISTERS && zeros > 0) {
+            estimate = REGISTERS * Math.log((double) REGISTERS / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public byte[] toBytes() {
+        return this.registers.clone();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof HyperLogLog other && Arrays.equals(this.registers, other.registers));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.registers);
+    }
+}
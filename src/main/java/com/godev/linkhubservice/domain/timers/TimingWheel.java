@@ -0,0 +1,116 @@
+package com.godev.linkhubservice.domain.timers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long[] spans;
+    private final List<List<Timer<T>>> buckets;
+    private final List<Timer<T>> overdue = new ArrayList<>();
+    private long currentTick;
+    private int size;
+
+    public TimingWheel(long tickMillis, int wheelSize, int levels, long startMillis) {
+        if (tickMillis < 1 || wheelSize < 2 || levels < 1) {
+            throw new IllegalArgumentException("Wheel must have a positive tick, at least two slots and one level");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.spans = new long[levels + 1];
+        this.buckets = new ArrayList<>(levels * wheelSize);
+        this.currentTick = startMillis / tickMillis;
+
+        this.spans[0] = 1;
+        for (int level = 1; level <= levels; level++) {
+            this.spans[level] = Math.multiplyExact(this.spans[level - 1], wheelSize);
+        }
+        for (int i = 0; i < levels * wheelSize; i++) {
+            this.buckets.add(new ArrayList<>());
+        }
+    }
+
+    public long horizonMillis() {
+        var top = this.spans.length - 2;
+        return (this.spans[top + 1] - this.spans[top]) * this.tickMillis;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean schedule(long deadlineMillis, T item) {
+        var timer = new Timer<>(deadlineMillis / this.tickMillis, item);
+
+        if (!this.place(timer)) {
+            return false;
+        }
+        this.size++;
+        return true;
+    }
+
+    public void advance(long nowMillis, Consumer<T> expired) {
+        var nowTick = nowMillis / this.tickMillis;
+
+        this.drain(this.overdue, expired);
+
+        while (this.currentTick < nowTick) {
+            this.currentTick++;
+
+            // higher levels go first, so a timer cascading through several levels lands before its slot is read
+            for (int level = this.spans.length - 2; level > 0; level--) {
+                if (this.currentTick % this.spans[level] == 0) {
+                    var bucket = this.bucket(level, this.currentTick);
+                    var timers = List.copyOf(bucket);
+                    bucket.clear();
+                    timers.forEach(this::place);
+                }
+            }
+            this.drain(this.bucket(0, this.currentTick), expired);
+            this.drain(this.overdue, expired);
+        }
+    }
+
+    private boolean place(Timer<T> timer) {
+        if (timer.tick() <= this.currentTick) {
+            this.overdue.add(timer);
+            return true;
+        }
+
+        // a timer lives on the lowest level whose current revolution still contains its deadline
+        var top = this.spans.length - 2;
+        for (int level = 0; level < top; level++) {
+            if (timer.tick() / this.spans[level + 1] == this.currentTick / this.spans[level + 1]) {
+                this.bucket(level, timer.tick()).add(timer);
+                return true;
+            }
+        }
+
+        // the top level wraps around, so any deadline less than a full turn ahead has a slot of its own
+        if (timer.tick() / this.spans[top] - this.currentTick / this.spans[top] < this.wheelSize) {
+            this.bucket(top, timer.tick()).add(timer);
+            return true;
+        }
+        return false;
+    }
+
+    private List<Timer<T>> bucket(int level, long tick) {
+        return this.buckets.get(level * this.wheelSize + (int) (tick / this.spans[level] % this.wheelSize));
+    }
+
+    private void drain(List<Timer<T>> bucket, Consumer<T> expired) {
+        if (bucket.isEmpty()) {
+            return;
+        }
+        var timers = List.copyOf(bucket);
+        bucket.clear();
+        this.size -= timers.size();
+        timers.forEach(timer -> expired.accept(timer.item()));
+    }
+
+    private record Timer<T>(long tick, T item) {
+    }
+}
@@ -0,0 +1,4 @@
+package com.godev.linkhubservice.domain.vo;
+
+public record LinkCheck(Integer id, String href) {
+}
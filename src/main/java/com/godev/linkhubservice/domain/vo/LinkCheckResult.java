@@ -0,0 +1,6 @@
+package com.godev.linkhubservice.domain.vo;
+
+import java.time.OffsetDateTime;
+
+public record LinkCheckResult(Integer id, Integer status, OffsetDateTime checkedAt) {
+}
@@ -0,0 +1,21 @@
+package com.godev.linkhubservice.domain.vo;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(setterPrefix = "with")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LinkClickThroughRate {
+
+    private Integer id;
+    private String title;
+    private Long clicks;
+    private Double rate;
+
+}
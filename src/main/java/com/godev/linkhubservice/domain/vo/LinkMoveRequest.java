@@ -0,0 +1,17 @@
+package com.godev.linkhubservice.domain.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(setterPrefix = "with")
+public class LinkMoveRequest {
+
+    @Schema(name = "afterLinkId", example = "2", description = "Link that should come right before the moved one, empty to move it to the top.")
+    private Integer afterLinkId;
+}
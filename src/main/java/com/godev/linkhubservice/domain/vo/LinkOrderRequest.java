@@ -0,0 +1,23 @@
+package com.godev.linkhubservice.domain.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+import static com.godev.linkhubservice.domain.constants.ValidationConstants.LINK_IDS_REQUIRED_ERROR;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(setterPrefix = "with")
+public class LinkOrderRequest {
+
+    @Schema(name = "linkIds", example = "[3, 1, 2]", description = "Every link id of the page in the new order.")
+    @NotEmpty(message = LINK_IDS_REQUIRED_ERROR)
+    private List<Integer> linkIds;
+}
@@ -0,0 +1,61 @@
+package com.godev.linkhubservice.domain.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.validator.constraints.Length;
+
+import java.time.OffsetDateTime;
+
+import static com.godev.linkhubservice.domain.constants.RegexConstants.BORDER_TYPE_VALIDATION_REGEX;
+import static com.godev.linkhubservice.domain.constants.RegexConstants.HEX_VALIDATION_REGEX;
+import static com.godev.linkhubservice.domain.constants.RegexConstants.LINK_URL_VALIDATION_REGEX;
+import static com.godev.linkhubservice.domain.constants.ValidationConstants.HREF_REQUIRED_ERROR;
+import static com.godev.linkhubservice.domain.constants.ValidationConstants.INVALID_BORDER_TYPE_ERROR;
+import static com.godev.linkhubservice.domain.constants.ValidationConstants.INVALID_LINK_COLOR_FORMAT_ERROR;
+import static com.godev.linkhubservice.domain.constants.ValidationConstants.INVALID_LINK_URL_FORMAT_ERROR;
+import static com.godev.linkhubservice.domain.constants.ValidationConstants.LINK_TITLE_LENGTH_ERROR;
+import static com.godev.linkhubservice.domain.constants.ValidationConstants.TITLE_REQUIRED_ERROR;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(setterPrefix = "with")
+public class LinkRequest {
+
+    @Schema(name = "title", defaultValue = "Instagram", description = "Text shown on the link.")
+    @Length(max = 100, message = LINK_TITLE_LENGTH_ERROR)
+    @NotBlank(message = TITLE_REQUIRED_ERROR)
+    private String title;
+
+    @Schema(name = "href", defaultValue = "https://www.instagram.com/godevbrazil", description = "Destination of the link.")
+    @Length(max = 100, message = INVALID_LINK_URL_FORMAT_ERROR)
+    @Pattern(regexp = LINK_URL_VALIDATION_REGEX, message = INVALID_LINK_URL_FORMAT_ERROR)
+    @NotBlank(message = HREF_REQUIRED_ERROR)
+    private String href;
+
+    @Schema(name = "status", defaultValue = "true", description = "Whether the link is shown on the page.")
+    private Boolean status;
+
+    @Schema(name = "background color", defaultValue = "#cacaca", description = "Background color of the link.")
+    @Pattern(regexp = HEX_VALIDATION_REGEX, message = INVALID_LINK_COLOR_FORMAT_ERROR)
+    private String backgroundColor;
+
+    @Schema(name = "text color", defaultValue = "#212121", description = "Text color of the link.")
+    @Pattern(regexp = HEX_VALIDATION_REGEX, message = INVALID_LINK_COLOR_FORMAT_ERROR)
+    private String textColor;
+
+    @Schema(name = "border type", defaultValue = "square", description = "Border of the link, square or rounded.")
+    @Pattern(regexp = BORDER_TYPE_VALIDATION_REGEX, message = INVALID_BORDER_TYPE_ERROR)
+    private String borderType;
+
+    @Schema(name = "active from", example = "2023-06-09T13:00:00Z", description = "When the link is switched on, overriding status.")
+    private OffsetDateTime activeFrom;
+
+    @Schema(name = "active until", example = "2023-06-10T13:00:00Z", description = "When the link is switched off, overriding status.")
+    private OffsetDateTime activeUntil;
+}
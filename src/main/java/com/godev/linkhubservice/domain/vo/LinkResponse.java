@@ -0,0 +1,31 @@
+package com.godev.linkhubservice.domain.vo;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(setterPrefix = "with")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LinkResponse {
+
+    private Integer id;
+    private Integer linkOrder;
+    private String title;
+    private String href;
+    private Boolean status;
+    private String backgroundColor;
+    private String textColor;
+    private String borderType;
+    private OffsetDateTime activeFrom;
+    private OffsetDateTime activeUntil;
+    private Integer checkStatus;
+    private OffsetDateTime checkedAt;
+
+}
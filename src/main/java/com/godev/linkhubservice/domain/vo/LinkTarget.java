@@ -0,0 +1,4 @@
+package com.godev.linkhubservice.domain.vo;
+
+public record LinkTarget(Integer pageId, String href) {
+}
@@ -0,0 +1,22 @@
+package com.godev.linkhubservice.domain.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(setterPrefix = "with")
+public class PageClickThroughRatesResponse {
+
+    private LocalDate from;
+    private LocalDate to;
+    private Long views;
+    private List<LinkClickThroughRate> links;
+
+}
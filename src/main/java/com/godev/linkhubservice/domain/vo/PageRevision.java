@@ -0,0 +1,6 @@
+package com.godev.linkhubservice.domain.vo;
+
+import java.time.OffsetDateTime;
+
+public record PageRevision(Integer id, OffsetDateTime updatedAt) {
+}
@@ -0,0 +1,18 @@
+package com.godev.linkhubservice.domain.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(setterPrefix = "with")
+public class PageViewBatchResponse {
+
+    private Long records;
+    private Long skipped;
+    private Long views;
+
+}
@@ -0,0 +1,8 @@
+package com.godev.linkhubservice.domain.vo;
+
+import com.godev.linkhubservice.domain.enums.PageViewExportFormat;
+
+import java.time.LocalDate;
+
+public record PageViewExportQuery(Integer pageId, LocalDate from, LocalDate to, PageViewExportFormat format) {
+}
@@ -0,0 +1,6 @@
+package com.godev.linkhubservice.domain.vo;
+
+import java.time.LocalDate;
+
+public record PageViewPoint(LocalDate date, Long total) {
+}
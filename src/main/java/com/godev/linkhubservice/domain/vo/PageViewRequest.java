@@ -8,6 +8,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.OffsetDateTime;
+
 import static com.godev.linkhubservice.domain.constants.ValidationConstants.PAGE_ID_REQUIRED_ERROR;
 
 @Data
@@ -20,4 +22,25 @@ public class PageViewRequest {
     @NotNull(message = PAGE_ID_REQUIRED_ERROR)
     private Integer pageId;
 
+    @Schema(name = "timestamp", example = "2023-06-09T13:45:00Z", description = "Moment of the view, used by batch ingestion.")
+    private OffsetDateTime timestamp;
+
+    @Schema(name = "count", defaultValue = "1", description = "Number of views, used by batch ingestion.")
+    private Long count;
+
+    @Schema(name = "visitor", description = "Key identifying the visitor, hashed before counting unique visitors.")
+    private String visitor;
+
+    @Schema(name = "referrer", example = "https://www.instagram.com/", description = "Page the visitor came from, only its host is kept.")
+    private String referrer;
+
+    @Schema(name = "utmSource", example = "instagram", description = "Value of the utm_source parameter of the visited url.")
+    private String utmSource;
+
+    @Schema(name = "utmMedium", example = "social", description = "Value of the utm_medium parameter of the visited url.")
+    private String utmMedium;
+
+    @Schema(name = "utmCampaign", example = "launch", description = "Value of the utm_campaign parameter of the visited url.")
+    private String utmCampaign;
+
 }
@@ -0,0 +1,8 @@
+package com.godev.linkhubservice.domain.vo;
+
+import com.godev.linkhubservice.domain.enums.PageViewGranularity;
+
+import java.time.OffsetDateTime;
+
+public record PageViewRow(OffsetDateTime date, PageViewGranularity granularity, Long total) {
+}
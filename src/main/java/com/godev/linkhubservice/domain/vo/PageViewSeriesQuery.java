@@ -0,0 +1,8 @@
+package com.godev.linkhubservice.domain.vo;
+
+import com.godev.linkhubservice.domain.enums.PageViewSeriesGranularity;
+
+import java.time.LocalDate;
+
+public record PageViewSeriesQuery(Integer pageId, LocalDate from, LocalDate to, PageViewSeriesGranularity granularity) {
+}
@@ -0,0 +1,8 @@
+package com.godev.linkhubservice.domain.vo;
+
+import com.godev.linkhubservice.domain.enums.PageViewDimension;
+
+import java.time.OffsetDateTime;
+
+public record PageViewSource(Integer pageId, OffsetDateTime date, PageViewDimension dimension, String value) {
+}
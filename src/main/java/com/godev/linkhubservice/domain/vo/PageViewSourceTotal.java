@@ -0,0 +1,17 @@
+package com.godev.linkhubservice.domain.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(setterPrefix = "with")
+public class PageViewSourceTotal {
+
+    private String value;
+    private Long views;
+
+}
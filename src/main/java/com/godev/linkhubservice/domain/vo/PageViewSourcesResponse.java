@@ -0,0 +1,23 @@
+package com.godev.linkhubservice.domain.vo;
+
+import com.godev.linkhubservice.domain.enums.PageViewDimension;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(setterPrefix = "with")
+public class PageViewSourcesResponse {
+
+    private LocalDate from;
+    private LocalDate to;
+    private PageViewDimension dimension;
+    private List<PageViewSourceTotal> sources;
+
+}
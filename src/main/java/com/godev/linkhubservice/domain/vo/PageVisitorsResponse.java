@@ -0,0 +1,20 @@
+package com.godev.linkhubservice.domain.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(setterPrefix = "with")
+public class PageVisitorsResponse {
+
+    private LocalDate from;
+    private LocalDate to;
+    private Long visitors;
+
+}
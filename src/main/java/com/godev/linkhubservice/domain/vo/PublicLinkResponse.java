@@ -0,0 +1,20 @@
+package com.godev.linkhubservice.domain.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(setterPrefix = "with")
+public class PublicLinkResponse {
+
+    private Integer id;
+    private String title;
+    private String href;
+    private String backgroundColor;
+    private String textColor;
+    private String borderType;
+}
@@ -0,0 +1,55 @@
+package com.godev.linkhubservice.domain.vo;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(setterPrefix = "with")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PublicPageResponse {
+
+    private Integer id;
+    private String slug;
+    private String title;
+    private String description;
+    private String photo;
+    private String fontColor;
+    private String backgroundType;
+    private String backgroundValue;
+    private List<PublicLinkResponse> links;
+
+    public static PublicPageResponse from(List<PublicPageRow> rows) {
+        // page and active links come back as one joined result, a page without links is a single row of nulls
+        var page = rows.get(0);
+        var links = rows.stream()
+                .filter(row -> row.linkId() != null)
+                .map(row -> PublicLinkResponse.builder()
+                        .withId(row.linkId())
+                        .withTitle(row.linkTitle())
+                        .withHref(row.href())
+                        .withBackgroundColor(row.backgroundColor())
+                        .withTextColor(row.textColor())
+                        .withBorderType(row.borderType())
+                        .build())
+                .toList();
+
+        return PublicPageResponse.builder()
+                .withId(page.id())
+                .withSlug(page.slug())
+                .withTitle(page.title())
+                .withDescription(page.description())
+                .withPhoto(page.photo())
+                .withFontColor(page.fontColor())
+                .withBackgroundType(page.backgroundType())
+                .withBackgroundValue(page.backgroundValue())
+                .withLinks(links)
+                .build();
+    }
+}
@@ -0,0 +1,7 @@
+package com.godev.linkhubservice.domain.vo;
+
+public record PublicPageRow(Integer id, String slug, String title, String description, String photo,
+                            String fontColor, String backgroundType, String backgroundValue, Integer linkId,
+                            String linkTitle, String href, String backgroundColor, String textColor,
+                            String borderType) {
+}
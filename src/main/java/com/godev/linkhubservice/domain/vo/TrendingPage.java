@@ -0,0 +1,4 @@
+package com.godev.linkhubservice.domain.vo;
+
+public record TrendingPage(Integer pageId, Double score) {
+}
@@ -0,0 +1,19 @@
+package com.godev.linkhubservice.domain.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(setterPrefix = "with")
+public class TrendingPageResponse {
+
+    private Integer id;
+    private String slug;
+    private String title;
+    private Long score;
+
+}
@@ -0,0 +1,16 @@
+package com.godev.linkhubservice.domain.vo;
+
+import com.godev.linkhubservice.domain.enums.PageViewDimension;
+
+public record ViewEvent(long timestamp, int pageId, long count, int referrerId, int utmSourceId, int utmMediumId,
+                        int utmCampaignId) {
+
+    public int dimensionId(PageViewDimension dimension) {
+        return switch (dimension) {
+            case REFERRER -> this.referrerId;
+            case UTM_SOURCE -> this.utmSourceId;
+            case UTM_MEDIUM -> this.utmMediumId;
+            case UTM_CAMPAIGN -> this.utmCampaignId;
+        };
+    }
+}
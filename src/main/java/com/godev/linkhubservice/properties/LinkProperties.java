@@ -0,0 +1,63 @@
+package com.godev.linkhubservice.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "links")
+public class LinkProperties {
+
+    private Targets targets = new Targets();
+    private Clicks clicks = new Clicks();
+    private Ordering ordering = new Ordering();
+    private Health health = new Health();
+    private Activation activation = new Activation();
+
+    @Data
+    public static class Targets {
+
+        private Integer maxSize = 100_000;
+        private Duration ttl = Duration.ofMinutes(1);
+        private Duration missTtl = Duration.ofSeconds(5);
+    }
+
+    @Data
+    public static class Clicks {
+
+        private Duration flushInterval = Duration.ofSeconds(5);
+    }
+
+    @Data
+    public static class Ordering {
+
+        private Integer minGap = 8;
+        private Duration renormalizeInterval = Duration.ofSeconds(10);
+    }
+
+    @Data
+    public static class Health {
+
+        private Duration interval = Duration.ofHours(6);
+        private Duration timeout = Duration.ofSeconds(5);
+        private Integer maxConcurrency = 256;
+        private Integer maxPerHost = 4;
+        private Integer maxWaitingPerHost = 1_000;
+        private Boolean allowPrivateAddresses = false;
+        private Integer batchSize = 1_000;
+    }
+
+    @Data
+    public static class Activation {
+
+        private Duration tick = Duration.ofSeconds(1);
+        private Integer wheelSize = 64;
+        private Integer levels = 3;
+        private Duration window = Duration.ofHours(1);
+        private Duration loadInterval = Duration.ofMinutes(10);
+        private Integer batchSize = 1_000;
+    }
+}
@@ -0,0 +1,36 @@
+package com.godev.linkhubservice.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "pages")
+public class PageProperties {
+
+    private PublicCache publicCache = new PublicCache();
+    private Snapshots snapshots = new Snapshots();
+
+    @Data
+    public static class PublicCache {
+
+        private Integer maxSize = 10_000;
+        private Duration ttl = Duration.ofMinutes(5);
+        private Duration missTtl = Duration.ofSeconds(5);
+    }
+
+    @Data
+    public static class Snapshots {
+
+        private String path;
+        private Integer batchSize = 500;
+        private Duration rebuildInterval = Duration.ofSeconds(1);
+        private Duration refreshInterval = Duration.ofSeconds(10);
+        private Duration refreshOverlap = Duration.ofMinutes(1);
+        private Duration ttl = Duration.ofMinutes(5);
+        private Duration retention = Duration.ofSeconds(30);
+    }
+}
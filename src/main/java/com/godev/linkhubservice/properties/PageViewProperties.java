@@ -0,0 +1,114 @@
+package com.godev.linkhubservice.properties;
+
+import com.godev.linkhubservice.domain.enums.PageViewMode;
+import com.godev.linkhubservice.domain.enums.PageViewOverflowPolicy;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "page-view")
+public class PageViewProperties {
+
+    private PageViewMode mode = PageViewMode.SYNC;
+    private Duration flushInterval = Duration.ofSeconds(5);
+    private Shards shards = new Shards();
+    private Queue queue = new Queue();
+    private Batch batch = new Batch();
+    private Rollup rollup = new Rollup();
+    private Dedup dedup = new Dedup();
+    private Trending trending = new Trending();
+    private Journal journal = new Journal();
+    private PageIds pageIds = new PageIds();
+    private Events events = new Events();
+    private Dimensions dimensions = new Dimensions();
+
+    @Data
+    public static class Shards {
+
+        private Integer max = 16;
+        private Integer writesPerSecond = 50;
+        private Duration window = Duration.ofSeconds(10);
+    }
+
+    @Data
+    public static class Queue {
+
+        private Integer capacity = 10_000;
+        private Integer consumers = 2;
+        private Integer batchSize = 500;
+        private PageViewOverflowPolicy overflow = PageViewOverflowPolicy.SYNC;
+    }
+
+    @Data
+    public static class Batch {
+
+        private Integer chunkSize = 1_000;
+    }
+
+    @Data
+    public static class Rollup {
+
+        private Duration hourlyRetention = Duration.ofDays(7);
+        private Duration dailyRetention = Duration.ofDays(90);
+        private Duration compactionInterval = Duration.ofHours(1);
+        private Integer compactionBatchSize = 100;
+    }
+
+    @Data
+    public static class Dedup {
+
+        private Boolean enabled = false;
+        private Duration window = Duration.ofMinutes(30);
+        private Integer slices = 4;
+        private Long capacity = 1_000_000L;
+        private Double falsePositiveRate = 0.01;
+    }
+
+    @Data
+    public static class Trending {
+
+        private Integer width = 2048;
+        private Integer depth = 4;
+        private Integer size = 10;
+        private Duration foldInterval = Duration.ofSeconds(1);
+        private Duration halfLife = Duration.ofHours(1);
+        private Duration decayInterval = Duration.ofMinutes(1);
+        private String snapshotPath;
+        private Duration snapshotInterval = Duration.ofMinutes(5);
+    }
+
+    @Data
+    public static class Journal {
+
+        private String path;
+        private Integer capacity = 1_048_576;
+    }
+
+    @Data
+    public static class Events {
+
+        private String path;
+        private Integer segmentSize = 100_000;
+        private Integer maxPending = 1_000_000;
+        private Duration sealInterval = Duration.ofMinutes(1);
+        private Duration retention = Duration.ofDays(90);
+    }
+
+    @Data
+    public static class Dimensions {
+
+        private Integer maxValues = 1_000;
+    }
+
+    @Data
+    public static class PageIds {
+
+        private Duration refreshInterval = Duration.ofMinutes(10);
+        private Duration missTtl = Duration.ofSeconds(5);
+        private Integer missMaxSize = 100_000;
+    }
+}
@@ -0,0 +1,85 @@
+package com.godev.linkhubservice.rest.controllers;
+
+import com.godev.linkhubservice.domain.vo.LinkMoveRequest;
+import com.godev.linkhubservice.domain.vo.LinkOrderRequest;
+import com.godev.linkhubservice.domain.vo.LinkRequest;
+import com.godev.linkhubservice.domain.vo.LinkResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
+
+@Tag(name = "Links", description = "Make Link operations of a page")
+public interface LinkController {
+
+    @Operation(description = "Add a link at the end of a page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Return the link recently registered"),
+            @ApiResponse(responseCode = "400", description = "Bad Request"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "Not Found")
+    })
+    @PostMapping
+    ResponseEntity<LinkResponse> create(@PathVariable Integer id, @Valid @RequestBody LinkRequest linkRequest);
+
+    @Operation(description = "List the links of a page in order")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Return the links of the page"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "Not Found")
+    })
+    @GetMapping
+    ResponseEntity<List<LinkResponse>> findByPageId(@PathVariable Integer id);
+
+    @Operation(description = "Edit a link of a page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Return the link recently updated"),
+            @ApiResponse(responseCode = "400", description = "Bad Request"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "Not Found")
+    })
+    @PutMapping(value = "/{linkId}")
+    ResponseEntity<LinkResponse> update(@PathVariable Integer id, @PathVariable Integer linkId,
+                                        @Valid @RequestBody LinkRequest linkRequest);
+
+    @Operation(description = "Delete a link of a page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "No Content"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "Not Found")
+    })
+    @DeleteMapping(value = "/{linkId}")
+    ResponseEntity<Void> delete(@PathVariable Integer id, @PathVariable Integer linkId);
+
+    @Operation(description = "Reorder every link of a page at once")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Return the links in the new order"),
+            @ApiResponse(responseCode = "400", description = "Bad Request"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "Not Found")
+    })
+    @PutMapping(value = "/order")
+    ResponseEntity<List<LinkResponse>> reorder(@PathVariable Integer id,
+                                               @Valid @RequestBody LinkOrderRequest linkOrderRequest);
+
+    @Operation(description = "Move a single link right after another one, or to the top")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Return the link at its new position"),
+            @ApiResponse(responseCode = "400", description = "Bad Request"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "Not Found")
+    })
+    @PutMapping(value = "/{linkId}/position")
+    ResponseEntity<LinkResponse> move(@PathVariable Integer id, @PathVariable Integer linkId,
+                                      @RequestBody LinkMoveRequest linkMoveRequest);
+}
@@ -1,15 +1,26 @@
 package com.godev.linkhubservice.rest.controllers;
 
 import com.godev.linkhubservice.domain.vo.CreatePageRequest;
+import com.godev.linkhubservice.domain.vo.PageClickThroughRatesResponse;
 import com.godev.linkhubservice.domain.vo.PageResponse;
+import com.godev.linkhubservice.domain.vo.PageViewBatchResponse;
 import com.godev.linkhubservice.domain.vo.PageViewRequest;
 import com.godev.linkhubservice.domain.vo.PageViewResponse;
+import com.godev.linkhubservice.domain.vo.PageViewSourcesResponse;
+import com.godev.linkhubservice.domain.vo.PageVisitorsResponse;
+import com.godev.linkhubservice.domain.vo.TrendingPageResponse;
 import com.godev.linkhubservice.domain.vo.UpdatePageRequest;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,7 +28,13 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.List;
 
 @Tag(name = "Pages", description = "Make Page operations")
@@ -43,21 +60,23 @@ public interface PageController {
     @PutMapping(value = "/{id}")
     ResponseEntity<PageResponse> update(@Valid @RequestBody UpdatePageRequest updatePageRequest, @PathVariable Integer id);
 
-    @Operation(description = "List all pages of an user")
+    @Operation(description = "List all pages of an user, answering not modified when the ETag still matches")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Return an user pages list")
+            @ApiResponse(responseCode = "200", description = "Return an user pages list"),
+            @ApiResponse(responseCode = "304", description = "Not Modified")
     })
     @GetMapping
-    ResponseEntity<List<PageResponse>> findPagesByAccountId();
+    ResponseEntity<List<PageResponse>> findPagesByAccountId(@Parameter(hidden = true) WebRequest request);
 
-    @Operation(description = "Get a page of an user")
+    @Operation(description = "Get a page of an user, answering not modified when the ETag still matches")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Return an user page"),
+            @ApiResponse(responseCode = "304", description = "Not Modified"),
             @ApiResponse(responseCode = "403", description = "Forbidden"),
             @ApiResponse(responseCode = "404", description = "Not Found")
     })
     @GetMapping(value = "/{id}")
-    ResponseEntity<PageResponse> findById(@PathVariable Integer id);
+    ResponseEntity<PageResponse> findById(@PathVariable Integer id, @Parameter(hidden = true) WebRequest request);
 
     @Operation(description = "Delete a page of an user")
     @ApiResponses(value = {
@@ -71,9 +90,117 @@ public interface PageController {
     @Operation(description = "Register or increments a page view")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Return date and total page views"),
-            @ApiResponse(responseCode = "404", description = "Not Found")
+            @ApiResponse(responseCode = "202", description = "Page view queued to be accounted or dropped as a repeat view"),
+            @ApiResponse(responseCode = "204", description = "Page view accounted without reading totals back, sent for Prefer: return=minimal"),
+            @ApiResponse(responseCode = "404", description = "Not Found"),
+            @ApiResponse(responseCode = "503", description = "Service Unavailable")
     })
     @PostMapping(value = "/view")
-    ResponseEntity<PageViewResponse> pageViewCounter(@Valid @RequestBody PageViewRequest pageViewRequest);
+    ResponseEntity<PageViewResponse> pageViewCounter(@Valid @RequestBody PageViewRequest pageViewRequest,
+                                                     @RequestHeader(value = "Prefer", required = false) String prefer,
+                                                     @Parameter(hidden = true) HttpServletRequest request);
+
+    @Operation(description = "Register page views in batch from a JSON array or a NDJSON stream of page views")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Return how many records and views were read"),
+            @ApiResponse(responseCode = "400", description = "Bad Request"),
+            @ApiResponse(responseCode = "415", description = "Unsupported Media Type")
+    })
+    @PostMapping(value = "/view/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    ResponseEntity<PageViewBatchResponse> pageViewBatch(@Parameter(hidden = true) InputStream body);
+
+    @Operation(description = "Estimate unique visitors of a page of an user between two days")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Return the estimated unique visitors"),
+            @ApiResponse(responseCode = "400", description = "Bad Request"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "Not Found")
+    })
+    @GetMapping(value = "/{id}/visitors")
+    ResponseEntity<PageVisitorsResponse> pageVisitors(
+            @PathVariable Integer id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to);
+
+    @Operation(description = "List the views of a page of an user between two days grouped by day, week or month")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Return the views series with empty buckets as zero"),
+            @ApiResponse(responseCode = "400", description = "Bad Request"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "Not Found")
+    })
+    @GetMapping(value = "/{id}/views", produces = MediaType.APPLICATION_JSON_VALUE)
+    void pageViewSeries(
+            @PathVariable Integer id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "day") String granularity,
+            @Parameter(hidden = true) HttpServletResponse response) throws IOException;
+
+    @Operation(description = "List the raw view events of a page of an user between two days")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Return the view events with their referrer and utm parameters"),
+            @ApiResponse(responseCode = "400", description = "Bad Request"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "Not Found")
+    })
+    @GetMapping(value = "/{id}/events", produces = MediaType.APPLICATION_JSON_VALUE)
+    void pageViewEvents(
+            @PathVariable Integer id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(hidden = true) HttpServletResponse response) throws IOException;
+
+    @Operation(description = "Download every view row of a page of an user as csv or ndjson, gzipped when accepted")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Return the view rows ordered by date"),
+            @ApiResponse(responseCode = "400", description = "Bad Request"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "Not Found")
+    })
+    @GetMapping(value = "/{id}/export")
+    void pageViewExport(
+            @PathVariable Integer id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @Parameter(hidden = true) HttpServletResponse response) throws IOException;
+
+    @Operation(description = "List where the views of a page of an user came from between two days, by referrer or utm parameter")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Return the top sources, most views first"),
+            @ApiResponse(responseCode = "400", description = "Bad Request"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "Not Found")
+    })
+    @GetMapping(value = "/{id}/sources")
+    ResponseEntity<PageViewSourcesResponse> pageViewSources(
+            @PathVariable Integer id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "referrer") String dimension,
+            @RequestParam(defaultValue = "10") Integer limit);
+
+    @Operation(description = "List the clicks of each link of a page of an user between two days, over the views of the page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Return the clicks and click through rate of each link"),
+            @ApiResponse(responseCode = "400", description = "Bad Request"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "Not Found")
+    })
+    @GetMapping(value = "/{id}/clicks")
+    ResponseEntity<PageClickThroughRatesResponse> pageClickThroughRates(
+            @PathVariable Integer id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to);
+
+    @Operation(description = "List the pages with most views lately")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Return the trending pages, most viewed first"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @GetMapping(value = "/trending")
+    ResponseEntity<List<TrendingPageResponse>> findTrending();
 
 }
@@ -0,0 +1,33 @@
+package com.godev.linkhubservice.rest.controllers;
+
+import com.godev.linkhubservice.domain.vo.PublicPageResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+import java.io.IOException;
+
+@Tag(name = "Public page", description = "Render the public version of a page")
+public interface PublicPageController {
+
+    @Operation(description = "Find a page and its active links by slug, sent from its snapshot file when there is one")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Return the page and its active links",
+                    content = @Content(schema = @Schema(implementation = PublicPageResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Not Found")
+    })
+    @GetMapping(value = "/{slug}", produces = MediaType.APPLICATION_JSON_VALUE)
+    void findPublicPage(
+            @PathVariable String slug,
+            @Parameter(hidden = true) HttpServletRequest request,
+            @Parameter(hidden = true) HttpServletResponse response) throws IOException;
+}
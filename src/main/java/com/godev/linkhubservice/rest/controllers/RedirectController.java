@@ -0,0 +1,21 @@
+package com.godev.linkhubservice.rest.controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+@Tag(name = "Redirect", description = "Follow the public links of a page")
+public interface RedirectController {
+
+    @Operation(description = "Count a click and redirect to the address of an active link")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "302", description = "Found"),
+            @ApiResponse(responseCode = "404", description = "Not Found")
+    })
+    @GetMapping(value = "/{linkId}")
+    ResponseEntity<Void> redirect(@PathVariable Integer linkId);
+}
@@ -0,0 +1,93 @@
+package com.godev.linkhubservice.rest.controllers.impl;
+
+import com.godev.linkhubservice.domain.vo.LinkMoveRequest;
+import com.godev.linkhubservice.domain.vo.LinkOrderRequest;
+import com.godev.linkhubservice.domain.vo.LinkRequest;
+import com.godev.linkhubservice.domain.vo.LinkResponse;
+import com.godev.linkhubservice.rest.controllers.LinkController;
+import com.godev.linkhubservice.services.LinkService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping(value = "/page/{id}/links")
+@Slf4j
+public class LinkControllerImpl implements LinkController {
+
+    private final LinkService linkService;
+
+    public LinkControllerImpl(LinkService linkService) {
+        this.linkService = linkService;
+    }
+
+    @Override
+    public ResponseEntity<LinkResponse> create(Integer id, LinkRequest linkRequest) {
+        log.info("Starting create link {} on page with id {}", linkRequest.getTitle(), id);
+
+        var linkResponse = this.linkService.create(id, linkRequest);
+
+        log.info("Link {} saved in database", linkResponse.getId());
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(linkResponse);
+    }
+
+    @Override
+    public ResponseEntity<List<LinkResponse>> findByPageId(Integer id) {
+        log.info("Listing links of page with id {}", id);
+
+        var linkResponses = this.linkService.findByPageId(id);
+
+        log.info("Returning {} links of page with id {}", linkResponses.size(), id);
+
+        return ResponseEntity.ok(linkResponses);
+    }
+
+    @Override
+    public ResponseEntity<LinkResponse> update(Integer id, Integer linkId, LinkRequest linkRequest) {
+        log.info("Starting update link with id {} on page with id {}", linkId, id);
+
+        var linkResponse = this.linkService.update(id, linkId, linkRequest);
+
+        log.info("Link with id {} updated", linkId);
+
+        return ResponseEntity.ok(linkResponse);
+    }
+
+    @Override
+    public ResponseEntity<Void> delete(Integer id, Integer linkId) {
+        log.info("Starting delete link with id {} on page with id {}", linkId, id);
+
+        this.linkService.delete(id, linkId);
+
+        log.info("Link with id {} deleted", linkId);
+
+        return ResponseEntity.noContent().build();
+    }
+
+    @Override
+    public ResponseEntity<List<LinkResponse>> reorder(Integer id, LinkOrderRequest linkOrderRequest) {
+        log.info("Starting reorder links of page with id {}", id);
+
+        var linkResponses = this.linkService.reorder(id, linkOrderRequest);
+
+        log.info("Links of page with id {} reordered", id);
+
+        return ResponseEntity.ok(linkResponses);
+    }
+
+    @Override
+    public ResponseEntity<LinkResponse> move(Integer id, Integer linkId, LinkMoveRequest linkMoveRequest) {
+        log.info("Starting move link with id {} on page with id {}", linkId, id);
+
+        var linkResponse = this.linkService.move(id, linkId, linkMoveRequest);
+
+        log.info("Link with id {} moved to order {}", linkId, linkResponse.getLinkOrder());
+
+        return ResponseEntity.ok(linkResponse);
+    }
+}
@@ -1,29 +1,69 @@
 package com.godev.linkhubservice.rest.controllers.impl;
 
 import com.godev.linkhubservice.domain.vo.CreatePageRequest;
+import com.godev.linkhubservice.domain.vo.PageClickThroughRatesResponse;
 import com.godev.linkhubservice.domain.vo.PageResponse;
+import com.godev.linkhubservice.domain.vo.PageViewBatchResponse;
 import com.godev.linkhubservice.domain.vo.PageViewRequest;
 import com.godev.linkhubservice.domain.vo.PageViewResponse;
+import com.godev.linkhubservice.domain.vo.PageViewSourcesResponse;
+import com.godev.linkhubservice.domain.vo.PageVisitorsResponse;
+import com.godev.linkhubservice.domain.vo.TrendingPageResponse;
 import com.godev.linkhubservice.domain.vo.UpdatePageRequest;
 import com.godev.linkhubservice.rest.controllers.PageController;
 import com.godev.linkhubservice.services.PageService;
+import com.godev.linkhubservice.services.PageViewBatchService;
+import com.godev.linkhubservice.services.PageViewDedupService;
+import com.godev.linkhubservice.services.PageViewEventService;
+import com.godev.linkhubservice.services.PageViewExportService;
+import com.godev.linkhubservice.services.PageViewSeriesService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping(value = "/page")
 @Slf4j
 public class PageControllerImpl implements PageController {
 
-    private final PageService pageService;
+    private static final String RETURN_MINIMAL = "return=minimal";
+    private static final String PREFERENCE_APPLIED = "Preference-Applied";
+    private static final String GZIP = "gzip";
 
-    public PageControllerImpl(PageService pageService) {
+    private final PageService pageService;
+    private final PageViewBatchService pageViewBatchService;
+    private final PageViewDedupService pageViewDedupService;
+    private final PageViewSeriesService pageViewSeriesService;
+    private final PageViewEventService pageViewEventService;
+    private final PageViewExportService pageViewExportService;
+
+    public PageControllerImpl(PageService pageService, PageViewBatchService pageViewBatchService,
+                              PageViewDedupService pageViewDedupService, PageViewSeriesService pageViewSeriesService,
+                              PageViewEventService pageViewEventService,
+                              PageViewExportService pageViewExportService) {
         this.pageService = pageService;
+        this.pageViewBatchService = pageViewBatchService;
+        this.pageViewDedupService = pageViewDedupService;
+        this.pageViewSeriesService = pageViewSeriesService;
+        this.pageViewEventService = pageViewEventService;
+        this.pageViewExportService = pageViewExportService;
     }
 
 
@@ -52,7 +92,11 @@ public class PageControllerImpl implements PageController {
     }
 
     @Override
-    public ResponseEntity<List<PageResponse>> findPagesByAccountId() {
+    public ResponseEntity<List<PageResponse>> findPagesByAccountId(WebRequest request) {
+
+        if (request.checkNotModified(this.pageService.findPagesVersion())) {
+            return null;
+        }
 
         log.info("Finding pages of this logged user");
 
@@ -64,7 +108,12 @@ public class PageControllerImpl implements PageController {
     }
 
     @Override
-    public ResponseEntity<PageResponse> findById(Integer id) {
+    public ResponseEntity<PageResponse> findById(Integer id, WebRequest request) {
+
+        // the version is read first, a page changed in between only costs the client one more full response
+        if (request.checkNotModified(this.pageService.findPageVersion(id))) {
+            return null;
+        }
 
         log.info("Finding page with id {}", id);
 
@@ -88,9 +137,34 @@ public class PageControllerImpl implements PageController {
     }
 
     @Override
-    public ResponseEntity<PageViewResponse> pageViewCounter(PageViewRequest pageViewRequest) {
+    public ResponseEntity<PageViewResponse> pageViewCounter(PageViewRequest pageViewRequest, String prefer,
+                                                            HttpServletRequest request) {
         log.info("Initialing PageView counter");
 
+        if(ObjectUtils.isEmpty(pageViewRequest.getVisitor())) {
+            pageViewRequest.setVisitor(request.getRemoteAddr() + "|" + request.getHeader(HttpHeaders.USER_AGENT));
+        }
+
+        if(this.pageViewDedupService.isRepeat(pageViewRequest.getPageId(), pageViewRequest.getVisitor())) {
+            log.info("PageView with id {} dropped as a repeat view", pageViewRequest.getPageId());
+
+            return ResponseEntity.accepted().build();
+        }
+
+        if(this.pageService.enqueuePageView(pageViewRequest)) {
+            log.info("PageView with id {} queued", pageViewRequest.getPageId());
+
+            return ResponseEntity.accepted().build();
+        }
+
+        if(RETURN_MINIMAL.equalsIgnoreCase(StringUtils.trim(prefer))) {
+            this.pageService.recordPageView(pageViewRequest);
+
+            log.info("PageView with id {} recorded", pageViewRequest.getPageId());
+
+            return ResponseEntity.noContent().header(PREFERENCE_APPLIED, RETURN_MINIMAL).build();
+        }
+
         var pageViewResponse = this.pageService.pageViewCounter(pageViewRequest);
 
         log.info("PageView with id {} accounted", pageViewRequest.getPageId());
@@ -98,4 +172,117 @@ public class PageControllerImpl implements PageController {
         return ResponseEntity.ok(pageViewResponse);
     }
 
+    @Override
+    public ResponseEntity<PageViewBatchResponse> pageViewBatch(InputStream body) {
+        log.info("Initialing PageView batch ingestion");
+
+        var pageViewBatchResponse = this.pageViewBatchService.ingest(body);
+
+        log.info("PageView batch with {} records accounted", pageViewBatchResponse.getRecords());
+
+        return ResponseEntity.ok(pageViewBatchResponse);
+    }
+
+    @Override
+    public ResponseEntity<PageVisitorsResponse> pageVisitors(Integer id, LocalDate from, LocalDate to) {
+        log.info("Estimating unique visitors of page with id {}", id);
+
+        var pageVisitorsResponse = this.pageService.pageVisitors(id, from, to);
+
+        log.info("Returning unique visitors of page with id {}", id);
+
+        return ResponseEntity.ok(pageVisitorsResponse);
+    }
+
+    @Override
+    public void pageViewEvents(Integer id, LocalDate from, LocalDate to, HttpServletResponse response)
+            throws IOException {
+        log.info("Listing view events of page with id {}", id);
+
+        var pageViewEventsQuery = this.pageService.pageViewEvents(id, from, to);
+
+        log.info("Streaming view events of page with id {}", id);
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        this.pageViewEventService.write(pageViewEventsQuery, response.getOutputStream());
+    }
+
+    @Override
+    public void pageViewExport(Integer id, LocalDate from, LocalDate to, String format, String acceptEncoding,
+                               HttpServletResponse response) throws IOException {
+        log.info("Exporting views of page with id {}", id);
+
+        var pageViewExportQuery = this.pageService.pageViewExport(id, from, to, format);
+        var filename = String.format("page-%s-views.%s", id, pageViewExportQuery.format().getExtension());
+
+        log.info("Streaming views export of page with id {}", id);
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(pageViewExportQuery.format().getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if(StringUtils.containsIgnoreCase(acceptEncoding, GZIP)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+
+            try (var outputStream = new GZIPOutputStream(response.getOutputStream())) {
+                this.pageViewExportService.write(pageViewExportQuery, outputStream);
+            }
+            return;
+        }
+
+        this.pageViewExportService.write(pageViewExportQuery, response.getOutputStream());
+    }
+
+    @Override
+    public ResponseEntity<PageViewSourcesResponse> pageViewSources(Integer id, LocalDate from, LocalDate to,
+                                                                   String dimension, Integer limit) {
+        log.info("Listing {} sources of page with id {}", dimension, id);
+
+        var pageViewSourcesResponse = this.pageService.pageViewSources(id, from, to, dimension, limit);
+
+        log.info("Returning {} sources of page with id {}", dimension, id);
+
+        return ResponseEntity.ok(pageViewSourcesResponse);
+    }
+
+    @Override
+    public ResponseEntity<PageClickThroughRatesResponse> pageClickThroughRates(Integer id, LocalDate from, LocalDate to) {
+        log.info("Listing click through rates of page with id {}", id);
+
+        var pageClickThroughRatesResponse = this.pageService.pageClickThroughRates(id, from, to);
+
+        log.info("Returning click through rates of {} links of page with id {}",
+                pageClickThroughRatesResponse.getLinks().size(), id);
+
+        return ResponseEntity.ok(pageClickThroughRatesResponse);
+    }
+
+    @Override
+    public void pageViewSeries(Integer id, LocalDate from, LocalDate to, String granularity,
+                               HttpServletResponse response) throws IOException {
+        log.info("Listing views series of page with id {}", id);
+
+        var pageViewSeriesQuery = this.pageService.pageViewSeries(id, from, to, granularity);
+
+        log.info("Streaming views series of page with id {}", id);
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        this.pageViewSeriesService.write(pageViewSeriesQuery, response.getOutputStream());
+    }
+
+    @Override
+    public ResponseEntity<List<TrendingPageResponse>> findTrending() {
+        log.info("Finding trending pages");
+
+        var trendingPages = this.pageService.findTrending();
+
+        log.info("Returning {} trending pages", trendingPages.size());
+
+        return ResponseEntity.ok(trendingPages);
+    }
+
 }
@@ -0,0 +1,82 @@
+package com.godev.linkhubservice.rest.controllers.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.godev.linkhubservice.rest.controllers.PublicPageController;
+import com.godev.linkhubservice.services.PageService;
+import com.godev.linkhubservice.services.PublicPageSnapshotService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+@RestController
+@RequestMapping(value = "/p")
+public class PublicPageControllerImpl implements PublicPageController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final PageService pageService;
+    private final PublicPageSnapshotService publicPageSnapshotService;
+    private final ObjectMapper objectMapper;
+
+    public PublicPageControllerImpl(PageService pageService, PublicPageSnapshotService publicPageSnapshotService,
+                                    ObjectMapper objectMapper) {
+        this.pageService = pageService;
+        this.publicPageSnapshotService = publicPageSnapshotService;
+        this.objectMapper = objectMapper;
+    }
+
+    // no logging here, hot pages are answered from disk on every visit
+    @Override
+    public void findPublicPage(String slug, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        var snapshot = this.publicPageSnapshotService.find(slug);
+
+        if (snapshot.isPresent() && this.send(snapshot.get(), request, response)) {
+            return;
+        }
+
+        // not written yet or just replaced, the cached render answers until the snapshot is there
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        this.objectMapper.writeValue(response.getOutputStream(), this.pageService.findPublicPage(slug));
+    }
+
+    private boolean send(Path snapshot, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        try (var channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            var size = channel.size();
+
+            response.setStatus(HttpStatus.OK.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLengthLong(size);
+
+            // tomcat hands the file to the socket itself, snapshots are never rewritten so the name stays valid
+            if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+                request.setAttribute(SENDFILE_FILENAME, snapshot.toAbsolutePath().toString());
+                request.setAttribute(SENDFILE_START, 0L);
+                request.setAttribute(SENDFILE_END, size);
+                return true;
+            }
+
+            var target = Channels.newChannel(response.getOutputStream());
+
+            for (long position = 0; position < size; ) {
+                position += channel.transferTo(position, size - position, target);
+            }
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+}
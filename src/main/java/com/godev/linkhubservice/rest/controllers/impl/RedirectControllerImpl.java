@@ -0,0 +1,29 @@
+package com.godev.linkhubservice.rest.controllers.impl;
+
+import com.godev.linkhubservice.rest.controllers.RedirectController;
+import com.godev.linkhubservice.services.LinkService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping(value = "/l")
+public class RedirectControllerImpl implements RedirectController {
+
+    private final LinkService linkService;
+
+    public RedirectControllerImpl(LinkService linkService) {
+        this.linkService = linkService;
+    }
+
+    // no logging here, this is the hottest path of the service
+    @Override
+    public ResponseEntity<Void> redirect(Integer linkId) {
+        return ResponseEntity.status(HttpStatus.FOUND)
+                .header(HttpHeaders.LOCATION, this.linkService.redirect(linkId))
+                .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                .build();
+    }
+}
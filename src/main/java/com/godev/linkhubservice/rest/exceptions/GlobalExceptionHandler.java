@@ -7,6 +7,7 @@ import com.godev.linkhubservice.domain.exceptions.Issue;
 import com.godev.linkhubservice.domain.exceptions.IssueEnum;
 import com.godev.linkhubservice.domain.exceptions.ObjectNotFoundException;
 import com.godev.linkhubservice.domain.exceptions.RuleViolationException;
+import com.godev.linkhubservice.domain.exceptions.ServiceUnavailableException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
 import org.springframework.http.HttpStatus;
@@ -74,4 +75,11 @@ public class GlobalExceptionHandler {
         log.error(e.getIssue().toString());
         return e.getIssue();
     }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public Issue handlerServiceUnavailableException(ServiceUnavailableException e) {
+        log.warn(e.getIssue().toString());
+        return e.getIssue();
+    }
 }
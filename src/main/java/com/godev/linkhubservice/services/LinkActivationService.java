@@ -0,0 +1,12 @@
+package com.godev.linkhubservice.services;
+
+import java.time.OffsetDateTime;
+
+public interface LinkActivationService {
+
+    void schedule(Integer linkId, OffsetDateTime transitionAt);
+
+    void load();
+
+    void advance();
+}
@@ -0,0 +1,8 @@
+package com.godev.linkhubservice.services;
+
+public interface LinkClickService {
+
+    void increment(Integer linkId);
+
+    void flush();
+}
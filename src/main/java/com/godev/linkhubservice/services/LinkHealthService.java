@@ -0,0 +1,8 @@
+package com.godev.linkhubservice.services;
+
+public interface LinkHealthService {
+
+    void start();
+
+    void sweep();
+}
@@ -0,0 +1,8 @@
+package com.godev.linkhubservice.services;
+
+public interface LinkOrderService {
+
+    void schedule(Integer pageId);
+
+    void renormalize();
+}
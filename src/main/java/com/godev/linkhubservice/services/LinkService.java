@@ -0,0 +1,25 @@
+package com.godev.linkhubservice.services;
+
+import com.godev.linkhubservice.domain.vo.LinkMoveRequest;
+import com.godev.linkhubservice.domain.vo.LinkOrderRequest;
+import com.godev.linkhubservice.domain.vo.LinkRequest;
+import com.godev.linkhubservice.domain.vo.LinkResponse;
+
+import java.util.List;
+
+public interface LinkService {
+
+    LinkResponse create(Integer pageId, LinkRequest linkRequest);
+
+    List<LinkResponse> findByPageId(Integer pageId);
+
+    LinkResponse update(Integer pageId, Integer linkId, LinkRequest linkRequest);
+
+    void delete(Integer pageId, Integer linkId);
+
+    List<LinkResponse> reorder(Integer pageId, LinkOrderRequest linkOrderRequest);
+
+    LinkResponse move(Integer pageId, Integer linkId, LinkMoveRequest linkMoveRequest);
+
+    String redirect(Integer linkId);
+}
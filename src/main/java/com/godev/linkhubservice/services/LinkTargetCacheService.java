@@ -0,0 +1,14 @@
+package com.godev.linkhubservice.services;
+
+import com.godev.linkhubservice.domain.vo.LinkTarget;
+
+import java.util.Optional;
+
+public interface LinkTargetCacheService {
+
+    Optional<LinkTarget> find(Integer linkId);
+
+    void evict(Integer linkId);
+
+    void evictPage(Integer pageId);
+}
@@ -0,0 +1,12 @@
+package com.godev.linkhubservice.services;
+
+public interface PageIdCacheService {
+
+    boolean exists(Integer id);
+
+    void add(Integer id);
+
+    void remove(Integer id);
+
+    void refresh();
+}
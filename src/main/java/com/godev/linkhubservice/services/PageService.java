@@ -1,11 +1,21 @@
 package com.godev.linkhubservice.services;
 
+import com.godev.linkhubservice.domain.models.Page;
 import com.godev.linkhubservice.domain.vo.CreatePageRequest;
+import com.godev.linkhubservice.domain.vo.PageClickThroughRatesResponse;
 import com.godev.linkhubservice.domain.vo.PageResponse;
+import com.godev.linkhubservice.domain.vo.PageViewEventsQuery;
+import com.godev.linkhubservice.domain.vo.PageViewExportQuery;
 import com.godev.linkhubservice.domain.vo.PageViewRequest;
 import com.godev.linkhubservice.domain.vo.PageViewResponse;
+import com.godev.linkhubservice.domain.vo.PageViewSeriesQuery;
+import com.godev.linkhubservice.domain.vo.PageViewSourcesResponse;
+import com.godev.linkhubservice.domain.vo.PageVisitorsResponse;
+import com.godev.linkhubservice.domain.vo.PublicPageResponse;
+import com.godev.linkhubservice.domain.vo.TrendingPageResponse;
 import com.godev.linkhubservice.domain.vo.UpdatePageRequest;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface PageService {
@@ -16,9 +26,35 @@ public interface PageService {
 
     PageResponse findById(Integer id);
 
+    Page findAuthorizedPage(Integer id);
+
+    PublicPageResponse findPublicPage(String slug);
+
     List<PageResponse> findPagesByAccountId();
 
+    String findPageVersion(Integer id);
+
+    String findPagesVersion();
+
     void delete(Integer id);
 
     PageViewResponse pageViewCounter(PageViewRequest pageViewRequest);
+
+    void recordPageView(PageViewRequest pageViewRequest);
+
+    boolean enqueuePageView(PageViewRequest pageViewRequest);
+
+    PageVisitorsResponse pageVisitors(Integer id, LocalDate from, LocalDate to);
+
+    PageViewSeriesQuery pageViewSeries(Integer id, LocalDate from, LocalDate to, String granularity);
+
+    PageViewEventsQuery pageViewEvents(Integer id, LocalDate from, LocalDate to);
+
+    PageViewExportQuery pageViewExport(Integer id, LocalDate from, LocalDate to, String format);
+
+    PageViewSourcesResponse pageViewSources(Integer id, LocalDate from, LocalDate to, String dimension, Integer limit);
+
+    PageClickThroughRatesResponse pageClickThroughRates(Integer id, LocalDate from, LocalDate to);
+
+    List<TrendingPageResponse> findTrending();
 }
@@ -0,0 +1,10 @@
+package com.godev.linkhubservice.services;
+
+import com.godev.linkhubservice.domain.vo.PageViewBatchResponse;
+
+import java.io.InputStream;
+
+public interface PageViewBatchService {
+
+    PageViewBatchResponse ingest(InputStream body);
+}
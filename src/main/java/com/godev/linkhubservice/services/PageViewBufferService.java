@@ -0,0 +1,10 @@
+package com.godev.linkhubservice.services;
+
+import java.time.OffsetDateTime;
+
+public interface PageViewBufferService {
+
+    void increment(Integer pageId, OffsetDateTime date);
+
+    void flush();
+}
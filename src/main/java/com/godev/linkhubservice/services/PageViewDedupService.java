@@ -0,0 +1,8 @@
+package com.godev.linkhubservice.services;
+
+public interface PageViewDedupService {
+
+    boolean isRepeat(Integer pageId, String visitor);
+
+    void rotate();
+}
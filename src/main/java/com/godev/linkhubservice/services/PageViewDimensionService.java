@@ -0,0 +1,10 @@
+package com.godev.linkhubservice.services;
+
+import com.godev.linkhubservice.domain.enums.PageViewDimension;
+
+public interface PageViewDimensionService {
+
+    Integer idOf(PageViewDimension dimension, String value);
+
+    String valueOf(Integer id);
+}
@@ -0,0 +1,21 @@
+package com.godev.linkhubservice.services;
+
+import com.godev.linkhubservice.domain.vo.PageViewEventsQuery;
+import com.godev.linkhubservice.domain.vo.PageViewRequest;
+import com.godev.linkhubservice.domain.vo.ViewEvent;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.OffsetDateTime;
+import java.util.function.Consumer;
+
+public interface PageViewEventService {
+
+    void append(PageViewRequest pageViewRequest, OffsetDateTime moment, long count);
+
+    void seal();
+
+    void scan(Integer pageId, OffsetDateTime from, OffsetDateTime to, Consumer<ViewEvent> consumer);
+
+    void write(PageViewEventsQuery query, OutputStream outputStream) throws IOException;
+}
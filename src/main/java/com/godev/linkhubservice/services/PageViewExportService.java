@@ -0,0 +1,11 @@
+package com.godev.linkhubservice.services;
+
+import com.godev.linkhubservice.domain.vo.PageViewExportQuery;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface PageViewExportService {
+
+    void write(PageViewExportQuery query, OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,16 @@
+package com.godev.linkhubservice.services;
+
+import com.godev.linkhubservice.domain.vo.PageViewKey;
+
+import java.util.Map;
+
+public interface PageViewJournalService {
+
+    void append(PageViewKey key, long delta);
+
+    long mark();
+
+    void checkpoint(long mark);
+
+    Map<PageViewKey, Long> replay();
+}
@@ -0,0 +1,10 @@
+package com.godev.linkhubservice.services;
+
+import java.time.OffsetDateTime;
+
+public interface PageViewQueueService {
+
+    boolean offer(Integer pageId, OffsetDateTime date);
+
+    int depth();
+}
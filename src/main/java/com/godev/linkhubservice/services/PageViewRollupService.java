@@ -0,0 +1,12 @@
+package com.godev.linkhubservice.services;
+
+import com.godev.linkhubservice.domain.enums.PageViewGranularity;
+
+import java.time.OffsetDateTime;
+
+public interface PageViewRollupService {
+
+    PageViewGranularity tierFor(OffsetDateTime moment);
+
+    void compact();
+}
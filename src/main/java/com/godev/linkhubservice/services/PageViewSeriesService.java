@@ -0,0 +1,11 @@
+package com.godev.linkhubservice.services;
+
+import com.godev.linkhubservice.domain.vo.PageViewSeriesQuery;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface PageViewSeriesService {
+
+    void write(PageViewSeriesQuery query, OutputStream outputStream) throws IOException;
+}
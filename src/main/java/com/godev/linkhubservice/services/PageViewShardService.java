@@ -0,0 +1,10 @@
+package com.godev.linkhubservice.services;
+
+public interface PageViewShardService {
+
+    int shardFor(Integer pageId);
+
+    int shardCount(Integer pageId);
+
+    void rebalance();
+}
@@ -0,0 +1,12 @@
+package com.godev.linkhubservice.services;
+
+import com.godev.linkhubservice.domain.vo.PageViewRequest;
+
+import java.time.OffsetDateTime;
+
+public interface PageViewSourceService {
+
+    void offer(PageViewRequest pageViewRequest, OffsetDateTime moment, long count);
+
+    void flush();
+}
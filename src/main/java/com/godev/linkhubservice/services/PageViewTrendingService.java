@@ -0,0 +1,18 @@
+package com.godev.linkhubservice.services;
+
+import com.godev.linkhubservice.domain.vo.TrendingPage;
+
+import java.util.List;
+
+public interface PageViewTrendingService {
+
+    void record(Integer pageId, long count);
+
+    void fold();
+
+    List<TrendingPage> top();
+
+    void decay();
+
+    void snapshot();
+}
@@ -0,0 +1,10 @@
+package com.godev.linkhubservice.services;
+
+import java.time.OffsetDateTime;
+
+public interface PageViewVisitorService {
+
+    void offer(Integer pageId, OffsetDateTime moment, String visitor);
+
+    void flush();
+}
@@ -0,0 +1,14 @@
+package com.godev.linkhubservice.services;
+
+import com.godev.linkhubservice.domain.vo.PublicPageResponse;
+
+import java.util.function.Function;
+
+public interface PublicPageCacheService {
+
+    PublicPageResponse find(String slug, Function<String, PublicPageResponse> loader);
+
+    void evictPage(Integer pageId);
+
+    void evictSlug(String slug);
+}
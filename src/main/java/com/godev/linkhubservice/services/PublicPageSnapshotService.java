@@ -0,0 +1,15 @@
+package com.godev.linkhubservice.services;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+public interface PublicPageSnapshotService {
+
+    Optional<Path> find(String slug);
+
+    void schedule(Integer pageId);
+
+    void rebuild();
+
+    void refresh();
+}
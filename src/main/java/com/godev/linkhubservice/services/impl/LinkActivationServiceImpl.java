@@ -0,0 +1,155 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.godev.linkhubservice.domain.repository.LinkRepository;
+import com.godev.linkhubservice.domain.timers.TimingWheel;
+import com.godev.linkhubservice.properties.LinkProperties;
+import com.godev.linkhubservice.services.LinkActivationService;
+import com.godev.linkhubservice.services.LinkTargetCacheService;
+import com.godev.linkhubservice.services.PublicPageCacheService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@Slf4j
+public class LinkActivationServiceImpl implements LinkActivationService {
+
+    private final LinkRepository linkRepository;
+    private final LinkTargetCacheService linkTargetCacheService;
+    private final PublicPageCacheService publicPageCacheService;
+    private final LinkProperties.Activation properties;
+    private final TimingWheel<Integer> wheel;
+    private final Duration window;
+    private final Counter transitions;
+    private final ScheduledExecutorService ticker;
+    private volatile OffsetDateTime loadedUntil;
+
+    public LinkActivationServiceImpl(LinkRepository linkRepository, LinkTargetCacheService linkTargetCacheService,
+                                     PublicPageCacheService publicPageCacheService, LinkProperties linkProperties,
+                                     MeterRegistry meterRegistry) {
+        this.linkRepository = linkRepository;
+        this.linkTargetCacheService = linkTargetCacheService;
+        this.publicPageCacheService = publicPageCacheService;
+        this.properties = linkProperties.getActivation();
+        this.wheel = new TimingWheel<>(this.properties.getTick().toMillis(), this.properties.getWheelSize(),
+                this.properties.getLevels(), System.currentTimeMillis());
+
+        var horizon = Duration.ofMillis(this.wheel.horizonMillis());
+        this.window = this.properties.getWindow().compareTo(horizon) > 0 ? horizon : this.properties.getWindow();
+
+        Gauge.builder("link.activation.scheduled", this, service -> service.wheel.size())
+                .description("Link transitions waiting on the timing wheel")
+                .register(meterRegistry);
+        this.transitions = Counter.builder("link.activation.transitions")
+                .description("Links switched on or off by their activation window")
+                .register(meterRegistry);
+
+        this.ticker = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("link-activation-"));
+    }
+
+    // the wheel ticks on its own thread, so a slow batch of transitions never delays the other scheduled jobs
+    @PostConstruct
+    public void start() {
+        var tick = this.properties.getTick().toMillis();
+
+        this.ticker.scheduleWithFixedDelay(() -> {
+            try {
+                this.advance();
+            } catch (RuntimeException e) {
+                log.error("Advancing the link activation wheel failed, trying again on the next tick", e);
+            }
+        }, tick, tick, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        this.ticker.shutdownNow();
+    }
+
+    @Override
+    public synchronized void schedule(Integer linkId, OffsetDateTime transitionAt) {
+        // a timer the next load also finds is harmless, only the first one still matches the stored time
+        if (!this.wheel.schedule(transitionAt.toInstant().toEpochMilli(), linkId)) {
+            log.debug("Transition of link with id {} at {} is beyond the wheel, leaving it to a later load", linkId, transitionAt);
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "#{@linkProperties.activation.loadInterval.toMillis()}")
+    public void load() {
+        var from = this.loadedUntil;
+        var until = OffsetDateTime.now(ZoneOffset.UTC).plus(this.window);
+        List<Integer> linkIds = new ArrayList<>();
+        List<Long> deadlines = new ArrayList<>();
+
+        // only the next window is held in memory, the index on next_transition_at hands over the rest as time goes by
+        this.linkRepository.findTransitions(from, until, (linkId, transitionAt) -> {
+            linkIds.add(linkId);
+            deadlines.add(transitionAt.toInstant().toEpochMilli());
+        });
+
+        synchronized (this) {
+            for (int i = 0; i < linkIds.size(); i++) {
+                this.wheel.schedule(deadlines.get(i), linkIds.get(i));
+            }
+        }
+        this.loadedUntil = until;
+
+        log.info("Loaded {} link transitions up to {}", linkIds.size(), until);
+    }
+
+    @Override
+    public void advance() {
+        var now = System.currentTimeMillis();
+        List<Integer> due = new ArrayList<>();
+
+        synchronized (this) {
+            this.wheel.advance(now, due::add);
+        }
+
+        for (int from = 0; from < due.size(); from += this.properties.getBatchSize()) {
+            this.apply(due.subList(from, Math.min(from + this.properties.getBatchSize(), due.size())),
+                    Instant.ofEpochMilli(now).atOffset(ZoneOffset.UTC));
+        }
+    }
+
+    private void apply(List<Integer> linkIds, OffsetDateTime now) {
+        try {
+            var applied = this.linkRepository.applyTransitions(linkIds, now);
+
+            for (var transition : applied) {
+                this.linkTargetCacheService.evict(transition.id());
+                this.publicPageCacheService.evictPage(transition.pageId());
+
+                if (transition.nextTransitionAt() != null) {
+                    this.schedule(transition.id(), transition.nextTransitionAt());
+                }
+            }
+            this.transitions.increment(applied.size());
+
+            log.info("Applied {} of {} due link transitions", applied.size(), linkIds.size());
+        } catch (RuntimeException e) {
+            log.error("Applying {} link transitions failed, trying again on the next tick", linkIds.size(), e);
+
+            synchronized (this) {
+                linkIds.forEach(linkId -> this.wheel.schedule(now.toInstant().toEpochMilli(), linkId));
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.godev.linkhubservice.domain.repository.LinkRepository;
+import com.godev.linkhubservice.domain.vo.LinkClickKey;
+import com.godev.linkhubservice.services.LinkClickService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@Service
+@Slf4j
+public class LinkClickServiceImpl implements LinkClickService {
+
+    private final LinkRepository linkRepository;
+    private final ConcurrentHashMap<LinkClickKey, LongAdder> counters = new ConcurrentHashMap<>();
+    private List<Map.Entry<LinkClickKey, LongAdder>> retired = new ArrayList<>();
+
+    public LinkClickServiceImpl(LinkRepository linkRepository, MeterRegistry meterRegistry) {
+        this.linkRepository = linkRepository;
+
+        Gauge.builder("link.clicks.buffered", this, service -> service.counters.size())
+                .description("Links with clicks waiting for the next flush")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void increment(Integer linkId) {
+        var key = new LinkClickKey(linkId, OffsetDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.DAYS));
+        var counter = this.counters.get(key);
+
+        if (counter == null) {
+            counter = this.counters.computeIfAbsent(key, k -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "#{@linkProperties.clicks.flushInterval.toMillis()}")
+    public synchronized void flush() {
+        var deltas = this.drain();
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        log.info("Flushing clicks of {} links", deltas.size());
+
+        try {
+            this.linkRepository.incrementClicks(deltas);
+        } catch (RuntimeException e) {
+            log.error("Flush of link clicks failed, keeping them buffered", e);
+            deltas.forEach((key, delta) -> this.counters.computeIfAbsent(key, k -> new LongAdder()).add(delta));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        log.info("Flushing link clicks before shutdown");
+        this.flush();
+    }
+
+    private Map<LinkClickKey, Long> drain() {
+        Map<LinkClickKey, Long> deltas = new HashMap<>();
+
+        // counters removed on the previous flush may still have taken clicks from redirects holding them
+        this.retired.forEach(entry -> this.collect(deltas, entry.getKey(), entry.getValue().sumThenReset()));
+        this.retired = new ArrayList<>();
+
+        this.counters.forEach((key, counter) -> {
+            var delta = counter.sumThenReset();
+
+            if (delta == 0 && this.counters.remove(key, counter)) {
+                this.retired.add(Map.entry(key, counter));
+            }
+            this.collect(deltas, key, delta);
+        });
+
+        return deltas;
+    }
+
+    private void collect(Map<LinkClickKey, Long> deltas, LinkClickKey key, long delta) {
+        if (delta > 0) {
+            deltas.merge(key, delta, Long::sum);
+        }
+    }
+}
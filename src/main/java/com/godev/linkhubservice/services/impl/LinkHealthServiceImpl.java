@@ -0,0 +1,292 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.godev.linkhubservice.domain.repository.LinkRepository;
+import com.godev.linkhubservice.domain.vo.LinkCheck;
+import com.godev.linkhubservice.domain.vo.LinkCheckResult;
+import com.godev.linkhubservice.properties.LinkProperties;
+import com.godev.linkhubservice.services.LinkHealthService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+@Slf4j
+public class LinkHealthServiceImpl implements LinkHealthService {
+
+    private static final int UNREACHABLE = 0;
+    private static final String USER_AGENT = "link-hub-service";
+
+    private final LinkRepository linkRepository;
+    private final LinkProperties.Health properties;
+    private final HttpClient httpClient;
+    private final Counter checked;
+    private final Counter failed;
+    private final ExecutorService sweeper;
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    public LinkHealthServiceImpl(LinkRepository linkRepository, LinkProperties linkProperties,
+                                 MeterRegistry meterRegistry) {
+        this.linkRepository = linkRepository;
+        this.properties = linkProperties.getHealth();
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(this.properties.getTimeout())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+
+        this.checked = Counter.builder("link.health.checked")
+                .description("Links whose address was checked")
+                .register(meterRegistry);
+        this.failed = Counter.builder("link.health.failed")
+                .description("Links whose address did not answer or answered with an error")
+                .register(meterRegistry);
+        this.sweeper = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("link-health-"));
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "#{@linkProperties.health.interval.toMillis()}",
+            initialDelayString = "#{@linkProperties.health.interval.toMillis()}")
+    public void start() {
+        // a sweep takes as long as the slowest hosts, so it runs on its own thread instead of holding the scheduler
+        if (!this.sweeping.compareAndSet(false, true)) {
+            log.info("Previous health check of links still running, skipping this one");
+            return;
+        }
+
+        this.sweeper.execute(() -> {
+            try {
+                this.sweep();
+            } finally {
+                this.sweeping.set(false);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        this.sweeper.shutdownNow();
+    }
+
+    @Override
+    public synchronized void sweep() {
+        var maxConcurrency = this.properties.getMaxConcurrency();
+        var sweep = new Sweep(new Semaphore(maxConcurrency), new ConcurrentHashMap<>(), new ConcurrentLinkedQueue<>());
+        var afterId = 0;
+        var total = 0;
+
+        log.info("Starting health check of links");
+
+        // links are read a batch at a time and each host queues a bounded number of them, so memory stays bounded
+        List<LinkCheck> batch;
+        do {
+            batch = this.linkRepository.findCheckTargets(afterId, this.properties.getBatchSize());
+
+            for (var link : batch) {
+                this.submit(sweep, link);
+            }
+
+            if (!batch.isEmpty()) {
+                afterId = batch.get(batch.size() - 1).id();
+                total += batch.size();
+            }
+            this.store(sweep.results());
+        } while (batch.size() == this.properties.getBatchSize());
+
+        // a waiting link always has a request of its host in flight, so all permits back means nothing is left
+        sweep.permits().acquireUninterruptibly(maxConcurrency);
+        this.store(sweep.results());
+
+        log.info("Finished health check of {} links", total);
+    }
+
+    private void submit(Sweep sweep, LinkCheck link) {
+        URI uri;
+        try {
+            uri = URI.create(link.href());
+        } catch (IllegalArgumentException e) {
+            this.record(sweep, link, UNREACHABLE);
+            return;
+        }
+
+        var host = uri.getHost() == null ? "" : uri.getHost().toLowerCase(Locale.ROOT);
+        var hostQueue = sweep.hosts().computeIfAbsent(host,
+                h -> new HostQueue(this.properties.getMaxPerHost(), this.properties.getMaxWaitingPerHost()));
+
+        if (hostQueue.offer(link)) {
+            // the permit is taken only for a request about to be sent, waiting links never hold one
+            sweep.permits().acquireUninterruptibly();
+            this.check(sweep, hostQueue, link, uri);
+        }
+    }
+
+    private void check(Sweep sweep, HostQueue hostQueue, LinkCheck link, URI uri) {
+        CompletableFuture<Integer> status;
+        try {
+            if (!this.isPublic(uri.getHost())) {
+                log.debug("Skipping health check of link with id {}, its address is not public", link.id());
+                this.complete(sweep, hostQueue, link, UNREACHABLE);
+                return;
+            }
+
+            status = this.send(uri, "HEAD")
+                    .thenCompose(head -> head == 405 || head == 501
+                            ? this.send(uri, "GET")
+                            : CompletableFuture.completedFuture(head));
+        } catch (IllegalArgumentException e) {
+            status = CompletableFuture.completedFuture(UNREACHABLE);
+        }
+
+        status.whenComplete((code, error) -> this.complete(sweep, hostQueue, link, error == null ? code : UNREACHABLE));
+    }
+
+    // the owner reads the answer back, so addresses inside our own network are never requested
+    private boolean isPublic(String host) {
+        if (this.properties.getAllowPrivateAddresses()) {
+            return true;
+        }
+        if (host == null) {
+            return false;
+        }
+
+        try {
+            for (var address : InetAddress.getAllByName(host)) {
+                if (address.isLoopbackAddress() || address.isSiteLocalAddress() || address.isLinkLocalAddress()
+                        || address.isAnyLocalAddress() || address.isMulticastAddress() || isUniqueLocal(address)) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (UnknownHostException e) {
+            return false;
+        }
+    }
+
+    private static boolean isUniqueLocal(InetAddress address) {
+        return address instanceof Inet6Address && (address.getAddress()[0] & 0xfe) == 0xfc;
+    }
+
+    private CompletableFuture<Integer> send(URI uri, String method) {
+        var request = HttpRequest.newBuilder(uri)
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .timeout(this.properties.getTimeout())
+                .header("User-Agent", USER_AGENT)
+                .build();
+
+        return this.httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .thenApply(HttpResponse::statusCode);
+    }
+
+    private void complete(Sweep sweep, HostQueue hostQueue, LinkCheck link, int status) {
+        this.record(sweep, link, status);
+
+        var next = hostQueue.next();
+
+        // the next link of the same host is sent on the permit this request is handing back
+        if (next != null) {
+            this.check(sweep, hostQueue, next, URI.create(next.href()));
+        } else {
+            sweep.permits().release();
+        }
+    }
+
+    private void record(Sweep sweep, LinkCheck link, int status) {
+        sweep.results().add(new LinkCheckResult(link.id(), status, OffsetDateTime.now(ZoneOffset.UTC)));
+        this.checked.increment();
+
+        if (status == UNREACHABLE || status >= 400) {
+            this.failed.increment();
+        }
+    }
+
+    private void store(Queue<LinkCheckResult> results) {
+        List<LinkCheckResult> drained = new ArrayList<>();
+
+        for (var result = results.poll(); result != null; result = results.poll()) {
+            drained.add(result);
+        }
+
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        try {
+            this.linkRepository.updateChecks(drained);
+        } catch (RuntimeException e) {
+            log.error("Storing {} link health checks failed, they will be checked again on the next sweep",
+                    drained.size(), e);
+        }
+    }
+
+    private record Sweep(Semaphore permits, Map<String, HostQueue> hosts, Queue<LinkCheckResult> results) {
+    }
+
+    // a host over its limit keeps the links waiting here, so the sweep moves on to other hosts meanwhile;
+    // only a host whose own queue is full makes the sweep wait for it
+    private static class HostQueue {
+
+        private final int maxInFlight;
+        private final int maxWaiting;
+        private final Deque<LinkCheck> waiting = new ArrayDeque<>();
+        private int inFlight;
+
+        HostQueue(int maxInFlight, int maxWaiting) {
+            this.maxInFlight = maxInFlight;
+            this.maxWaiting = maxWaiting;
+        }
+
+        synchronized boolean offer(LinkCheck link) {
+            if (this.inFlight < this.maxInFlight) {
+                this.inFlight++;
+                return true;
+            }
+            while (this.waiting.size() >= this.maxWaiting) {
+                try {
+                    this.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Health check of links interrupted", e);
+                }
+            }
+            this.waiting.add(link);
+            return false;
+        }
+
+        synchronized LinkCheck next() {
+            var next = this.waiting.poll();
+
+            if (next == null) {
+                this.inFlight--;
+            } else {
+                this.notifyAll();
+            }
+            return next;
+        }
+    }
+}
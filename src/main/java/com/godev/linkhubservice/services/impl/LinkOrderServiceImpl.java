@@ -0,0 +1,52 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.godev.linkhubservice.domain.repository.LinkRepository;
+import com.godev.linkhubservice.services.LinkOrderService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@Slf4j
+public class LinkOrderServiceImpl implements LinkOrderService {
+
+    private final LinkRepository linkRepository;
+    private final Set<Integer> pending = ConcurrentHashMap.newKeySet();
+
+    public LinkOrderServiceImpl(LinkRepository linkRepository, MeterRegistry meterRegistry) {
+        this.linkRepository = linkRepository;
+
+        Gauge.builder("link.order.renormalizations.pending", this, service -> service.pending.size())
+                .description("Pages whose link order gaps are waiting to be spread again")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void schedule(Integer pageId) {
+        this.pending.add(pageId);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "#{@linkProperties.ordering.renormalizeInterval.toMillis()}")
+    public synchronized void renormalize() {
+        List<Integer> pageIds = List.copyOf(this.pending);
+
+        for (var pageId : pageIds) {
+            this.pending.remove(pageId);
+
+            try {
+                var updated = this.linkRepository.renormalize(pageId);
+                log.info("Spread the order of {} links of page with id {}", updated, pageId);
+            } catch (RuntimeException e) {
+                log.error("Renormalization of links of page with id {} failed, trying again later", pageId, e);
+                this.pending.add(pageId);
+            }
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.godev.linkhubservice.domain.exceptions.Issue;
+import com.godev.linkhubservice.domain.exceptions.ObjectNotFoundException;
+import com.godev.linkhubservice.domain.exceptions.RuleViolationException;
+import com.godev.linkhubservice.domain.models.Link;
+import com.godev.linkhubservice.domain.repository.LinkRepository;
+import com.godev.linkhubservice.domain.vo.LinkMoveRequest;
+import com.godev.linkhubservice.domain.vo.LinkOrderRequest;
+import com.godev.linkhubservice.domain.vo.LinkRequest;
+import com.godev.linkhubservice.domain.vo.LinkResponse;
+import com.godev.linkhubservice.properties.LinkProperties;
+import com.godev.linkhubservice.services.LinkActivationService;
+import com.godev.linkhubservice.services.LinkClickService;
+import com.godev.linkhubservice.services.LinkOrderService;
+import com.godev.linkhubservice.services.LinkService;
+import com.godev.linkhubservice.services.LinkTargetCacheService;
+import com.godev.linkhubservice.services.PageService;
+import com.godev.linkhubservice.services.PublicPageCacheService;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.ObjectUtils;
+import org.modelmapper.ModelMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
+
+import static com.godev.linkhubservice.domain.constants.DatabaseValuesConstants.DEFAULT_LINK_BACKGROUND_COLOR;
+import static com.godev.linkhubservice.domain.constants.DatabaseValuesConstants.DEFAULT_LINK_BORDER_TYPE;
+import static com.godev.linkhubservice.domain.constants.DatabaseValuesConstants.DEFAULT_LINK_TEXT_COLOR;
+import static com.godev.linkhubservice.domain.constants.DatabaseValuesConstants.LINK_ORDER_GAP;
+import static com.godev.linkhubservice.domain.constants.IssueDetails.ACTIVE_LINK_NOT_FOUND_ERROR;
+import static com.godev.linkhubservice.domain.constants.IssueDetails.INVALID_ACTIVATION_WINDOW_ERROR;
+import static com.godev.linkhubservice.domain.constants.IssueDetails.LINK_MOVE_AFTER_ITSELF_ERROR;
+import static com.godev.linkhubservice.domain.constants.IssueDetails.LINK_NOT_FOUND_ERROR;
+import static com.godev.linkhubservice.domain.constants.IssueDetails.LINK_ORDER_MISMATCH_ERROR;
+import static com.godev.linkhubservice.domain.exceptions.IssueEnum.ARGUMENT_NOT_VALID;
+import static com.godev.linkhubservice.domain.exceptions.IssueEnum.OBJECT_NOT_FOUND;
+
+@Service
+@Slf4j
+public class LinkServiceImpl implements LinkService {
+
+    private final LinkRepository linkRepository;
+    private final PageService pageService;
+    private final ModelMapper mapper;
+    private final LinkTargetCacheService linkTargetCacheService;
+    private final LinkClickService linkClickService;
+    private final LinkOrderService linkOrderService;
+    private final LinkActivationService linkActivationService;
+    private final PublicPageCacheService publicPageCacheService;
+    private final LinkProperties linkProperties;
+
+    public LinkServiceImpl(LinkRepository linkRepository, PageService pageService, ModelMapper mapper,
+                           LinkTargetCacheService linkTargetCacheService, LinkClickService linkClickService,
+                           LinkOrderService linkOrderService, LinkActivationService linkActivationService,
+                           PublicPageCacheService publicPageCacheService, LinkProperties linkProperties) {
+        this.linkRepository = linkRepository;
+        this.pageService = pageService;
+        this.mapper = mapper;
+        this.linkTargetCacheService = linkTargetCacheService;
+        this.linkClickService = linkClickService;
+        this.linkOrderService = linkOrderService;
+        this.linkActivationService = linkActivationService;
+        this.publicPageCacheService = publicPageCacheService;
+        this.linkProperties = linkProperties;
+    }
+
+    @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public LinkResponse create(Integer pageId, LinkRequest linkRequest) {
+        var page = this.pageService.findAuthorizedPage(pageId);
+
+        this.validateActivation(linkRequest);
+
+        this.linkRepository.lockPage(pageId);
+
+        this.setDefaultValues(linkRequest);
+
+        var link = this.mapper.map(linkRequest, Link.class);
+
+        link.setPage(page);
+        link.setLinkOrder(this.linkRepository.findNextOrder(pageId));
+        this.setActivation(link, linkRequest);
+
+        log.info("Saving link {} at position {} of page with id {}", link.getTitle(), link.getLinkOrder(), pageId);
+
+        var saved = this.scheduled(this.linkRepository.save(link));
+
+        this.linkTargetCacheService.evict(saved.getId());
+        this.changed(pageId);
+
+        return this.mapper.map(saved, LinkResponse.class);
+    }
+
+    @Override
+    public List<LinkResponse> findByPageId(Integer pageId) {
+        this.pageService.findAuthorizedPage(pageId);
+
+        log.info("Listing links of page with id {}", pageId);
+
+        return this.linkRepository.findByPage_IdOrderByLinkOrder(pageId).stream()
+                .map(link -> this.mapper.map(link, LinkResponse.class))
+                .toList();
+    }
+
+    @Override
+    public LinkResponse update(Integer pageId, Integer linkId, LinkRequest linkRequest) {
+        this.pageService.findAuthorizedPage(pageId);
+
+        var link = this.findLink(pageId, linkId);
+
+        this.validateActivation(linkRequest);
+
+        this.setDefaultValues(linkRequest);
+
+        this.mapper.map(linkRequest, link);
+        this.setActivation(link, linkRequest);
+
+        log.info("Updating link with id {} of page with id {}", linkId, pageId);
+
+        var saved = this.scheduled(this.linkRepository.save(link));
+
+        this.linkTargetCacheService.evict(linkId);
+        this.changed(pageId);
+
+        return this.mapper.map(saved, LinkResponse.class);
+    }
+
+    @Override
+    public void delete(Integer pageId, Integer linkId) {
+        this.pageService.findAuthorizedPage(pageId);
+
+        var link = this.findLink(pageId, linkId);
+
+        log.info("Deleting link with id {} of page with id {}", linkId, pageId);
+
+        this.linkRepository.delete(link);
+
+        this.linkTargetCacheService.evict(linkId);
+        this.changed(pageId);
+    }
+
+    @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public List<LinkResponse> reorder(Integer pageId, LinkOrderRequest linkOrderRequest) {
+        this.pageService.findAuthorizedPage(pageId);
+
+        this.linkRepository.lockPage(pageId);
+
+        var linkIds = linkOrderRequest.getLinkIds();
+        var current = this.linkRepository.findIdsByPageId(pageId);
+
+        if (linkIds.size() != current.size() || !new HashSet<>(linkIds).equals(new HashSet<>(current))) {
+            throw new RuleViolationException(
+                    new Issue(ARGUMENT_NOT_VALID, String.format(LINK_ORDER_MISMATCH_ERROR, pageId))
+            );
+        }
+
+        log.info("Reordering {} links of page with id {}", linkIds.size(), pageId);
+
+        this.linkRepository.reorder(pageId, linkIds);
+
+        this.changed(pageId);
+
+        return this.linkRepository.findByPage_IdOrderByLinkOrder(pageId).stream()
+                .map(link -> this.mapper.map(link, LinkResponse.class))
+                .toList();
+    }
+
+    @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public LinkResponse move(Integer pageId, Integer linkId, LinkMoveRequest linkMoveRequest) {
+        this.pageService.findAuthorizedPage(pageId);
+
+        var afterLinkId = linkMoveRequest.getAfterLinkId();
+
+        if (linkId.equals(afterLinkId)) {
+            throw new RuleViolationException(
+                    new Issue(ARGUMENT_NOT_VALID, String.format(LINK_MOVE_AFTER_ITSELF_ERROR, linkId))
+            );
+        }
+
+        // reads after the lock see every committed move, so the free slot cannot be taken in between
+        this.linkRepository.lockPage(pageId);
+
+        var link = this.findLink(pageId, linkId);
+        var linkOrder = this.orderAfter(pageId, linkId, afterLinkId);
+
+        if (linkOrder == null) {
+            log.info("No gap left for link {} of page with id {}, spreading the order first", linkId, pageId);
+
+            this.linkRepository.renormalize(pageId);
+            linkOrder = this.orderAfter(pageId, linkId, afterLinkId);
+        }
+
+        log.info("Moving link with id {} of page with id {} to order {}", linkId, pageId, linkOrder);
+
+        link.setLinkOrder(linkOrder);
+
+        var saved = this.linkRepository.save(link);
+
+        this.changed(pageId);
+
+        return this.mapper.map(saved, LinkResponse.class);
+    }
+
+    @Override
+    public String redirect(Integer linkId) {
+        var target = this.linkTargetCacheService.find(linkId)
+                .orElseThrow(() -> new ObjectNotFoundException(
+                        new Issue(OBJECT_NOT_FOUND, String.format(ACTIVE_LINK_NOT_FOUND_ERROR, linkId))
+                ));
+
+        this.linkClickService.increment(linkId);
+
+        return target.href();
+    }
+
+    // other instances find the change through updated_at, the caches of this one are dropped right away
+    private void changed(Integer pageId) {
+        this.linkRepository.touchPage(pageId, OffsetDateTime.now(ZoneOffset.UTC));
+        this.publicPageCacheService.evictPage(pageId);
+    }
+
+    private Integer orderAfter(Integer pageId, Integer linkId, Integer afterLinkId) {
+        if (afterLinkId == null) {
+            var first = this.linkRepository.findFirstOrder(pageId, linkId);
+
+            if (first == null) {
+                return LINK_ORDER_GAP;
+            }
+
+            if (first > LINK_ORDER_GAP) {
+                return first - LINK_ORDER_GAP;
+            }
+
+            // orders never go below zero, so zero bounds the gap above the first link
+            if (first < 2) {
+                return null;
+            }
+
+            var linkOrder = first / 2;
+
+            if (linkOrder < this.linkProperties.getOrdering().getMinGap()) {
+                this.linkOrderService.schedule(pageId);
+            }
+            return linkOrder;
+        }
+
+        var previous = this.linkRepository.findOrderByIdAndPageId(afterLinkId, pageId)
+                .orElseThrow(() -> new ObjectNotFoundException(
+                        new Issue(OBJECT_NOT_FOUND, String.format(LINK_NOT_FOUND_ERROR, afterLinkId, pageId))
+                ));
+        var next = this.linkRepository.findOrderAfter(pageId, linkId, previous);
+
+        if (next == null) {
+            return previous + LINK_ORDER_GAP;
+        }
+
+        if (next - previous < 2) {
+            return null;
+        }
+
+        var linkOrder = previous + (next - previous) / 2;
+
+        if (linkOrder - previous < this.linkProperties.getOrdering().getMinGap()) {
+            this.linkOrderService.schedule(pageId);
+        }
+        return linkOrder;
+    }
+
+    private void validateActivation(LinkRequest linkRequest) {
+        var activeFrom = linkRequest.getActiveFrom();
+        var activeUntil = linkRequest.getActiveUntil();
+
+        if (activeFrom != null && activeUntil != null && !activeFrom.isBefore(activeUntil)) {
+            throw new RuleViolationException(
+                    new Issue(ARGUMENT_NOT_VALID, String.format(INVALID_ACTIVATION_WINDOW_ERROR, activeFrom, activeUntil))
+            );
+        }
+    }
+
+    private void setActivation(Link link, LinkRequest linkRequest) {
+        // whole seconds match what the DATETIME columns keep, so the timer never fires ahead of the stored time
+        var activeFrom = linkRequest.getActiveFrom() == null ? null
+                : linkRequest.getActiveFrom().truncatedTo(ChronoUnit.SECONDS);
+        var activeUntil = linkRequest.getActiveUntil() == null ? null
+                : linkRequest.getActiveUntil().truncatedTo(ChronoUnit.SECONDS);
+
+        link.setActiveFrom(activeFrom);
+        link.setActiveUntil(activeUntil);
+        link.setNextTransitionAt(null);
+
+        if (activeFrom == null && activeUntil == null) {
+            return;
+        }
+
+        var now = OffsetDateTime.now(ZoneOffset.UTC);
+
+        link.setStatus((activeFrom == null || !activeFrom.isAfter(now)) && (activeUntil == null || activeUntil.isAfter(now)));
+
+        if (activeFrom != null && activeFrom.isAfter(now)) {
+            link.setNextTransitionAt(activeFrom);
+        } else if (activeUntil != null && activeUntil.isAfter(now)) {
+            link.setNextTransitionAt(activeUntil);
+        }
+    }
+
+    private Link scheduled(Link link) {
+        if (link.getNextTransitionAt() != null) {
+            this.linkActivationService.schedule(link.getId(), link.getNextTransitionAt());
+        }
+        return link;
+    }
+
+    private Link findLink(Integer pageId, Integer linkId) {
+        return this.linkRepository.findByIdAndPage_Id(linkId, pageId)
+                .orElseThrow(() -> new ObjectNotFoundException(
+                        new Issue(OBJECT_NOT_FOUND, String.format(LINK_NOT_FOUND_ERROR, linkId, pageId))
+                ));
+    }
+
+    private void setDefaultValues(LinkRequest linkRequest) {
+        if(linkRequest.getStatus() == null) {
+            linkRequest.setStatus(Boolean.FALSE);
+        }
+
+        if(ObjectUtils.isEmpty(linkRequest.getBackgroundColor())) {
+            linkRequest.setBackgroundColor(DEFAULT_LINK_BACKGROUND_COLOR);
+        }
+
+        if(ObjectUtils.isEmpty(linkRequest.getTextColor())) {
+            linkRequest.setTextColor(DEFAULT_LINK_TEXT_COLOR);
+        }
+
+        if(ObjectUtils.isEmpty(linkRequest.getBorderType())) {
+            linkRequest.setBorderType(DEFAULT_LINK_BORDER_TYPE);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.godev.linkhubservice.domain.repository.LinkRepository;
+import com.godev.linkhubservice.domain.vo.LinkTarget;
+import com.godev.linkhubservice.properties.LinkProperties;
+import com.godev.linkhubservice.services.LinkTargetCacheService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@Slf4j
+public class LinkTargetCacheServiceImpl implements LinkTargetCacheService {
+
+    private final LinkRepository linkRepository;
+    private final LinkProperties properties;
+    private final ConcurrentHashMap<Integer, Entry> targets = new ConcurrentHashMap<>();
+
+    public LinkTargetCacheServiceImpl(LinkRepository linkRepository, LinkProperties properties,
+                                      MeterRegistry meterRegistry) {
+        this.linkRepository = linkRepository;
+        this.properties = properties;
+
+        Gauge.builder("link.targets.cached", this, service -> service.targets.size())
+                .description("Link targets served without asking the database")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<LinkTarget> find(Integer linkId) {
+        var now = System.nanoTime();
+        var entry = this.targets.get(linkId);
+
+        if (entry != null && now < entry.expiresAt()) {
+            return Optional.ofNullable(entry.target());
+        }
+
+        // edits made on other instances only evict their own cache, the ttl bounds how long this one stays stale
+        var target = this.linkRepository.findActiveTargetById(linkId);
+
+        if (entry == null && this.targets.size() >= this.properties.getTargets().getMaxSize()) {
+            this.purge(now);
+        }
+
+        // unknown ids are kept for a short while too, so probing random links does not reach the database every time
+        var ttl = target.isPresent() ? this.properties.getTargets().getTtl() : this.properties.getTargets().getMissTtl();
+        this.targets.put(linkId, new Entry(target.orElse(null), now + ttl.toNanos()));
+
+        return target;
+    }
+
+    @Override
+    public void evict(Integer linkId) {
+        this.targets.remove(linkId);
+    }
+
+    @Override
+    public void evictPage(Integer pageId) {
+        this.targets.values().removeIf(entry -> entry.target() != null && entry.target().pageId().equals(pageId));
+    }
+
+    // only runs once the cache is full, dropping a tenth of the entries keeps it from running again on the next miss
+    private synchronized void purge(long now) {
+        var maxSize = this.properties.getTargets().getMaxSize();
+
+        if (this.targets.size() < maxSize) {
+            return;
+        }
+
+        this.targets.values().removeIf(entry -> now >= entry.expiresAt());
+
+        var iterator = this.targets.keySet().iterator();
+        while (this.targets.size() >= maxSize - maxSize / 10 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+
+        log.debug("Link targets cache purged down to {} entries", this.targets.size());
+    }
+
+    private record Entry(LinkTarget target, long expiresAt) {
+    }
+}
@@ -0,0 +1,86 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.godev.linkhubservice.domain.repository.PageRepository;
+import com.godev.linkhubservice.properties.PageViewProperties;
+import com.godev.linkhubservice.services.PageIdCacheService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@Slf4j
+public class PageIdCacheServiceImpl implements PageIdCacheService {
+
+    private final PageRepository pageRepository;
+    private final Cache<Integer, Boolean> missing;
+    private volatile Set<Integer> ids = ConcurrentHashMap.newKeySet();
+    private volatile boolean loaded;
+
+    public PageIdCacheServiceImpl(PageRepository pageRepository, PageViewProperties pageViewProperties,
+                                  MeterRegistry meterRegistry) {
+        this.pageRepository = pageRepository;
+        this.missing = Caffeine.newBuilder()
+                .maximumSize(pageViewProperties.getPageIds().getMissMaxSize())
+                .expireAfterWrite(pageViewProperties.getPageIds().getMissTtl())
+                .build();
+
+        Gauge.builder("page.ids.cached", this, service -> service.ids.size())
+                .description("Page ids known to exist without asking the database")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean exists(Integer id) {
+        if (!this.loaded) {
+            this.refresh();
+        }
+
+        if (this.ids.contains(id)) {
+            return true;
+        }
+
+        // unknown ids are remembered for a short while, so views of a random id do not reach the database every time
+        if (this.missing.getIfPresent(id) != null) {
+            return false;
+        }
+
+        // pages created by other instances are only known after the next refresh, so a miss asks the database
+        if (this.pageRepository.existsById(id)) {
+            this.ids.add(id);
+            return true;
+        }
+
+        this.missing.put(id, Boolean.TRUE);
+        return false;
+    }
+
+    @Override
+    public void add(Integer id) {
+        this.missing.invalidate(id);
+        this.ids.add(id);
+    }
+
+    @Override
+    public void remove(Integer id) {
+        this.ids.remove(id);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "#{@pageViewProperties.pageIds.refreshInterval.toMillis()}")
+    public synchronized void refresh() {
+        Set<Integer> refreshed = ConcurrentHashMap.newKeySet();
+        refreshed.addAll(this.pageRepository.findAllIds());
+
+        this.ids = refreshed;
+        this.loaded = true;
+
+        log.info("Cached {} page ids", refreshed.size());
+    }
+}
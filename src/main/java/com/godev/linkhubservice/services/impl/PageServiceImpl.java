@@ -4,38 +4,76 @@ import com.godev.linkhubservice.domain.exceptions.ForbiddenException;
 import com.godev.linkhubservice.domain.exceptions.Issue;
 import com.godev.linkhubservice.domain.exceptions.ObjectNotFoundException;
 import com.godev.linkhubservice.domain.exceptions.RuleViolationException;
+import com.godev.linkhubservice.domain.exceptions.ServiceUnavailableException;
+import com.godev.linkhubservice.domain.enums.PageViewDimension;
+import com.godev.linkhubservice.domain.enums.PageViewExportFormat;
+import com.godev.linkhubservice.domain.enums.PageViewGranularity;
+import com.godev.linkhubservice.domain.enums.PageViewMode;
+import com.godev.linkhubservice.domain.enums.PageViewSeriesGranularity;
 import com.godev.linkhubservice.domain.models.Account;
 import com.godev.linkhubservice.domain.models.Page;
-import com.godev.linkhubservice.domain.models.PageView;
 import com.godev.linkhubservice.domain.repository.PageRepository;
 import com.godev.linkhubservice.domain.repository.PageViewRepository;
 import com.godev.linkhubservice.domain.vo.CreatePageRequest;
+import com.godev.linkhubservice.domain.vo.PageClickThroughRatesResponse;
 import com.godev.linkhubservice.domain.vo.PageResponse;
 import com.godev.linkhubservice.domain.vo.PageViewRequest;
+import com.godev.linkhubservice.domain.vo.PageViewEventsQuery;
+import com.godev.linkhubservice.domain.vo.PageViewExportQuery;
+import com.godev.linkhubservice.domain.vo.PageViewKey;
 import com.godev.linkhubservice.domain.vo.PageViewResponse;
+import com.godev.linkhubservice.domain.vo.PageViewSeriesQuery;
+import com.godev.linkhubservice.domain.vo.PageViewSourcesResponse;
+import com.godev.linkhubservice.domain.vo.PageVisitorsResponse;
+import com.godev.linkhubservice.domain.vo.PublicPageResponse;
+import com.godev.linkhubservice.domain.vo.TrendingPage;
+import com.godev.linkhubservice.domain.vo.TrendingPageResponse;
 import com.godev.linkhubservice.domain.vo.UpdatePageRequest;
+import com.godev.linkhubservice.properties.PageViewProperties;
 import com.godev.linkhubservice.services.AccountService;
+import com.godev.linkhubservice.services.LinkTargetCacheService;
+import com.godev.linkhubservice.services.PageIdCacheService;
 import com.godev.linkhubservice.services.PageService;
+import com.godev.linkhubservice.services.PageViewBufferService;
+import com.godev.linkhubservice.services.PageViewEventService;
+import com.godev.linkhubservice.services.PageViewQueueService;
+import com.godev.linkhubservice.services.PageViewShardService;
+import com.godev.linkhubservice.services.PageViewSourceService;
+import com.godev.linkhubservice.services.PageViewTrendingService;
+import com.godev.linkhubservice.services.PageViewVisitorService;
+import com.godev.linkhubservice.services.PublicPageCacheService;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.EnumUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.modelmapper.ModelMapper;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.godev.linkhubservice.domain.constants.DatabaseValuesConstants.DEFAULT_PAGE_BACKGROUND_TYPE_COLOR;
 import static com.godev.linkhubservice.domain.constants.DatabaseValuesConstants.DEFAULT_PAGE_BACKGROUND_VALUE;
 import static com.godev.linkhubservice.domain.constants.DatabaseValuesConstants.DEFAULT_PAGE_FONT_COLOR;
 import static com.godev.linkhubservice.domain.constants.DatabaseValuesConstants.DEFAULT_PAGE_PHOTO;
 import static com.godev.linkhubservice.domain.constants.DatabaseValuesConstants.PAGE_BACKGROUND_TYPE_IMAGE;
+import static com.godev.linkhubservice.domain.constants.IssueDetails.COMPACTED_RANGE_ERROR;
 import static com.godev.linkhubservice.domain.constants.IssueDetails.ID_NOT_FOUND_ERROR;
+import static com.godev.linkhubservice.domain.constants.IssueDetails.INVALID_DATE_RANGE_ERROR;
+import static com.godev.linkhubservice.domain.constants.IssueDetails.INVALID_EXPORT_FORMAT_ERROR;
+import static com.godev.linkhubservice.domain.constants.IssueDetails.INVALID_SERIES_GRANULARITY_ERROR;
+import static com.godev.linkhubservice.domain.constants.IssueDetails.INVALID_SOURCE_DIMENSION_ERROR;
+import static com.godev.linkhubservice.domain.constants.IssueDetails.PAGE_VIEW_QUEUE_FULL_ERROR;
 import static com.godev.linkhubservice.domain.constants.IssueDetails.SLUG_EXISTS_ERROR;
+import static com.godev.linkhubservice.domain.constants.IssueDetails.SLUG_NOT_FOUND_ERROR;
 import static com.godev.linkhubservice.domain.constants.IssueDetails.USER_NOT_ALLOWED;
 import static com.godev.linkhubservice.domain.constants.RegexConstants.HEX_VALIDATION_REGEX;
 import static com.godev.linkhubservice.domain.constants.RegexConstants.URL_VALIDATION_REGEX;
@@ -45,21 +83,53 @@ import static com.godev.linkhubservice.domain.constants.ValidationConstants.INVA
 import static com.godev.linkhubservice.domain.exceptions.IssueEnum.ARGUMENT_NOT_VALID;
 import static com.godev.linkhubservice.domain.exceptions.IssueEnum.FORBIDDEN;
 import static com.godev.linkhubservice.domain.exceptions.IssueEnum.OBJECT_NOT_FOUND;
+import static com.godev.linkhubservice.domain.exceptions.IssueEnum.SERVICE_UNAVAILABLE;
 
 @Service
 @Slf4j
 public class PageServiceImpl implements PageService {
 
+    private static final int MAX_SOURCES = 100;
+
     private final PageRepository pageRepository;
     private final AccountService accountService;
     private final ModelMapper mapper;
     private final PageViewRepository pageViewRepository;
-
-    public PageServiceImpl(PageRepository pageRepository, AccountService accountService, ModelMapper mapper, PageViewRepository pageViewRepository) {
+    private final PageViewBufferService pageViewBufferService;
+    private final PageViewShardService pageViewShardService;
+    private final PageViewQueueService pageViewQueueService;
+    private final PageViewVisitorService pageViewVisitorService;
+    private final PageViewTrendingService pageViewTrendingService;
+    private final PageViewSourceService pageViewSourceService;
+    private final PageViewEventService pageViewEventService;
+    private final PageIdCacheService pageIdCacheService;
+    private final LinkTargetCacheService linkTargetCacheService;
+    private final PublicPageCacheService publicPageCacheService;
+    private final PageViewProperties pageViewProperties;
+
+    public PageServiceImpl(PageRepository pageRepository, AccountService accountService, ModelMapper mapper,
+                           PageViewRepository pageViewRepository, PageViewBufferService pageViewBufferService,
+                           PageViewShardService pageViewShardService, PageViewQueueService pageViewQueueService,
+                           PageViewVisitorService pageViewVisitorService,
+                           PageViewTrendingService pageViewTrendingService,
+                           PageViewSourceService pageViewSourceService, PageViewEventService pageViewEventService,
+                           PageIdCacheService pageIdCacheService, LinkTargetCacheService linkTargetCacheService,
+                           PublicPageCacheService publicPageCacheService, PageViewProperties pageViewProperties) {
         this.pageRepository = pageRepository;
         this.accountService = accountService;
         this.mapper = mapper;
         this.pageViewRepository = pageViewRepository;
+        this.pageViewBufferService = pageViewBufferService;
+        this.pageViewShardService = pageViewShardService;
+        this.pageViewQueueService = pageViewQueueService;
+        this.pageViewVisitorService = pageViewVisitorService;
+        this.pageViewTrendingService = pageViewTrendingService;
+        this.pageViewSourceService = pageViewSourceService;
+        this.pageViewEventService = pageViewEventService;
+        this.pageIdCacheService = pageIdCacheService;
+        this.linkTargetCacheService = linkTargetCacheService;
+        this.publicPageCacheService = publicPageCacheService;
+        this.pageViewProperties = pageViewProperties;
     }
 
     @Override
@@ -97,6 +167,10 @@ public class PageServiceImpl implements PageService {
 
         var pageSaved = this.pageRepository.save(page);
 
+        this.pageIdCacheService.add(pageSaved.getId());
+        this.publicPageCacheService.evictPage(pageSaved.getId());
+        this.publicPageCacheService.evictSlug(pageSaved.getSlug());
+
         return this.mapper.map(pageSaved, PageResponse.class);
     }
 
@@ -121,6 +195,9 @@ public class PageServiceImpl implements PageService {
 
         var pageUpdated = this.pageRepository.save(page);
 
+        this.publicPageCacheService.evictPage(id);
+        this.publicPageCacheService.evictSlug(pageUpdated.getSlug());
+
         return  this.mapper.map(pageUpdated, PageResponse.class);
     }
 
@@ -149,6 +226,35 @@ public class PageServiceImpl implements PageService {
         return pageList.stream().map(page -> this.mapper.map(page, PageResponse.class)).toList();
     }
 
+    @Override
+    public String findPageVersion(Integer id) {
+        var userDetails = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+
+        // reads three columns instead of the page and account entities, so an unchanged page costs one small query
+        var version = this.pageRepository.findVersionById(id)
+                .orElseThrow(() -> new ObjectNotFoundException(
+                        new Issue(OBJECT_NOT_FOUND, String.format(ID_NOT_FOUND_ERROR, id))
+                ));
+
+        if (!version.email().equalsIgnoreCase(userDetails.getUsername())) {
+            throw new ForbiddenException(
+                    new Issue(FORBIDDEN, String.format(USER_NOT_ALLOWED, id))
+            );
+        }
+
+        return String.format("%d-%x", version.id(), this.micros(version.updatedAt()));
+    }
+
+    @Override
+    public String findPagesVersion() {
+        var userDetails = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+
+        // the count changes on deletes, which leave the latest update untouched
+        var version = this.pageRepository.findVersionByAccountEmail(userDetails.getUsername());
+
+        return String.format("%d-%x", version.count(), this.micros(version.updatedAt()));
+    }
+
     @Override
     public void delete(Integer id) {
 
@@ -162,30 +268,329 @@ public class PageServiceImpl implements PageService {
         log.info("Deletion process in progress");
 
         this.pageRepository.delete(page);
+
+        this.pageIdCacheService.remove(id);
+        this.linkTargetCacheService.evictPage(id);
+        this.publicPageCacheService.evictPage(id);
     }
 
     @Override
     public PageViewResponse pageViewCounter(PageViewRequest pageViewRequest) {
 
-        var page = this.findPageById(pageViewRequest.getPageId());
+        var now = OffsetDateTime.now(ZoneOffset.UTC);
+        var date = PageViewGranularity.DAY.truncate(now);
+
+        if(this.pageViewProperties.getMode() == PageViewMode.WRITE_BEHIND) {
+            this.validatePageExists(pageViewRequest.getPageId());
 
-        var date = LocalDate.now().atTime(0, 0).atOffset(ZoneOffset.ofHours(0));
+            log.info("Buffering view of page with id {}", pageViewRequest.getPageId());
 
-        var pageView = this.pageViewRepository.findByPageIdAndDate(page, date).orElse(null);
+            this.pageViewBufferService.increment(pageViewRequest.getPageId(), PageViewGranularity.HOUR.truncate(now));
+            this.trackView(pageViewRequest, now);
 
-        if(ObjectUtils.isEmpty(pageView)){
-            pageView = PageView.builder()
-                    .withTotal(1)
+            return PageViewResponse.builder()
                     .withDate(date)
-                    .withPageId(page)
                     .build();
-        }else {
-            pageView.setTotal(pageView.getTotal()+1);
         }
 
-        var pageViewSaved = this.pageViewRepository.save(pageView);
+        log.info("Incrementing views of page with id {}", pageViewRequest.getPageId());
+
+        var shard = this.pageViewShardService.shardFor(pageViewRequest.getPageId());
+        var key = new PageViewKey(pageViewRequest.getPageId(), PageViewGranularity.HOUR,
+                PageViewGranularity.HOUR.truncate(now));
+
+        if(this.pageViewRepository.incrementTotal(key, shard, 1) == 0) {
+            throw new ObjectNotFoundException(
+                    new Issue(OBJECT_NOT_FOUND, String.format(ID_NOT_FOUND_ERROR, pageViewRequest.getPageId()))
+            );
+        }
+
+        this.trackView(pageViewRequest, now);
+
+        return PageViewResponse.builder()
+                .withDate(date)
+                .withTotal((int) this.pageViewRepository.sumTotals(pageViewRequest.getPageId(), date,
+                        PageViewGranularity.DAY.next(date)))
+                .build();
+    }
+
+    @Override
+    public void recordPageView(PageViewRequest pageViewRequest) {
+
+        var now = OffsetDateTime.now(ZoneOffset.UTC);
+        var hour = PageViewGranularity.HOUR.truncate(now);
+
+        this.validatePageExists(pageViewRequest.getPageId());
+
+        if(this.pageViewProperties.getMode() == PageViewMode.WRITE_BEHIND) {
+            this.pageViewBufferService.increment(pageViewRequest.getPageId(), hour);
+        } else {
+            var shard = this.pageViewShardService.shardFor(pageViewRequest.getPageId());
+            var key = new PageViewKey(pageViewRequest.getPageId(), PageViewGranularity.HOUR, hour);
+
+            if(this.pageViewRepository.incrementTotal(key, shard, 1) == 0) {
+                this.pageIdCacheService.remove(pageViewRequest.getPageId());
+
+                throw new ObjectNotFoundException(
+                        new Issue(OBJECT_NOT_FOUND, String.format(ID_NOT_FOUND_ERROR, pageViewRequest.getPageId()))
+                );
+            }
+        }
+
+        this.trackView(pageViewRequest, now);
+    }
+
+    @Override
+    public boolean enqueuePageView(PageViewRequest pageViewRequest) {
+
+        if(this.pageViewProperties.getMode() != PageViewMode.ASYNC) {
+            return false;
+        }
+
+        // the consumer only learns about a missing page after the request answered, so it is checked up front
+        this.validatePageExists(pageViewRequest.getPageId());
+
+        var now = OffsetDateTime.now(ZoneOffset.UTC);
+
+        if(this.pageViewQueueService.offer(pageViewRequest.getPageId(), PageViewGranularity.HOUR.truncate(now))) {
+            this.trackView(pageViewRequest, now);
+            return true;
+        }
+
+        var overflow = this.pageViewProperties.getQueue().getOverflow();
+
+        log.warn("Page view queue is full, applying {} policy to view of page with id {}",
+                overflow, pageViewRequest.getPageId());
+
+        return switch (overflow) {
+            case DROP -> true;
+            case REJECT -> throw new ServiceUnavailableException(
+                    new Issue(SERVICE_UNAVAILABLE, PAGE_VIEW_QUEUE_FULL_ERROR)
+            );
+            case SYNC -> false;
+        };
+    }
+
+    @Override
+    public PageVisitorsResponse pageVisitors(Integer id, LocalDate from, LocalDate to) {
+        var userDetails = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        var account = this.accountService.findByEmail(userDetails.getUsername());
+
+        var page = this.findPageById(id);
+
+        this.validateAuthorizations(account, page);
+        this.validateDateRange(from, to);
+
+        var start = from.atStartOfDay().atOffset(ZoneOffset.UTC);
+        var end = to.plusDays(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+
+        this.validateCoveredRange(id, start, end);
+
+        log.info("Estimating unique visitors of page with id {} from {} to {}", id, from, to);
+
+        var visitors = this.pageViewRepository.findVisitors(id, start, end);
+
+        return PageVisitorsResponse.builder()
+                .withFrom(from)
+                .withTo(to)
+                .withVisitors(visitors.estimate())
+                .build();
+    }
+
+    @Override
+    public PageViewSeriesQuery pageViewSeries(Integer id, LocalDate from, LocalDate to, String granularity) {
+        var userDetails = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        var account = this.accountService.findByEmail(userDetails.getUsername());
+
+        var page = this.findPageById(id);
+
+        this.validateAuthorizations(account, page);
+        this.validateDateRange(from, to);
+
+        var seriesGranularity = EnumUtils.getEnumIgnoreCase(PageViewSeriesGranularity.class, granularity);
+
+        if(seriesGranularity == null) {
+            throw new RuleViolationException(
+                    new Issue(ARGUMENT_NOT_VALID, String.format(INVALID_SERIES_GRANULARITY_ERROR, granularity))
+            );
+        }
+
+        log.info("Building {} views series of page with id {} from {} to {}", seriesGranularity, id, from, to);
+
+        return new PageViewSeriesQuery(id, from, to, seriesGranularity);
+    }
+
+    @Override
+    public Page findAuthorizedPage(Integer id) {
+        var userDetails = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        var account = this.accountService.findByEmail(userDetails.getUsername());
+
+        var page = this.findPageById(id);
+
+        this.validateAuthorizations(account, page);
+
+        return page;
+    }
+
+    @Override
+    public PublicPageResponse findPublicPage(String slug) {
+        return this.publicPageCacheService.find(slug, this::loadPublicPage);
+    }
+
+    @Override
+    public PageViewEventsQuery pageViewEvents(Integer id, LocalDate from, LocalDate to) {
+        var userDetails = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        var account = this.accountService.findByEmail(userDetails.getUsername());
+
+        var page = this.findPageById(id);
+
+        this.validateAuthorizations(account, page);
+        this.validateDateRange(from, to);
+
+        log.info("Reading raw view events of page with id {} from {} to {}", id, from, to);
+
+        return new PageViewEventsQuery(id, from, to);
+    }
+
+    @Override
+    public PageViewExportQuery pageViewExport(Integer id, LocalDate from, LocalDate to, String format) {
+        var userDetails = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        var account = this.accountService.findByEmail(userDetails.getUsername());
+
+        var page = this.findPageById(id);
+
+        this.validateAuthorizations(account, page);
+
+        var exportFrom = from == null ? LocalDate.EPOCH : from;
+        var exportTo = to == null ? LocalDate.now(ZoneOffset.UTC) : to;
+
+        this.validateDateRange(exportFrom, exportTo);
+
+        var exportFormat = EnumUtils.getEnumIgnoreCase(PageViewExportFormat.class, format);
+
+        if(exportFormat == null) {
+            throw new RuleViolationException(
+                    new Issue(ARGUMENT_NOT_VALID, String.format(INVALID_EXPORT_FORMAT_ERROR, format))
+            );
+        }
+
+        log.info("Exporting views of page with id {} from {} to {} as {}", id, exportFrom, exportTo, exportFormat);
 
-        return this.mapper.map(pageViewSaved, PageViewResponse.class);
+        return new PageViewExportQuery(id, exportFrom, exportTo, exportFormat);
+    }
+
+    @Override
+    public PageViewSourcesResponse pageViewSources(Integer id, LocalDate from, LocalDate to, String dimension,
+                                                   Integer limit) {
+        var userDetails = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        var account = this.accountService.findByEmail(userDetails.getUsername());
+
+        var page = this.findPageById(id);
+
+        this.validateAuthorizations(account, page);
+        this.validateDateRange(from, to);
+
+        var sourceDimension = EnumUtils.getEnumIgnoreCase(PageViewDimension.class, dimension);
+
+        if(sourceDimension == null) {
+            throw new RuleViolationException(
+                    new Issue(ARGUMENT_NOT_VALID, String.format(INVALID_SOURCE_DIMENSION_ERROR, dimension))
+            );
+        }
+
+        var top = Math.min(Math.max(limit, 1), MAX_SOURCES);
+
+        log.info("Listing top {} {} sources of page with id {} from {} to {}", top, sourceDimension, id, from, to);
+
+        var sources = this.pageViewRepository.findTopSources(id, sourceDimension,
+                from.atStartOfDay().atOffset(ZoneOffset.UTC), to.plusDays(1).atStartOfDay().atOffset(ZoneOffset.UTC), top);
+
+        return PageViewSourcesResponse.builder()
+                .withFrom(from)
+                .withTo(to)
+                .withDimension(sourceDimension)
+                .withSources(sources)
+                .build();
+    }
+
+    @Override
+    public PageClickThroughRatesResponse pageClickThroughRates(Integer id, LocalDate from, LocalDate to) {
+        var userDetails = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        var account = this.accountService.findByEmail(userDetails.getUsername());
+
+        var page = this.findPageById(id);
+
+        this.validateAuthorizations(account, page);
+        this.validateDateRange(from, to);
+
+        this.validateCoveredRange(id, from.atStartOfDay().atOffset(ZoneOffset.UTC),
+                to.plusDays(1).atStartOfDay().atOffset(ZoneOffset.UTC));
+
+        log.info("Listing click through rates of links of page with id {} from {} to {}", id, from, to);
+
+        return this.pageViewRepository.findClickThroughRates(id, from, to);
+    }
+
+    @Override
+    public List<TrendingPageResponse> findTrending() {
+        var trending = this.pageViewTrendingService.top();
+
+        log.info("Listing {} trending pages", trending.size());
+
+        var pages = this.pageRepository.findAllById(trending.stream().map(TrendingPage::pageId).toList()).stream()
+                .collect(Collectors.toMap(Page::getId, Function.identity()));
+
+        // pages deleted since they were viewed are still in the sketch, they are just not listed
+        return trending.stream()
+                .filter(page -> pages.containsKey(page.pageId()))
+                .map(page -> TrendingPageResponse.builder()
+                        .withId(page.pageId())
+                        .withSlug(pages.get(page.pageId()).getSlug())
+                        .withTitle(pages.get(page.pageId()).getTitle())
+                        .withScore(Math.round(page.score()))
+                        .build())
+                .toList();
+    }
+
+    private PublicPageResponse loadPublicPage(String slug) {
+        var rows = this.pageRepository.findPublicPageRows(slug);
+
+        if (rows.isEmpty()) {
+            throw new ObjectNotFoundException(new Issue(OBJECT_NOT_FOUND, String.format(SLUG_NOT_FOUND_ERROR, slug)));
+        }
+        return PublicPageResponse.from(rows);
+    }
+
+    private long micros(OffsetDateTime moment) {
+        return moment == null ? 0 : ChronoUnit.MICROS.between(Instant.EPOCH, moment.toInstant());
+    }
+
+    private void validateDateRange(LocalDate from, LocalDate to) {
+        if(from.isAfter(to)) {
+            throw new RuleViolationException(
+                    new Issue(ARGUMENT_NOT_VALID, String.format(INVALID_DATE_RANGE_ERROR, from, to))
+            );
+        }
+    }
+
+    // views and visitors of a compacted bucket the range only partly covers cannot be counted
+    private void validateCoveredRange(Integer id, OffsetDateTime from, OffsetDateTime to) {
+        this.pageViewRepository.findSplitBucket(id, from, to).ifPresent(bucket -> {
+            throw new RuleViolationException(
+                    new Issue(ARGUMENT_NOT_VALID, String.format(COMPACTED_RANGE_ERROR, bucket.toLocalDate()))
+            );
+        });
+    }
+
+    private void trackView(PageViewRequest pageViewRequest, OffsetDateTime now) {
+        this.pageViewTrendingService.record(pageViewRequest.getPageId(), 1);
+
+        if(ObjectUtils.isNotEmpty(pageViewRequest.getVisitor())) {
+            this.pageViewVisitorService.offer(pageViewRequest.getPageId(), now, pageViewRequest.getVisitor());
+        }
+
+        this.pageViewSourceService.offer(pageViewRequest, now, 1);
+        this.pageViewEventService.append(pageViewRequest, now, 1);
     }
 
     private void validateAuthorizations(Account account, Page page) {
@@ -208,6 +613,14 @@ public class PageServiceImpl implements PageService {
                 ));
     }
 
+    private void validatePageExists(Integer id) {
+        if(!this.pageIdCacheService.exists(id)) {
+            throw new ObjectNotFoundException(
+                    new Issue(OBJECT_NOT_FOUND, String.format(ID_NOT_FOUND_ERROR, id))
+            );
+        }
+    }
+
     private  void setEmptyFields(UpdatePageRequest updatePageRequest, Page page) {
         log.info("Verifying and setting empty fields");
 
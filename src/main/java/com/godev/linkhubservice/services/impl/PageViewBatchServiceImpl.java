@@ -0,0 +1,132 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.godev.linkhubservice.domain.exceptions.BadRequestException;
+import com.godev.linkhubservice.domain.exceptions.Issue;
+import com.godev.linkhubservice.domain.repository.PageRepository;
+import com.godev.linkhubservice.domain.repository.PageViewRepository;
+import com.godev.linkhubservice.domain.vo.PageViewBatchResponse;
+import com.godev.linkhubservice.domain.vo.PageViewKey;
+import com.godev.linkhubservice.domain.vo.PageViewRequest;
+import com.godev.linkhubservice.properties.PageViewProperties;
+import com.godev.linkhubservice.services.PageViewBatchService;
+import com.godev.linkhubservice.services.PageViewEventService;
+import com.godev.linkhubservice.services.PageViewRollupService;
+import com.godev.linkhubservice.services.PageViewSourceService;
+import com.godev.linkhubservice.services.PageViewVisitorService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.godev.linkhubservice.domain.constants.IssueDetails.PAGE_VIEW_BATCH_FORMAT_ERROR;
+import static com.godev.linkhubservice.domain.exceptions.IssueEnum.ARGUMENT_NOT_VALID;
+
+@Service
+@Slf4j
+public class PageViewBatchServiceImpl implements PageViewBatchService {
+
+    private final PageViewRepository pageViewRepository;
+    private final PageRepository pageRepository;
+    private final PageViewRollupService pageViewRollupService;
+    private final PageViewVisitorService pageViewVisitorService;
+    private final PageViewSourceService pageViewSourceService;
+    private final PageViewEventService pageViewEventService;
+    private final PageViewProperties pageViewProperties;
+    private final ObjectReader reader;
+
+    public PageViewBatchServiceImpl(PageViewRepository pageViewRepository, PageRepository pageRepository,
+                                    PageViewRollupService pageViewRollupService,
+                                    PageViewVisitorService pageViewVisitorService,
+                                    PageViewSourceService pageViewSourceService,
+                                    PageViewEventService pageViewEventService, PageViewProperties pageViewProperties,
+                                    ObjectMapper objectMapper) {
+        this.pageViewRepository = pageViewRepository;
+        this.pageRepository = pageRepository;
+        this.pageViewRollupService = pageViewRollupService;
+        this.pageViewVisitorService = pageViewVisitorService;
+        this.pageViewSourceService = pageViewSourceService;
+        this.pageViewEventService = pageViewEventService;
+        this.pageViewProperties = pageViewProperties;
+        this.reader = objectMapper.readerFor(PageViewRequest.class);
+    }
+
+    @Override
+    public PageViewBatchResponse ingest(InputStream body) {
+        var chunkSize = this.pageViewProperties.getBatch().getChunkSize();
+        var now = OffsetDateTime.now(ZoneOffset.UTC);
+        Map<PageViewKey, Long> chunk = new HashMap<>();
+        long records = 0;
+        long skipped = 0;
+        long views = 0;
+
+        // counts are only taken for pages of the logged user, a record for any other page is skipped
+        var userDetails = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        var ownedPageIds = this.pageRepository.findIdsByAccountEmail(userDetails.getUsername());
+
+        // a root level array is unwrapped by the iterator, so JSON arrays and NDJSON are read one record at a time
+        try (MappingIterator<PageViewRequest> iterator = this.reader.readValues(body)) {
+            while (iterator.hasNextValue()) {
+                var record = iterator.nextValue();
+                records++;
+
+                if (record.getPageId() == null || (record.getCount() != null && record.getCount() < 1)
+                        || !ownedPageIds.contains(record.getPageId())) {
+                    skipped++;
+                    continue;
+                }
+
+                var count = record.getCount() == null ? 1L : record.getCount();
+                var moment = record.getTimestamp() == null ? now : record.getTimestamp();
+                var granularity = this.pageViewRollupService.tierFor(moment);
+
+                chunk.merge(new PageViewKey(record.getPageId(), granularity, granularity.truncate(moment)), count, Long::sum);
+                views += count;
+
+                if (record.getVisitor() != null) {
+                    this.pageViewVisitorService.offer(record.getPageId(), moment, record.getVisitor());
+                }
+
+                this.pageViewSourceService.offer(record, moment, count);
+                this.pageViewEventService.append(record, moment, count);
+
+                if (chunk.size() >= chunkSize) {
+                    this.write(chunk);
+                    chunk = new HashMap<>();
+                }
+            }
+        } catch (IOException e) {
+            log.error("Page view batch stopped at record {}, earlier chunks were already written", records + 1, e);
+            throw new BadRequestException(
+                    new Issue(ARGUMENT_NOT_VALID, String.format(PAGE_VIEW_BATCH_FORMAT_ERROR, records + 1))
+            );
+        }
+
+        if (!chunk.isEmpty()) {
+            this.write(chunk);
+        }
+
+        log.info("Page view batch ingested {} records, {} skipped, {} views", records, skipped, views);
+
+        return PageViewBatchResponse.builder()
+                .withRecords(records)
+                .withSkipped(skipped)
+                .withViews(views)
+                .build();
+    }
+
+    private void write(Map<PageViewKey, Long> chunk) {
+        log.info("Writing chunk of {} page view totals", chunk.size());
+
+        this.pageViewRepository.incrementTotals(chunk);
+    }
+}
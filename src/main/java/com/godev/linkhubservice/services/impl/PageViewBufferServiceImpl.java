@@ -0,0 +1,170 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.godev.linkhubservice.domain.enums.PageViewGranularity;
+import com.godev.linkhubservice.domain.repository.PageViewRepository;
+import com.godev.linkhubservice.domain.vo.PageViewKey;
+import com.godev.linkhubservice.services.PageViewBufferService;
+import com.godev.linkhubservice.services.PageViewJournalService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Service
+@Slf4j
+public class PageViewBufferServiceImpl implements PageViewBufferService {
+
+    private static final Duration RETIRE_AFTER = Duration.ofDays(1);
+
+    private final PageViewRepository pageViewRepository;
+    private final PageViewJournalService pageViewJournalService;
+    private final ConcurrentHashMap<PageViewKey, LongAdder> counters = new ConcurrentHashMap<>();
+    private final ReadWriteLock[] journalLocks = new ReadWriteLock[Runtime.getRuntime().availableProcessors()];
+    private List<Map.Entry<PageViewKey, LongAdder>> retired = new ArrayList<>();
+
+    public PageViewBufferServiceImpl(PageViewRepository pageViewRepository,
+                                     PageViewJournalService pageViewJournalService) {
+        this.pageViewRepository = pageViewRepository;
+        this.pageViewJournalService = pageViewJournalService;
+
+        for (int i = 0; i < this.journalLocks.length; i++) {
+            this.journalLocks[i] = new ReentrantReadWriteLock();
+        }
+    }
+
+    @PostConstruct
+    public void restore() {
+        var replayed = this.pageViewJournalService.replay();
+
+        if (!replayed.isEmpty()) {
+            log.info("Restoring {} page view counters from the journal", replayed.size());
+            replayed.forEach((key, delta) -> this.counterOf(key).add(delta));
+        }
+    }
+
+    @Override
+    public void increment(Integer pageId, OffsetDateTime date) {
+        var key = new PageViewKey(pageId, PageViewGranularity.HOUR, date);
+
+        // each thread reads through its own stripe, so increments never contend on a shared lock.
+        // only a flush taking its mark holds every stripe
+        var lock = this.journalLocks[(int) (Thread.currentThread().getId() % this.journalLocks.length)].readLock();
+
+        lock.lock();
+        try {
+            this.counterOf(key).increment();
+            this.pageViewJournalService.append(key, 1);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "#{@pageViewProperties.flushInterval.toMillis()}")
+    public synchronized void flush() {
+        long mark;
+        Map<PageViewKey, Long> deltas;
+
+        // every journal record before the mark is in the drained deltas and none after it is
+        this.lockJournal();
+        try {
+            mark = this.pageViewJournalService.mark();
+            deltas = this.drain();
+        } finally {
+            this.unlockJournal();
+        }
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        log.info("Flushing {} buffered page view counters", deltas.size());
+
+        try {
+            this.pageViewRepository.incrementTotals(deltas);
+        } catch (RuntimeException e) {
+            log.error("Flush of page view counters failed, keeping them buffered", e);
+            deltas.forEach((key, delta) -> this.counterOf(key).add(delta));
+            return;
+        }
+
+        this.checkpoint(mark);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        log.info("Flushing page view counters before shutdown");
+        this.flush();
+    }
+
+    private void checkpoint(long mark) {
+        this.lockJournal();
+        try {
+            this.pageViewJournalService.checkpoint(mark);
+        } catch (RuntimeException e) {
+            log.error("Checkpoint of page view journal failed, flushed views may be replayed after a crash", e);
+        } finally {
+            this.unlockJournal();
+        }
+    }
+
+    private void lockJournal() {
+        for (ReadWriteLock journalLock : this.journalLocks) {
+            journalLock.writeLock().lock();
+        }
+    }
+
+    private void unlockJournal() {
+        for (int i = this.journalLocks.length - 1; i >= 0; i--) {
+            this.journalLocks[i].writeLock().unlock();
+        }
+    }
+
+    private LongAdder counterOf(PageViewKey key) {
+        var counter = this.counters.get(key);
+
+        if (counter == null) {
+            counter = this.counters.computeIfAbsent(key, k -> new LongAdder());
+        }
+        return counter;
+    }
+
+    private Map<PageViewKey, Long> drain() {
+        Map<PageViewKey, Long> deltas = new HashMap<>();
+        var retiringBefore = OffsetDateTime.now(ZoneOffset.UTC).minus(RETIRE_AFTER);
+
+        // counters removed on the previous flush may still have taken increments from writers holding them
+        this.retired.forEach(entry -> this.collect(deltas, entry.getKey(), entry.getValue().sumThenReset()));
+        this.retired = new ArrayList<>();
+
+        this.counters.forEach((key, counter) -> {
+            var delta = counter.sumThenReset();
+
+            if (delta == 0 && key.date().isBefore(retiringBefore) && this.counters.remove(key, counter)) {
+                this.retired.add(Map.entry(key, counter));
+            }
+            this.collect(deltas, key, delta);
+        });
+
+        return deltas;
+    }
+
+    private void collect(Map<PageViewKey, Long> deltas, PageViewKey key, long delta) {
+        if (delta > 0) {
+            deltas.merge(key, delta, Long::sum);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.godev.linkhubservice.domain.sketches.BloomFilter;
+import com.godev.linkhubservice.domain.sketches.Hashing;
+import com.godev.linkhubservice.properties.PageViewProperties;
+import com.godev.linkhubservice.services.PageViewDedupService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+
+@Service
+@Slf4j
+public class PageViewDedupServiceImpl implements PageViewDedupService {
+
+    private final PageViewProperties pageViewProperties;
+    private final Counter repeatsCounter;
+    private volatile BloomFilter[] slices;
+
+    public PageViewDedupServiceImpl(PageViewProperties pageViewProperties, MeterRegistry meterRegistry) {
+        this.pageViewProperties = pageViewProperties;
+
+        var dedup = pageViewProperties.getDedup();
+        this.slices = new BloomFilter[dedup.getEnabled() ? dedup.getSlices() : 0];
+        Arrays.setAll(this.slices, i -> this.newSlice());
+
+        Gauge.builder("page.view.dedup.window", dedup, config -> config.getWindow().toSeconds())
+                .description("Window in which repeat views of a visitor are dropped")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("page.view.dedup.false.positive.rate.target", dedup, PageViewProperties.Dedup::getFalsePositiveRate)
+                .description("Configured chance of dropping a first view as a repeat")
+                .register(meterRegistry);
+        Gauge.builder("page.view.dedup.false.positive.rate", this, PageViewDedupServiceImpl::falsePositiveRate)
+                .description("Chance of dropping a first view as a repeat given how full the filters are")
+                .register(meterRegistry);
+        Gauge.builder("page.view.dedup.memory", this, PageViewDedupServiceImpl::memory)
+                .description("Memory held by the dedup filters")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.repeatsCounter = Counter.builder("page.view.dedup.repeats")
+                .description("Repeat views dropped before being counted")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean isRepeat(Integer pageId, String visitor) {
+        var current = this.slices;
+
+        if (current.length == 0) {
+            return false;
+        }
+
+        var hash = Hashing.hash64(pageId + "|" + visitor);
+
+        for (int i = 1; i < current.length; i++) {
+            if (current[i].mightContain(hash)) {
+                this.repeatsCounter.increment();
+                return true;
+            }
+        }
+
+        if (!current[0].put(hash)) {
+            this.repeatsCounter.increment();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    @Scheduled(fixedRateString = "#{@pageViewProperties.dedup.window.toMillis() / @pageViewProperties.dedup.slices}")
+    public void rotate() {
+        var current = this.slices;
+
+        if (current.length == 0) {
+            return;
+        }
+
+        // the newest slice takes the writes, the oldest one leaves the window
+        var rotated = new BloomFilter[current.length];
+        rotated[0] = this.newSlice();
+        System.arraycopy(current, 0, rotated, 1, current.length - 1);
+
+        this.slices = rotated;
+    }
+
+    private BloomFilter newSlice() {
+        var dedup = this.pageViewProperties.getDedup();
+
+        return new BloomFilter(dedup.getCapacity() / dedup.getSlices(), dedup.getFalsePositiveRate() / dedup.getSlices());
+    }
+
+    private double memory() {
+        return Arrays.stream(this.slices).mapToLong(BloomFilter::bitSize).sum() / Byte.SIZE;
+    }
+
+    private double falsePositiveRate() {
+        var miss = 1d;
+
+        for (BloomFilter slice : this.slices) {
+            miss *= 1 - slice.expectedFalsePositiveRate();
+        }
+        return 1 - miss;
+    }
+}
@@ -0,0 +1,128 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.godev.linkhubservice.domain.enums.PageViewDimension;
+import com.godev.linkhubservice.domain.models.ViewDimension;
+import com.godev.linkhubservice.domain.repository.ViewDimensionRepository;
+import com.godev.linkhubservice.properties.PageViewProperties;
+import com.godev.linkhubservice.services.PageViewDimensionService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@Slf4j
+public class PageViewDimensionServiceImpl implements PageViewDimensionService {
+
+    private static final String OTHER = "other";
+
+    private final ViewDimensionRepository viewDimensionRepository;
+    private final PageViewProperties.Dimensions properties;
+    private final Map<PageViewDimension, Map<String, Integer>> ids = new ConcurrentHashMap<>();
+    private final Map<Integer, String> values = new ConcurrentHashMap<>();
+    private final Set<PageViewDimension> capped = ConcurrentHashMap.newKeySet();
+    private final Set<PageViewDimension> full = ConcurrentHashMap.newKeySet();
+
+    public PageViewDimensionServiceImpl(ViewDimensionRepository viewDimensionRepository,
+                                        PageViewProperties pageViewProperties, MeterRegistry meterRegistry) {
+        this.viewDimensionRepository = viewDimensionRepository;
+        this.properties = pageViewProperties.getDimensions();
+
+        Gauge.builder("page.view.dimensions.cached", this.ids, ids -> ids.values().stream().mapToInt(Map::size).sum())
+                .description("Referrer and UTM values held in the in-memory dictionary")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Integer idOf(PageViewDimension dimension, String value) {
+        var known = this.ids.computeIfAbsent(dimension, d -> new ConcurrentHashMap<>());
+        var id = known.get(value);
+
+        if (id != null) {
+            return id;
+        }
+
+        // values are sent by anonymous visitors, past the cap new ones are counted together instead of stored
+        if (!this.full.contains(dimension)) {
+            id = known.computeIfAbsent(value, v -> this.findOrCreate(dimension, v));
+
+            if (id == null && this.capped.contains(dimension)) {
+                this.fill(dimension);
+            }
+        }
+        return id == null ? this.other(dimension) : id;
+    }
+
+    @Override
+    public String valueOf(Integer id) {
+        return this.values.computeIfAbsent(id, i -> this.viewDimensionRepository.findById(i)
+                .map(ViewDimension::getValue)
+                .orElse(null));
+    }
+
+    private Integer findOrCreate(PageViewDimension dimension, String value) {
+        var existing = this.viewDimensionRepository.findByDimensionAndValue(dimension, value);
+
+        if (existing.isPresent()) {
+            return this.remember(existing.get());
+        }
+
+        if (this.viewDimensionRepository.countByDimension(dimension) >= this.properties.getMaxValues()) {
+            this.capped.add(dimension);
+            return null;
+        }
+
+        try {
+            return this.create(dimension, value);
+        } catch (NonTransientDataAccessException e) {
+            // a value the column cannot hold is counted as other, it must not fail the views sent with it
+            log.warn("Could not store {} value {}, counting it as {}", dimension, value, OTHER, e);
+            return null;
+        }
+    }
+
+    private Integer other(PageViewDimension dimension) {
+        return this.ids.get(dimension).computeIfAbsent(OTHER, v -> this.viewDimensionRepository
+                .findByDimensionAndValue(dimension, v)
+                .map(this::remember)
+                .orElseGet(() -> this.create(dimension, v)));
+    }
+
+    // once full no value is added anywhere, so holding every stored one answers the rest without the database
+    private void fill(PageViewDimension dimension) {
+        var known = this.ids.get(dimension);
+
+        for (var viewDimension : this.viewDimensionRepository.findByDimension(dimension)) {
+            known.putIfAbsent(viewDimension.getValue(), this.remember(viewDimension));
+        }
+        this.full.add(dimension);
+
+        log.warn("Dimension {} reached {} distinct values, new ones are counted as {}", dimension,
+                this.properties.getMaxValues(), OTHER);
+    }
+
+    private Integer create(PageViewDimension dimension, String value) {
+        try {
+            return this.remember(this.viewDimensionRepository.save(ViewDimension.builder()
+                    .withDimension(dimension)
+                    .withValue(value)
+                    .build()));
+        } catch (DataIntegrityViolationException e) {
+            // another instance added the same value first
+            return this.viewDimensionRepository.findByDimensionAndValue(dimension, value)
+                    .map(this::remember)
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    private Integer remember(ViewDimension viewDimension) {
+        this.values.put(viewDimension.getId(), viewDimension.getValue());
+        return viewDimension.getId();
+    }
+}
@@ -0,0 +1,293 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.godev.linkhubservice.domain.enums.PageViewDimension;
+import com.godev.linkhubservice.domain.segments.ViewEventSegment;
+import com.godev.linkhubservice.domain.vo.PageViewEventsQuery;
+import com.godev.linkhubservice.domain.vo.PageViewRequest;
+import com.godev.linkhubservice.domain.vo.ViewEvent;
+import com.godev.linkhubservice.properties.PageViewProperties;
+import com.godev.linkhubservice.services.PageViewDimensionService;
+import com.godev.linkhubservice.services.PageViewEventService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+@Service
+@Slf4j
+public class PageViewEventServiceImpl implements PageViewEventService {
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private final PageViewProperties pageViewProperties;
+    private final PageViewDimensionService pageViewDimensionService;
+    private final ObjectMapper objectMapper;
+    private final ConcurrentLinkedQueue<PendingEvent> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingSize = new AtomicInteger();
+    private final List<ViewEventSegment> segments = new CopyOnWriteArrayList<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Counter droppedCounter;
+    private final Counter unresolvedCounter;
+    private Path directory;
+
+    public PageViewEventServiceImpl(PageViewProperties pageViewProperties,
+                                    PageViewDimensionService pageViewDimensionService, ObjectMapper objectMapper,
+                                    MeterRegistry meterRegistry) {
+        this.pageViewProperties = pageViewProperties;
+        this.pageViewDimensionService = pageViewDimensionService;
+        this.objectMapper = objectMapper;
+
+        Gauge.builder("page.view.events.segments", this.segments, List::size)
+                .description("View event segments on disk")
+                .register(meterRegistry);
+        Gauge.builder("page.view.events.pending", this.pendingSize, AtomicInteger::get)
+                .description("View events waiting to be sealed into a segment")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("page.view.events.dropped")
+                .description("View events not stored because too many were waiting to be sealed")
+                .register(meterRegistry);
+        this.unresolvedCounter = Counter.builder("page.view.events.unresolved")
+                .description("Source values stored as unknown because the dictionary could not resolve them")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public synchronized void open() throws IOException {
+        var path = this.pageViewProperties.getEvents().getPath();
+
+        if (StringUtils.isBlank(path)) {
+            return;
+        }
+
+        this.directory = Files.createDirectories(Path.of(path));
+
+        try (var files = Files.list(this.directory)) {
+            for (var file : files.sorted().toList()) {
+                var name = file.getFileName().toString();
+
+                if (name.endsWith(SEGMENT_SUFFIX + ".tmp")) {
+                    Files.deleteIfExists(file);
+                } else if (name.endsWith(SEGMENT_SUFFIX)) {
+                    this.load(file);
+                }
+            }
+        }
+
+        log.info("Opened view event store {} with {} segments", this.directory, this.segments.size());
+    }
+
+    @Override
+    public void append(PageViewRequest pageViewRequest, OffsetDateTime moment, long count) {
+        if (this.directory == null) {
+            return;
+        }
+
+        if (this.pendingSize.incrementAndGet() > this.pageViewProperties.getEvents().getMaxPending()) {
+            this.pendingSize.decrementAndGet();
+            this.droppedCounter.increment();
+            return;
+        }
+
+        var values = new String[PageViewDimension.values().length];
+
+        for (var dimension : PageViewDimension.values()) {
+            values[dimension.ordinal()] = dimension.read(pageViewRequest);
+        }
+
+        this.pending.add(new PendingEvent(moment.toInstant().toEpochMilli(), pageViewRequest.getPageId(), count, values));
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "#{@pageViewProperties.events.sealInterval.toMillis()}")
+    public synchronized void seal() {
+        if (this.directory == null) {
+            return;
+        }
+
+        this.deleteExpired();
+
+        var segmentSize = this.pageViewProperties.getEvents().getSegmentSize();
+
+        while (!this.pending.isEmpty()) {
+            List<PendingEvent> drained = new ArrayList<>();
+            PendingEvent event;
+
+            while (drained.size() < segmentSize && (event = this.pending.poll()) != null) {
+                drained.add(event);
+            }
+            this.pendingSize.addAndGet(-drained.size());
+
+            try {
+                var path = this.directory.resolve(String.format("%020d%s", this.sequence.getAndIncrement(), SEGMENT_SUFFIX));
+                var segment = ViewEventSegment.write(path, drained.stream().map(this::toEvent).toList());
+
+                this.segments.add(segment);
+                log.info("Sealed {} view events into segment {}", segment.getCount(), path.getFileName());
+            } catch (IOException | RuntimeException e) {
+                log.error("Sealing of {} view events failed, keeping them in memory", drained.size(), e);
+                this.pending.addAll(drained);
+                this.pendingSize.addAndGet(drained.size());
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void scan(Integer pageId, OffsetDateTime from, OffsetDateTime to, Consumer<ViewEvent> consumer) {
+        var fromMillis = from.toInstant().toEpochMilli();
+        var toMillis = to.toInstant().toEpochMilli();
+        var read = 0;
+
+        for (var segment : this.segments) {
+            if (!segment.overlaps(fromMillis, toMillis) || !segment.contains(pageId)) {
+                continue;
+            }
+
+            try {
+                segment.scan(pageId, fromMillis, toMillis, consumer);
+                read++;
+            } catch (NoSuchFileException e) {
+                log.debug("View event segment {} expired while being read", segment.getPath());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        log.debug("Read {} of {} view event segments for page with id {}", read, this.segments.size(), pageId);
+    }
+
+    @Override
+    public void write(PageViewEventsQuery query, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = this.objectMapper.createGenerator(outputStream)) {
+            generator.writeStartObject();
+            generator.writeObjectField("from", query.from());
+            generator.writeObjectField("to", query.to());
+            generator.writeArrayFieldStart("events");
+
+            this.scan(query.pageId(), query.from().atStartOfDay().atOffset(ZoneOffset.UTC),
+                    query.to().plusDays(1).atStartOfDay().atOffset(ZoneOffset.UTC), event -> this.writeEvent(generator, event));
+
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        log.info("Streamed view events of page with id {} from {} to {}", query.pageId(), query.from(), query.to());
+    }
+
+    @PreDestroy
+    public void close() {
+        log.info("Sealing view events before shutdown");
+        this.seal();
+    }
+
+    private void load(Path file) {
+        try {
+            this.segments.add(ViewEventSegment.open(file));
+
+            var name = file.getFileName().toString();
+            var number = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+            this.sequence.accumulateAndGet(number + 1, Math::max);
+        } catch (IOException | NumberFormatException e) {
+            log.warn("Skipping unreadable view event segment {}", file, e);
+        }
+    }
+
+    private void deleteExpired() {
+        var deadline = System.currentTimeMillis() - this.pageViewProperties.getEvents().getRetention().toMillis();
+
+        for (var segment : this.segments) {
+            if (segment.getMaxTimestamp() >= deadline) {
+                continue;
+            }
+
+            try {
+                this.segments.remove(segment);
+                Files.deleteIfExists(segment.getPath());
+                log.info("Deleted view event segment {} past its retention", segment.getPath().getFileName());
+            } catch (IOException e) {
+                log.warn("Could not delete the expired view event segment {}", segment.getPath(), e);
+            }
+        }
+    }
+
+    private ViewEvent toEvent(PendingEvent event) {
+        var ids = new int[event.values().length];
+
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = this.idOf(PageViewDimension.values()[i], event.values()[i]);
+        }
+        return new ViewEvent(event.timestamp(), event.pageId(), event.count(), ids[0], ids[1], ids[2], ids[3]);
+    }
+
+    // one value the dictionary cannot take only loses its source, never the event or the rest of the segment
+    private int idOf(PageViewDimension dimension, String value) {
+        if (value == null) {
+            return 0;
+        }
+
+        try {
+            return this.pageViewDimensionService.idOf(dimension, value);
+        } catch (RuntimeException e) {
+            log.warn("Could not resolve {} value {}, storing the view event without it", dimension, value, e);
+            this.unresolvedCounter.increment();
+            return 0;
+        }
+    }
+
+    private void writeEvent(JsonGenerator generator, ViewEvent event) {
+        try {
+            generator.writeStartObject();
+            generator.writeObjectField("timestamp", Instant.ofEpochMilli(event.timestamp()).atOffset(ZoneOffset.UTC));
+            generator.writeNumberField("count", event.count());
+
+            for (var dimension : PageViewDimension.values()) {
+                var id = event.dimensionId(dimension);
+
+                if (id != 0) {
+                    generator.writeStringField(this.fieldName(dimension), this.pageViewDimensionService.valueOf(id));
+                }
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String fieldName(PageViewDimension dimension) {
+        return switch (dimension) {
+            case REFERRER -> "referrer";
+            case UTM_SOURCE -> "utmSource";
+            case UTM_MEDIUM -> "utmMedium";
+            case UTM_CAMPAIGN -> "utmCampaign";
+        };
+    }
+
+    private record PendingEvent(long timestamp, Integer pageId, long count, String[] values) {
+    }
+}
@@ -0,0 +1,94 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.godev.linkhubservice.domain.repository.PageViewRepository;
+import com.godev.linkhubservice.domain.vo.PageViewExportQuery;
+import com.godev.linkhubservice.domain.vo.PageViewRow;
+import com.godev.linkhubservice.services.PageViewExportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+
+@Service
+@Slf4j
+public class PageViewExportServiceImpl implements PageViewExportService {
+
+    private static final String CSV_HEADER = "date,granularity,total\n";
+
+    private final PageViewRepository pageViewRepository;
+    private final ObjectMapper objectMapper;
+
+    public PageViewExportServiceImpl(PageViewRepository pageViewRepository, ObjectMapper objectMapper) {
+        this.pageViewRepository = pageViewRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void write(PageViewExportQuery query, OutputStream outputStream) throws IOException {
+        var rows = new long[1];
+
+        try {
+            switch (query.format()) {
+                case CSV -> this.writeCsv(query, outputStream, rows);
+                case NDJSON -> this.writeNdjson(query, outputStream, rows);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        log.info("Exported {} view rows of page with id {} as {}", rows[0], query.pageId(), query.format());
+    }
+
+    private void writeCsv(PageViewExportQuery query, OutputStream outputStream, long[] rows) throws IOException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8))) {
+            writer.write(CSV_HEADER);
+
+            this.pageViewRepository.streamRows(query.pageId(), query.from(), query.to(), row -> {
+                try {
+                    writer.write(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(row.date()));
+                    writer.write(',');
+                    writer.write(row.granularity().name());
+                    writer.write(',');
+                    writer.write(Long.toString(row.total()));
+                    writer.write('\n');
+                    rows[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    private void writeNdjson(PageViewExportQuery query, OutputStream outputStream, long[] rows) throws IOException {
+        try (JsonGenerator generator = this.objectMapper.createGenerator(outputStream)) {
+            generator.setRootValueSeparator(new SerializedString("\n"));
+
+            this.pageViewRepository.streamRows(query.pageId(), query.from(), query.to(), row -> {
+                this.writeRow(generator, row);
+                rows[0]++;
+            });
+
+            if (rows[0] > 0) {
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
+    private void writeRow(JsonGenerator generator, PageViewRow row) {
+        try {
+            generator.writeObject(row);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.godev.linkhubservice.domain.enums.PageViewGranularity;
+import com.godev.linkhubservice.domain.enums.PageViewMode;
+import com.godev.linkhubservice.domain.vo.PageViewKey;
+import com.godev.linkhubservice.properties.PageViewProperties;
+import com.godev.linkhubservice.services.PageViewJournalService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+@Service
+@Slf4j
+public class PageViewJournalServiceImpl implements PageViewJournalService {
+
+    static final int RECORD_SIZE = 32;
+
+    private static final int INCREMENT = 1;
+    private static final int CHECKPOINT = 2;
+    private static final int CHECKSUM_OFFSET = RECORD_SIZE - Integer.BYTES;
+
+    private final PageViewProperties pageViewProperties;
+    private final AtomicLong next = new AtomicLong();
+    private final Counter overflowCounter;
+    private MappedByteBuffer journal;
+    private long limit;
+    private Map<PageViewKey, Long> pending = Map.of();
+
+    public PageViewJournalServiceImpl(PageViewProperties pageViewProperties, MeterRegistry meterRegistry) {
+        this.pageViewProperties = pageViewProperties;
+
+        Gauge.builder("page.view.journal.usage", this, service -> service.limit == 0 ? 0 : (double) service.mark() / service.limit)
+                .description("Share of the page view journal taken by records")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("page.view.journal.overflow")
+                .description("Page views counted in memory only because the journal was full")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public synchronized void open() throws IOException {
+        var path = this.path();
+
+        if (this.pageViewProperties.getMode() != PageViewMode.WRITE_BEHIND || path == null) {
+            return;
+        }
+
+        if (path.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+        }
+
+        this.journal = this.map(path);
+        this.pending = this.scan();
+
+        log.info("Opened page view journal {} with {} counters to replay", path, this.pending.size());
+    }
+
+    @Override
+    public void append(PageViewKey key, long delta) {
+        if (this.journal == null) {
+            return;
+        }
+        if (!this.write(INCREMENT, key.pageId(), key.granularity().ordinal(), key.date().toEpochSecond(), delta)) {
+            this.overflowCounter.increment();
+        }
+    }
+
+    @Override
+    public long mark() {
+        return Math.min(this.next.get(), this.limit);
+    }
+
+    @Override
+    public synchronized void checkpoint(long mark) {
+        if (this.journal == null) {
+            return;
+        }
+
+        if (mark >= this.limit / 2) {
+            this.compact(mark);
+            return;
+        }
+
+        // everything before the mark is in the database now, records after it still have to be replayed.
+        // a full journal has no slot left for the checkpoint, compacting drops the covered records instead
+        if (!this.write(CHECKPOINT, 0, 0, 0, mark)) {
+            this.compact(mark);
+        }
+    }
+
+    @Override
+    public synchronized Map<PageViewKey, Long> replay() {
+        var replayed = this.pending;
+        this.pending = Map.of();
+        return replayed;
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (this.journal != null) {
+            this.journal.force();
+        }
+    }
+
+    private boolean write(int type, int pageId, int granularity, long epochSecond, long value) {
+        var position = this.next.getAndAdd(RECORD_SIZE);
+
+        if (position + RECORD_SIZE > this.limit) {
+            return false;
+        }
+
+        var record = ByteBuffer.allocate(RECORD_SIZE)
+                .putInt(type)
+                .putInt(pageId)
+                .putLong(epochSecond)
+                .putLong(value)
+                .putInt(granularity);
+        record.putInt(CHECKSUM_OFFSET, this.checksum(record.array()));
+
+        this.journal.put((int) position, record.array());
+        return true;
+    }
+
+    private Map<PageViewKey, Long> scan() {
+        Map<Long, PageViewKey> keys = new HashMap<>();
+        Map<Long, Long> deltas = new HashMap<>();
+        var record = new byte[RECORD_SIZE];
+        var covered = 0L;
+        var end = 0L;
+
+        // slots are reserved before being written, so a crash can leave holes that are simply skipped
+        for (long position = 0; position + RECORD_SIZE <= this.limit; position += RECORD_SIZE) {
+            this.journal.get((int) position, record);
+            var buffer = ByteBuffer.wrap(record);
+
+            if (buffer.getInt(0) == 0 || buffer.getInt(CHECKSUM_OFFSET) != this.checksum(record)) {
+                continue;
+            }
+            end = position + RECORD_SIZE;
+
+            if (buffer.getInt(0) == CHECKPOINT) {
+                covered = buffer.getLong(16);
+            } else if (buffer.getInt(0) == INCREMENT) {
+                var key = new PageViewKey(buffer.getInt(4), PageViewGranularity.values()[buffer.getInt(24)],
+                        Instant.ofEpochSecond(buffer.getLong(8)).atOffset(ZoneOffset.UTC));
+                keys.put(position, key);
+                deltas.put(position, buffer.getLong(16));
+            }
+        }
+        this.next.set(end);
+
+        Map<PageViewKey, Long> replayed = new HashMap<>();
+        var from = covered;
+        keys.forEach((position, key) -> {
+            if (position >= from) {
+                replayed.merge(key, deltas.get(position), Long::sum);
+            }
+        });
+        return replayed;
+    }
+
+    private void compact(long mark) {
+        var path = this.path();
+        var temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        var end = this.mark();
+
+        // only the records the database has not seen yet move to the new file, so it needs no checkpoint
+        try {
+            Files.deleteIfExists(temporary);
+            var compacted = this.map(temporary);
+            var record = new byte[RECORD_SIZE];
+
+            for (long position = mark; position < end; position += RECORD_SIZE) {
+                this.journal.get((int) position, record);
+                compacted.put((int) (position - mark), record);
+            }
+            compacted.force();
+
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            this.journal = compacted;
+            this.next.set(end - mark);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        log.info("Compacted page view journal {} down to {} bytes", path, end - mark);
+    }
+
+    private MappedByteBuffer map(Path path) throws IOException {
+        this.limit = (long) this.pageViewProperties.getJournal().getCapacity() * RECORD_SIZE;
+
+        try (var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, this.limit);
+        }
+    }
+
+    private Path path() {
+        var path = this.pageViewProperties.getJournal().getPath();
+
+        return StringUtils.isBlank(path) ? null : Path.of(path);
+    }
+
+    private int checksum(byte[] record) {
+        var crc = new CRC32();
+        crc.update(record, 0, CHECKSUM_OFFSET);
+        return (int) crc.getValue();
+    }
+}
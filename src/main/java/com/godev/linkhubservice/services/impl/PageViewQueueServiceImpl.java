@@ -0,0 +1,152 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.godev.linkhubservice.domain.enums.PageViewGranularity;
+import com.godev.linkhubservice.domain.enums.PageViewMode;
+import com.godev.linkhubservice.domain.repository.PageViewRepository;
+import com.godev.linkhubservice.domain.vo.PageViewKey;
+import com.godev.linkhubservice.properties.PageViewProperties;
+import com.godev.linkhubservice.services.PageViewQueueService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class PageViewQueueServiceImpl implements PageViewQueueService {
+
+    private final PageViewRepository pageViewRepository;
+    private final PageViewProperties pageViewProperties;
+    private final BlockingQueue<PageViewKey> queue;
+    private final Counter overflowCounter;
+    private final Counter lostCounter;
+    private ExecutorService consumers;
+    private volatile boolean running;
+
+    public PageViewQueueServiceImpl(PageViewRepository pageViewRepository, PageViewProperties pageViewProperties,
+                                    MeterRegistry meterRegistry) {
+        this.pageViewRepository = pageViewRepository;
+        this.pageViewProperties = pageViewProperties;
+        this.queue = new ArrayBlockingQueue<>(pageViewProperties.getQueue().getCapacity());
+
+        Gauge.builder("page.view.queue.depth", this.queue, BlockingQueue::size)
+                .description("Page views waiting to be written")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("page.view.queue.overflow")
+                .description("Page views that found the queue full")
+                .tag("policy", pageViewProperties.getQueue().getOverflow().name())
+                .register(meterRegistry);
+        this.lostCounter = Counter.builder("page.view.queue.lost")
+                .description("Queued page views whose batch could not be written")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (this.pageViewProperties.getMode() != PageViewMode.ASYNC) {
+            return;
+        }
+
+        var consumerCount = this.pageViewProperties.getQueue().getConsumers();
+
+        log.info("Starting {} page view queue consumers", consumerCount);
+
+        this.running = true;
+        this.consumers = Executors.newFixedThreadPool(consumerCount, new CustomizableThreadFactory("page-view-consumer-"));
+
+        for (int i = 0; i < consumerCount; i++) {
+            this.consumers.execute(this::consume);
+        }
+    }
+
+    @Override
+    public boolean offer(Integer pageId, OffsetDateTime date) {
+        if (this.queue.offer(new PageViewKey(pageId, PageViewGranularity.HOUR, date))) {
+            return true;
+        }
+
+        this.overflowCounter.increment();
+
+        return false;
+    }
+
+    @Override
+    public int depth() {
+        return this.queue.size();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (this.consumers == null) {
+            return;
+        }
+
+        log.info("Stopping page view queue consumers");
+
+        this.running = false;
+        this.consumers.shutdown();
+
+        if (!this.consumers.awaitTermination(10, TimeUnit.SECONDS)) {
+            this.consumers.shutdownNow();
+        }
+
+        List<PageViewKey> remaining = new ArrayList<>();
+
+        while (this.queue.drainTo(remaining, this.pageViewProperties.getQueue().getBatchSize()) > 0) {
+            this.write(remaining);
+            remaining.clear();
+        }
+    }
+
+    private void consume() {
+        var batchSize = this.pageViewProperties.getQueue().getBatchSize();
+        List<PageViewKey> batch = new ArrayList<>(batchSize);
+
+        while (this.running) {
+            try {
+                var first = this.queue.poll(1, TimeUnit.SECONDS);
+
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                this.queue.drainTo(batch, batchSize - 1);
+                this.write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<PageViewKey> batch) {
+        Map<PageViewKey, Long> deltas = batch.stream()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        try {
+            this.pageViewRepository.incrementTotals(deltas);
+        } catch (RuntimeException e) {
+            log.error("Could not write a batch of {} queued page views", batch.size(), e);
+            this.lostCounter.increment(batch.size());
+        }
+    }
+}
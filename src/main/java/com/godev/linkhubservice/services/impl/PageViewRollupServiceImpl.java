@@ -0,0 +1,69 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.godev.linkhubservice.domain.enums.PageViewGranularity;
+import com.godev.linkhubservice.domain.repository.PageViewRepository;
+import com.godev.linkhubservice.properties.PageViewProperties;
+import com.godev.linkhubservice.services.PageViewRollupService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+@Service
+@Slf4j
+public class PageViewRollupServiceImpl implements PageViewRollupService {
+
+    private final PageViewRepository pageViewRepository;
+    private final PageViewProperties pageViewProperties;
+
+    public PageViewRollupServiceImpl(PageViewRepository pageViewRepository, PageViewProperties pageViewProperties) {
+        this.pageViewRepository = pageViewRepository;
+        this.pageViewProperties = pageViewProperties;
+    }
+
+    @Override
+    public PageViewGranularity tierFor(OffsetDateTime moment) {
+        var now = OffsetDateTime.now(ZoneOffset.UTC);
+
+        if (!moment.isBefore(this.hourlyCutoff(now))) {
+            return PageViewGranularity.HOUR;
+        }
+        if (!moment.isBefore(this.dailyCutoff(now))) {
+            return PageViewGranularity.DAY;
+        }
+        return PageViewGranularity.MONTH;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "#{@pageViewProperties.rollup.compactionInterval.toMillis()}")
+    public void compact() {
+        var now = OffsetDateTime.now(ZoneOffset.UTC);
+
+        this.compact(PageViewGranularity.HOUR, PageViewGranularity.DAY, this.hourlyCutoff(now));
+        this.compact(PageViewGranularity.DAY, PageViewGranularity.MONTH, this.dailyCutoff(now));
+    }
+
+    private void compact(PageViewGranularity source, PageViewGranularity target, OffsetDateTime cutoff) {
+        var oldest = this.pageViewRepository.findOldestBucket(source, cutoff);
+
+        while (oldest.isPresent()) {
+            var bucket = target.truncate(oldest.get());
+            var removed = this.pageViewRepository.compact(source, target, bucket,
+                    this.pageViewProperties.getRollup().getCompactionBatchSize());
+
+            log.info("Compacted {} {} page view rows into {} bucket {}", removed, source, target, bucket);
+
+            oldest = this.pageViewRepository.findOldestBucket(source, cutoff);
+        }
+    }
+
+    private OffsetDateTime hourlyCutoff(OffsetDateTime now) {
+        return PageViewGranularity.DAY.truncate(now.minus(this.pageViewProperties.getRollup().getHourlyRetention()));
+    }
+
+    private OffsetDateTime dailyCutoff(OffsetDateTime now) {
+        return PageViewGranularity.MONTH.truncate(now.minus(this.pageViewProperties.getRollup().getDailyRetention()));
+    }
+}
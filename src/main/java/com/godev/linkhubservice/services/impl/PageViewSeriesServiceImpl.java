@@ -0,0 +1,98 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.godev.linkhubservice.domain.enums.PageViewSeriesGranularity;
+import com.godev.linkhubservice.domain.repository.PageViewRepository;
+import com.godev.linkhubservice.domain.vo.PageViewPoint;
+import com.godev.linkhubservice.domain.vo.PageViewSeriesQuery;
+import com.godev.linkhubservice.services.PageViewSeriesService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.Set;
+
+@Service
+@Slf4j
+public class PageViewSeriesServiceImpl implements PageViewSeriesService {
+
+    private final PageViewRepository pageViewRepository;
+    private final ObjectMapper objectMapper;
+
+    public PageViewSeriesServiceImpl(PageViewRepository pageViewRepository, ObjectMapper objectMapper) {
+        this.pageViewRepository = pageViewRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void write(PageViewSeriesQuery query, OutputStream outputStream) throws IOException {
+        var granularity = query.granularity();
+        var last = granularity.truncate(query.to());
+
+        // a compacted month only has its row on the 1st, so month buckets are read over whole months
+        var start = granularity == PageViewSeriesGranularity.MONTH ? granularity.truncate(query.from()) : query.from();
+        var end = granularity == PageViewSeriesGranularity.MONTH ? granularity.next(last).minusDays(1) : query.to();
+
+        // days of a compacted month only exist as the month total, so day and week buckets touching one are gaps
+        Set<LocalDate> compacted = granularity == PageViewSeriesGranularity.MONTH
+                ? Set.of()
+                : Set.copyOf(this.pageViewRepository.findCompactedMonths(query.pageId(), query.from(), query.to()));
+
+        try (JsonGenerator generator = this.objectMapper.createGenerator(outputStream)) {
+            generator.writeStartObject();
+            generator.writeObjectField("from", query.from());
+            generator.writeObjectField("to", query.to());
+            generator.writeObjectField("granularity", granularity);
+            generator.writeArrayFieldStart("series");
+
+            // buckets come ordered from the database, the gaps between them are written as zeros
+            var next = new LocalDate[]{granularity.truncate(query.from())};
+
+            this.pageViewRepository.streamSeries(query.pageId(), granularity, start, end, point -> {
+                next[0] = this.fill(generator, next[0], point.date(), query, compacted);
+                this.writePoint(generator, this.isCompacted(point.date(), granularity, compacted)
+                        ? new PageViewPoint(point.date(), null)
+                        : point);
+                next[0] = granularity.next(point.date());
+            });
+            this.fill(generator, next[0], granularity.next(last), query, compacted);
+
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        log.info("Streamed {} series of page with id {} from {} to {}", granularity, query.pageId(), query.from(), query.to());
+    }
+
+    private LocalDate fill(JsonGenerator generator, LocalDate from, LocalDate until, PageViewSeriesQuery query,
+                           Set<LocalDate> compacted) {
+        var bucket = from;
+
+        while (bucket.isBefore(until)) {
+            var total = this.isCompacted(bucket, query.granularity(), compacted) ? null : 0L;
+            this.writePoint(generator, new PageViewPoint(bucket, total));
+            bucket = query.granularity().next(bucket);
+        }
+        return bucket;
+    }
+
+    private boolean isCompacted(LocalDate bucket, PageViewSeriesGranularity granularity, Set<LocalDate> compacted) {
+        var end = granularity.next(bucket).minusDays(1);
+
+        return compacted.contains(bucket.withDayOfMonth(1)) || compacted.contains(end.withDayOfMonth(1));
+    }
+
+    private void writePoint(JsonGenerator generator, PageViewPoint point) {
+        try {
+            generator.writeObject(point);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.godev.linkhubservice.properties.PageViewProperties;
+import com.godev.linkhubservice.services.PageViewShardService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+@Service
+@Slf4j
+public class PageViewShardServiceImpl implements PageViewShardService {
+
+    private final PageViewProperties pageViewProperties;
+    private final ConcurrentHashMap<Integer, LongAdder> writes = new ConcurrentHashMap<>();
+    private volatile Map<Integer, Integer> shardCounts = Map.of();
+
+    public PageViewShardServiceImpl(PageViewProperties pageViewProperties) {
+        this.pageViewProperties = pageViewProperties;
+    }
+
+    @Override
+    public int shardFor(Integer pageId) {
+        var counter = this.writes.get(pageId);
+
+        if (counter == null) {
+            counter = this.writes.computeIfAbsent(pageId, id -> new LongAdder());
+        }
+        counter.increment();
+
+        var shards = this.shardCount(pageId);
+
+        return shards == 1 ? 0 : ThreadLocalRandom.current().nextInt(shards);
+    }
+
+    @Override
+    public int shardCount(Integer pageId) {
+        return this.shardCounts.getOrDefault(pageId, 1);
+    }
+
+    @Override
+    @Scheduled(fixedRateString = "#{@pageViewProperties.shards.window.toMillis()}")
+    public void rebalance() {
+        var windowSeconds = Math.max(this.pageViewProperties.getShards().getWindow().toSeconds(), 1);
+        Map<Integer, Integer> counts = new HashMap<>();
+
+        this.writes.forEach((pageId, counter) -> {
+            var written = counter.sumThenReset();
+
+            if (written == 0) {
+                this.writes.remove(pageId, counter);
+                return;
+            }
+
+            var shards = this.shardsForRate((double) written / windowSeconds);
+
+            if (shards > 1) {
+                counts.put(pageId, shards);
+            }
+            if (shards != this.shardCount(pageId)) {
+                log.info("Page with id {} now spreads its views over {} shards", pageId, shards);
+            }
+        });
+
+        this.shardCounts = counts;
+    }
+
+    private int shardsForRate(double writesPerSecond) {
+        var shards = this.pageViewProperties.getShards();
+        var needed = (int) Math.ceil(writesPerSecond / shards.getWritesPerSecond());
+
+        if (needed <= 1) {
+            return 1;
+        }
+        return Math.min(shards.getMax(), Integer.highestOneBit(needed - 1) << 1);
+    }
+}
@@ -0,0 +1,84 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.godev.linkhubservice.domain.enums.PageViewDimension;
+import com.godev.linkhubservice.domain.enums.PageViewGranularity;
+import com.godev.linkhubservice.domain.repository.PageViewRepository;
+import com.godev.linkhubservice.domain.vo.PageViewRequest;
+import com.godev.linkhubservice.domain.vo.PageViewSource;
+import com.godev.linkhubservice.domain.vo.PageViewSourceKey;
+import com.godev.linkhubservice.services.PageViewDimensionService;
+import com.godev.linkhubservice.services.PageViewSourceService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@Slf4j
+public class PageViewSourceServiceImpl implements PageViewSourceService {
+
+    private final PageViewRepository pageViewRepository;
+    private final PageViewDimensionService pageViewDimensionService;
+    private final ConcurrentHashMap<PageViewSource, Long> sources = new ConcurrentHashMap<>();
+
+    public PageViewSourceServiceImpl(PageViewRepository pageViewRepository,
+                                     PageViewDimensionService pageViewDimensionService) {
+        this.pageViewRepository = pageViewRepository;
+        this.pageViewDimensionService = pageViewDimensionService;
+    }
+
+    @Override
+    public void offer(PageViewRequest pageViewRequest, OffsetDateTime moment, long count) {
+        var date = PageViewGranularity.DAY.truncate(moment);
+
+        for (var dimension : PageViewDimension.values()) {
+            var value = dimension.read(pageViewRequest);
+
+            if (value != null) {
+                this.sources.merge(new PageViewSource(pageViewRequest.getPageId(), date, dimension, value), count, Long::sum);
+            }
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "#{@pageViewProperties.flushInterval.toMillis()}")
+    public synchronized void flush() {
+        Map<PageViewSource, Long> drained = new HashMap<>();
+
+        this.sources.keySet().forEach(source -> {
+            var count = this.sources.remove(source);
+            if (count != null) {
+                drained.put(source, count);
+            }
+        });
+
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        log.info("Flushing {} page view source counters", drained.size());
+
+        try {
+            Map<PageViewSourceKey, Long> deltas = new HashMap<>();
+
+            drained.forEach((source, count) -> deltas.merge(new PageViewSourceKey(source.pageId(), source.date(),
+                    this.pageViewDimensionService.idOf(source.dimension(), source.value())), count, Long::sum));
+
+            this.pageViewRepository.incrementSources(deltas);
+        } catch (RuntimeException e) {
+            log.error("Flush of page view source counters failed, keeping them in memory", e);
+            drained.forEach((source, count) -> this.sources.merge(source, count, Long::sum));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        log.info("Flushing page view source counters before shutdown");
+        this.flush();
+    }
+}
@@ -0,0 +1,235 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.godev.linkhubservice.domain.sketches.CountMinSketch;
+import com.godev.linkhubservice.domain.sketches.Hashing;
+import com.godev.linkhubservice.domain.vo.TrendingPage;
+import com.godev.linkhubservice.properties.PageViewProperties;
+import com.godev.linkhubservice.services.PageIdCacheService;
+import com.godev.linkhubservice.services.PageViewTrendingService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@Service
+@Slf4j
+public class PageViewTrendingServiceImpl implements PageViewTrendingService {
+
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final PageIdCacheService pageIdCacheService;
+    private final PageViewProperties.Trending trending;
+    private final ConcurrentHashMap<Integer, LongAdder> pending = new ConcurrentHashMap<>();
+    private CountMinSketch sketch;
+    private final PriorityQueue<Leader> leaders = new PriorityQueue<>(Comparator.comparingDouble(leader -> leader.score));
+    private final Map<Integer, Leader> leadersByPage = new HashMap<>();
+
+    public PageViewTrendingServiceImpl(PageIdCacheService pageIdCacheService, PageViewProperties pageViewProperties,
+                                       MeterRegistry meterRegistry) {
+        this.pageIdCacheService = pageIdCacheService;
+        this.trending = pageViewProperties.getTrending();
+        this.sketch = new CountMinSketch(this.trending.getWidth(), this.trending.getDepth());
+
+        Gauge.builder("page.view.trending.memory", this, service -> service.sketch.byteSize())
+                .description("Memory held by the trending pages sketch")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        Gauge.builder("page.view.trending.pending", this, service -> service.pending.size())
+                .description("Pages viewed since the last fold of the trending pages")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void record(Integer pageId, long count) {
+        // views only touch a per page counter, the sketch and the heap are updated by the fold.
+        // the add runs inside compute, so it never lands on a counter the fold already removed
+        this.pending.compute(pageId, (id, counter) -> {
+            var adder = counter == null ? new LongAdder() : counter;
+            adder.add(count);
+            return adder;
+        });
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "#{@pageViewProperties.trending.foldInterval.toMillis()}")
+    public synchronized void fold() {
+        // drained counters leave the map, so it only holds the pages viewed since the last fold
+        this.pending.forEach((pageId, counter) -> {
+            if (this.pending.remove(pageId, counter)) {
+                this.collect(pageId, counter.sumThenReset());
+            }
+        });
+    }
+
+    @Override
+    public synchronized List<TrendingPage> top() {
+        this.fold();
+
+        return this.leaders.stream()
+                .sorted(Comparator.comparingDouble((Leader leader) -> leader.score).reversed())
+                .map(leader -> new TrendingPage(leader.pageId, leader.score))
+                .toList();
+    }
+
+    @Override
+    @Scheduled(fixedRateString = "#{@pageViewProperties.trending.decayInterval.toMillis()}")
+    public synchronized void decay() {
+        this.fold();
+        this.scale(this.decayFactor(this.trending.getDecayInterval()));
+    }
+
+    @Override
+    @PreDestroy
+    @Scheduled(fixedDelayString = "#{@pageViewProperties.trending.snapshotInterval.toMillis()}")
+    public synchronized void snapshot() {
+        if (StringUtils.isBlank(this.trending.getSnapshotPath())) {
+            return;
+        }
+
+        var path = Path.of(this.trending.getSnapshotPath());
+
+        this.fold();
+
+        try {
+            if (path.toAbsolutePath().getParent() != null) {
+                Files.createDirectories(path.toAbsolutePath().getParent());
+            }
+
+            // written aside and moved over the old file so a crash never leaves a half written snapshot
+            var temporary = path.resolveSibling(path.getFileName() + ".tmp");
+
+            try (var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                output.writeInt(SNAPSHOT_VERSION);
+                output.writeLong(Instant.now().toEpochMilli());
+                this.sketch.writeTo(output);
+                output.writeInt(this.leaders.size());
+
+                for (Leader leader : this.leaders) {
+                    output.writeInt(leader.pageId);
+                    output.writeDouble(leader.score);
+                }
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("Snapshot of trending pages to {} failed", path, e);
+        }
+    }
+
+    @PostConstruct
+    public synchronized void restore() {
+        if (StringUtils.isBlank(this.trending.getSnapshotPath())) {
+            return;
+        }
+
+        var path = Path.of(this.trending.getSnapshotPath());
+
+        if (!Files.exists(path)) {
+            return;
+        }
+
+        try (var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (input.readInt() != SNAPSHOT_VERSION) {
+                log.warn("Ignoring trending pages snapshot {} written by another version", path);
+                return;
+            }
+
+            var savedAt = Instant.ofEpochMilli(input.readLong());
+            var restored = CountMinSketch.readFrom(input);
+
+            if (restored.getWidth() != this.trending.getWidth() || restored.getDepth() != this.trending.getDepth()) {
+                log.warn("Ignoring trending pages snapshot {} taken with another sketch size", path);
+                return;
+            }
+
+            this.sketch = restored;
+            this.leaders.clear();
+            this.leadersByPage.clear();
+
+            for (int i = input.readInt(); i > 0; i--) {
+                var leader = new Leader(input.readInt(), input.readDouble());
+                this.leaders.offer(leader);
+                this.leadersByPage.put(leader.pageId, leader);
+            }
+
+            // the views kept aging while the service was down
+            this.scale(this.decayFactor(Duration.between(savedAt, Instant.now())));
+
+            log.info("Restored {} trending pages from snapshot {}", this.leaders.size(), path);
+        } catch (IOException e) {
+            log.error("Restore of trending pages from {} failed, starting cold", path, e);
+        }
+    }
+
+    private void collect(Integer pageId, long count) {
+        if (count > 0 && this.pageIdCacheService.exists(pageId)) {
+            this.add(pageId, count);
+        }
+    }
+
+    private void add(Integer pageId, long count) {
+        var score = this.sketch.add(Hashing.hash64(pageId.toString()), count);
+        var leader = this.leadersByPage.get(pageId);
+
+        if (leader != null) {
+            this.leaders.remove(leader);
+            leader.score = score;
+            this.leaders.offer(leader);
+            return;
+        }
+
+        if (this.leaders.size() >= this.trending.getSize()) {
+            if (this.leaders.peek().score >= score) {
+                return;
+            }
+            this.leadersByPage.remove(this.leaders.poll().pageId);
+        }
+
+        leader = new Leader(pageId, score);
+        this.leaders.offer(leader);
+        this.leadersByPage.put(pageId, leader);
+    }
+
+    private void scale(double factor) {
+        // every score shrinks by the same factor, so the heap order still holds
+        this.sketch.scale(factor);
+        this.leaders.forEach(leader -> leader.score *= factor);
+    }
+
+    private double decayFactor(Duration elapsed) {
+        return Math.pow(0.5, (double) Math.max(elapsed.toMillis(), 0) / this.trending.getHalfLife().toMillis());
+    }
+
+    private static class Leader {
+
+        private final Integer pageId;
+        private double score;
+
+        private Leader(Integer pageId, double score) {
+            this.pageId = pageId;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.godev.linkhubservice.domain.enums.PageViewGranularity;
+import com.godev.linkhubservice.domain.repository.PageViewRepository;
+import com.godev.linkhubservice.domain.sketches.Hashing;
+import com.godev.linkhubservice.domain.sketches.HyperLogLog;
+import com.godev.linkhubservice.domain.vo.PageViewKey;
+import com.godev.linkhubservice.services.PageViewVisitorService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@Slf4j
+public class PageViewVisitorServiceImpl implements PageViewVisitorService {
+
+    private final PageViewRepository pageViewRepository;
+    private final ConcurrentHashMap<PageViewKey, HyperLogLog> sketches = new ConcurrentHashMap<>();
+
+    public PageViewVisitorServiceImpl(PageViewRepository pageViewRepository) {
+        this.pageViewRepository = pageViewRepository;
+    }
+
+    @Override
+    public void offer(Integer pageId, OffsetDateTime moment, String visitor) {
+        var key = new PageViewKey(pageId, PageViewGranularity.DAY, PageViewGranularity.DAY.truncate(moment));
+        var hash = Hashing.hash64(visitor);
+
+        this.sketches.compute(key, (k, sketch) -> {
+            var current = sketch == null ? new HyperLogLog() : sketch;
+            current.offer(hash);
+            return current;
+        });
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "#{@pageViewProperties.flushInterval.toMillis()}")
+    public synchronized void flush() {
+        Map<PageViewKey, HyperLogLog> drained = new HashMap<>();
+
+        // removing under the map lock means no visitor can land on a sketch after it was taken
+        this.sketches.keySet().forEach(key -> {
+            var sketch = this.sketches.remove(key);
+            if (sketch != null) {
+                drained.put(key, sketch);
+            }
+        });
+
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        log.info("Flushing {} unique visitor sketches", drained.size());
+
+        try {
+            this.pageViewRepository.mergeVisitors(drained);
+        } catch (RuntimeException e) {
+            log.error("Flush of unique visitor sketches failed, keeping them in memory", e);
+            drained.forEach((key, sketch) -> this.sketches.merge(key, sketch, HyperLogLog::merge));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        log.info("Flushing unique visitor sketches before shutdown");
+        this.flush();
+    }
+}
@@ -0,0 +1,175 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.godev.linkhubservice.domain.exceptions.Issue;
+import com.godev.linkhubservice.domain.exceptions.ObjectNotFoundException;
+import com.godev.linkhubservice.domain.vo.PublicPageResponse;
+import com.godev.linkhubservice.properties.PageProperties;
+import com.godev.linkhubservice.services.PublicPageCacheService;
+import com.godev.linkhubservice.services.PublicPageSnapshotService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+@Service
+@Slf4j
+public class PublicPageCacheServiceImpl implements PublicPageCacheService {
+
+    private final PublicPageSnapshotService publicPageSnapshotService;
+    private final PageProperties.PublicCache properties;
+    private final ConcurrentHashMap<Integer, String> slugs = new ConcurrentHashMap<>();
+    private final Cache<String, Entry> pages;
+    private final Cache<Object, Long> evictions;
+
+    public PublicPageCacheServiceImpl(PublicPageSnapshotService publicPageSnapshotService, PageProperties pageProperties,
+                                      MeterRegistry meterRegistry) {
+        this.publicPageSnapshotService = publicPageSnapshotService;
+        this.properties = pageProperties.getPublicCache();
+
+        // maintenance runs on the calling thread, so a full cache is trimmed before the next read instead of later
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(this.properties.getMaxSize())
+                .expireAfter(new EntryExpiry())
+                .executor(Runnable::run)
+                .evictionListener((String slug, Entry entry, RemovalCause cause) -> {
+                    if (entry != null && entry.page() != null) {
+                        this.slugs.remove(entry.page().getId(), slug);
+                    }
+                })
+                .build();
+
+        // only needs to outlive the slowest load, a page id or slug evicted longer ago than that is never compared
+        this.evictions = Caffeine.newBuilder()
+                .expireAfterWrite(this.properties.getTtl())
+                .executor(Runnable::run)
+                .build();
+
+        Gauge.builder("page.public.cached", this.pages, Cache::estimatedSize)
+                .description("Public pages served without asking the database")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public PublicPageResponse find(String slug, Function<String, PublicPageResponse> loader) {
+        var loaded = new Entry[1];
+
+        // concurrent readers of the same slug wait for a single load instead of all reaching the database
+        var entry = this.pages.get(slug, key -> {
+            var started = System.nanoTime();
+            loaded[0] = this.load(key, loader);
+
+            // an eviction while the page was being read may have made it stale already, so it is served but not kept
+            return this.evictedSince(key, loaded[0], started) ? null : loaded[0];
+        });
+
+        if (entry == null) {
+            entry = loaded[0];
+        } else if (entry == loaded[0] && entry.page() != null) {
+            var previous = this.slugs.put(entry.page().getId(), slug);
+
+            if (previous != null && !previous.equals(slug)) {
+                this.pages.invalidate(previous);
+            }
+        }
+
+        if (entry.missing() != null) {
+            throw new ObjectNotFoundException(entry.missing());
+        }
+        return entry.page();
+    }
+
+    @Override
+    public void evictPage(Integer pageId) {
+        this.evictPageNow(pageId);
+
+        // a reader between the write and its commit can still load the old page, so it is dropped again afterwards
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    PublicPageCacheServiceImpl.this.evictPageNow(pageId);
+                    PublicPageCacheServiceImpl.this.publicPageSnapshotService.schedule(pageId);
+                }
+            });
+        } else {
+            this.publicPageSnapshotService.schedule(pageId);
+        }
+    }
+
+    @Override
+    public void evictSlug(String slug) {
+        this.evictSlugNow(slug);
+
+        // a slug that was not found is kept for a while, a page created or renamed to it is found again after commit
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    PublicPageCacheServiceImpl.this.evictSlugNow(slug);
+                }
+            });
+        }
+    }
+
+    private Entry load(String slug, Function<String, PublicPageResponse> loader) {
+        try {
+            return new Entry(loader.apply(slug), null);
+        } catch (ObjectNotFoundException exception) {
+            return new Entry(null, exception.getIssue());
+        }
+    }
+
+    private boolean evictedSince(String slug, Entry entry, long started) {
+        var evictedAt = entry.page() == null
+                ? this.evictions.getIfPresent(slug)
+                : this.evictions.getIfPresent(entry.page().getId());
+
+        return evictedAt != null && evictedAt - started >= 0;
+    }
+
+    private void evictPageNow(Integer pageId) {
+        this.evictions.put(pageId, System.nanoTime());
+
+        var slug = this.slugs.remove(pageId);
+
+        if (slug != null) {
+            this.pages.invalidate(slug);
+        }
+    }
+
+    private void evictSlugNow(String slug) {
+        this.evictions.put(slug, System.nanoTime());
+        this.pages.invalidate(slug);
+    }
+
+    private record Entry(PublicPageResponse page, Issue missing) {
+    }
+
+    private class EntryExpiry implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(String slug, Entry entry, long currentTime) {
+            var ttl = entry.page() == null ? properties.getMissTtl() : properties.getTtl();
+            return ttl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String slug, Entry entry, long currentTime, long currentDuration) {
+            return this.expireAfterCreate(slug, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String slug, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
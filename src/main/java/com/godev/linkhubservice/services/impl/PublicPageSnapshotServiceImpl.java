@@ -0,0 +1,272 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.godev.linkhubservice.domain.repository.PageRepository;
+import com.godev.linkhubservice.domain.vo.PublicPageResponse;
+import com.godev.linkhubservice.domain.vo.PublicPageRow;
+import com.godev.linkhubservice.properties.PageProperties;
+import com.godev.linkhubservice.services.PublicPageSnapshotService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class PublicPageSnapshotServiceImpl implements PublicPageSnapshotService {
+
+    private static final String SNAPSHOT_SUFFIX = ".json";
+    private static final String LOCK_FILE = "owner.lock";
+
+    private final PageRepository pageRepository;
+    private final ObjectMapper objectMapper;
+    private final PageProperties.Snapshots properties;
+    private final Set<Integer> pending = ConcurrentHashMap.newKeySet();
+    private final Map<String, Snapshot> files = new ConcurrentHashMap<>();
+    private final Map<Integer, Snapshot> snapshots = new HashMap<>();
+    private final Map<Integer, OffsetDateTime> revisions = new ConcurrentHashMap<>();
+    private final Queue<Retired> retired = new ConcurrentLinkedQueue<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private Path directory;
+    private FileChannel lock;
+    private OffsetDateTime watermark;
+
+    public PublicPageSnapshotServiceImpl(PageRepository pageRepository, ObjectMapper objectMapper,
+                                         PageProperties pageProperties, MeterRegistry meterRegistry) {
+        this.pageRepository = pageRepository;
+        this.objectMapper = objectMapper;
+        this.properties = pageProperties.getSnapshots();
+
+        Gauge.builder("page.snapshots.files", this.files, Map::size)
+                .description("Public pages served straight from a snapshot file")
+                .register(meterRegistry);
+        Gauge.builder("page.snapshots.pending", this.pending, Set::size)
+                .description("Public pages waiting for their snapshot to be rebuilt")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public synchronized void open() throws IOException {
+        if (StringUtils.isBlank(this.properties.getPath())) {
+            return;
+        }
+
+        var base = Files.createDirectories(Path.of(this.properties.getPath()));
+        this.deleteAbandoned(base);
+
+        // every process writes to a directory of its own, so instances sharing the path never touch each other's files;
+        // it only gets its visible name once locked, so no other process can take it for abandoned
+        var name = UUID.randomUUID().toString();
+        var hidden = Files.createDirectory(base.resolve("." + name));
+        this.lock = FileChannel.open(hidden.resolve(LOCK_FILE), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        this.lock.lock();
+        this.directory = Files.move(hidden, base.resolve(name), StandardCopyOption.ATOMIC_MOVE);
+
+        log.info("Opened public page snapshot store {}", this.directory);
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (this.directory == null) {
+            return;
+        }
+
+        this.files.clear();
+        this.lock.close();
+        deleteTree(this.directory);
+        this.directory = null;
+    }
+
+    @Override
+    public Optional<Path> find(String slug) {
+        var snapshot = this.files.get(slug);
+
+        if (snapshot == null) {
+            return Optional.empty();
+        }
+
+        // the same bound as the cache, a change the refresh did not see is written again on the next visit
+        if (System.nanoTime() - snapshot.writtenAt() > this.properties.getTtl().toNanos()) {
+            this.schedule(snapshot.pageId());
+            return Optional.empty();
+        }
+        return Optional.of(snapshot.path());
+    }
+
+    @Override
+    public void schedule(Integer pageId) {
+        if (this.directory != null) {
+            this.pending.add(pageId);
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "#{@pageProperties.snapshots.refreshInterval.toMillis()}")
+    public synchronized void refresh() {
+        if (this.directory == null) {
+            return;
+        }
+
+        // the first run reads every page, later ones only what changed since, edits on other instances included;
+        // the overlap catches transactions that committed after a later one was already seen
+        var revisions = this.watermark == null
+                ? this.pageRepository.findRevisions()
+                : this.pageRepository.findRevisionsUpdatedSince(this.watermark.minus(this.properties.getRefreshOverlap()));
+        var changed = 0;
+
+        for (var revision : revisions) {
+            var previous = this.revisions.put(revision.id(), revision.updatedAt());
+
+            if (previous == null || !previous.isEqual(revision.updatedAt())) {
+                this.pending.add(revision.id());
+                changed++;
+            }
+            if (this.watermark == null || revision.updatedAt().isAfter(this.watermark)) {
+                this.watermark = revision.updatedAt();
+            }
+        }
+
+        if (changed > 0) {
+            log.info("Scheduled snapshots of {} changed public pages to be written again", changed);
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "#{@pageProperties.snapshots.rebuildInterval.toMillis()}")
+    public synchronized void rebuild() {
+        if (this.directory == null) {
+            return;
+        }
+
+        this.deleteRetired();
+
+        while (!this.pending.isEmpty()) {
+            List<Integer> batch = new ArrayList<>();
+
+            for (var iterator = this.pending.iterator(); iterator.hasNext() && batch.size() < this.properties.getBatchSize(); ) {
+                batch.add(iterator.next());
+                iterator.remove();
+            }
+
+            try {
+                Map<Integer, List<PublicPageRow>> rows = this.pageRepository.findPublicPageRowsByIds(batch).stream()
+                        .collect(Collectors.groupingBy(PublicPageRow::id, LinkedHashMap::new, Collectors.toList()));
+
+                for (var pageId : batch) {
+                    var pageRows = rows.get(pageId);
+                    this.write(pageId, pageRows == null ? null : PublicPageResponse.from(pageRows));
+                }
+            } catch (IOException | RuntimeException e) {
+                log.error("Writing snapshots of {} public pages failed, trying again later", batch.size(), e);
+                this.pending.addAll(batch);
+                return;
+            }
+        }
+    }
+
+    private void write(Integer pageId, PublicPageResponse page) throws IOException {
+        var previous = this.snapshots.remove(pageId);
+
+        if (page != null) {
+            // a new name per write, so a file being sent to a visitor is never rewritten under them;
+            // the file is only handed out once complete, so it is written in place
+            var path = this.directory.resolve(String.format("%020d%s", this.sequence.getAndIncrement(), SNAPSHOT_SUFFIX));
+
+            Files.write(path, this.objectMapper.writeValueAsBytes(page), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+
+            var snapshot = new Snapshot(pageId, page.getSlug(), path, System.nanoTime());
+
+            this.files.put(page.getSlug(), snapshot);
+            this.snapshots.put(pageId, snapshot);
+        } else {
+            this.revisions.remove(pageId);
+        }
+
+        if (previous != null) {
+            if (page == null || !previous.slug().equals(page.getSlug())) {
+                this.files.remove(previous.slug(), previous);
+            }
+            this.retired.add(new Retired(previous.path(), System.nanoTime()));
+        }
+    }
+
+    private void deleteRetired() {
+        var deadline = System.nanoTime() - this.properties.getRetention().toNanos();
+        Retired file;
+
+        while ((file = this.retired.peek()) != null && file.retiredAt() - deadline < 0) {
+            this.retired.poll();
+
+            try {
+                Files.deleteIfExists(file.path());
+            } catch (IOException e) {
+                log.warn("Could not delete the old snapshot {}", file.path(), e);
+            }
+        }
+    }
+
+    // a directory whose lock nobody holds belonged to a process that is gone
+    private void deleteAbandoned(Path base) throws IOException {
+        List<Path> directories;
+        try (var paths = Files.list(base)) {
+            directories = paths
+                    .filter(path -> !path.getFileName().toString().startsWith("."))
+                    .filter(path -> Files.isRegularFile(path.resolve(LOCK_FILE)))
+                    .toList();
+        }
+
+        for (var directory : directories) {
+            try (var channel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.WRITE)) {
+                if (channel.tryLock() == null) {
+                    continue;
+                }
+            } catch (OverlappingFileLockException e) {
+                continue;
+            }
+
+            log.info("Deleting public page snapshots abandoned in {}", directory);
+            deleteTree(directory);
+        }
+    }
+
+    private static void deleteTree(Path directory) throws IOException {
+        try (var paths = Files.walk(directory)) {
+            for (var path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private record Snapshot(Integer pageId, String slug, Path path, long writtenAt) {
+    }
+
+    private record Retired(Path path, long retiredAt) {
+    }
+}
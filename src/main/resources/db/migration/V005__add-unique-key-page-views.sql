@@ -0,0 +1,11 @@
+UPDATE page_views pv
+    JOIN (SELECT MIN(id) AS id, SUM(total) AS total
+          FROM page_views
+          GROUP BY page_id, date
+          HAVING COUNT(*) > 1) duplicated ON duplicated.id = pv.id
+    SET pv.total = duplicated.total;
+
+DELETE pv FROM page_views pv
+    JOIN page_views kept ON kept.page_id = pv.page_id AND kept.date = pv.date AND kept.id < pv.id;
+
+ALTER TABLE page_views ADD CONSTRAINT uk_page_views_page_date UNIQUE (page_id, date);
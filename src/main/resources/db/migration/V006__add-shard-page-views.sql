@@ -0,0 +1,4 @@
+ALTER TABLE page_views
+    ADD COLUMN shard TINYINT NOT NULL DEFAULT 0,
+    ADD CONSTRAINT uk_page_views_page_date_shard UNIQUE (page_id, date, shard),
+    DROP INDEX uk_page_views_page_date;
@@ -0,0 +1,4 @@
+ALTER TABLE page_views
+    ADD COLUMN granularity VARCHAR(5) NOT NULL DEFAULT 'DAY',
+    ADD CONSTRAINT uk_page_views_page_granularity_date_shard UNIQUE (page_id, granularity, date, shard),
+    DROP INDEX uk_page_views_page_date_shard;
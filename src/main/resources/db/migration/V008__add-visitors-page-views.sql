@@ -0,0 +1 @@
+ALTER TABLE page_views ADD COLUMN visitors VARBINARY(1024) NULL;
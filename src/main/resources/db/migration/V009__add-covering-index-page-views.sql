@@ -0,0 +1 @@
+CREATE INDEX idx_page_views_page_date_total ON page_views (page_id, date, granularity, total);
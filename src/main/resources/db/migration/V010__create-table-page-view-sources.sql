@@ -0,0 +1,22 @@
+CREATE TABLE view_dimensions (
+    id INTEGER(11) NOT NULL AUTO_INCREMENT,
+    dimension VARCHAR(12) NOT NULL,
+    value VARCHAR(100) NOT NULL,
+
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_view_dimensions_dimension_value (dimension, value)
+
+) ENGINE=InnoDB DEFAULT CHARSET=utf8;
+
+CREATE TABLE page_view_sources (
+    page_id INTEGER(11) NOT NULL,
+    date DATETIME NOT NULL,
+    dimension_id INTEGER(11) NOT NULL,
+    total BIGINT NOT NULL DEFAULT 0,
+
+    PRIMARY KEY (page_id, date, dimension_id)
+
+) ENGINE=InnoDB DEFAULT CHARSET=utf8;
+
+ALTER TABLE page_view_sources ADD CONSTRAINT fk_page_view_sources_page FOREIGN KEY(page_id) REFERENCES pages(id) ON DELETE CASCADE;
+ALTER TABLE page_view_sources ADD CONSTRAINT fk_page_view_sources_dimension FOREIGN KEY(dimension_id) REFERENCES view_dimensions(id);
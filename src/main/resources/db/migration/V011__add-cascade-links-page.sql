@@ -0,0 +1,5 @@
+ALTER TABLE links DROP FOREIGN KEY fk_page_id;
+
+ALTER TABLE links
+    ADD CONSTRAINT fk_links_page FOREIGN KEY (page_id) REFERENCES pages (id) ON DELETE CASCADE,
+    ADD INDEX idx_links_page_order (page_id, link_order);
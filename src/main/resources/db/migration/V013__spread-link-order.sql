@@ -0,0 +1,4 @@
+UPDATE links l
+    JOIN (SELECT id, ROW_NUMBER() OVER (PARTITION BY page_id ORDER BY link_order, id) AS position FROM links) r
+        ON r.id = l.id
+SET l.link_order = r.position * 1024;
@@ -0,0 +1,2 @@
+ALTER TABLE links ADD COLUMN check_status INTEGER(3) NULL;
+ALTER TABLE links ADD COLUMN checked_at DATETIME NULL;
@@ -0,0 +1,13 @@
+CREATE TABLE link_clicks (
+   link_id INTEGER(11) NOT NULL,
+   page_id INTEGER(11) NOT NULL,
+   date DATETIME NOT NULL,
+   total BIGINT NOT NULL DEFAULT 0,
+
+   PRIMARY KEY (link_id, date),
+   INDEX idx_link_clicks_page_date (page_id, date)
+
+) ENGINE=InnoDB DEFAULT CHARSET=utf8;
+
+ALTER TABLE link_clicks ADD CONSTRAINT fk_link_clicks_link FOREIGN KEY(link_id) REFERENCES links(id) ON DELETE CASCADE;
+ALTER TABLE link_clicks ADD CONSTRAINT fk_link_clicks_page FOREIGN KEY(page_id) REFERENCES pages(id) ON DELETE CASCADE;
@@ -0,0 +1,4 @@
+ALTER TABLE links ADD COLUMN active_from DATETIME NULL;
+ALTER TABLE links ADD COLUMN active_until DATETIME NULL;
+ALTER TABLE links ADD COLUMN next_transition_at DATETIME NULL;
+CREATE INDEX idx_links_next_transition_at ON links (next_transition_at);
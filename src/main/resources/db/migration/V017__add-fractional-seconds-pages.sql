@@ -0,0 +1,2 @@
+ALTER TABLE pages MODIFY COLUMN created_at DATETIME(6) NOT NULL;
+ALTER TABLE pages MODIFY COLUMN updated_at DATETIME(6) NOT NULL;
@@ -0,0 +1 @@
+CREATE INDEX idx_pages_updated_at ON pages (updated_at);
@@ -0,0 +1,2 @@
+ALTER TABLE view_dimensions CONVERT TO CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci;
+ALTER TABLE page_view_sources CONVERT TO CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci;
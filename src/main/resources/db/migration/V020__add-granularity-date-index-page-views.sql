@@ -0,0 +1 @@
+CREATE INDEX idx_page_views_granularity_date_page ON page_views (granularity, date, page_id);
@@ -0,0 +1,289 @@
+package com.godev.linkhubservice.domain.repository;
+
+import com.godev.linkhubservice.domain.models.Link;
+import com.godev.linkhubservice.domain.models.Page;
+import com.godev.linkhubservice.domain.vo.LinkCheck;
+import com.godev.linkhubservice.domain.vo.LinkCheckResult;
+import com.godev.linkhubservice.domain.vo.LinkClickKey;
+import com.godev.linkhubservice.helpers.AccountMockBuilder;
+import com.godev.linkhubservice.helpers.LinkMockBuilder;
+import com.godev.linkhubservice.helpers.PageMockBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static com.godev.linkhubservice.domain.constants.DatabaseValuesConstants.LINK_ORDER_GAP;
+
+@SpringBootTest
+@Slf4j
+class LinkRepositoryTest {
+
+    private static final int LINKS = 200;
+    private static final int BENCHMARK_LINKS = 5_000;
+
+    @Autowired
+    private LinkRepository linkRepository;
+
+    @Autowired
+    private PageRepository pageRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Page page;
+
+    @BeforeEach
+    void setup(){
+        final var suffix = UUID.randomUUID().toString().substring(0, 8);
+        final var account = AccountMockBuilder.getBuilder().mock().build();
+        account.setEmail(suffix + "@email.com");
+
+        this.page = PageMockBuilder.getBuilder().mock().build();
+        this.page.setSlug("links-" + suffix);
+        this.page.setAccount(this.accountRepository.save(account));
+        this.page = this.pageRepository.save(this.page);
+    }
+
+    @AfterEach
+    void cleanup(){
+        this.pageRepository.delete(this.page);
+        this.accountRepository.delete(this.page.getAccount());
+    }
+
+    @Test
+    @DisplayName("Should move every link of the page to its new position with one statement")
+    void reorderInOneStatement(){
+        //arrange
+        final var ids = this.links();
+        final var reversed = new ArrayList<>(ids);
+        Collections.reverse(reversed);
+
+        //action
+        final var start = System.nanoTime();
+        final var updated = this.linkRepository.reorder(this.page.getId(), reversed);
+        final var bulkMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+        //assertions
+        Assertions.assertEquals(LINKS, updated);
+        Assertions.assertEquals(reversed, this.linkRepository.findByPage_IdOrderByLinkOrder(this.page.getId()).stream()
+                .map(Link::getId)
+                .toList());
+        Assertions.assertEquals((LINKS + 1) * LINK_ORDER_GAP, this.linkRepository.findNextOrder(this.page.getId()));
+
+        final var links = this.linkRepository.findByPage_IdOrderByLinkOrder(this.page.getId());
+        final var saveStart = System.nanoTime();
+        IntStream.range(0, links.size()).forEach(i -> {
+            links.get(i).setLinkOrder(links.size() - 1 - i);
+            this.linkRepository.save(links.get(i));
+        });
+        final var saveMillis = (System.nanoTime() - saveStart) / 1_000_000.0;
+
+        log.info("Reordering {} links took {} ms with one bulk update and {} ms with one save per link",
+                LINKS, String.format("%.1f", bulkMillis), String.format("%.1f", saveMillis));
+    }
+
+    @Test
+    @DisplayName("Should leave links of other pages untouched")
+    void reorderIgnoresOtherPages(){
+        //arrange
+        final var ids = this.links();
+
+        //action
+        final var updated = this.linkRepository.reorder(this.page.getId() + 1_000_000, ids);
+
+        //assertions
+        Assertions.assertEquals(0, updated);
+        Assertions.assertEquals(ids, this.linkRepository.findByPage_IdOrderByLinkOrder(this.page.getId()).stream()
+                .map(Link::getId)
+                .toList());
+    }
+
+    @Test
+    @DisplayName("Should move one link of a large page rewriting a single row instead of its neighbours")
+    void moveRewritesOneRow(){
+        //arrange
+        this.jdbcTemplate.batchUpdate("INSERT INTO links (status, link_order, title, href, page_id) VALUES (true, ?, ?, ?, ?)",
+                IntStream.range(0, BENCHMARK_LINKS)
+                        .mapToObj(i -> new Object[]{(i + 1) * LINK_ORDER_GAP, "Link " + i, "https://godev.com/" + i, this.page.getId()})
+                        .toList());
+        final var ids = this.linkRepository.findIdsByPageId(this.page.getId());
+        final var last = ids.stream().max(Integer::compare).orElseThrow();
+
+        //action
+        final var gapStart = System.nanoTime();
+        final var first = this.linkRepository.findFirstOrder(this.page.getId(), last);
+        final var gapRows = this.jdbcTemplate.update("UPDATE links SET link_order = ? WHERE id = ?", first - LINK_ORDER_GAP, last);
+        final var gapMillis = (System.nanoTime() - gapStart) / 1_000_000.0;
+
+        final var denseStart = System.nanoTime();
+        final var denseRows = this.jdbcTemplate.update("UPDATE links SET link_order = link_order + 1 WHERE page_id = ? AND id <> ?",
+                this.page.getId(), last) + this.jdbcTemplate.update("UPDATE links SET link_order = ? WHERE id = ?", 0, last);
+        final var denseMillis = (System.nanoTime() - denseStart) / 1_000_000.0;
+
+        //assertions
+        Assertions.assertEquals(1, gapRows);
+        Assertions.assertEquals(BENCHMARK_LINKS, denseRows);
+
+        log.info("Moving the last of {} links to the top took {} ms writing {} row with gaps and {} ms writing {} rows renumbering",
+                BENCHMARK_LINKS, String.format("%.1f", gapMillis), gapRows, String.format("%.1f", denseMillis), denseRows);
+    }
+
+    @Test
+    @DisplayName("Should spread the order of the links again keeping their sequence")
+    void renormalizeKeepsSequence(){
+        //arrange
+        final var ids = this.links();
+        final var reversed = new ArrayList<>(ids);
+        Collections.reverse(reversed);
+        IntStream.range(0, reversed.size()).forEach(i -> this.jdbcTemplate.update(
+                "UPDATE links SET link_order = ? WHERE id = ?", i / 2, reversed.get(i)));
+
+        //action
+        final var updated = this.linkRepository.renormalize(this.page.getId());
+
+        //assertions
+        final var links = this.linkRepository.findByPage_IdOrderByLinkOrder(this.page.getId());
+        Assertions.assertEquals(LINKS, updated);
+        Assertions.assertEquals(IntStream.rangeClosed(1, LINKS).mapToObj(i -> i * LINK_ORDER_GAP).toList(),
+                links.stream().map(Link::getLinkOrder).toList());
+        Assertions.assertEquals(reversed.stream()
+                        .sorted(Comparator.comparing((Integer id) -> reversed.indexOf(id) / 2).thenComparing(id -> id))
+                        .toList(),
+                links.stream().map(Link::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should count clicks of a link without losing them when the link is edited")
+    void clicksSurviveEdits(){
+        //arrange
+        final var link = LinkMockBuilder.getBuilder().mock().build();
+        link.setPage(this.page);
+        final var saved = this.linkRepository.save(link);
+
+        //action
+        final var day = OffsetDateTime.parse("2023-06-09T00:00:00Z");
+        this.linkRepository.incrementClicks(Map.of(new LinkClickKey(saved.getId(), day), 3L));
+        saved.setTitle("Github");
+        this.linkRepository.save(saved);
+        this.linkRepository.incrementClicks(Map.of(
+                new LinkClickKey(saved.getId(), day), 1L,
+                new LinkClickKey(saved.getId(), day.plusDays(1)), 1L));
+
+        //assertions
+        Assertions.assertEquals(5L, this.jdbcTemplate.queryForObject(
+                "SELECT clicks FROM links WHERE id = ?", Long.class, saved.getId()));
+        Assertions.assertEquals(List.of(4L, 1L), this.jdbcTemplate.queryForList(
+                "SELECT total FROM link_clicks WHERE link_id = ? ORDER BY date", Long.class, saved.getId()));
+        Assertions.assertEquals(this.page.getId(),
+                this.linkRepository.findActiveTargetById(saved.getId()).orElseThrow().pageId());
+    }
+
+    @Test
+    @DisplayName("Should page through links by id and keep their health check when they are edited")
+    void healthChecksSurviveEdits(){
+        //arrange
+        final var ids = this.links().subList(0, 3);
+        final var checkedAt = OffsetDateTime.parse("2023-06-09T10:15:30Z");
+
+        //action
+        final var targets = this.linkRepository.findCheckTargets(ids.get(0), 2);
+        this.linkRepository.updateChecks(List.of(new LinkCheckResult(ids.get(1), 404, checkedAt)));
+        final var link = this.linkRepository.findById(ids.get(1)).orElseThrow();
+        link.setTitle("Github");
+        this.linkRepository.save(link);
+
+        //assertions
+        Assertions.assertEquals(ids.subList(1, 3), targets.stream().map(LinkCheck::id).toList());
+        final var edited = this.linkRepository.findById(ids.get(1)).orElseThrow();
+        Assertions.assertEquals(404, edited.getCheckStatus());
+        Assertions.assertEquals(checkedAt.toInstant(), edited.getCheckedAt().toInstant());
+    }
+
+    @Test
+    @DisplayName("Should not find a target for an inactive link")
+    void inactiveLinkHasNoTarget(){
+        //arrange
+        final var link = LinkMockBuilder.getBuilder().mock().build();
+        link.setPage(this.page);
+        link.setStatus(Boolean.FALSE);
+
+        //action
+        final var saved = this.linkRepository.save(link);
+
+        //assertions
+        Assertions.assertTrue(this.linkRepository.findActiveTargetById(saved.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should switch on only the links still due and move them to their next transition")
+    void applyDueTransitions(){
+        //arrange
+        final var now = OffsetDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.SECONDS);
+        final var due = this.scheduledLink(now.minusMinutes(1), now.plusHours(1), now.minusMinutes(1));
+        final var moved = this.scheduledLink(now.plusHours(2), null, now.plusHours(2));
+        final Map<Integer, OffsetDateTime> loaded = new HashMap<>();
+        final var pageUpdatedAt = this.pageRepository.findById(this.page.getId()).orElseThrow().getUpdatedAt();
+
+        //action
+        final var transitions = this.linkRepository.applyTransitions(List.of(due.getId(), moved.getId()), now);
+        this.linkRepository.findTransitions(now, now.plusMinutes(90), (linkId, transitionAt) -> {
+            if (linkId.equals(due.getId()) || linkId.equals(moved.getId())) {
+                loaded.put(linkId, transitionAt);
+            }
+        });
+
+        //assertions
+        Assertions.assertEquals(1, transitions.size());
+        Assertions.assertEquals(due.getId(), transitions.get(0).id());
+        Assertions.assertEquals(this.page.getId(), transitions.get(0).pageId());
+        Assertions.assertEquals(now.plusHours(1).toInstant(), transitions.get(0).nextTransitionAt().toInstant());
+        Assertions.assertTrue(this.linkRepository.findById(due.getId()).orElseThrow().getStatus());
+        Assertions.assertFalse(this.linkRepository.findById(moved.getId()).orElseThrow().getStatus());
+        Assertions.assertEquals(Map.of(due.getId(), now.plusHours(1)), loaded);
+        Assertions.assertTrue(this.pageRepository.findById(this.page.getId()).orElseThrow().getUpdatedAt()
+                .isAfter(pageUpdatedAt));
+    }
+
+    private Link scheduledLink(OffsetDateTime activeFrom, OffsetDateTime activeUntil, OffsetDateTime nextTransitionAt) {
+        final var link = LinkMockBuilder.getBuilder().mock().build();
+        link.setPage(this.page);
+        link.setStatus(Boolean.FALSE);
+        link.setActiveFrom(activeFrom);
+        link.setActiveUntil(activeUntil);
+        link.setNextTransitionAt(nextTransitionAt);
+        return this.linkRepository.save(link);
+    }
+
+    private List<Integer> links() {
+        return IntStream.range(0, LINKS)
+                .mapToObj(i -> {
+                    final var link = LinkMockBuilder.getBuilder().mock().build();
+                    link.setTitle("Link " + i);
+                    link.setLinkOrder(i);
+                    link.setPage(this.page);
+                    return this.linkRepository.save(link).getId();
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,144 @@
+package com.godev.linkhubservice.domain.repository;
+
+import com.godev.linkhubservice.domain.models.Page;
+import com.godev.linkhubservice.domain.vo.PublicPageRow;
+import com.godev.linkhubservice.helpers.AccountMockBuilder;
+import com.godev.linkhubservice.helpers.LinkMockBuilder;
+import com.godev.linkhubservice.helpers.PageMockBuilder;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+@SpringBootTest
+@Slf4j
+class PageRepositoryTest {
+
+    private static final int LINKS = 10;
+
+    @Autowired
+    private PageRepository pageRepository;
+
+    @Autowired
+    private LinkRepository linkRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Page page;
+
+    @BeforeEach
+    void setup(){
+        final var suffix = UUID.randomUUID().toString().substring(0, 8);
+        final var account = AccountMockBuilder.getBuilder().mock().build();
+        account.setEmail(suffix + "@email.com");
+
+        this.page = PageMockBuilder.getBuilder().mock().build();
+        this.page.setSlug("public-" + suffix);
+        this.page.setAccount(this.accountRepository.save(account));
+        this.page = this.pageRepository.save(this.page);
+
+        this.statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void cleanup(){
+        this.statistics.setStatisticsEnabled(false);
+        this.pageRepository.delete(this.page);
+        this.accountRepository.delete(this.page.getAccount());
+    }
+
+    @Test
+    @DisplayName("Should read the page and its active links in order with a single statement")
+    void publicPageInOneStatement(){
+        //arrange
+        IntStream.range(0, LINKS).forEach(i -> {
+            final var link = LinkMockBuilder.getBuilder().mock().build();
+            link.setTitle("Link " + i);
+            link.setLinkOrder(LINKS - i);
+            link.setStatus(i != 0);
+            link.setPage(this.page);
+            this.linkRepository.save(link);
+        });
+
+        this.statistics.clear();
+        this.pageRepository.findBySlug(this.page.getSlug());
+        this.linkRepository.findByPage_IdOrderByLinkOrder(this.page.getId());
+        final var entityStatements = this.statistics.getPrepareStatementCount();
+
+        //action
+        this.statistics.clear();
+        final var rows = this.pageRepository.findPublicPageRows(this.page.getSlug());
+        final var aggregateStatements = this.statistics.getPrepareStatementCount();
+
+        //assertions
+        Assertions.assertEquals(1, aggregateStatements);
+        Assertions.assertEquals(LINKS - 1, rows.size());
+        Assertions.assertEquals(IntStream.range(1, LINKS).map(i -> LINKS - i).mapToObj(i -> "Link " + i).toList(),
+                rows.stream().map(PublicPageRow::linkTitle).toList());
+        Assertions.assertTrue(rows.stream().allMatch(row -> this.page.getSlug().equals(row.slug())));
+
+        log.info("Reading a page with {} links took {} statements through the entities and {} through the aggregate",
+                LINKS, entityStatements, aggregateStatements);
+    }
+
+    @Test
+    @DisplayName("Should read a page without active links as a single row without link")
+    void publicPageWithoutLinks(){
+        //arrange
+        final var link = LinkMockBuilder.getBuilder().mock().build();
+        link.setStatus(Boolean.FALSE);
+        link.setPage(this.page);
+        this.linkRepository.save(link);
+
+        //action
+        final var rows = this.pageRepository.findPublicPageRows(this.page.getSlug());
+
+        //assertions
+        Assertions.assertEquals(1, rows.size());
+        Assertions.assertNull(rows.get(0).linkId());
+        Assertions.assertEquals(this.page.getTitle(), rows.get(0).title());
+    }
+
+    @Test
+    @DisplayName("Should read the page version with one small statement and no entity loaded")
+    void pageVersionInOneStatement(){
+        //arrange
+        final var updatedAt = OffsetDateTime.parse("2023-06-09T13:45:00.000123Z");
+        this.page.setUpdatedAt(updatedAt);
+        this.page = this.pageRepository.save(this.page);
+
+        //action
+        this.statistics.clear();
+        final var version = this.pageRepository.findVersionById(this.page.getId()).orElseThrow();
+        final var statements = this.statistics.getPrepareStatementCount();
+        final var entityLoads = this.statistics.getEntityLoadCount();
+        final var listVersion = this.pageRepository.findVersionByAccountEmail(this.page.getAccount().getEmail());
+        final var stored = this.pageRepository.findById(this.page.getId()).orElseThrow().getUpdatedAt();
+
+        //assertions
+        Assertions.assertEquals(1, statements);
+        Assertions.assertEquals(0, entityLoads);
+        Assertions.assertEquals(this.page.getAccount().getEmail(), version.email());
+        Assertions.assertEquals(stored.toInstant(), version.updatedAt().toInstant());
+        Assertions.assertEquals(1L, listVersion.count());
+        Assertions.assertEquals(stored.toInstant(), listVersion.updatedAt().toInstant());
+    }
+}
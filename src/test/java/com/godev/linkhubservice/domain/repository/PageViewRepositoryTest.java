@@ -0,0 +1,457 @@
+package com.godev.linkhubservice.domain.repository;
+
+import com.godev.linkhubservice.domain.enums.PageViewDimension;
+import com.godev.linkhubservice.domain.enums.PageViewGranularity;
+import com.godev.linkhubservice.domain.enums.PageViewSeriesGranularity;
+import com.godev.linkhubservice.domain.models.Link;
+import com.godev.linkhubservice.domain.models.Page;
+import com.godev.linkhubservice.domain.models.PageView;
+import com.godev.linkhubservice.domain.models.ViewDimension;
+import com.godev.linkhubservice.domain.sketches.Hashing;
+import com.godev.linkhubservice.domain.sketches.HyperLogLog;
+import com.godev.linkhubservice.domain.vo.LinkClickKey;
+import com.godev.linkhubservice.domain.vo.LinkClickThroughRate;
+import com.godev.linkhubservice.domain.vo.PageViewKey;
+import com.godev.linkhubservice.domain.vo.PageViewPoint;
+import com.godev.linkhubservice.domain.vo.PageViewRow;
+import com.godev.linkhubservice.domain.vo.PageViewSourceKey;
+import com.godev.linkhubservice.domain.vo.PageViewSourceTotal;
+import com.godev.linkhubservice.helpers.AccountMockBuilder;
+import com.godev.linkhubservice.helpers.LinkMockBuilder;
+import com.godev.linkhubservice.helpers.PageMockBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+@SpringBootTest
+@Slf4j
+class PageViewRepositoryTest {
+
+    private static final int THREADS = 16;
+    private static final int INCREMENTS_PER_THREAD = 100;
+
+    @Autowired
+    private PageViewRepository pageViewRepository;
+
+    @Autowired
+    private PageRepository pageRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ViewDimensionRepository viewDimensionRepository;
+
+    @Autowired
+    private LinkRepository linkRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Page page;
+
+    private final OffsetDateTime date = OffsetDateTime.parse("2023-06-09T00:00:00Z");
+
+    @BeforeEach
+    void setup(){
+        final var suffix = UUID.randomUUID().toString().substring(0, 8);
+        final var account = AccountMockBuilder.getBuilder().mock().build();
+        account.setEmail(suffix + "@email.com");
+
+        this.page = PageMockBuilder.getBuilder().mock().build();
+        this.page.setSlug("views-" + suffix);
+        this.page.setAccount(this.accountRepository.save(account));
+        this.page = this.pageRepository.save(this.page);
+    }
+
+    @AfterEach
+    void cleanup(){
+        this.jdbcTemplate.update("DELETE FROM page_views WHERE page_id = ?", this.page.getId());
+        this.jdbcTemplate.update("DELETE FROM page_view_sources WHERE page_id = ?", this.page.getId());
+        this.pageRepository.delete(this.page);
+        this.accountRepository.delete(this.page.getAccount());
+    }
+
+    @Test
+    @DisplayName("Should count every concurrent increment exactly once using the upsert path")
+    void concurrentUpsertIsExact() throws InterruptedException {
+        //action
+        final var elapsed = this.hammer(() ->
+                this.pageViewRepository.incrementTotal(this.key(), 0, 1));
+
+        //assertions
+        final var expected = THREADS * INCREMENTS_PER_THREAD;
+        Assertions.assertEquals(expected, this.hourTotal());
+        log.info("Upsert path: {} increments in {} ms ({} increments/s)",
+                expected, elapsed, expected * 1000L / Math.max(elapsed, 1));
+    }
+
+    @Test
+    @DisplayName("Should report lost updates and throughput of the entity read-modify-write path")
+    void concurrentEntityPathBaseline() throws InterruptedException {
+        //arrange
+        final var failures = new AtomicInteger();
+
+        //action
+        final var elapsed = this.hammer(() -> {
+            try {
+                var pageView = this.pageViewRepository.findByPageIdAndGranularityAndDateAndShard(this.page,
+                                PageViewGranularity.HOUR, this.date, 0)
+                        .orElse(PageView.builder().withTotal(0).withDate(this.date).withPageId(this.page).build());
+                pageView.setTotal(pageView.getTotal() + 1);
+                this.pageViewRepository.save(pageView);
+            } catch (RuntimeException e) {
+                failures.incrementAndGet();
+            }
+        });
+
+        //assertions
+        final var expected = THREADS * INCREMENTS_PER_THREAD;
+        final var total = this.hourTotal();
+        Assertions.assertTrue(total <= expected);
+        log.info("Entity path: {} of {} increments kept, {} failed, in {} ms ({} increments/s)",
+                total, expected, failures.get(), elapsed, expected * 1000L / Math.max(elapsed, 1));
+    }
+
+    @Test
+    @DisplayName("Should sum every shard row when reading the day total")
+    void shardedIncrementsAreSummed() throws InterruptedException {
+        //action
+        final var elapsed = this.hammer(() -> this.pageViewRepository.incrementTotal(this.key(),
+                ThreadLocalRandom.current().nextInt(8), 1));
+
+        //assertions
+        final var expected = THREADS * INCREMENTS_PER_THREAD;
+        Assertions.assertEquals(expected, this.hourTotal());
+        log.info("Sharded upsert path: {} increments in {} ms ({} increments/s)",
+                expected, elapsed, expected * 1000L / Math.max(elapsed, 1));
+    }
+
+    @Test
+    @DisplayName("Should roll hourly rows up into one daily row, read ranges from the coarsest covering tier and reject ranges splitting it")
+    void compactHoursIntoDay(){
+        //arrange
+        this.pageViewRepository.incrementTotal(this.key(PageViewGranularity.HOUR, this.date.plusHours(1)), 0, 2);
+        this.pageViewRepository.incrementTotal(this.key(PageViewGranularity.HOUR, this.date.plusHours(1)), 3, 1);
+        this.pageViewRepository.incrementTotal(this.key(PageViewGranularity.HOUR, this.date.plusHours(23)), 0, 4);
+        this.pageViewRepository.incrementTotal(this.key(PageViewGranularity.HOUR, this.date.plusDays(1)), 0, 5);
+        this.pageViewRepository.incrementTotal(this.key(PageViewGranularity.DAY, this.date), 0, 10);
+
+        //action
+        final var removed = this.pageViewRepository.compact(PageViewGranularity.HOUR, PageViewGranularity.DAY, this.date, 100);
+
+        //assertions
+        Assertions.assertEquals(3, removed);
+        Assertions.assertEquals(Optional.of(this.date.plusDays(1)),
+                this.pageViewRepository.findOldestBucket(PageViewGranularity.HOUR, this.date.plusDays(2)));
+        Assertions.assertEquals(17, this.pageViewRepository.sumTotals(this.page.getId(), this.date, this.date.plusDays(1)));
+        Assertions.assertEquals(22, this.pageViewRepository.sumTotals(this.page.getId(), this.date.minusHours(3),
+                this.date.plusDays(1).plusHours(2)));
+        Assertions.assertThrows(InvalidDataAccessApiUsageException.class, () -> this.pageViewRepository.sumTotals(
+                this.page.getId(), this.date.plusHours(1), this.date.plusHours(2)));
+        Assertions.assertEquals(2, this.jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM page_views WHERE page_id = ?", Integer.class, this.page.getId()));
+    }
+
+    @Test
+    @DisplayName("Should compact every page of the bucket when pages are taken a batch at a time")
+    void compactPagesInBatches(){
+        //arrange
+        final var other = PageMockBuilder.getBuilder().mock().build();
+        other.setSlug("views-other-" + UUID.randomUUID().toString().substring(0, 8));
+        other.setAccount(this.page.getAccount());
+        final var otherPage = this.pageRepository.save(other);
+        final var otherKey = new PageViewKey(otherPage.getId(), PageViewGranularity.HOUR, this.date.plusHours(4));
+
+        this.pageViewRepository.incrementTotal(this.key(PageViewGranularity.HOUR, this.date.plusHours(1)), 0, 2);
+        this.pageViewRepository.incrementTotal(this.key(PageViewGranularity.HOUR, this.date.plusHours(2)), 0, 3);
+        this.pageViewRepository.incrementTotal(otherKey, 0, 8);
+
+        //action
+        final var removed = this.pageViewRepository.compact(PageViewGranularity.HOUR, PageViewGranularity.DAY, this.date, 1);
+
+        //assertions
+        Assertions.assertEquals(3, removed);
+        Assertions.assertEquals(5, this.pageViewRepository.sumTotals(this.page.getId(), this.date, this.date.plusDays(1)));
+        Assertions.assertEquals(8, this.pageViewRepository.sumTotals(otherPage.getId(), this.date, this.date.plusDays(1)));
+
+        this.jdbcTemplate.update("DELETE FROM page_views WHERE page_id = ?", otherPage.getId());
+        this.pageRepository.delete(otherPage);
+    }
+
+    @Test
+    @DisplayName("Should merge visitor sketches into the day row and union days and months when reading a range")
+    void visitorSketchesAreMerged(){
+        //arrange
+        final var firstDay = this.sketch(0, 600);
+        final var secondDay = this.sketch(300, 900);
+        final var nextMonth = this.date.plusMonths(1);
+
+        this.pageViewRepository.mergeVisitors(Map.of(this.key(PageViewGranularity.DAY, this.date), this.sketch(0, 200)));
+        this.pageViewRepository.mergeVisitors(Map.of(this.key(PageViewGranularity.DAY, this.date), firstDay));
+        this.pageViewRepository.mergeVisitors(Map.of(this.key(PageViewGranularity.DAY, this.date.plusDays(1)), secondDay));
+        this.pageViewRepository.incrementTotal(this.key(PageViewGranularity.DAY, this.date), 0, 7);
+
+        //action
+        final var removed = this.pageViewRepository.compact(PageViewGranularity.DAY, PageViewGranularity.MONTH,
+                PageViewGranularity.MONTH.truncate(this.date), 100);
+        this.pageViewRepository.mergeVisitors(Map.of(this.key(PageViewGranularity.DAY, nextMonth), this.sketch(800, 1000)));
+
+        //assertions
+        Assertions.assertEquals(2, removed);
+        Assertions.assertEquals(7, this.pageViewRepository.sumTotals(this.page.getId(),
+                PageViewGranularity.MONTH.truncate(this.date), nextMonth.withDayOfMonth(1)));
+        Assertions.assertEquals(new HyperLogLog().merge(firstDay).merge(secondDay), this.pageViewRepository.findVisitors(
+                this.page.getId(), PageViewGranularity.MONTH.truncate(this.date), nextMonth.withDayOfMonth(1)));
+        Assertions.assertEquals(1000, this.pageViewRepository.findVisitors(this.page.getId(),
+                PageViewGranularity.MONTH.truncate(this.date), nextMonth.plusDays(1)).estimate(), 100);
+    }
+
+    @Test
+    @DisplayName("Should aggregate hourly and daily rows into ordered day and week buckets inside the range")
+    void streamSeriesGroupsBuckets(){
+        //arrange
+        this.pageViewRepository.incrementTotal(this.key(PageViewGranularity.HOUR, this.date.plusHours(1)), 0, 2);
+        this.pageViewRepository.incrementTotal(this.key(PageViewGranularity.HOUR, this.date.plusHours(23)), 1, 3);
+        this.pageViewRepository.incrementTotal(this.key(PageViewGranularity.DAY, this.date.minusDays(2)), 0, 4);
+        this.pageViewRepository.incrementTotal(this.key(PageViewGranularity.DAY, this.date.minusDays(5)), 0, 6);
+        this.pageViewRepository.incrementTotal(this.key(PageViewGranularity.HOUR, this.date.plusDays(1)), 0, 9);
+        final var days = new ArrayList<PageViewPoint>();
+        final var weeks = new ArrayList<PageViewPoint>();
+
+        //action
+        this.pageViewRepository.streamSeries(this.page.getId(), PageViewSeriesGranularity.DAY,
+                LocalDate.parse("2023-06-05"), LocalDate.parse("2023-06-09"), days::add);
+        this.pageViewRepository.streamSeries(this.page.getId(), PageViewSeriesGranularity.WEEK,
+                LocalDate.parse("2023-06-01"), LocalDate.parse("2023-06-10"), weeks::add);
+
+        //assertions
+        Assertions.assertEquals(List.of(
+                new PageViewPoint(LocalDate.parse("2023-06-07"), 4L),
+                new PageViewPoint(LocalDate.parse("2023-06-09"), 5L)), days);
+        Assertions.assertEquals(List.of(
+                new PageViewPoint(LocalDate.parse("2023-05-29"), 6L),
+                new PageViewPoint(LocalDate.parse("2023-06-05"), 18L)), weeks);
+    }
+
+    @Test
+    @DisplayName("Should list the compacted months touched by the range")
+    void compactedMonthsAreListed(){
+        //arrange
+        this.pageViewRepository.incrementTotal(this.key(PageViewGranularity.MONTH,
+                OffsetDateTime.parse("2023-01-01T00:00:00Z")), 0, 100);
+        this.pageViewRepository.incrementTotal(this.key(PageViewGranularity.MONTH,
+                OffsetDateTime.parse("2023-02-01T00:00:00Z")), 0, 200);
+        this.pageViewRepository.incrementTotal(this.key(PageViewGranularity.DAY, this.date), 0, 10);
+
+        //action
+        final var months = this.pageViewRepository.findCompactedMonths(this.page.getId(),
+                LocalDate.parse("2023-02-20"), LocalDate.parse("2023-06-09"));
+
+        //assertions
+        Assertions.assertEquals(List.of(LocalDate.parse("2023-02-01")), months);
+    }
+
+    @Test
+    @DisplayName("Should stream every row of the page inside the range in date order with shards summed")
+    void streamRowsSumsShards(){
+        //arrange
+        this.pageViewRepository.incrementTotal(this.key(PageViewGranularity.HOUR, this.date.plusHours(2)), 0, 2);
+        this.pageViewRepository.incrementTotal(this.key(PageViewGranularity.HOUR, this.date.plusHours(2)), 3, 5);
+        this.pageViewRepository.incrementTotal(this.key(PageViewGranularity.DAY, this.date.minusDays(1)), 0, 4);
+        this.pageViewRepository.incrementTotal(this.key(PageViewGranularity.DAY, this.date.plusDays(1)), 0, 9);
+        final var rows = new ArrayList<PageViewRow>();
+
+        //action
+        this.pageViewRepository.streamRows(this.page.getId(), LocalDate.parse("2023-06-08"),
+                LocalDate.parse("2023-06-09"), rows::add);
+
+        //assertions
+        Assertions.assertEquals(List.of(
+                new PageViewRow(this.date.minusDays(1), PageViewGranularity.DAY, 4L),
+                new PageViewRow(this.date.plusHours(2), PageViewGranularity.HOUR, 7L)), rows);
+    }
+
+    @Test
+    @DisplayName("Should sum source counters per day and list the top values of one dimension inside the range")
+    void topSourcesAreRanked(){
+        //arrange
+        final var suffix = this.page.getSlug();
+        final var instagram = this.dimension(PageViewDimension.REFERRER, "instagram-" + suffix);
+        final var twitter = this.dimension(PageViewDimension.REFERRER, "twitter-" + suffix);
+        final var youtube = this.dimension(PageViewDimension.REFERRER, "youtube-" + suffix);
+        final var campaign = this.dimension(PageViewDimension.UTM_CAMPAIGN, "launch-" + suffix);
+
+        this.pageViewRepository.incrementSources(Map.of(
+                new PageViewSourceKey(this.page.getId(), this.date, instagram.getId()), 3L,
+                new PageViewSourceKey(this.page.getId(), this.date, twitter.getId()), 5L,
+                new PageViewSourceKey(this.page.getId(), this.date, youtube.getId()), 1L,
+                new PageViewSourceKey(this.page.getId(), this.date, campaign.getId()), 9L));
+        this.pageViewRepository.incrementSources(Map.of(
+                new PageViewSourceKey(this.page.getId(), this.date, instagram.getId()), 4L,
+                new PageViewSourceKey(this.page.getId(), this.date.minusDays(1), instagram.getId()), 2L,
+                new PageViewSourceKey(this.page.getId(), this.date.plusDays(1), twitter.getId()), 8L));
+
+        //action
+        final var top = this.pageViewRepository.findTopSources(this.page.getId(), PageViewDimension.REFERRER,
+                this.date.minusDays(1), this.date.plusDays(1), 2);
+
+        //assertions
+        Assertions.assertEquals(List.of(
+                new PageViewSourceTotal("instagram-" + suffix, 9L),
+                new PageViewSourceTotal("twitter-" + suffix, 5L)), top);
+        Assertions.assertEquals(6, this.jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM page_view_sources WHERE page_id = ?", Integer.class, this.page.getId()));
+
+        this.jdbcTemplate.update("DELETE FROM page_view_sources WHERE page_id = ?", this.page.getId());
+        this.viewDimensionRepository.deleteAll(List.of(instagram, twitter, youtube, campaign));
+    }
+
+    @Test
+    @DisplayName("Should divide the clicks of each link by the views of the page inside the range")
+    void clickThroughRatesJoinViews(){
+        //arrange
+        final var instagram = this.link("Instagram", 1);
+        final var github = this.link("Github", 2);
+        final var day = this.date.toLocalDate();
+
+        this.pageViewRepository.incrementTotals(Map.of(
+                new PageViewKey(this.page.getId(), PageViewGranularity.HOUR, this.date.plusHours(10)), 30L,
+                new PageViewKey(this.page.getId(), PageViewGranularity.DAY, this.date.minusDays(1)), 10L,
+                new PageViewKey(this.page.getId(), PageViewGranularity.HOUR, this.date.plusDays(1)), 99L));
+        this.linkRepository.incrementClicks(Map.of(
+                new LinkClickKey(instagram.getId(), this.date), 6L,
+                new LinkClickKey(instagram.getId(), this.date.minusDays(1)), 2L,
+                new LinkClickKey(github.getId(), this.date.plusDays(1)), 50L));
+
+        //action
+        final var rates = this.pageViewRepository.findClickThroughRates(this.page.getId(), day.minusDays(1), day);
+
+        //assertions
+        Assertions.assertEquals(40L, rates.getViews());
+        Assertions.assertEquals(List.of(
+                new LinkClickThroughRate(instagram.getId(), "Instagram", 8L, 0.2),
+                new LinkClickThroughRate(github.getId(), "Github", 0L, 0.0)), rates.getLinks());
+    }
+
+    @Test
+    @DisplayName("Should report the views of a page without links")
+    void clickThroughRatesWithoutLinks(){
+        //arrange
+        this.pageViewRepository.incrementTotals(Map.of(
+                new PageViewKey(this.page.getId(), PageViewGranularity.HOUR, this.date.plusHours(10)), 30L));
+
+        //action
+        final var rates = this.pageViewRepository.findClickThroughRates(this.page.getId(),
+                this.date.toLocalDate(), this.date.toLocalDate());
+
+        //assertions
+        Assertions.assertEquals(30L, rates.getViews());
+        Assertions.assertTrue(rates.getLinks().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should find the compacted month a range starts or ends inside of")
+    void splitBucketIsFound(){
+        //arrange
+        final var month = OffsetDateTime.parse("2023-02-01T00:00:00Z");
+
+        this.pageViewRepository.incrementTotal(this.key(PageViewGranularity.MONTH, month), 0, 300);
+        this.pageViewRepository.incrementTotal(this.key(PageViewGranularity.DAY, this.date), 0, 10);
+
+        //action
+        final var startsInside = this.pageViewRepository.findSplitBucket(this.page.getId(), month.plusDays(14),
+                this.date);
+        final var endsInside = this.pageViewRepository.findSplitBucket(this.page.getId(), month.minusDays(3),
+                month.plusDays(3));
+        final var whole = this.pageViewRepository.findSplitBucket(this.page.getId(), month, this.date.plusDays(1));
+        final var uncompacted = this.pageViewRepository.findSplitBucket(this.page.getId(), this.date.minusDays(3),
+                this.date.plusDays(1));
+
+        //assertions
+        Assertions.assertEquals(Optional.of(month), startsInside);
+        Assertions.assertEquals(Optional.of(month), endsInside);
+        Assertions.assertEquals(Optional.empty(), whole);
+        Assertions.assertEquals(Optional.empty(), uncompacted);
+    }
+
+    private Link link(String title, int linkOrder) {
+        final var link = LinkMockBuilder.getBuilder().mock().build();
+        link.setTitle(title);
+        link.setLinkOrder(linkOrder);
+        link.setPage(this.page);
+        return this.linkRepository.save(link);
+    }
+
+    private ViewDimension dimension(PageViewDimension dimension, String value) {
+        return this.viewDimensionRepository.save(ViewDimension.builder()
+                .withDimension(dimension)
+                .withValue(value)
+                .build());
+    }
+
+    private HyperLogLog sketch(int from, int to) {
+        final var sketch = new HyperLogLog();
+        IntStream.range(from, to).forEach(i -> sketch.offer(Hashing.hash64("visitor-" + i)));
+        return sketch;
+    }
+
+    private PageViewKey key() {
+        return this.key(PageViewGranularity.HOUR, this.date);
+    }
+
+    private PageViewKey key(PageViewGranularity granularity, OffsetDateTime date) {
+        return new PageViewKey(this.page.getId(), granularity, date);
+    }
+
+    private long hourTotal() {
+        return this.pageViewRepository.sumTotals(this.page.getId(), this.date, this.date.plusHours(1));
+    }
+
+    private long hammer(Runnable increment) throws InterruptedException {
+        final var executor = Executors.newFixedThreadPool(THREADS);
+        final var start = new CountDownLatch(1);
+
+        for (int i = 0; i < THREADS; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int j = 0; j < INCREMENTS_PER_THREAD; j++) {
+                    increment.run();
+                }
+            });
+        }
+
+        final var begin = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(2, TimeUnit.MINUTES));
+
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+    }
+}
@@ -0,0 +1,92 @@
+package com.godev.linkhubservice.domain.segments;
+
+import com.godev.linkhubservice.domain.vo.ViewEvent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+class ViewEventSegmentTest {
+
+    private static final long START = 1_686_268_800_000L;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Should read back only the events of the page inside the range, oldest first")
+    void scanFiltersByPageAndRange() throws IOException {
+        //arrange
+        final var segment = ViewEventSegment.write(this.directory.resolve("1.seg"), List.of(
+                new ViewEvent(START + 3_000, 1, 1, 4, 0, 0, 0),
+                new ViewEvent(START + 1_000, 1, 2, 0, 7, 8, 9),
+                new ViewEvent(START + 2_000, 2, 1, 4, 0, 0, 0),
+                new ViewEvent(START + 9_000, 1, 1, 0, 0, 0, 0)));
+        final var events = new ArrayList<ViewEvent>();
+
+        //action
+        final var matches = ViewEventSegment.open(segment.getPath()).scan(1, START, START + 5_000, events::add);
+
+        //assertions
+        Assertions.assertEquals(2, matches);
+        Assertions.assertEquals(List.of(
+                new ViewEvent(START + 1_000, 1, 2, 0, 7, 8, 9),
+                new ViewEvent(START + 3_000, 1, 1, 4, 0, 0, 0)), events);
+    }
+
+    @Test
+    @DisplayName("Should skip segments by time range and page index using the header only")
+    void headerSkipsSegments() throws IOException {
+        //arrange
+        final var segment = ViewEventSegment.write(this.directory.resolve("1.seg"), List.of(
+                new ViewEvent(START, 3, 1, 0, 0, 0, 0),
+                new ViewEvent(START + 60_000, 5, 1, 0, 0, 0, 0)));
+
+        //action
+        final var opened = ViewEventSegment.open(segment.getPath());
+
+        //assertions
+        Assertions.assertEquals(START, opened.getMinTimestamp());
+        Assertions.assertEquals(START + 60_000, opened.getMaxTimestamp());
+        Assertions.assertTrue(opened.contains(3));
+        Assertions.assertFalse(opened.contains(4));
+        Assertions.assertTrue(opened.overlaps(START + 60_000, START + 120_000));
+        Assertions.assertFalse(opened.overlaps(START + 60_001, START + 120_000));
+        Assertions.assertFalse(opened.overlaps(START - 1_000, START));
+    }
+
+    @Test
+    @DisplayName("Should store each event in a few bytes once columns are compressed")
+    void columnsAreCompressed() throws IOException {
+        //arrange
+        final var events = IntStream.range(0, 100_000)
+                .mapToObj(i -> new ViewEvent(START + i * 250L, i % 50, 1, i % 7, i % 3, 0, 0))
+                .toList();
+
+        //action
+        final var segment = ViewEventSegment.write(this.directory.resolve("1.seg"), events);
+
+        //assertions
+        Assertions.assertEquals(100_000, segment.getCount());
+        Assertions.assertTrue(Files.size(segment.getPath()) < 100_000 * 2L,
+                "Segment took " + Files.size(segment.getPath()) + " bytes");
+        Assertions.assertFalse(Files.exists(this.directory.resolve("1.seg.tmp")));
+    }
+
+    @Test
+    @DisplayName("Should refuse files that are not segments")
+    void openRejectsOtherFiles() throws IOException {
+        //arrange
+        final var path = Files.writeString(this.directory.resolve("other.seg"), "kibe e esfiha");
+
+        //action and assertions
+        Assertions.assertThrows(IOException.class, () -> ViewEventSegment.open(path));
+    }
+}
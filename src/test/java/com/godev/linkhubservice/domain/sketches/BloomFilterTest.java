@@ -0,0 +1,41 @@
+package com.godev.linkhubservice.domain.sketches;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("Should always recognize inserted keys")
+    void noFalseNegatives(){
+        //arrange
+        final var filter = new BloomFilter(10_000, 0.01);
+
+        //action
+        IntStream.range(0, 10_000).forEach(i -> filter.put(Hashing.hash64("key-" + i)));
+
+        //assertions
+        IntStream.range(0, 10_000).forEach(i -> Assertions.assertTrue(filter.mightContain(Hashing.hash64("key-" + i))));
+        Assertions.assertFalse(filter.put(Hashing.hash64("key-1")));
+    }
+
+    @Test
+    @DisplayName("Should keep false positives close to the configured rate at the expected capacity")
+    void falsePositiveRate(){
+        //arrange
+        final var filter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put(Hashing.hash64("key-" + i)));
+
+        //action
+        final var falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain(Hashing.hash64("other-" + i)))
+                .count();
+
+        //assertions
+        Assertions.assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+        Assertions.assertEquals(0.01, filter.expectedFalsePositiveRate(), 0.005);
+    }
+}
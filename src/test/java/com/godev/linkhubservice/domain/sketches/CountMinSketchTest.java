@@ -0,0 +1,49 @@
+package com.godev.linkhubservice.domain.sketches;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.stream.IntStream;
+
+class CountMinSketchTest {
+
+    @Test
+    @DisplayName("Should never underestimate and keep heavy hitters close to their real count")
+    void heavyHittersAreAccurate(){
+        //arrange
+        final var sketch = new CountMinSketch(512, 4);
+
+        //action
+        IntStream.range(0, 50_000).forEach(i -> sketch.add(Hashing.hash64("page-" + (i % 5_000)), 1));
+        IntStream.range(0, 1_000).forEach(i -> sketch.add(Hashing.hash64("hot"), 1));
+
+        //assertions
+        IntStream.range(0, 5_000).forEach(i ->
+                Assertions.assertTrue(sketch.estimate(Hashing.hash64("page-" + i)) >= 10));
+        Assertions.assertEquals(1_000, sketch.estimate(Hashing.hash64("hot")), 100);
+    }
+
+    @Test
+    @DisplayName("Should scale every counter and read back the same counters it wrote")
+    void scaleAndSerialize() throws IOException {
+        //arrange
+        final var sketch = new CountMinSketch(64, 3);
+        sketch.add(Hashing.hash64("page-1"), 8);
+        final var bytes = new ByteArrayOutputStream();
+
+        //action
+        sketch.scale(0.5);
+        sketch.writeTo(new DataOutputStream(bytes));
+        final var restored = CountMinSketch.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        //assertions
+        Assertions.assertEquals(4, restored.estimate(Hashing.hash64("page-1")));
+        Assertions.assertEquals(64 * 3 * Double.BYTES, restored.byteSize());
+    }
+}
@@ -0,0 +1,70 @@
+package com.godev.linkhubservice.domain.sketches;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+class HyperLogLogTest {
+
+    @Test
+    @DisplayName("Should estimate distinct visitors within a few percent and ignore repeated ones")
+    void estimateDistinct(){
+        //arrange
+        final var sketch = new HyperLogLog();
+
+        //action
+        IntStream.range(0, 100_000).forEach(i -> sketch.offer(Hashing.hash64("visitor-" + i % 50_000)));
+
+        //assertions
+        Assertions.assertEquals(50_000, sketch.estimate(), 50_000 * 0.1);
+    }
+
+    @Test
+    @DisplayName("Should count small sets of visitors almost exactly")
+    void estimateSmallRange(){
+        //arrange
+        final var sketch = new HyperLogLog();
+
+        //action
+        IntStream.range(0, 100).forEach(i -> sketch.offer(Hashing.hash64("visitor-" + i)));
+
+        //assertions
+        Assertions.assertEquals(0, new HyperLogLog().estimate());
+        Assertions.assertEquals(100, sketch.estimate(), 5);
+    }
+
+    @Test
+    @DisplayName("Should merge sketches of different days into the union of their visitors")
+    void mergeIsUnion(){
+        //arrange
+        final var monday = new HyperLogLog();
+        final var tuesday = new HyperLogLog();
+        final var week = new HyperLogLog();
+
+        IntStream.range(0, 20_000).forEach(i -> {
+            monday.offer(Hashing.hash64("visitor-" + i));
+            week.offer(Hashing.hash64("visitor-" + i));
+        });
+        IntStream.range(10_000, 30_000).forEach(i -> {
+            tuesday.offer(Hashing.hash64("visitor-" + i));
+            week.offer(Hashing.hash64("visitor-" + i));
+        });
+
+        //action
+        final var merged = HyperLogLog.fromBytes(monday.toBytes()).merge(tuesday);
+
+        //assertions
+        Assertions.assertEquals(week, merged);
+        Assertions.assertEquals(30_000, merged.estimate(), 30_000 * 0.1);
+        Assertions.assertEquals(HyperLogLog.REGISTERS, merged.toBytes().length);
+    }
+
+    @Test
+    @DisplayName("Should refuse bytes that are not a sketch")
+    void fromBytesInvalidLength(){
+        //assertions
+        Assertions.assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromBytes(new byte[10]));
+    }
+}
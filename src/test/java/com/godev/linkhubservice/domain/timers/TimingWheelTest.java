@@ -0,0 +1,67 @@
+package com.godev.linkhubservice.domain.timers;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class TimingWheelTest {
+
+    @Test
+    @DisplayName("Should fire every timer on its own tick while cascading it down through the levels")
+    void firesOnTimeAcrossLevels(){
+        //arrange
+        final var wheel = new TimingWheel<Long>(1, 8, 3, 5);
+        final var random = new Random(42);
+        final List<Long> deadlines = new ArrayList<>();
+        random.longs(2_000, 6, 5 + wheel.horizonMillis()).forEach(deadline -> {
+            deadlines.add(deadline);
+            wheel.schedule(deadline, deadline);
+        });
+        final List<Long> late = new ArrayList<>();
+        final var fired = new int[1];
+
+        //action
+        for (long now = 6; now <= 5 + wheel.horizonMillis(); now++) {
+            final var tick = now;
+            wheel.advance(now, deadline -> {
+                fired[0]++;
+                if (deadline != tick) {
+                    late.add(deadline);
+                }
+            });
+        }
+
+        //assertions
+        Assertions.assertEquals(deadlines.size(), fired[0]);
+        Assertions.assertEquals(List.of(), late);
+        Assertions.assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Should fire overdue timers on the next advance and refuse the ones past its horizon")
+    void overdueAndBeyondHorizon(){
+        //arrange
+        final var wheel = new TimingWheel<String>(1_000, 64, 2, 100_000);
+        final List<String> fired = new ArrayList<>();
+
+        //action
+        final var overdue = wheel.schedule(40_000, "overdue");
+        final var beyond = wheel.schedule(100_000 + 64L * 64 * 1_000, "beyond");
+        final var later = wheel.schedule(3_700_000, "later");
+        wheel.advance(100_000, fired::add);
+        wheel.advance(3_699_999, fired::add);
+        final var pending = wheel.size();
+        wheel.advance(3_700_000, fired::add);
+
+        //assertions
+        Assertions.assertTrue(overdue);
+        Assertions.assertFalse(beyond);
+        Assertions.assertTrue(later);
+        Assertions.assertEquals(1, pending);
+        Assertions.assertEquals(List.of("overdue", "later"), fired);
+    }
+}
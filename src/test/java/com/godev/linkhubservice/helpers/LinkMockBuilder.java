@@ -0,0 +1,38 @@
+package com.godev.linkhubservice.helpers;
+
+import com.godev.linkhubservice.domain.models.Link;
+
+public class LinkMockBuilder {
+
+    private final Link link;
+
+    public LinkMockBuilder() {
+        this.link = new Link();
+    }
+
+    public static LinkMockBuilder getBuilder() {
+        return new LinkMockBuilder();
+    }
+
+    public LinkMockBuilder mock() {
+        this.link.setTitle("Instagram");
+        this.link.setHref("https://www.instagram.com/godevbrazil");
+        this.link.setStatus(Boolean.TRUE);
+        this.link.setLinkOrder(0);
+        this.link.setBackgroundColor("#0047AB");
+        this.link.setTextColor("#FFFFFF");
+        this.link.setBorderType("rounded");
+        this.link.setPage(PageMockBuilder.getBuilder().mock().withId().build());
+
+        return this;
+    }
+
+    public LinkMockBuilder withId() {
+
+        this.link.setId(1);
+
+        return this;
+    }
+
+    public Link build() { return link;}
+}
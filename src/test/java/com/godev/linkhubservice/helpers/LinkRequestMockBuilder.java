@@ -0,0 +1,60 @@
+package com.godev.linkhubservice.helpers;
+
+import com.godev.linkhubservice.domain.vo.LinkRequest;
+
+public class LinkRequestMockBuilder {
+
+    private final LinkRequest linkRequest;
+
+    public LinkRequestMockBuilder() {
+        this.linkRequest = new LinkRequest();
+    }
+
+    public static LinkRequestMockBuilder getBuilder() {
+        return new LinkRequestMockBuilder();
+    }
+
+    public LinkRequestMockBuilder mock() {
+        this.linkRequest.setTitle("Instagram");
+        this.linkRequest.setHref("https://www.instagram.com/godevbrazil");
+        this.linkRequest.setStatus(Boolean.TRUE);
+        this.linkRequest.setBackgroundColor("#0047AB");
+        this.linkRequest.setTextColor("#FFFFFF");
+        this.linkRequest.setBorderType("rounded");
+
+        return this;
+    }
+
+    public LinkRequestMockBuilder withNullTitle() {
+
+        this.linkRequest.setTitle(null);
+
+        return this;
+    }
+
+    public LinkRequestMockBuilder withInvalidHref() {
+
+        this.linkRequest.setHref("instagram");
+
+        return this;
+    }
+
+    public LinkRequestMockBuilder withInvalidBorderType() {
+
+        this.linkRequest.setBorderType("dotted");
+
+        return this;
+    }
+
+    public LinkRequestMockBuilder withNullStyle() {
+
+        this.linkRequest.setStatus(null);
+        this.linkRequest.setBackgroundColor(null);
+        this.linkRequest.setTextColor(null);
+        this.linkRequest.setBorderType(null);
+
+        return this;
+    }
+
+    public LinkRequest build() { return linkRequest;}
+}
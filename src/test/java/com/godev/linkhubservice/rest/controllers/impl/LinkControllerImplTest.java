@@ -0,0 +1,207 @@
+package com.godev.linkhubservice.rest.controllers.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.godev.linkhubservice.domain.exceptions.Issue;
+import com.godev.linkhubservice.domain.exceptions.RuleViolationException;
+import com.godev.linkhubservice.domain.vo.LinkMoveRequest;
+import com.godev.linkhubservice.domain.vo.LinkOrderRequest;
+import com.godev.linkhubservice.domain.vo.LinkRequest;
+import com.godev.linkhubservice.domain.vo.LinkResponse;
+import com.godev.linkhubservice.helpers.LinkRequestMockBuilder;
+import com.godev.linkhubservice.security.jwt.JwtService;
+import com.godev.linkhubservice.services.impl.AccountServiceImpl;
+import com.godev.linkhubservice.services.impl.LinkServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.godev.linkhubservice.domain.constants.IssueDetails.LINK_ORDER_MISMATCH_ERROR;
+import static com.godev.linkhubservice.domain.constants.ValidationConstants.INVALID_BORDER_TYPE_ERROR;
+import static com.godev.linkhubservice.domain.constants.ValidationConstants.INVALID_LINK_URL_FORMAT_ERROR;
+import static com.godev.linkhubservice.domain.constants.ValidationConstants.TITLE_REQUIRED_ERROR;
+import static com.godev.linkhubservice.domain.exceptions.IssueEnum.ARGUMENT_NOT_VALID;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class LinkControllerImplTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private LinkServiceImpl linkService;
+
+    @MockBean
+    private AccountServiceImpl accountService;
+
+    @MockBean
+    private JwtService jwtService;
+
+    private final LinkResponse linkResponse = LinkResponse.builder()
+            .withId(1)
+            .withLinkOrder(0)
+            .withTitle("Instagram")
+            .withHref("https://www.instagram.com/godevbrazil")
+            .withStatus(Boolean.TRUE)
+            .build();
+
+    @BeforeEach
+    void setup(){
+        final var token = "kibe";
+        final var userDetails = User.builder().username("kibe@email.com").password("123").roles("USER").build();
+
+        Mockito.when(this.jwtService.isValidToken(token)).thenReturn(Boolean.TRUE);
+        Mockito.when(this.jwtService.getLoggedAccount(token)).thenReturn("kibe@email.com");
+        Mockito.when(this.accountService.loadUserByUsername("kibe@email.com")).thenReturn(userDetails);
+    }
+
+    @Test
+    @DisplayName("Should register link when valid body is passed")
+    void createLinkHappyPath() throws Exception {
+
+        final var linkRequest = LinkRequestMockBuilder.getBuilder().mock().build();
+        final var bearerToken = "Bearer kibe";
+
+        Mockito.when(this.linkService.create(1, linkRequest)).thenReturn(this.linkResponse);
+
+        mockMvc.perform(post("/page/{id}/links", 1)
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(linkRequest)).header("Authorization", bearerToken))
+                .andExpect(status().isCreated())
+                .andExpect(content().json(objectMapper.writeValueAsString(this.linkResponse)));
+    }
+
+    @ParameterizedTest(name = "Should throw exception when {2}")
+    @MethodSource("linkRequestsInvalidFormats")
+    void createLinkInvalidFormats(LinkRequest linkRequest, Issue issue, String reason) throws Exception {
+
+        final var bearerToken = "Bearer kibe";
+
+        mockMvc.perform(post("/page/{id}/links", 1)
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(linkRequest)).header("Authorization", bearerToken))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().json(objectMapper.writeValueAsString(issue)));
+    }
+
+    @Test
+    @DisplayName("Should list the links of a page")
+    void findLinksHappyPath() throws Exception {
+
+        final var bearerToken = "Bearer kibe";
+
+        Mockito.when(this.linkService.findByPageId(1)).thenReturn(List.of(this.linkResponse));
+
+        mockMvc.perform(get("/page/{id}/links", 1).header("Authorization", bearerToken))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(List.of(this.linkResponse))));
+    }
+
+    @Test
+    @DisplayName("Should update link when valid body is passed")
+    void updateLinkHappyPath() throws Exception {
+
+        final var linkRequest = LinkRequestMockBuilder.getBuilder().mock().build();
+        final var bearerToken = "Bearer kibe";
+
+        Mockito.when(this.linkService.update(1, 1, linkRequest)).thenReturn(this.linkResponse);
+
+        mockMvc.perform(put("/page/{id}/links/{linkId}", 1, 1)
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(linkRequest)).header("Authorization", bearerToken))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(this.linkResponse)));
+    }
+
+    @Test
+    @DisplayName("Should delete link of a page")
+    void deleteLinkHappyPath() throws Exception {
+
+        final var bearerToken = "Bearer kibe";
+
+        mockMvc.perform(delete("/page/{id}/links/{linkId}", 1, 1).header("Authorization", bearerToken))
+                .andExpect(status().isNoContent());
+
+        Mockito.verify(this.linkService).delete(1, 1);
+    }
+
+    @Test
+    @DisplayName("Should reorder the links of a page")
+    void reorderLinksHappyPath() throws Exception {
+
+        final var linkOrderRequest = LinkOrderRequest.builder().withLinkIds(List.of(2, 1)).build();
+        final var bearerToken = "Bearer kibe";
+
+        Mockito.when(this.linkService.reorder(1, linkOrderRequest)).thenReturn(List.of(this.linkResponse));
+
+        mockMvc.perform(put("/page/{id}/links/order", 1)
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(linkOrderRequest)).header("Authorization", bearerToken))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(List.of(this.linkResponse))));
+    }
+
+    @Test
+    @DisplayName("Should return bad request when the new order does not match the links of the page")
+    void reorderLinksMismatch() throws Exception {
+
+        final var linkOrderRequest = LinkOrderRequest.builder().withLinkIds(List.of(2, 2)).build();
+        final var bearerToken = "Bearer kibe";
+        final var exception = new RuleViolationException(
+                new Issue(ARGUMENT_NOT_VALID, String.format(LINK_ORDER_MISMATCH_ERROR, 1)));
+
+        Mockito.when(this.linkService.reorder(1, linkOrderRequest)).thenThrow(exception);
+
+        mockMvc.perform(put("/page/{id}/links/order", 1)
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(linkOrderRequest)).header("Authorization", bearerToken))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().json(objectMapper.writeValueAsString(exception.getIssue())));
+    }
+
+    @Test
+    @DisplayName("Should move a single link of a page")
+    void moveLinkHappyPath() throws Exception {
+
+        final var linkMoveRequest = LinkMoveRequest.builder().withAfterLinkId(2).build();
+        final var bearerToken = "Bearer kibe";
+
+        Mockito.when(this.linkService.move(1, 1, linkMoveRequest)).thenReturn(this.linkResponse);
+
+        mockMvc.perform(put("/page/{id}/links/{linkId}/position", 1, 1)
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(linkMoveRequest)).header("Authorization", bearerToken))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(this.linkResponse)));
+    }
+
+    private static Stream<Arguments> linkRequestsInvalidFormats(){
+        return Stream.of(
+                Arguments.of(LinkRequestMockBuilder.getBuilder().mock().withNullTitle().build(), new Issue(ARGUMENT_NOT_VALID, TITLE_REQUIRED_ERROR), "title is missing"),
+                Arguments.of(LinkRequestMockBuilder.getBuilder().mock().withInvalidHref().build(), new Issue(ARGUMENT_NOT_VALID, INVALID_LINK_URL_FORMAT_ERROR), "href is not an url"),
+                Arguments.of(LinkRequestMockBuilder.getBuilder().mock().withInvalidBorderType().build(), new Issue(ARGUMENT_NOT_VALID, INVALID_BORDER_TYPE_ERROR), "border type is unknown")
+        );
+    }
+}
@@ -2,11 +2,27 @@ package com.godev.linkhubservice.rest.controllers.impl;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.godev.linkhubservice.domain.enums.PageFields;
+import com.godev.linkhubservice.domain.enums.PageViewDimension;
+import com.godev.linkhubservice.domain.enums.PageViewExportFormat;
+import com.godev.linkhubservice.domain.enums.PageViewSeriesGranularity;
 import com.godev.linkhubservice.domain.exceptions.ForbiddenException;
 import com.godev.linkhubservice.domain.exceptions.Issue;
 import com.godev.linkhubservice.domain.exceptions.ObjectNotFoundException;
+import com.godev.linkhubservice.domain.exceptions.ServiceUnavailableException;
 import com.godev.linkhubservice.domain.vo.CreatePageRequest;
+import com.godev.linkhubservice.domain.vo.LinkClickThroughRate;
+import com.godev.linkhubservice.domain.vo.PageClickThroughRatesResponse;
 import com.godev.linkhubservice.domain.vo.PageResponse;
+import com.godev.linkhubservice.domain.vo.PageViewBatchResponse;
+import com.godev.linkhubservice.domain.vo.PageViewRequest;
+import com.godev.linkhubservice.domain.vo.PageViewResponse;
+import com.godev.linkhubservice.domain.vo.PageViewEventsQuery;
+import com.godev.linkhubservice.domain.vo.PageViewExportQuery;
+import com.godev.linkhubservice.domain.vo.PageViewSeriesQuery;
+import com.godev.linkhubservice.domain.vo.PageViewSourceTotal;
+import com.godev.linkhubservice.domain.vo.PageViewSourcesResponse;
+import com.godev.linkhubservice.domain.vo.PageVisitorsResponse;
+import com.godev.linkhubservice.domain.vo.TrendingPageResponse;
 import com.godev.linkhubservice.domain.vo.UpdatePageRequest;
 import com.godev.linkhubservice.helpers.CreatePageRequestMockBuilder;
 import com.godev.linkhubservice.helpers.PageResponseMockBuilder;
@@ -14,25 +30,40 @@ import com.godev.linkhubservice.helpers.UpdatePageRequestMockBuilder;
 import com.godev.linkhubservice.security.jwt.JwtService;
 import com.godev.linkhubservice.services.impl.AccountServiceImpl;
 import com.godev.linkhubservice.services.impl.PageServiceImpl;
+import com.godev.linkhubservice.services.impl.PageViewBatchServiceImpl;
+import com.godev.linkhubservice.services.impl.PageViewDedupServiceImpl;
+import com.godev.linkhubservice.services.impl.PageViewEventServiceImpl;
+import com.godev.linkhubservice.services.impl.PageViewExportServiceImpl;
+import com.godev.linkhubservice.services.impl.PageViewSeriesServiceImpl;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
 import static com.godev.linkhubservice.domain.constants.IssueDetails.ID_NOT_FOUND_ERROR;
+import static com.godev.linkhubservice.domain.constants.IssueDetails.PAGE_VIEW_QUEUE_FULL_ERROR;
 import static com.godev.linkhubservice.domain.constants.IssueDetails.USER_NOT_ALLOWED;
 import static com.godev.linkhubservice.domain.constants.ValidationConstants.DESCRIPTION_LENGTH_ERROR;
 import static com.godev.linkhubservice.domain.constants.ValidationConstants.INVALID_FONT_COLOR_FORMAT_ERROR;
@@ -44,11 +75,13 @@ import static com.godev.linkhubservice.domain.constants.ValidationConstants.URL_
 import static com.godev.linkhubservice.domain.exceptions.IssueEnum.ARGUMENT_NOT_VALID;
 import static com.godev.linkhubservice.domain.exceptions.IssueEnum.FORBIDDEN;
 import static com.godev.linkhubservice.domain.exceptions.IssueEnum.OBJECT_NOT_FOUND;
+import static com.godev.linkhubservice.domain.exceptions.IssueEnum.SERVICE_UNAVAILABLE;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -64,6 +97,21 @@ class PageControllerImplTest {
     @MockBean
     private PageServiceImpl pageService;
 
+    @MockBean
+    private PageViewBatchServiceImpl pageViewBatchService;
+
+    @MockBean
+    private PageViewDedupServiceImpl pageViewDedupService;
+
+    @MockBean
+    private PageViewSeriesServiceImpl pageViewSeriesService;
+
+    @MockBean
+    private PageViewEventServiceImpl pageViewEventService;
+
+    @MockBean
+    private PageViewExportServiceImpl pageViewExportService;
+
     @MockBean
     private AccountServiceImpl accountService;
 
@@ -206,6 +254,61 @@ class PageControllerImplTest {
 
     }
 
+    @Test
+    @DisplayName("Should tag the page with its version")
+    void findByIdWithEtag() throws Exception{
+
+        final var pageResponse = PageResponseMockBuilder.getBuilder().mock().build();
+        final var bearerToken = "Bearer kibe";
+
+        Mockito.when(this.pageService.findPageVersion(1)).thenReturn("1-5fe0c4e1a3b2c");
+        Mockito.when(this.pageService.findById(1)).thenReturn(pageResponse);
+
+        mockMvc.perform(get("/page/{id}", 1)
+                        .contentType("application/json")
+                        .header("Authorization", bearerToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-5fe0c4e1a3b2c\""))
+                .andExpect(content().json(objectMapper.writeValueAsString(pageResponse)));
+
+    }
+
+    @Test
+    @DisplayName("Should answer not modified without reading the page when the ETag still matches")
+    void findByIdNotModified() throws Exception{
+
+        final var bearerToken = "Bearer kibe";
+
+        Mockito.when(this.pageService.findPageVersion(1)).thenReturn("1-5fe0c4e1a3b2c");
+
+        mockMvc.perform(get("/page/{id}", 1)
+                        .contentType("application/json")
+                        .header("Authorization", bearerToken)
+                        .header("If-None-Match", "\"1-5fe0c4e1a3b2c\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"1-5fe0c4e1a3b2c\""))
+                .andExpect(content().string(""));
+
+        Mockito.verify(this.pageService, Mockito.never()).findById(1);
+    }
+
+    @Test
+    @DisplayName("Should answer not modified without listing the pages when the ETag still matches")
+    void findPagesByAccountIdNotModified() throws Exception{
+
+        final var bearerToken = "Bearer kibe";
+
+        Mockito.when(this.pageService.findPagesVersion()).thenReturn("2-5fe0c4e1a3b2c");
+
+        mockMvc.perform(get("/page")
+                        .contentType("application/json")
+                        .header("Authorization", bearerToken)
+                        .header("If-None-Match", "\"2-5fe0c4e1a3b2c\""))
+                .andExpect(status().isNotModified());
+
+        Mockito.verify(this.pageService, Mockito.never()).findPagesByAccountId();
+    }
+
     @Test
     @DisplayName("Should throw ForbiddenException when page id is of other user")
     void findByIdForbidden() throws Exception {
@@ -287,6 +390,341 @@ class PageControllerImplTest {
                 .andExpect(content().json(objectMapper.writeValueAsString(exception.getIssue())));
     }
 
+    @Test
+    @DisplayName("Should accept page view without body when it was queued")
+    void pageViewCounterQueued() throws Exception {
+
+        final var pageViewRequest = PageViewRequest.builder().withPageId(1).withVisitor("kibe").build();
+
+        Mockito.when(this.pageService.enqueuePageView(pageViewRequest)).thenReturn(Boolean.TRUE);
+
+        mockMvc.perform(post("/page/view")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(pageViewRequest)))
+                .andExpect(status().isAccepted())
+                .andExpect(content().string(""));
+
+        Mockito.verify(this.pageService, Mockito.never()).pageViewCounter(pageViewRequest);
+    }
+
+    @Test
+    @DisplayName("Should count page view synchronously when it was not queued")
+    void pageViewCounterSync() throws Exception {
+
+        final var pageViewRequest = PageViewRequest.builder().withPageId(1).withVisitor("kibe").build();
+        final var pageViewResponse = PageViewResponse.builder()
+                .withDate(OffsetDateTime.parse("2023-06-09T00:00:00Z"))
+                .withTotal(3)
+                .build();
+
+        Mockito.when(this.pageService.enqueuePageView(pageViewRequest)).thenReturn(Boolean.FALSE);
+        Mockito.when(this.pageService.pageViewCounter(pageViewRequest)).thenReturn(pageViewResponse);
+
+        mockMvc.perform(post("/page/view")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(pageViewRequest)))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(pageViewResponse)));
+    }
+
+    @Test
+    @DisplayName("Should throw ServiceUnavailableException when page view queue is full")
+    void pageViewCounterQueueFull() throws Exception {
+
+        final var pageViewRequest = PageViewRequest.builder().withPageId(1).withVisitor("kibe").build();
+        final var exception = new ServiceUnavailableException(new Issue(SERVICE_UNAVAILABLE, PAGE_VIEW_QUEUE_FULL_ERROR));
+
+        Mockito.when(this.pageService.enqueuePageView(pageViewRequest)).thenThrow(exception);
+
+        mockMvc.perform(post("/page/view")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(pageViewRequest)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(content().json(objectMapper.writeValueAsString(exception.getIssue())));
+    }
+
+    @Test
+    @DisplayName("Should drop repeat page view before it reaches the page service")
+    void pageViewCounterRepeat() throws Exception {
+
+        final var pageViewRequest = PageViewRequest.builder().withPageId(1).withVisitor("kibe").build();
+
+        Mockito.when(this.pageViewDedupService.isRepeat(1, "kibe")).thenReturn(Boolean.TRUE);
+
+        mockMvc.perform(post("/page/view")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(pageViewRequest)))
+                .andExpect(status().isAccepted());
+
+        Mockito.verifyNoInteractions(this.pageService);
+    }
+
+    @Test
+    @DisplayName("Should record the page view and answer with no content when minimal return is preferred")
+    void pageViewCounterReturnMinimal() throws Exception {
+
+        final var pageViewRequest = PageViewRequest.builder().withPageId(1).withVisitor("kibe").build();
+
+        mockMvc.perform(post("/page/view")
+                        .contentType("application/json")
+                        .header("Prefer", "return=minimal")
+                        .content(objectMapper.writeValueAsString(pageViewRequest)))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("Preference-Applied", "return=minimal"))
+                .andExpect(content().string(""));
+
+        Mockito.verify(this.pageService).recordPageView(pageViewRequest);
+        Mockito.verify(this.pageService, Mockito.never()).pageViewCounter(ArgumentMatchers.any());
+    }
+
+    @Test
+    @DisplayName("Should identify the visitor by address and user agent when the view has no visitor key")
+    void pageViewCounterVisitorFallback() throws Exception {
+
+        final var pageViewRequest = PageViewRequest.builder().withPageId(1).build();
+
+        Mockito.when(this.pageService.enqueuePageView(ArgumentMatchers.any())).thenReturn(Boolean.TRUE);
+
+        mockMvc.perform(post("/page/view")
+                        .contentType("application/json")
+                        .header("User-Agent", "Mozilla/5.0")
+                        .content(objectMapper.writeValueAsString(pageViewRequest)))
+                .andExpect(status().isAccepted());
+
+        Mockito.verify(this.pageService).enqueuePageView(ArgumentMatchers.argThat(request ->
+                "127.0.0.1|Mozilla/5.0".equals(request.getVisitor())));
+    }
+
+    @Test
+    @DisplayName("Should show the estimated unique visitors of a page")
+    void pageVisitorsHappyPath() throws Exception {
+
+        final var bearerToken = "Bearer kibe";
+        final var from = LocalDate.parse("2023-06-01");
+        final var to = LocalDate.parse("2023-06-07");
+        final var pageVisitorsResponse = PageVisitorsResponse.builder()
+                .withFrom(from)
+                .withTo(to)
+                .withVisitors(321L)
+                .build();
+
+        Mockito.when(this.pageService.pageVisitors(1, from, to)).thenReturn(pageVisitorsResponse);
+
+        mockMvc.perform(get("/page/{id}/visitors", 1)
+                        .param("from", "2023-06-01")
+                        .param("to", "2023-06-07")
+                        .header("Authorization", bearerToken))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(pageVisitorsResponse)));
+    }
+
+    @Test
+    @DisplayName("Should stream the raw view events of a page")
+    void pageViewEventsHappyPath() throws Exception {
+
+        final var bearerToken = "Bearer kibe";
+        final var from = LocalDate.parse("2023-06-01");
+        final var to = LocalDate.parse("2023-06-07");
+        final var pageViewEventsQuery = new PageViewEventsQuery(1, from, to);
+
+        Mockito.when(this.pageService.pageViewEvents(1, from, to)).thenReturn(pageViewEventsQuery);
+        Mockito.doAnswer(invocation -> {
+            invocation.getArgument(1, OutputStream.class).write("{\"events\":[]}".getBytes());
+            return null;
+        }).when(this.pageViewEventService).write(ArgumentMatchers.eq(pageViewEventsQuery), ArgumentMatchers.any());
+
+        mockMvc.perform(get("/page/{id}/events", 1)
+                        .param("from", "2023-06-01")
+                        .param("to", "2023-06-07")
+                        .header("Authorization", bearerToken))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(content().json("{\"events\":[]}"));
+    }
+
+    @Test
+    @DisplayName("Should download the views of a page as a csv attachment")
+    void pageViewExportHappyPath() throws Exception {
+
+        final var bearerToken = "Bearer kibe";
+        final var pageViewExportQuery = new PageViewExportQuery(1, LocalDate.EPOCH, LocalDate.parse("2023-06-30"),
+                PageViewExportFormat.CSV);
+
+        Mockito.when(this.pageService.pageViewExport(1, null, null, "csv")).thenReturn(pageViewExportQuery);
+        Mockito.doAnswer(invocation -> {
+            invocation.getArgument(1, OutputStream.class).write("date,granularity,total\n".getBytes());
+            return null;
+        }).when(this.pageViewExportService).write(ArgumentMatchers.eq(pageViewExportQuery), ArgumentMatchers.any());
+
+        mockMvc.perform(get("/page/{id}/export", 1)
+                        .header("Authorization", bearerToken))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"page-1-views.csv\""))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().string("date,granularity,total\n"));
+    }
+
+    @Test
+    @DisplayName("Should gzip the views export when the client accepts it")
+    void pageViewExportGzip() throws Exception {
+
+        final var bearerToken = "Bearer kibe";
+        final var pageViewExportQuery = new PageViewExportQuery(1, LocalDate.parse("2023-06-01"),
+                LocalDate.parse("2023-06-30"), PageViewExportFormat.NDJSON);
+
+        Mockito.when(this.pageService.pageViewExport(1, LocalDate.parse("2023-06-01"), LocalDate.parse("2023-06-30"),
+                "ndjson")).thenReturn(pageViewExportQuery);
+        Mockito.doAnswer(invocation -> {
+            invocation.getArgument(1, OutputStream.class).write("{\"total\":1}\n".getBytes());
+            return null;
+        }).when(this.pageViewExportService).write(ArgumentMatchers.eq(pageViewExportQuery), ArgumentMatchers.any());
+
+        final var result = mockMvc.perform(get("/page/{id}/export", 1)
+                        .param("from", "2023-06-01")
+                        .param("to", "2023-06-30")
+                        .param("format", "ndjson")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+                        .header("Authorization", bearerToken))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn();
+
+        try (var gzip = new GZIPInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            Assertions.assertEquals("{\"total\":1}\n", new String(gzip.readAllBytes()));
+        }
+    }
+
+    @Test
+    @DisplayName("Should show the top sources of a page")
+    void pageViewSourcesHappyPath() throws Exception {
+
+        final var bearerToken = "Bearer kibe";
+        final var from = LocalDate.parse("2023-06-01");
+        final var to = LocalDate.parse("2023-06-07");
+        final var pageViewSourcesResponse = PageViewSourcesResponse.builder()
+                .withFrom(from)
+                .withTo(to)
+                .withDimension(PageViewDimension.REFERRER)
+                .withSources(List.of(new PageViewSourceTotal("instagram.com", 12L)))
+                .build();
+
+        Mockito.when(this.pageService.pageViewSources(1, from, to, "referrer", 10)).thenReturn(pageViewSourcesResponse);
+
+        mockMvc.perform(get("/page/{id}/sources", 1)
+                        .param("from", "2023-06-01")
+                        .param("to", "2023-06-07")
+                        .header("Authorization", bearerToken))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(pageViewSourcesResponse)));
+    }
+
+    @Test
+    @DisplayName("Should show the click through rates of the links of a page")
+    void pageClickThroughRatesHappyPath() throws Exception {
+
+        final var bearerToken = "Bearer kibe";
+        final var from = LocalDate.parse("2023-06-01");
+        final var to = LocalDate.parse("2023-06-07");
+        final var pageClickThroughRatesResponse = PageClickThroughRatesResponse.builder()
+                .withFrom(from)
+                .withTo(to)
+                .withViews(40L)
+                .withLinks(List.of(new LinkClickThroughRate(1, "Instagram", 8L, 0.2)))
+                .build();
+
+        Mockito.when(this.pageService.pageClickThroughRates(1, from, to)).thenReturn(pageClickThroughRatesResponse);
+
+        mockMvc.perform(get("/page/{id}/clicks", 1)
+                        .param("from", "2023-06-01")
+                        .param("to", "2023-06-07")
+                        .header("Authorization", bearerToken))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(pageClickThroughRatesResponse)));
+    }
+
+    @Test
+    @DisplayName("Should stream the views series of a page")
+    void pageViewSeriesHappyPath() throws Exception {
+
+        final var bearerToken = "Bearer kibe";
+        final var from = LocalDate.parse("2023-06-01");
+        final var to = LocalDate.parse("2023-06-30");
+        final var pageViewSeriesQuery = new PageViewSeriesQuery(1, from, to, PageViewSeriesGranularity.WEEK);
+
+        Mockito.when(this.pageService.pageViewSeries(1, from, to, "week")).thenReturn(pageViewSeriesQuery);
+        Mockito.doAnswer(invocation -> {
+            invocation.getArgument(1, OutputStream.class).write("{\"series\":[]}".getBytes());
+            return null;
+        }).when(this.pageViewSeriesService).write(ArgumentMatchers.eq(pageViewSeriesQuery), ArgumentMatchers.any());
+
+        mockMvc.perform(get("/page/{id}/views", 1)
+                        .param("from", "2023-06-01")
+                        .param("to", "2023-06-30")
+                        .param("granularity", "week")
+                        .header("Authorization", bearerToken))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(content().json("{\"series\":[]}"));
+    }
+
+    @Test
+    @DisplayName("Should list the trending pages")
+    void findTrendingHappyPath() throws Exception {
+
+        final var bearerToken = "Bearer kibe";
+        final var trendingPages = List.of(TrendingPageResponse.builder()
+                .withId(1)
+                .withSlug("kibe")
+                .withTitle("Kibe")
+                .withScore(42L)
+                .build());
+
+        Mockito.when(this.pageService.findTrending()).thenReturn(trendingPages);
+
+        mockMvc.perform(get("/page/trending")
+                        .header("Authorization", bearerToken))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(trendingPages)));
+    }
+
+    @Test
+    @DisplayName("Should ingest a NDJSON batch of page views")
+    void pageViewBatchHappyPath() throws Exception {
+
+        final var bearerToken = "Bearer kibe";
+        final var pageViewBatchResponse = PageViewBatchResponse.builder()
+                .withRecords(2L)
+                .withSkipped(0L)
+                .withViews(5L)
+                .build();
+
+        Mockito.when(this.pageViewBatchService.ingest(ArgumentMatchers.any())).thenReturn(pageViewBatchResponse);
+
+        mockMvc.perform(post("/page/view/batch")
+                        .contentType("application/x-ndjson")
+                        .content("{\"pageId\": 1, \"count\": 2}\n{\"pageId\": 1, \"count\": 3}\n")
+                        .header("Authorization", bearerToken))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(pageViewBatchResponse)));
+    }
+
+    @Test
+    @DisplayName("Should refuse a page view batch that is not JSON or NDJSON")
+    void pageViewBatchUnsupportedMediaType() throws Exception {
+
+        final var bearerToken = "Bearer kibe";
+
+        mockMvc.perform(post("/page/view/batch")
+                        .contentType("text/plain")
+                        .content("1,2")
+                        .header("Authorization", bearerToken))
+                .andExpect(status().isUnsupportedMediaType());
+
+        Mockito.verifyNoInteractions(this.pageViewBatchService);
+    }
+
     private static Stream<Arguments> pageRequestsInvalidFormats(){
         return Stream.of(
                 Arguments.of(CreatePageRequestMockBuilder.getBuilder().mock().withNullSlug().build(), new Issue(ARGUMENT_NOT_VALID, SLUG_REQUIRED_ERROR), PageFields.SLUG),
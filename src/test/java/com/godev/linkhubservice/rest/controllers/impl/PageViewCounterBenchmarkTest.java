@@ -0,0 +1,107 @@
+package com.godev.linkhubservice.rest.controllers.impl;
+
+import com.godev.linkhubservice.domain.models.Page;
+import com.godev.linkhubservice.domain.repository.AccountRepository;
+import com.godev.linkhubservice.domain.repository.PageRepository;
+import com.godev.linkhubservice.helpers.AccountMockBuilder;
+import com.godev.linkhubservice.helpers.PageMockBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Slf4j
+class PageViewCounterBenchmarkTest {
+
+    private static final int WARMUP = 100;
+    private static final int REQUESTS = 500;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PageRepository pageRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Page page;
+
+    @BeforeEach
+    void setup(){
+        final var suffix = UUID.randomUUID().toString().substring(0, 8);
+        final var account = AccountMockBuilder.getBuilder().mock().build();
+        account.setEmail(suffix + "@email.com");
+
+        this.page = PageMockBuilder.getBuilder().mock().build();
+        this.page.setSlug("bench-" + suffix);
+        this.page.setAccount(this.accountRepository.save(account));
+        this.page = this.pageRepository.save(this.page);
+    }
+
+    @AfterEach
+    void cleanup(){
+        this.jdbcTemplate.update("DELETE FROM page_views WHERE page_id = ?", this.page.getId());
+        this.pageRepository.delete(this.page);
+        this.accountRepository.delete(this.page.getAccount());
+    }
+
+    @Test
+    @DisplayName("Should report latency of the full view counter against the minimal return mode")
+    void compareFullAndMinimalLatency() throws Exception {
+        //action
+        this.measure(WARMUP, false);
+        this.measure(WARMUP, true);
+        final var full = this.measure(REQUESTS, false);
+        final var minimal = this.measure(REQUESTS, true);
+
+        //assertions
+        Assertions.assertEquals(2L * (WARMUP + REQUESTS), this.jdbcTemplate.queryForObject(
+                "SELECT SUM(total) FROM page_views WHERE page_id = ?", Long.class, this.page.getId()));
+        log.info("Full view counter: p50 {} us, p99 {} us", this.percentile(full, 50), this.percentile(full, 99));
+        log.info("Minimal view counter: p50 {} us, p99 {} us", this.percentile(minimal, 50), this.percentile(minimal, 99));
+    }
+
+    private long[] measure(int requests, boolean minimal) throws Exception {
+        final var latencies = new long[requests];
+        final var body = "{\"pageId\": " + this.page.getId() + ", \"visitor\": \"bench\"}";
+
+        for (int i = 0; i < requests; i++) {
+            MockHttpServletRequestBuilder request = post("/page/view").contentType("application/json").content(body);
+            if (minimal) {
+                request = request.header("Prefer", "return=minimal");
+            }
+
+            final var begin = System.nanoTime();
+            this.mockMvc.perform(request).andExpect(minimal ? status().isNoContent() : status().isOk());
+            latencies[i] = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - begin);
+        }
+        return latencies;
+    }
+
+    private long percentile(long[] latencies, int percentile) {
+        final var sorted = latencies.clone();
+        Arrays.sort(sorted);
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+    }
+}
@@ -0,0 +1,102 @@
+package com.godev.linkhubservice.rest.controllers.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.godev.linkhubservice.domain.exceptions.Issue;
+import com.godev.linkhubservice.domain.exceptions.ObjectNotFoundException;
+import com.godev.linkhubservice.domain.vo.PublicLinkResponse;
+import com.godev.linkhubservice.domain.vo.PublicPageResponse;
+import com.godev.linkhubservice.services.impl.PageServiceImpl;
+import com.godev.linkhubservice.services.impl.PublicPageSnapshotServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static com.godev.linkhubservice.domain.constants.IssueDetails.SLUG_NOT_FOUND_ERROR;
+import static com.godev.linkhubservice.domain.exceptions.IssueEnum.OBJECT_NOT_FOUND;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PublicPageControllerImplTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private PageServiceImpl pageService;
+
+    @MockBean
+    private PublicPageSnapshotServiceImpl publicPageSnapshotService;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Should send the snapshot file of the page without rendering it")
+    void findPublicPageFromSnapshot() throws Exception {
+
+        final var snapshot = Files.writeString(this.directory.resolve("kibe.json"), "{\"id\":1,\"slug\":\"kibe\"}");
+
+        Mockito.when(this.publicPageSnapshotService.find("kibe")).thenReturn(Optional.of(snapshot));
+
+        mockMvc.perform(get("/p/{slug}", "kibe"))
+                .andExpect(status().isOk())
+                .andExpect(header().longValue("Content-Length", Files.size(snapshot)))
+                .andExpect(content().json("{\"id\":1,\"slug\":\"kibe\"}"));
+
+        Mockito.verify(this.pageService, Mockito.never()).findPublicPage("kibe");
+    }
+
+    @Test
+    @DisplayName("Should return the public page to an anonymous visitor")
+    void findPublicPageHappyPath() throws Exception {
+
+        final var publicPageResponse = PublicPageResponse.builder()
+                .withId(1)
+                .withSlug("kibe")
+                .withTitle("Kibe")
+                .withLinks(List.of(PublicLinkResponse.builder()
+                        .withId(3)
+                        .withTitle("Github")
+                        .withHref("https://github.com/kibe")
+                        .build()))
+                .build();
+
+        Mockito.when(this.pageService.findPublicPage("kibe")).thenReturn(publicPageResponse);
+
+        mockMvc.perform(get("/p/{slug}", "kibe"))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(publicPageResponse)));
+    }
+
+    @Test
+    @DisplayName("Should return not found when no page has the slug")
+    void findPublicPageUnknownSlug() throws Exception {
+
+        final var exception = new ObjectNotFoundException(
+                new Issue(OBJECT_NOT_FOUND, String.format(SLUG_NOT_FOUND_ERROR, "ghost")));
+
+        Mockito.when(this.pageService.findPublicPage("ghost")).thenThrow(exception);
+
+        mockMvc.perform(get("/p/{slug}", "ghost"))
+                .andExpect(status().isNotFound())
+                .andExpect(content().json(objectMapper.writeValueAsString(exception.getIssue())));
+    }
+}
@@ -0,0 +1,61 @@
+package com.godev.linkhubservice.rest.controllers.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.godev.linkhubservice.domain.exceptions.Issue;
+import com.godev.linkhubservice.domain.exceptions.ObjectNotFoundException;
+import com.godev.linkhubservice.services.impl.LinkServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.godev.linkhubservice.domain.constants.IssueDetails.ACTIVE_LINK_NOT_FOUND_ERROR;
+import static com.godev.linkhubservice.domain.exceptions.IssueEnum.OBJECT_NOT_FOUND;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class RedirectControllerImplTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private LinkServiceImpl linkService;
+
+    @Test
+    @DisplayName("Should redirect an anonymous visitor to the address of the link")
+    void redirectHappyPath() throws Exception {
+
+        Mockito.when(this.linkService.redirect(7)).thenReturn("https://github.com/godevbrazil");
+
+        mockMvc.perform(get("/l/{linkId}", 7))
+                .andExpect(status().isFound())
+                .andExpect(header().string("Location", "https://github.com/godevbrazil"))
+                .andExpect(header().string("Cache-Control", "no-store"));
+    }
+
+    @Test
+    @DisplayName("Should return not found when the link is not active")
+    void redirectUnknownLink() throws Exception {
+
+        final var exception = new ObjectNotFoundException(
+                new Issue(OBJECT_NOT_FOUND, String.format(ACTIVE_LINK_NOT_FOUND_ERROR, 9)));
+
+        Mockito.when(this.linkService.redirect(9)).thenThrow(exception);
+
+        mockMvc.perform(get("/l/{linkId}", 9))
+                .andExpect(status().isNotFound())
+                .andExpect(content().json(objectMapper.writeValueAsString(exception.getIssue())));
+    }
+}
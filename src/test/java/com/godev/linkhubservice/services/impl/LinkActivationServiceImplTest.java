@@ -0,0 +1,130 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.godev.linkhubservice.domain.repository.LinkRepository;
+import com.godev.linkhubservice.domain.vo.LinkTransition;
+import com.godev.linkhubservice.properties.LinkProperties;
+import com.godev.linkhubservice.services.LinkTargetCacheService;
+import com.godev.linkhubservice.services.PublicPageCacheService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LinkActivationServiceImplTest {
+
+    @Mock
+    private LinkRepository linkRepository;
+
+    @Mock
+    private LinkTargetCacheService linkTargetCacheService;
+
+    @Mock
+    private PublicPageCacheService publicPageCacheService;
+
+    private LinkProperties linkProperties;
+
+    private LinkActivationServiceImpl linkActivationService;
+
+    @BeforeEach
+    void setup(){
+        this.linkProperties = new LinkProperties();
+        this.linkProperties.getActivation().setBatchSize(2);
+
+        this.linkActivationService = new LinkActivationServiceImpl(this.linkRepository, this.linkTargetCacheService,
+                this.publicPageCacheService, this.linkProperties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Should apply due transitions in batches, evict their targets and schedule the next ones")
+    void applyDueTransitionsInBatches(){
+        //arrange
+        final var past = OffsetDateTime.now(ZoneOffset.UTC).minusSeconds(5);
+        final List<List<Integer>> batches = new ArrayList<>();
+        List.of(1, 2, 3).forEach(linkId -> this.linkActivationService.schedule(linkId, past));
+        this.linkActivationService.schedule(4, past.plusHours(1));
+
+        when(this.linkRepository.applyTransitions(ArgumentMatchers.anyList(), ArgumentMatchers.any()))
+                .thenAnswer(invocation -> {
+                    final List<Integer> linkIds = List.copyOf(invocation.getArgument(0));
+                    batches.add(linkIds);
+                    return linkIds.stream()
+                            .map(linkId -> new LinkTransition(linkId, 1, linkId == 1 ? past : null))
+                            .toList();
+                });
+
+        //action
+        this.linkActivationService.advance();
+        this.linkActivationService.advance();
+
+        //assertions
+        Assertions.assertEquals(List.of(List.of(1, 2), List.of(3), List.of(1)), batches);
+        verify(this.linkTargetCacheService, times(2)).evict(1);
+        verify(this.linkTargetCacheService, times(1)).evict(3);
+        verify(this.linkTargetCacheService, never()).evict(4);
+        verify(this.publicPageCacheService, times(4)).evictPage(1);
+    }
+
+    @Test
+    @DisplayName("Should keep the links on the wheel when applying their transitions fails")
+    void failedTransitionsAreRetried(){
+        //arrange
+        this.linkActivationService.schedule(1, OffsetDateTime.now(ZoneOffset.UTC).minusSeconds(5));
+
+        when(this.linkRepository.applyTransitions(ArgumentMatchers.anyList(), ArgumentMatchers.any()))
+                .thenThrow(new RuntimeException("lock wait timeout"))
+                .thenReturn(List.of(new LinkTransition(1, 1, null)));
+
+        //action
+        this.linkActivationService.advance();
+        this.linkActivationService.advance();
+        this.linkActivationService.advance();
+
+        //assertions
+        verify(this.linkRepository, times(2)).applyTransitions(ArgumentMatchers.eq(List.of(1)), ArgumentMatchers.any());
+        verify(this.linkTargetCacheService, times(1)).evict(1);
+    }
+
+    @Test
+    @DisplayName("Should advance the wheel on its own thread once started")
+    void startAdvancesOnOwnThread(){
+        //arrange
+        this.linkProperties.getActivation().setTick(Duration.ofMillis(10));
+        final var linkActivationService = new LinkActivationServiceImpl(this.linkRepository, this.linkTargetCacheService,
+                this.publicPageCacheService, this.linkProperties, new SimpleMeterRegistry());
+        final var threads = new CopyOnWriteArrayList<String>();
+        linkActivationService.schedule(1, OffsetDateTime.now(ZoneOffset.UTC).minusSeconds(5));
+
+        when(this.linkRepository.applyTransitions(ArgumentMatchers.anyList(), ArgumentMatchers.any()))
+                .thenAnswer(invocation -> {
+                    threads.add(Thread.currentThread().getName());
+                    return List.of();
+                });
+
+        //action
+        linkActivationService.start();
+
+        //assertions
+        verify(this.linkRepository, timeout(5_000)).applyTransitions(ArgumentMatchers.eq(List.of(1)), ArgumentMatchers.any());
+        linkActivationService.stop();
+        Assertions.assertTrue(threads.get(0).startsWith("link-activation-"));
+    }
+}
@@ -0,0 +1,76 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.godev.linkhubservice.domain.repository.LinkRepository;
+import com.godev.linkhubservice.domain.vo.LinkClickKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LinkClickServiceImplTest {
+
+    @Mock
+    private LinkRepository linkRepository;
+
+    private LinkClickServiceImpl linkClickService;
+
+    private final OffsetDateTime today = OffsetDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.DAYS);
+
+    @BeforeEach
+    void setup(){
+        this.linkClickService = new LinkClickServiceImpl(this.linkRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Should write the clicks buffered since the last flush per link and day in a single batch")
+    void flushAggregatesClicks(){
+        //arrange
+        this.linkClickService.increment(1);
+        this.linkClickService.increment(1);
+        this.linkClickService.increment(2);
+
+        //action
+        this.linkClickService.flush();
+        this.linkClickService.flush();
+
+        //assertions
+        verify(this.linkRepository, times(1)).incrementClicks(Map.of(
+                new LinkClickKey(1, this.today), 2L,
+                new LinkClickKey(2, this.today), 1L));
+        verify(this.linkRepository, times(1)).incrementClicks(ArgumentMatchers.anyMap());
+    }
+
+    @Test
+    @DisplayName("Should keep the clicks buffered when the flush fails")
+    void failedFlushKeepsClicks(){
+        //arrange
+        this.linkClickService.increment(1);
+
+        Mockito.doThrow(new RuntimeException("database down"))
+                .doNothing()
+                .when(this.linkRepository).incrementClicks(ArgumentMatchers.anyMap());
+
+        //action
+        this.linkClickService.flush();
+        this.linkClickService.increment(1);
+        this.linkClickService.flush();
+
+        //assertions
+        verify(this.linkRepository, times(1)).incrementClicks(Map.of(new LinkClickKey(1, this.today), 1L));
+        verify(this.linkRepository, times(1)).incrementClicks(Map.of(new LinkClickKey(1, this.today), 2L));
+    }
+}
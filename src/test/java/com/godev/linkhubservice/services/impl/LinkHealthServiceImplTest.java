@@ -0,0 +1,232 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.godev.linkhubservice.domain.repository.LinkRepository;
+import com.godev.linkhubservice.domain.vo.LinkCheck;
+import com.godev.linkhubservice.domain.vo.LinkCheckResult;
+import com.godev.linkhubservice.properties.LinkProperties;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LinkHealthServiceImplTest {
+
+    @Mock
+    private LinkRepository linkRepository;
+
+    private LinkProperties properties;
+
+    private LinkHealthServiceImpl linkHealthService;
+
+    private HttpServer server;
+
+    private ExecutorService executor;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private final AtomicInteger answered = new AtomicInteger();
+
+    private final AtomicInteger answeredBeforeOtherHost = new AtomicInteger(-1);
+
+    private final List<LinkCheckResult> results = new ArrayList<>();
+
+    @BeforeEach
+    void setup() throws IOException {
+        this.executor = Executors.newFixedThreadPool(16);
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.setExecutor(this.executor);
+        this.server.createContext("/ok", exchange -> {
+            final var current = this.inFlight.incrementAndGet();
+            this.maxInFlight.accumulateAndGet(current, Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            this.inFlight.decrementAndGet();
+            this.answered.incrementAndGet();
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        this.server.createContext("/other", exchange -> {
+            this.answeredBeforeOtherHost.compareAndSet(-1, this.answered.get());
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        this.server.createContext("/gone", exchange -> {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        this.server.createContext("/get-only", exchange -> {
+            exchange.sendResponseHeaders("HEAD".equals(exchange.getRequestMethod()) ? 405 : 200, -1);
+            exchange.close();
+        });
+        this.server.start();
+
+        this.properties = new LinkProperties();
+        this.properties.getHealth().setMaxConcurrency(8);
+        this.properties.getHealth().setMaxPerHost(2);
+        this.properties.getHealth().setBatchSize(3);
+        this.properties.getHealth().setTimeout(Duration.ofSeconds(2));
+        this.properties.getHealth().setAllowPrivateAddresses(true);
+        this.linkHealthService = new LinkHealthServiceImpl(this.linkRepository, this.properties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void cleanup(){
+        this.linkHealthService.stop();
+        this.server.stop(0);
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should store the status answered by each link address")
+    void sweepStoresStatuses(){
+        //arrange
+        this.links(List.of(
+                new LinkCheck(1, this.address("/ok")),
+                new LinkCheck(2, this.address("/gone")),
+                new LinkCheck(3, this.address("/get-only")),
+                new LinkCheck(4, "http://127.0.0.1:1/closed"),
+                new LinkCheck(5, "not an address")));
+
+        //action
+        this.linkHealthService.sweep();
+
+        //assertions
+        final var statuses = this.results.stream()
+                .collect(Collectors.toMap(LinkCheckResult::id, LinkCheckResult::status));
+        Assertions.assertEquals(Map.of(1, 200, 2, 404, 3, 200, 4, 0, 5, 0), statuses);
+        Assertions.assertTrue(this.results.stream().allMatch(result -> result.checkedAt() != null));
+    }
+
+    @Test
+    @DisplayName("Should never send more requests to a host than its limit")
+    void sweepLimitsRequestsPerHost(){
+        //arrange
+        this.links(IntStream.rangeClosed(1, 20)
+                .mapToObj(id -> new LinkCheck(id, this.address("/ok")))
+                .toList());
+
+        //action
+        this.linkHealthService.sweep();
+
+        //assertions
+        Assertions.assertEquals(20, this.results.size());
+        Assertions.assertTrue(this.maxInFlight.get() <= this.properties.getHealth().getMaxPerHost(),
+                "at most " + this.properties.getHealth().getMaxPerHost() + " requests in flight, saw " + this.maxInFlight.get());
+    }
+
+    @Test
+    @DisplayName("Should keep checking other hosts while links of a busy host wait for their turn")
+    void sweepDoesNotLetOneHostTakeAllPermits(){
+        //arrange
+        final var links = new ArrayList<LinkCheck>();
+        IntStream.rangeClosed(1, 40).forEach(id -> links.add(new LinkCheck(id, this.address("/ok"))));
+        links.add(new LinkCheck(41, "http://localhost:" + this.server.getAddress().getPort() + "/other"));
+        this.links(links);
+
+        //action
+        this.linkHealthService.sweep();
+
+        //assertions
+        Assertions.assertEquals(41, this.results.size());
+        Assertions.assertTrue(this.answeredBeforeOtherHost.get() < 20,
+                "other host waited for " + this.answeredBeforeOtherHost.get() + " answers of the busy one");
+    }
+
+    @Test
+    @DisplayName("Should never send a request to a loopback, private or link-local address")
+    void sweepSkipsPrivateAddresses(){
+        //arrange
+        this.properties.getHealth().setAllowPrivateAddresses(false);
+        this.links(List.of(
+                new LinkCheck(1, this.address("/ok")),
+                new LinkCheck(2, "http://localhost:" + this.server.getAddress().getPort() + "/ok"),
+                new LinkCheck(3, "http://169.254.169.254/latest/meta-data"),
+                new LinkCheck(4, "http://10.0.0.1/admin"),
+                new LinkCheck(5, "http://[::1]:" + this.server.getAddress().getPort() + "/ok"),
+                new LinkCheck(6, "http://0.0.0.0:" + this.server.getAddress().getPort() + "/ok")));
+
+        //action
+        this.linkHealthService.sweep();
+
+        //assertions
+        Assertions.assertEquals(6, this.results.size());
+        Assertions.assertTrue(this.results.stream().allMatch(result -> result.status() == 0));
+        Assertions.assertEquals(0, this.answered.get());
+    }
+
+    @Test
+    @DisplayName("Should run the sweep off the scheduler thread and skip a start while one is still running")
+    void startRunsSweepInBackground() throws InterruptedException {
+        //arrange
+        final var reading = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+
+        when(this.linkRepository.findCheckTargets(ArgumentMatchers.anyInt(), ArgumentMatchers.anyInt()))
+                .thenAnswer(invocation -> {
+                    reading.countDown();
+                    release.await();
+                    return List.of();
+                });
+
+        //action
+        this.linkHealthService.start();
+        Assertions.assertTrue(reading.await(2, TimeUnit.SECONDS));
+        this.linkHealthService.start();
+        release.countDown();
+
+        //assertions
+        verify(this.linkRepository, timeout(2_000).times(1))
+                .findCheckTargets(ArgumentMatchers.anyInt(), ArgumentMatchers.anyInt());
+    }
+
+    private void links(List<LinkCheck> links) {
+        when(this.linkRepository.findCheckTargets(ArgumentMatchers.anyInt(), ArgumentMatchers.anyInt()))
+                .thenAnswer(invocation -> {
+                    final int afterId = invocation.getArgument(0);
+                    final int limit = invocation.getArgument(1);
+                    return links.stream().filter(link -> link.id() > afterId).limit(limit).toList();
+                });
+        doAnswer(invocation -> {
+            synchronized (this.results) {
+                this.results.addAll(invocation.getArgument(0));
+            }
+            return null;
+        }).when(this.linkRepository).updateChecks(ArgumentMatchers.anyList());
+    }
+
+    private String address(String path) {
+        return "http://127.0.0.1:" + this.server.getAddress().getPort() + path;
+    }
+}
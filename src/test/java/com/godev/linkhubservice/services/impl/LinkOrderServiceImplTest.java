@@ -0,0 +1,61 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.godev.linkhubservice.domain.repository.LinkRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LinkOrderServiceImplTest {
+
+    @Mock
+    private LinkRepository linkRepository;
+
+    private LinkOrderServiceImpl linkOrderService;
+
+    @BeforeEach
+    void setup(){
+        this.linkOrderService = new LinkOrderServiceImpl(this.linkRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Should renormalize each scheduled page once")
+    void renormalizeScheduledPages(){
+        //arrange
+        this.linkOrderService.schedule(1);
+        this.linkOrderService.schedule(1);
+        this.linkOrderService.schedule(2);
+
+        //action
+        this.linkOrderService.renormalize();
+        this.linkOrderService.renormalize();
+
+        //assertions
+        verify(this.linkRepository, times(1)).renormalize(1);
+        verify(this.linkRepository, times(1)).renormalize(2);
+    }
+
+    @Test
+    @DisplayName("Should keep the page scheduled when the renormalization fails")
+    void failedRenormalizationIsRetried(){
+        //arrange
+        this.linkOrderService.schedule(1);
+
+        when(this.linkRepository.renormalize(1)).thenThrow(new RuntimeException("lock wait timeout")).thenReturn(3);
+
+        //action
+        this.linkOrderService.renormalize();
+        this.linkOrderService.renormalize();
+
+        //assertions
+        verify(this.linkRepository, times(2)).renormalize(1);
+    }
+}
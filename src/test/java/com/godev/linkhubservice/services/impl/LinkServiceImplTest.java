@@ -0,0 +1,443 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.godev.linkhubservice.domain.exceptions.ObjectNotFoundException;
+import com.godev.linkhubservice.domain.exceptions.RuleViolationException;
+import com.godev.linkhubservice.domain.models.Link;
+import com.godev.linkhubservice.domain.models.Page;
+import com.godev.linkhubservice.domain.repository.LinkRepository;
+import com.godev.linkhubservice.domain.vo.LinkMoveRequest;
+import com.godev.linkhubservice.domain.vo.LinkOrderRequest;
+import com.godev.linkhubservice.domain.vo.LinkTarget;
+import com.godev.linkhubservice.helpers.LinkMockBuilder;
+import com.godev.linkhubservice.helpers.LinkRequestMockBuilder;
+import com.godev.linkhubservice.helpers.PageMockBuilder;
+import com.godev.linkhubservice.properties.LinkProperties;
+import com.godev.linkhubservice.services.LinkActivationService;
+import com.godev.linkhubservice.services.LinkClickService;
+import com.godev.linkhubservice.services.LinkOrderService;
+import com.godev.linkhubservice.services.LinkTargetCacheService;
+import com.godev.linkhubservice.services.PageService;
+import com.godev.linkhubservice.services.PublicPageCacheService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modelmapper.ModelMapper;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.godev.linkhubservice.domain.constants.DatabaseValuesConstants.DEFAULT_LINK_BACKGROUND_COLOR;
+import static com.godev.linkhubservice.domain.constants.DatabaseValuesConstants.DEFAULT_LINK_BORDER_TYPE;
+import static com.godev.linkhubservice.domain.constants.DatabaseValuesConstants.DEFAULT_LINK_TEXT_COLOR;
+import static com.godev.linkhubservice.domain.constants.DatabaseValuesConstants.LINK_ORDER_GAP;
+import static com.godev.linkhubservice.domain.constants.IssueDetails.ACTIVE_LINK_NOT_FOUND_ERROR;
+import static com.godev.linkhubservice.domain.constants.IssueDetails.INVALID_ACTIVATION_WINDOW_ERROR;
+import static com.godev.linkhubservice.domain.constants.IssueDetails.LINK_MOVE_AFTER_ITSELF_ERROR;
+import static com.godev.linkhubservice.domain.constants.IssueDetails.LINK_NOT_FOUND_ERROR;
+import static com.godev.linkhubservice.domain.constants.IssueDetails.LINK_ORDER_MISMATCH_ERROR;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LinkServiceImplTest {
+
+    @Mock
+    private LinkRepository linkRepository;
+
+    @Mock
+    private PageService pageService;
+
+    @Mock
+    private LinkTargetCacheService linkTargetCacheService;
+
+    @Mock
+    private LinkClickService linkClickService;
+
+    @Mock
+    private LinkOrderService linkOrderService;
+
+    @Mock
+    private LinkActivationService linkActivationService;
+
+    @Mock
+    private PublicPageCacheService publicPageCacheService;
+
+    private LinkServiceImpl linkService;
+
+    private Page page;
+
+    @BeforeEach
+    void setup(){
+        this.linkService = new LinkServiceImpl(this.linkRepository, this.pageService, new ModelMapper(),
+                this.linkTargetCacheService, this.linkClickService, this.linkOrderService, this.linkActivationService,
+                this.publicPageCacheService, new LinkProperties());
+        this.page = PageMockBuilder.getBuilder().mock().withId().build();
+    }
+
+    @Test
+    @DisplayName("Should add the link after the last one of the page with default style")
+    void createHappyPath(){
+        //arrange
+        final var captor = ArgumentCaptor.forClass(Link.class);
+        final var linkRequest = LinkRequestMockBuilder.getBuilder().mock().withNullStyle().build();
+
+        when(this.pageService.findAuthorizedPage(1)).thenReturn(this.page);
+        when(this.linkRepository.findNextOrder(1)).thenReturn(3);
+        when(this.linkRepository.save(captor.capture())).thenAnswer(invocation -> {
+            final var link = invocation.getArgument(0, Link.class);
+            link.setId(7);
+            return link;
+        });
+
+        //action
+        final var linkResponse = this.linkService.create(1, linkRequest);
+
+        //assertions
+        Assertions.assertEquals(7, linkResponse.getId());
+        Assertions.assertEquals(3, linkResponse.getLinkOrder());
+        Assertions.assertEquals(Boolean.FALSE, linkResponse.getStatus());
+        Assertions.assertEquals(DEFAULT_LINK_BACKGROUND_COLOR, linkResponse.getBackgroundColor());
+        Assertions.assertEquals(DEFAULT_LINK_TEXT_COLOR, linkResponse.getTextColor());
+        Assertions.assertEquals(DEFAULT_LINK_BORDER_TYPE, linkResponse.getBorderType());
+        Assertions.assertEquals(this.page, captor.getValue().getPage());
+    }
+
+    @Test
+    @DisplayName("Should create a link hidden until its window opens and schedule the opening")
+    void createScheduledLink(){
+        //arrange
+        final var activeFrom = OffsetDateTime.now(ZoneOffset.UTC).plusHours(1);
+        final var linkRequest = LinkRequestMockBuilder.getBuilder().mock().build();
+        linkRequest.setActiveFrom(activeFrom);
+        linkRequest.setActiveUntil(activeFrom.plusDays(1));
+
+        when(this.pageService.findAuthorizedPage(1)).thenReturn(this.page);
+        when(this.linkRepository.findNextOrder(1)).thenReturn(3);
+        when(this.linkRepository.save(ArgumentMatchers.any(Link.class))).thenAnswer(invocation -> {
+            final var link = invocation.getArgument(0, Link.class);
+            link.setId(7);
+            return link;
+        });
+
+        //action
+        final var linkResponse = this.linkService.create(1, linkRequest);
+
+        //assertions
+        Assertions.assertEquals(Boolean.FALSE, linkResponse.getStatus());
+        Assertions.assertEquals(activeFrom.truncatedTo(ChronoUnit.SECONDS), linkResponse.getActiveFrom());
+        verify(this.linkActivationService, times(1)).schedule(7, activeFrom.truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should throw RuleViolationException when the window closes before it opens")
+    void createInvalidWindow(){
+        //arrange
+        final var activeFrom = OffsetDateTime.parse("2023-06-09T13:00:00Z");
+        final var linkRequest = LinkRequestMockBuilder.getBuilder().mock().build();
+        linkRequest.setActiveFrom(activeFrom);
+        linkRequest.setActiveUntil(activeFrom);
+
+        when(this.pageService.findAuthorizedPage(1)).thenReturn(this.page);
+
+        //action
+        RuleViolationException ruleViolationException = Assertions.assertThrows(RuleViolationException.class,
+                () -> this.linkService.create(1, linkRequest));
+
+        //assertions
+        Assertions.assertEquals(List.of(String.format(INVALID_ACTIVATION_WINDOW_ERROR, activeFrom, activeFrom)),
+                ruleViolationException.getIssue().getDetails());
+        verify(this.linkRepository, never()).save(ArgumentMatchers.any());
+    }
+
+    @Test
+    @DisplayName("Should switch on a link whose window is already open and schedule its closing")
+    void updateOpenWindow(){
+        //arrange
+        final var now = OffsetDateTime.now(ZoneOffset.UTC);
+        final var link = LinkMockBuilder.getBuilder().mock().withId().build();
+        final var linkRequest = LinkRequestMockBuilder.getBuilder().mock().build();
+        linkRequest.setStatus(Boolean.FALSE);
+        linkRequest.setActiveFrom(now.minusHours(1));
+        linkRequest.setActiveUntil(now.plusHours(1));
+
+        when(this.pageService.findAuthorizedPage(1)).thenReturn(this.page);
+        when(this.linkRepository.findByIdAndPage_Id(1, 1)).thenReturn(Optional.of(link));
+        when(this.linkRepository.save(link)).thenReturn(link);
+
+        //action
+        final var linkResponse = this.linkService.update(1, 1, linkRequest);
+
+        //assertions
+        Assertions.assertEquals(Boolean.TRUE, linkResponse.getStatus());
+        Assertions.assertEquals(now.plusHours(1).truncatedTo(ChronoUnit.SECONDS), link.getNextTransitionAt());
+        verify(this.linkActivationService, times(1)).schedule(1, link.getNextTransitionAt());
+    }
+
+    @Test
+    @DisplayName("Should update the link keeping its position")
+    void updateHappyPath(){
+        //arrange
+        final var link = LinkMockBuilder.getBuilder().mock().withId().build();
+        link.setLinkOrder(4);
+        final var linkRequest = LinkRequestMockBuilder.getBuilder().mock().build();
+        linkRequest.setTitle("Github");
+
+        when(this.pageService.findAuthorizedPage(1)).thenReturn(this.page);
+        when(this.linkRepository.findByIdAndPage_Id(1, 1)).thenReturn(Optional.of(link));
+        when(this.linkRepository.save(link)).thenReturn(link);
+
+        //action
+        final var linkResponse = this.linkService.update(1, 1, linkRequest);
+
+        //assertions
+        Assertions.assertEquals("Github", linkResponse.getTitle());
+        Assertions.assertEquals(4, linkResponse.getLinkOrder());
+        Assertions.assertEquals(1, linkResponse.getId());
+        verify(this.linkTargetCacheService, times(1)).evict(1);
+        verify(this.publicPageCacheService, times(1)).evictPage(1);
+    }
+
+    @Test
+    @DisplayName("Should throw ObjectNotFoundException when the link is not on the page")
+    void deleteLinkOfOtherPage(){
+        //arrange
+        when(this.pageService.findAuthorizedPage(1)).thenReturn(this.page);
+        when(this.linkRepository.findByIdAndPage_Id(9, 1)).thenReturn(Optional.empty());
+
+        //action
+        ObjectNotFoundException objectNotFoundException = Assertions.assertThrows(ObjectNotFoundException.class,
+                () -> this.linkService.delete(1, 9));
+
+        //assertions
+        Assertions.assertEquals(List.of(String.format(LINK_NOT_FOUND_ERROR, 9, 1)),
+                objectNotFoundException.getIssue().getDetails());
+        verify(this.linkRepository, never()).delete(ArgumentMatchers.any());
+    }
+
+    @Test
+    @DisplayName("Should reorder every link of the page with a single bulk update")
+    void reorderHappyPath(){
+        //arrange
+        final var linkOrderRequest = LinkOrderRequest.builder().withLinkIds(List.of(3, 1, 2)).build();
+
+        when(this.pageService.findAuthorizedPage(1)).thenReturn(this.page);
+        when(this.linkRepository.findIdsByPageId(1)).thenReturn(List.of(1, 2, 3));
+        when(this.linkRepository.findByPage_IdOrderByLinkOrder(1)).thenReturn(List.of());
+
+        //action
+        this.linkService.reorder(1, linkOrderRequest);
+
+        //assertions
+        verify(this.linkRepository, times(1)).reorder(1, List.of(3, 1, 2));
+        verify(this.linkRepository, never()).save(ArgumentMatchers.any());
+    }
+
+    @Test
+    @DisplayName("Should throw RuleViolationException when the new order misses or repeats links")
+    void reorderMismatch(){
+        //arrange
+        final var linkOrderRequest = LinkOrderRequest.builder().withLinkIds(List.of(3, 3, 1)).build();
+
+        when(this.pageService.findAuthorizedPage(1)).thenReturn(this.page);
+        when(this.linkRepository.findIdsByPageId(1)).thenReturn(List.of(1, 2, 3));
+
+        //action
+        RuleViolationException ruleViolationException = Assertions.assertThrows(RuleViolationException.class,
+                () -> this.linkService.reorder(1, linkOrderRequest));
+
+        //assertions
+        Assertions.assertEquals(List.of(String.format(LINK_ORDER_MISMATCH_ERROR, 1)),
+                ruleViolationException.getIssue().getDetails());
+        verify(this.linkRepository, never()).reorder(ArgumentMatchers.any(), ArgumentMatchers.anyList());
+    }
+
+    @Test
+    @DisplayName("Should return the address of an active link and count the click")
+    void redirectHappyPath(){
+        //arrange
+        when(this.linkTargetCacheService.find(7)).thenReturn(Optional.of(new LinkTarget(1, "https://github.com/godevbrazil")));
+
+        //action
+        final var href = this.linkService.redirect(7);
+
+        //assertions
+        Assertions.assertEquals("https://github.com/godevbrazil", href);
+        verify(this.linkClickService, times(1)).increment(7);
+    }
+
+    @Test
+    @DisplayName("Should throw ObjectNotFoundException without counting when the link is not active")
+    void redirectUnknownLink(){
+        //arrange
+        when(this.linkTargetCacheService.find(9)).thenReturn(Optional.empty());
+
+        //action
+        ObjectNotFoundException objectNotFoundException = Assertions.assertThrows(ObjectNotFoundException.class,
+                () -> this.linkService.redirect(9));
+
+        //assertions
+        Assertions.assertEquals(List.of(String.format(ACTIVE_LINK_NOT_FOUND_ERROR, 9)),
+                objectNotFoundException.getIssue().getDetails());
+        verify(this.linkClickService, never()).increment(ArgumentMatchers.any());
+    }
+
+    @Test
+    @DisplayName("Should move the link to the middle of the gap rewriting only the moved link")
+    void moveHappyPath(){
+        //arrange
+        final var link = LinkMockBuilder.getBuilder().mock().withId().build();
+
+        when(this.pageService.findAuthorizedPage(1)).thenReturn(this.page);
+        when(this.linkRepository.findByIdAndPage_Id(1, 1)).thenReturn(Optional.of(link));
+        when(this.linkRepository.findOrderByIdAndPageId(2, 1)).thenReturn(Optional.of(LINK_ORDER_GAP));
+        when(this.linkRepository.findOrderAfter(1, 1, LINK_ORDER_GAP)).thenReturn(2 * LINK_ORDER_GAP);
+        when(this.linkRepository.save(link)).thenReturn(link);
+
+        //action
+        final var linkResponse = this.linkService.move(1, 1, LinkMoveRequest.builder().withAfterLinkId(2).build());
+
+        //assertions
+        Assertions.assertEquals(LINK_ORDER_GAP + LINK_ORDER_GAP / 2, linkResponse.getLinkOrder());
+        verify(this.linkRepository, times(1)).lockPage(1);
+        verify(this.linkRepository, times(1)).save(link);
+        verify(this.linkRepository, never()).renormalize(1);
+        verify(this.linkOrderService, never()).schedule(1);
+    }
+
+    @Test
+    @DisplayName("Should move the link before the first one when no link is given")
+    void moveToTop(){
+        //arrange
+        final var link = LinkMockBuilder.getBuilder().mock().withId().build();
+
+        when(this.pageService.findAuthorizedPage(1)).thenReturn(this.page);
+        when(this.linkRepository.findByIdAndPage_Id(1, 1)).thenReturn(Optional.of(link));
+        when(this.linkRepository.findFirstOrder(1, 1)).thenReturn(3 * LINK_ORDER_GAP);
+        when(this.linkRepository.save(link)).thenReturn(link);
+
+        //action
+        final var linkResponse = this.linkService.move(1, 1, new LinkMoveRequest());
+
+        //assertions
+        Assertions.assertEquals(2 * LINK_ORDER_GAP, linkResponse.getLinkOrder());
+    }
+
+    @Test
+    @DisplayName("Should halve the gap above the first link when moving to the top repeatedly")
+    void moveToTopRepeatedly(){
+        //arrange
+        final var link = LinkMockBuilder.getBuilder().mock().withId().build();
+        final var first = new AtomicInteger(LINK_ORDER_GAP);
+        final var orders = new ArrayList<Integer>();
+
+        when(this.pageService.findAuthorizedPage(1)).thenReturn(this.page);
+        when(this.linkRepository.findByIdAndPage_Id(1, 1)).thenReturn(Optional.of(link));
+        when(this.linkRepository.findFirstOrder(1, 1)).thenAnswer(invocation -> first.get());
+        when(this.linkRepository.save(link)).thenAnswer(invocation -> {
+            first.set(link.getLinkOrder());
+            return link;
+        });
+
+        //action
+        for (int i = 0; i < 8; i++) {
+            orders.add(this.linkService.move(1, 1, new LinkMoveRequest()).getLinkOrder());
+        }
+
+        //assertions
+        Assertions.assertEquals(List.of(512, 256, 128, 64, 32, 16, 8, 4), orders);
+        verify(this.linkRepository, never()).renormalize(1);
+        verify(this.linkOrderService, times(1)).schedule(1);
+    }
+
+    @Test
+    @DisplayName("Should spread the order of the page first when moving to the top would go below zero")
+    void moveToTopBelowZero(){
+        //arrange
+        final var link = LinkMockBuilder.getBuilder().mock().withId().build();
+
+        when(this.pageService.findAuthorizedPage(1)).thenReturn(this.page);
+        when(this.linkRepository.findByIdAndPage_Id(1, 1)).thenReturn(Optional.of(link));
+        when(this.linkRepository.findFirstOrder(1, 1)).thenReturn(0, 2 * LINK_ORDER_GAP);
+        when(this.linkRepository.save(link)).thenReturn(link);
+
+        //action
+        final var linkResponse = this.linkService.move(1, 1, new LinkMoveRequest());
+
+        //assertions
+        Assertions.assertEquals(LINK_ORDER_GAP, linkResponse.getLinkOrder());
+        verify(this.linkRepository, times(1)).renormalize(1);
+    }
+
+    @Test
+    @DisplayName("Should spread the order of the page first when there is no gap left")
+    void moveWithoutGap(){
+        //arrange
+        final var link = LinkMockBuilder.getBuilder().mock().withId().build();
+
+        when(this.pageService.findAuthorizedPage(1)).thenReturn(this.page);
+        when(this.linkRepository.findByIdAndPage_Id(1, 1)).thenReturn(Optional.of(link));
+        when(this.linkRepository.findOrderByIdAndPageId(2, 1))
+                .thenReturn(Optional.of(10))
+                .thenReturn(Optional.of(LINK_ORDER_GAP));
+        when(this.linkRepository.findOrderAfter(1, 1, 10)).thenReturn(11);
+        when(this.linkRepository.findOrderAfter(1, 1, LINK_ORDER_GAP)).thenReturn(2 * LINK_ORDER_GAP);
+        when(this.linkRepository.save(link)).thenReturn(link);
+
+        //action
+        final var linkResponse = this.linkService.move(1, 1, LinkMoveRequest.builder().withAfterLinkId(2).build());
+
+        //assertions
+        Assertions.assertEquals(LINK_ORDER_GAP + LINK_ORDER_GAP / 2, linkResponse.getLinkOrder());
+        verify(this.linkRepository, times(1)).renormalize(1);
+    }
+
+    @Test
+    @DisplayName("Should schedule a background renormalization when the gap is getting small")
+    void moveIntoSmallGap(){
+        //arrange
+        final var link = LinkMockBuilder.getBuilder().mock().withId().build();
+
+        when(this.pageService.findAuthorizedPage(1)).thenReturn(this.page);
+        when(this.linkRepository.findByIdAndPage_Id(1, 1)).thenReturn(Optional.of(link));
+        when(this.linkRepository.findOrderByIdAndPageId(2, 1)).thenReturn(Optional.of(10));
+        when(this.linkRepository.findOrderAfter(1, 1, 10)).thenReturn(14);
+        when(this.linkRepository.save(link)).thenReturn(link);
+
+        //action
+        final var linkResponse = this.linkService.move(1, 1, LinkMoveRequest.builder().withAfterLinkId(2).build());
+
+        //assertions
+        Assertions.assertEquals(12, linkResponse.getLinkOrder());
+        verify(this.linkOrderService, times(1)).schedule(1);
+        verify(this.linkRepository, never()).renormalize(1);
+    }
+
+    @Test
+    @DisplayName("Should throw RuleViolationException when the link is moved after itself")
+    void moveAfterItself(){
+        //arrange
+        when(this.pageService.findAuthorizedPage(1)).thenReturn(this.page);
+
+        //action
+        RuleViolationException ruleViolationException = Assertions.assertThrows(RuleViolationException.class,
+                () -> this.linkService.move(1, 1, LinkMoveRequest.builder().withAfterLinkId(1).build()));
+
+        //assertions
+        Assertions.assertEquals(List.of(String.format(LINK_MOVE_AFTER_ITSELF_ERROR, 1)),
+                ruleViolationException.getIssue().getDetails());
+        verify(this.linkRepository, never()).save(ArgumentMatchers.any());
+    }
+}
@@ -0,0 +1,140 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.godev.linkhubservice.domain.repository.LinkRepository;
+import com.godev.linkhubservice.domain.vo.LinkTarget;
+import com.godev.linkhubservice.properties.LinkProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LinkTargetCacheServiceImplTest {
+
+    @Mock
+    private LinkRepository linkRepository;
+
+    private LinkProperties properties;
+
+    private LinkTargetCacheServiceImpl linkTargetCacheService;
+
+    @BeforeEach
+    void setup(){
+        this.properties = new LinkProperties();
+        this.linkTargetCacheService = new LinkTargetCacheServiceImpl(this.linkRepository, this.properties,
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Should answer a link target from memory after loading it once")
+    void findFromMemory(){
+        //arrange
+        final var target = new LinkTarget(1, "https://github.com/godevbrazil");
+
+        when(this.linkRepository.findActiveTargetById(7)).thenReturn(Optional.of(target));
+
+        //action
+        final var first = this.linkTargetCacheService.find(7);
+        final var second = this.linkTargetCacheService.find(7);
+
+        //assertions
+        Assertions.assertEquals(Optional.of(target), first);
+        Assertions.assertEquals(Optional.of(target), second);
+        verify(this.linkRepository, times(1)).findActiveTargetById(7);
+    }
+
+    @Test
+    @DisplayName("Should load the link target again after it is evicted or its page is deleted")
+    void evictReloads(){
+        //arrange
+        when(this.linkRepository.findActiveTargetById(7))
+                .thenReturn(Optional.of(new LinkTarget(1, "https://github.com/godevbrazil")))
+                .thenReturn(Optional.of(new LinkTarget(1, "https://gitlab.com/godevbrazil")))
+                .thenReturn(Optional.empty());
+
+        //action
+        this.linkTargetCacheService.find(7);
+        this.linkTargetCacheService.evict(7);
+        final var edited = this.linkTargetCacheService.find(7);
+        this.linkTargetCacheService.evictPage(1);
+        final var deleted = this.linkTargetCacheService.find(7);
+
+        //assertions
+        Assertions.assertEquals("https://gitlab.com/godevbrazil", edited.orElseThrow().href());
+        Assertions.assertTrue(deleted.isEmpty());
+        verify(this.linkRepository, times(3)).findActiveTargetById(7);
+    }
+
+    @Test
+    @DisplayName("Should load the link target again once it expires")
+    void expiredReloads(){
+        //arrange
+        this.properties.getTargets().setTtl(Duration.ZERO);
+
+        when(this.linkRepository.findActiveTargetById(7))
+                .thenReturn(Optional.of(new LinkTarget(1, "https://github.com/godevbrazil")));
+
+        //action
+        this.linkTargetCacheService.find(7);
+        this.linkTargetCacheService.find(7);
+
+        //assertions
+        verify(this.linkRepository, times(2)).findActiveTargetById(7);
+    }
+
+    @Test
+    @DisplayName("Should answer an unknown link from memory until the miss expires")
+    void missFromMemory(){
+        //arrange
+        when(this.linkRepository.findActiveTargetById(7)).thenReturn(Optional.empty());
+
+        //action
+        final var first = this.linkTargetCacheService.find(7);
+        final var second = this.linkTargetCacheService.find(7);
+        this.properties.getTargets().setMissTtl(Duration.ZERO);
+        this.linkTargetCacheService.evict(7);
+        this.linkTargetCacheService.find(7);
+        final var expired = this.linkTargetCacheService.find(7);
+
+        //assertions
+        Assertions.assertTrue(first.isEmpty());
+        Assertions.assertTrue(second.isEmpty());
+        Assertions.assertTrue(expired.isEmpty());
+        verify(this.linkRepository, times(3)).findActiveTargetById(7);
+    }
+
+    @Test
+    @DisplayName("Should keep caching new links once the cache is full")
+    void fullCacheMakesRoom(){
+        //arrange
+        this.properties.getTargets().setMaxSize(10);
+        this.properties.getTargets().setTtl(Duration.ZERO);
+
+        when(this.linkRepository.findActiveTargetById(anyInt()))
+                .thenAnswer(invocation -> Optional.of(new LinkTarget(1, "https://github.com/godevbrazil")));
+
+        for (int linkId = 1; linkId <= 10; linkId++) {
+            this.linkTargetCacheService.find(linkId);
+        }
+        this.properties.getTargets().setTtl(Duration.ofMinutes(1));
+
+        //action
+        this.linkTargetCacheService.find(11);
+        this.linkTargetCacheService.find(11);
+
+        //assertions
+        verify(this.linkRepository, times(1)).findActiveTargetById(11);
+    }
+}
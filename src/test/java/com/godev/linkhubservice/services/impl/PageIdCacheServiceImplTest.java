@@ -0,0 +1,106 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.godev.linkhubservice.domain.repository.PageRepository;
+import com.godev.linkhubservice.properties.PageViewProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PageIdCacheServiceImplTest {
+
+    @Mock
+    private PageRepository pageRepository;
+
+    private PageIdCacheServiceImpl pageIdCacheService;
+
+    @BeforeEach
+    void setup(){
+        this.pageIdCacheService = new PageIdCacheServiceImpl(this.pageRepository, new PageViewProperties(),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Should answer known page ids from memory after loading them once")
+    void existsFromMemory(){
+        //arrange
+        when(this.pageRepository.findAllIds()).thenReturn(List.of(1, 2));
+
+        //action
+        final var first = this.pageIdCacheService.exists(1);
+        final var second = this.pageIdCacheService.exists(2);
+
+        //assertions
+        Assertions.assertTrue(first);
+        Assertions.assertTrue(second);
+        verify(this.pageRepository, times(1)).findAllIds();
+        verify(this.pageRepository, never()).existsById(1);
+    }
+
+    @Test
+    @DisplayName("Should ask the database on a miss and remember pages created elsewhere")
+    void missFallsBackToDatabase(){
+        //arrange
+        when(this.pageRepository.findAllIds()).thenReturn(List.of(1));
+        when(this.pageRepository.existsById(3)).thenReturn(Boolean.TRUE);
+        when(this.pageRepository.existsById(4)).thenReturn(Boolean.FALSE);
+
+        //action
+        final var created = this.pageIdCacheService.exists(3);
+        final var createdAgain = this.pageIdCacheService.exists(3);
+        final var unknown = this.pageIdCacheService.exists(4);
+
+        //assertions
+        Assertions.assertTrue(created);
+        Assertions.assertTrue(createdAgain);
+        Assertions.assertFalse(unknown);
+        verify(this.pageRepository, times(1)).existsById(3);
+    }
+
+    @Test
+    @DisplayName("Should answer an unknown page id from memory until the page is created")
+    void missIsRemembered(){
+        //arrange
+        when(this.pageRepository.findAllIds()).thenReturn(List.of(1));
+        when(this.pageRepository.existsById(4)).thenReturn(Boolean.FALSE);
+
+        //action
+        final var unknown = this.pageIdCacheService.exists(4);
+        final var unknownAgain = this.pageIdCacheService.exists(4);
+        this.pageIdCacheService.add(4);
+        final var created = this.pageIdCacheService.exists(4);
+
+        //assertions
+        Assertions.assertFalse(unknown);
+        Assertions.assertFalse(unknownAgain);
+        Assertions.assertTrue(created);
+        verify(this.pageRepository, times(1)).existsById(4);
+    }
+
+    @Test
+    @DisplayName("Should forget deleted page ids")
+    void removeDeletedPage(){
+        //arrange
+        when(this.pageRepository.findAllIds()).thenReturn(List.of(1));
+        when(this.pageRepository.existsById(1)).thenReturn(Boolean.FALSE);
+        this.pageIdCacheService.refresh();
+
+        //action
+        this.pageIdCacheService.remove(1);
+
+        //assertions
+        Assertions.assertFalse(this.pageIdCacheService.exists(1));
+    }
+}
@@ -1,19 +1,51 @@
 package com.godev.linkhubservice.services.impl;
 
+import com.godev.linkhubservice.domain.enums.PageViewDimension;
+import com.godev.linkhubservice.domain.enums.PageViewExportFormat;
+import com.godev.linkhubservice.domain.enums.PageViewGranularity;
+import com.godev.linkhubservice.domain.enums.PageViewMode;
+import com.godev.linkhubservice.domain.enums.PageViewOverflowPolicy;
+import com.godev.linkhubservice.domain.enums.PageViewSeriesGranularity;
 import com.godev.linkhubservice.domain.exceptions.ForbiddenException;
 import com.godev.linkhubservice.domain.exceptions.ObjectNotFoundException;
 import com.godev.linkhubservice.domain.exceptions.RuleViolationException;
+import com.godev.linkhubservice.domain.exceptions.ServiceUnavailableException;
 import com.godev.linkhubservice.domain.models.Account;
 import com.godev.linkhubservice.domain.models.Page;
 import com.godev.linkhubservice.domain.repository.PageRepository;
 import com.godev.linkhubservice.domain.repository.PageViewRepository;
+import com.godev.linkhubservice.domain.sketches.Hashing;
+import com.godev.linkhubservice.domain.sketches.HyperLogLog;
 import com.godev.linkhubservice.domain.vo.CreatePageRequest;
+import com.godev.linkhubservice.domain.vo.LinkClickThroughRate;
+import com.godev.linkhubservice.domain.vo.PageClickThroughRatesResponse;
+import com.godev.linkhubservice.domain.vo.PageListVersion;
+import com.godev.linkhubservice.domain.vo.PageVersion;
+import com.godev.linkhubservice.domain.vo.PageViewEventsQuery;
+import com.godev.linkhubservice.domain.vo.PageViewExportQuery;
+import com.godev.linkhubservice.domain.vo.PageViewRequest;
+import com.godev.linkhubservice.domain.vo.PageViewSeriesQuery;
+import com.godev.linkhubservice.domain.vo.PageViewSourceTotal;
+import com.godev.linkhubservice.domain.vo.PublicLinkResponse;
+import com.godev.linkhubservice.domain.vo.PublicPageRow;
+import com.godev.linkhubservice.domain.vo.TrendingPage;
 import com.godev.linkhubservice.domain.vo.UpdatePageRequest;
 import com.godev.linkhubservice.helpers.AccountMockBuilder;
 import com.godev.linkhubservice.helpers.CreatePageRequestMockBuilder;
 import com.godev.linkhubservice.helpers.PageMockBuilder;
 import com.godev.linkhubservice.helpers.UpdatePageRequestMockBuilder;
+import com.godev.linkhubservice.properties.PageViewProperties;
 import com.godev.linkhubservice.services.AccountService;
+import com.godev.linkhubservice.services.LinkTargetCacheService;
+import com.godev.linkhubservice.services.PageIdCacheService;
+import com.godev.linkhubservice.services.PageViewBufferService;
+import com.godev.linkhubservice.services.PageViewEventService;
+import com.godev.linkhubservice.services.PageViewQueueService;
+import com.godev.linkhubservice.services.PageViewShardService;
+import com.godev.linkhubservice.services.PageViewSourceService;
+import com.godev.linkhubservice.services.PageViewTrendingService;
+import com.godev.linkhubservice.services.PageViewVisitorService;
+import com.godev.linkhubservice.services.PublicPageCacheService;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -29,16 +61,28 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import static com.godev.linkhubservice.domain.constants.DatabaseValuesConstants.DEFAULT_PAGE_BACKGROUND_TYPE_COLOR;
 import static com.godev.linkhubservice.domain.constants.DatabaseValuesConstants.DEFAULT_PAGE_BACKGROUND_VALUE;
 import static com.godev.linkhubservice.domain.constants.DatabaseValuesConstants.DEFAULT_PAGE_FONT_COLOR;
 import static com.godev.linkhubservice.domain.constants.DatabaseValuesConstants.DEFAULT_PAGE_PHOTO;
+import static com.godev.linkhubservice.domain.constants.IssueDetails.COMPACTED_RANGE_ERROR;
 import static com.godev.linkhubservice.domain.constants.IssueDetails.ID_NOT_FOUND_ERROR;
+import static com.godev.linkhubservice.domain.constants.IssueDetails.INVALID_DATE_RANGE_ERROR;
+import static com.godev.linkhubservice.domain.constants.IssueDetails.INVALID_EXPORT_FORMAT_ERROR;
+import static com.godev.linkhubservice.domain.constants.IssueDetails.INVALID_SERIES_GRANULARITY_ERROR;
+import static com.godev.linkhubservice.domain.constants.IssueDetails.INVALID_SOURCE_DIMENSION_ERROR;
+import static com.godev.linkhubservice.domain.constants.IssueDetails.PAGE_VIEW_QUEUE_FULL_ERROR;
 import static com.godev.linkhubservice.domain.constants.IssueDetails.SLUG_EXISTS_ERROR;
+import static com.godev.linkhubservice.domain.constants.IssueDetails.SLUG_NOT_FOUND_ERROR;
 import static com.godev.linkhubservice.domain.constants.IssueDetails.USER_NOT_ALLOWED;
 import static com.godev.linkhubservice.domain.constants.ValidationConstants.INVALID_BACKGROUND_TYPE_ERROR;
 import static com.godev.linkhubservice.domain.constants.ValidationConstants.INVALID_BG_VALUE_FOR_BG_TYPE_COLOR_ERROR;
@@ -46,10 +90,15 @@ import static com.godev.linkhubservice.domain.constants.ValidationConstants.INVA
 import static com.godev.linkhubservice.domain.exceptions.IssueEnum.ARGUMENT_NOT_VALID;
 import static com.godev.linkhubservice.domain.exceptions.IssueEnum.FORBIDDEN;
 import static com.godev.linkhubservice.domain.exceptions.IssueEnum.OBJECT_NOT_FOUND;
+import static com.godev.linkhubservice.domain.exceptions.IssueEnum.SERVICE_UNAVAILABLE;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -61,6 +110,28 @@ class PageServiceImplTest {
     private AccountService accountService;
     @Mock
     private PageViewRepository pageViewRepository;
+    @Mock
+    private PageViewBufferService pageViewBufferService;
+    @Mock
+    private PageViewShardService pageViewShardService;
+    @Mock
+    private PageViewQueueService pageViewQueueService;
+    @Mock
+    private PageViewVisitorService pageViewVisitorService;
+    @Mock
+    private PageViewTrendingService pageViewTrendingService;
+    @Mock
+    private PageViewSourceService pageViewSourceService;
+    @Mock
+    private PageViewEventService pageViewEventService;
+    @Mock
+    private PageIdCacheService pageIdCacheService;
+    @Mock
+    private LinkTargetCacheService linkTargetCacheService;
+    @Mock
+    private PublicPageCacheService publicPageCacheService;
+
+    private PageViewProperties pageViewProperties;
 
     private PageServiceImpl pageService;
 
@@ -80,12 +151,16 @@ class PageServiceImplTest {
 
     @BeforeEach
     void setup(){
-        this.pageService = new PageServiceImpl(pageRepository, accountService, new ModelMapper(), pageViewRepository);
+        this.pageViewProperties = new PageViewProperties();
+        this.pageService = new PageServiceImpl(pageRepository, accountService, new ModelMapper(), pageViewRepository,
+                pageViewBufferService, pageViewShardService, pageViewQueueService, pageViewVisitorService,
+                pageViewTrendingService, pageViewSourceService, pageViewEventService, pageIdCacheService,
+                linkTargetCacheService, publicPageCacheService, pageViewProperties);
 
         Authentication authentication = Mockito.mock(Authentication.class);
-        Mockito.when(authentication.getPrincipal()).thenReturn(this.userDetails);
+        Mockito.lenient().when(authentication.getPrincipal()).thenReturn(this.userDetails);
         SecurityContext securityContext = Mockito.mock(SecurityContext.class);
-        Mockito.when(securityContext.getAuthentication()).thenReturn(authentication);
+        Mockito.lenient().when(securityContext.getAuthentication()).thenReturn(authentication);
         SecurityContextHolder.setContext(securityContext);
 
         this.mockedCreatePageRequest = CreatePageRequestMockBuilder.getBuilder().mock().build();
@@ -325,6 +400,7 @@ class PageServiceImplTest {
         verify(this.accountService, times(1)).findByEmail(this.userDetails.getUsername());
         verify(this.pageRepository, times(1)).findById(1);
         verify(this.pageRepository, times(1)).save(this.mockedPageSaved);
+        verify(this.publicPageCacheService, times(1)).evictPage(1);
     }
 
     @Test
@@ -595,6 +671,59 @@ class PageServiceImplTest {
                 forbiddenException.getIssue().getDetails());
     }
 
+    @Test
+    @DisplayName("Should derive the page version from its id and last update without loading the entities")
+    void findPageVersionHappyPath(){
+        //arrange
+        final var updatedAt = OffsetDateTime.parse("2023-06-09T13:45:00.000123Z");
+
+        when(this.pageRepository.findVersionById(1))
+                .thenReturn(Optional.of(new PageVersion(1, "KIBE@email.com", updatedAt)));
+
+        //action
+        final var version = this.pageService.findPageVersion(1);
+
+        //assertions
+        Assertions.assertEquals("1-" + Long.toHexString(updatedAt.toInstant().getEpochSecond() * 1_000_000 + 123), version);
+        verify(this.pageRepository, never()).findById(any());
+        verify(this.accountService, never()).findByEmail(any());
+    }
+
+    @Test
+    @DisplayName("Should throw ForbiddenException when asking the version of a page of other user")
+    void findPageVersionForbidden(){
+        //arrange
+        when(this.pageRepository.findVersionById(1))
+                .thenReturn(Optional.of(new PageVersion(1, "other@email.com", OffsetDateTime.now(ZoneOffset.UTC))));
+
+        //action
+        ForbiddenException forbiddenException = Assertions.assertThrows(ForbiddenException.class,
+                () -> this.pageService.findPageVersion(1));
+
+        //assertions
+        Assertions.assertEquals(List.of(String.format(USER_NOT_ALLOWED, 1)), forbiddenException.getIssue().getDetails());
+    }
+
+    @Test
+    @DisplayName("Should change the version of the page list when a page is deleted")
+    void findPagesVersionCountsPages(){
+        //arrange
+        final var updatedAt = OffsetDateTime.parse("2023-06-09T13:45:00Z");
+
+        when(this.pageRepository.findVersionByAccountEmail(this.userDetails.getUsername()))
+                .thenReturn(new PageListVersion(2L, updatedAt))
+                .thenReturn(new PageListVersion(1L, updatedAt))
+                .thenReturn(new PageListVersion(0L, null));
+
+        //action
+        final var versions = List.of(this.pageService.findPagesVersion(), this.pageService.findPagesVersion(),
+                this.pageService.findPagesVersion());
+
+        //assertions
+        Assertions.assertNotEquals(versions.get(0), versions.get(1));
+        Assertions.assertEquals("0-0", versions.get(2));
+    }
+
     @Test
     @DisplayName("Should throw ObjectNotFoundException when page not exists")
     void findByIdNotFound(){
@@ -627,6 +756,7 @@ class PageServiceImplTest {
         verify(this.accountService, times(1)).findByEmail(this.userDetails.getUsername());
         verify(this.pageRepository, times(1)).findById(1);
         verify(this.pageRepository, times(1)).delete(this.mockedPageSaved);
+        verify(this.publicPageCacheService, times(1)).evictPage(1);
     }
 
     @Test
@@ -664,4 +794,562 @@ class PageServiceImplTest {
         Assertions.assertEquals(List.of(String.format(ID_NOT_FOUND_ERROR, 1)),
                 objectNotFoundException.getIssue().getDetails());
     }
+
+    @Test
+    @DisplayName("Should buffer page view without touching page views table when mode is write behind")
+    void pageViewCounterWriteBehind(){
+        //arrange
+        this.pageViewProperties.setMode(PageViewMode.WRITE_BEHIND);
+        final var pageViewRequest = PageViewRequest.builder().withPageId(1).build();
+
+        when(this.pageIdCacheService.exists(1)).thenReturn(Boolean.TRUE);
+
+        //action
+        final var pageViewResponse = this.pageService.pageViewCounter(pageViewRequest);
+
+        //assertions
+        Assertions.assertNotNull(pageViewResponse.getDate());
+        Assertions.assertNull(pageViewResponse.getTotal());
+        verify(this.pageViewBufferService, times(1)).increment(eq(1), argThat(hour ->
+                PageViewGranularity.DAY.truncate(hour).isEqual(pageViewResponse.getDate())));
+        verifyNoInteractions(this.pageViewRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw ObjectNotFoundException when buffering view of a page that not exists")
+    void pageViewCounterWriteBehindNotFound(){
+        //arrange
+        this.pageViewProperties.setMode(PageViewMode.WRITE_BEHIND);
+        final var pageViewRequest = PageViewRequest.builder().withPageId(1).build();
+
+        when(this.pageIdCacheService.exists(1)).thenReturn(Boolean.FALSE);
+
+        //action
+        ObjectNotFoundException objectNotFoundException = Assertions.assertThrows(ObjectNotFoundException.class,
+                () -> this.pageService.pageViewCounter(pageViewRequest));
+
+        //assertions
+        Assertions.assertEquals(List.of(String.format(ID_NOT_FOUND_ERROR, 1)),
+                objectNotFoundException.getIssue().getDetails());
+        verifyNoInteractions(this.pageViewBufferService);
+    }
+
+    @Test
+    @DisplayName("Should increment the hourly page views row on the picked shard and return the day total")
+    void pageViewCounterHappyPath(){
+        //arrange
+        final var pageViewRequest = PageViewRequest.builder().withPageId(1).withVisitor("kibe").build();
+
+        when(this.pageViewShardService.shardFor(1)).thenReturn(3);
+        when(this.pageViewRepository.incrementTotal(any(), eq(3), eq(1L))).thenReturn(1);
+        when(this.pageViewRepository.sumTotals(eq(1), any(), any())).thenReturn(42L);
+
+        //action
+        final var pageViewResponse = this.pageService.pageViewCounter(pageViewRequest);
+
+        //assertions
+        Assertions.assertEquals(42, pageViewResponse.getTotal());
+        verify(this.pageViewRepository, times(1)).incrementTotal(argThat(key -> key.pageId() == 1
+                && key.granularity() == PageViewGranularity.HOUR
+                && PageViewGranularity.DAY.truncate(key.date()).isEqual(pageViewResponse.getDate())), eq(3), eq(1L));
+        verify(this.pageViewRepository, times(1)).sumTotals(1, pageViewResponse.getDate(),
+                pageViewResponse.getDate().plusDays(1));
+        verify(this.pageViewVisitorService, times(1)).offer(eq(1), any(), eq("kibe"));
+        verify(this.pageViewTrendingService, times(1)).record(1, 1);
+        verifyNoInteractions(this.pageRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw ObjectNotFoundException when upsert finds no page")
+    void pageViewCounterNotFound(){
+        //arrange
+        final var pageViewRequest = PageViewRequest.builder().withPageId(1).build();
+
+        when(this.pageViewRepository.incrementTotal(any(), eq(0), eq(1L))).thenReturn(0);
+
+        //action
+        ObjectNotFoundException objectNotFoundException = Assertions.assertThrows(ObjectNotFoundException.class,
+                () -> this.pageService.pageViewCounter(pageViewRequest));
+
+        //assertions
+        Assertions.assertEquals(List.of(String.format(ID_NOT_FOUND_ERROR, 1)),
+                objectNotFoundException.getIssue().getDetails());
+        verify(this.pageViewRepository, never()).sumTotals(any(), any(), any());
+        verifyNoInteractions(this.pageViewVisitorService, this.pageViewTrendingService);
+    }
+
+    @Test
+    @DisplayName("Should record the view of a cached page id without reading the totals back")
+    void recordPageViewHappyPath(){
+        //arrange
+        final var pageViewRequest = PageViewRequest.builder().withPageId(1).build();
+
+        when(this.pageIdCacheService.exists(1)).thenReturn(Boolean.TRUE);
+        when(this.pageViewShardService.shardFor(1)).thenReturn(2);
+        when(this.pageViewRepository.incrementTotal(any(), eq(2), eq(1L))).thenReturn(1);
+
+        //action
+        this.pageService.recordPageView(pageViewRequest);
+
+        //assertions
+        verify(this.pageViewRepository, times(1)).incrementTotal(argThat(key -> key.pageId() == 1
+                && key.granularity() == PageViewGranularity.HOUR), eq(2), eq(1L));
+        verify(this.pageViewRepository, never()).sumTotals(any(), any(), any());
+        verify(this.pageViewTrendingService, times(1)).record(1, 1);
+        verifyNoInteractions(this.pageRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw ObjectNotFoundException when recording the view of an unknown page id")
+    void recordPageViewNotFound(){
+        //arrange
+        final var pageViewRequest = PageViewRequest.builder().withPageId(1).build();
+
+        when(this.pageIdCacheService.exists(1)).thenReturn(Boolean.FALSE);
+
+        //action
+        ObjectNotFoundException objectNotFoundException = Assertions.assertThrows(ObjectNotFoundException.class,
+                () -> this.pageService.recordPageView(pageViewRequest));
+
+        //assertions
+        Assertions.assertEquals(List.of(String.format(ID_NOT_FOUND_ERROR, 1)),
+                objectNotFoundException.getIssue().getDetails());
+        verifyNoInteractions(this.pageViewRepository, this.pageViewTrendingService);
+    }
+
+    @Test
+    @DisplayName("Should estimate unique visitors of the page between the requested days")
+    void pageVisitorsHappyPath(){
+        //arrange
+        final var from = LocalDate.parse("2023-06-01");
+        final var to = LocalDate.parse("2023-06-07");
+        final var sketch = new HyperLogLog();
+        IntStream.range(0, 300).forEach(i -> sketch.offer(Hashing.hash64("visitor-" + i)));
+
+        when(this.accountService.findByEmail(userDetails.getUsername())).thenReturn(this.mockedAccount);
+        when(this.pageRepository.findById(1)).thenReturn(Optional.ofNullable(this.mockedPageSaved));
+        when(this.pageViewRepository.findVisitors(1, OffsetDateTime.parse("2023-06-01T00:00:00Z"),
+                OffsetDateTime.parse("2023-06-08T00:00:00Z"))).thenReturn(sketch);
+
+        //action
+        final var pageVisitorsResponse = this.pageService.pageVisitors(1, from, to);
+
+        //assertions
+        Assertions.assertEquals(from, pageVisitorsResponse.getFrom());
+        Assertions.assertEquals(to, pageVisitorsResponse.getTo());
+        Assertions.assertEquals(sketch.estimate(), pageVisitorsResponse.getVisitors());
+    }
+
+    @Test
+    @DisplayName("Should throw RuleViolationException when unique visitors range starts after it ends")
+    void pageVisitorsInvalidRange(){
+        //arrange
+        final var from = LocalDate.parse("2023-06-07");
+        final var to = LocalDate.parse("2023-06-01");
+
+        when(this.accountService.findByEmail(userDetails.getUsername())).thenReturn(this.mockedAccount);
+        when(this.pageRepository.findById(1)).thenReturn(Optional.ofNullable(this.mockedPageSaved));
+
+        //action
+        RuleViolationException ruleViolationException = Assertions.assertThrows(RuleViolationException.class,
+                () -> this.pageService.pageVisitors(1, from, to));
+
+        //assertions
+        Assertions.assertEquals(List.of(String.format(INVALID_DATE_RANGE_ERROR, from, to)),
+                ruleViolationException.getIssue().getDetails());
+        verifyNoInteractions(this.pageViewRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw RuleViolationException when the unique visitors range splits a compacted month")
+    void pageVisitorsSplitMonth(){
+        //arrange
+        final var from = LocalDate.parse("2023-02-15");
+        final var to = LocalDate.parse("2023-06-07");
+        final var month = OffsetDateTime.parse("2023-02-01T00:00:00Z");
+
+        when(this.accountService.findByEmail(userDetails.getUsername())).thenReturn(this.mockedAccount);
+        when(this.pageRepository.findById(1)).thenReturn(Optional.ofNullable(this.mockedPageSaved));
+        when(this.pageViewRepository.findSplitBucket(1, OffsetDateTime.parse("2023-02-15T00:00:00Z"),
+                OffsetDateTime.parse("2023-06-08T00:00:00Z"))).thenReturn(Optional.of(month));
+
+        //action
+        RuleViolationException ruleViolationException = Assertions.assertThrows(RuleViolationException.class,
+                () -> this.pageService.pageVisitors(1, from, to));
+
+        //assertions
+        Assertions.assertEquals(List.of(String.format(COMPACTED_RANGE_ERROR, month.toLocalDate())),
+                ruleViolationException.getIssue().getDetails());
+        verify(this.pageViewRepository, never()).findVisitors(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should build the views series query of the page ignoring granularity case")
+    void pageViewSeriesHappyPath(){
+        //arrange
+        final var from = LocalDate.parse("2023-06-01");
+        final var to = LocalDate.parse("2023-06-30");
+
+        when(this.accountService.findByEmail(userDetails.getUsername())).thenReturn(this.mockedAccount);
+        when(this.pageRepository.findById(1)).thenReturn(Optional.ofNullable(this.mockedPageSaved));
+
+        //action
+        final var pageViewSeriesQuery = this.pageService.pageViewSeries(1, from, to, "week");
+
+        //assertions
+        Assertions.assertEquals(new PageViewSeriesQuery(1, from, to, PageViewSeriesGranularity.WEEK), pageViewSeriesQuery);
+    }
+
+    @Test
+    @DisplayName("Should throw RuleViolationException when views series granularity is unknown")
+    void pageViewSeriesInvalidGranularity(){
+        //arrange
+        final var from = LocalDate.parse("2023-06-01");
+        final var to = LocalDate.parse("2023-06-30");
+
+        when(this.accountService.findByEmail(userDetails.getUsername())).thenReturn(this.mockedAccount);
+        when(this.pageRepository.findById(1)).thenReturn(Optional.ofNullable(this.mockedPageSaved));
+
+        //action
+        RuleViolationException ruleViolationException = Assertions.assertThrows(RuleViolationException.class,
+                () -> this.pageService.pageViewSeries(1, from, to, "hour"));
+
+        //assertions
+        Assertions.assertEquals(List.of(String.format(INVALID_SERIES_GRANULARITY_ERROR, "hour")),
+                ruleViolationException.getIssue().getDetails());
+    }
+
+    @Test
+    @DisplayName("Should build the raw view events query of the page between the requested days")
+    void pageViewEventsHappyPath(){
+        //arrange
+        final var from = LocalDate.parse("2023-06-01");
+        final var to = LocalDate.parse("2023-06-07");
+
+        when(this.accountService.findByEmail(userDetails.getUsername())).thenReturn(this.mockedAccount);
+        when(this.pageRepository.findById(1)).thenReturn(Optional.ofNullable(this.mockedPageSaved));
+
+        //action
+        final var pageViewEventsQuery = this.pageService.pageViewEvents(1, from, to);
+
+        //assertions
+        Assertions.assertEquals(new PageViewEventsQuery(1, from, to), pageViewEventsQuery);
+    }
+
+    @Test
+    @DisplayName("Should export the whole history of the page when no range is given")
+    void pageViewExportWholeHistory(){
+        //arrange
+        when(this.accountService.findByEmail(userDetails.getUsername())).thenReturn(this.mockedAccount);
+        when(this.pageRepository.findById(1)).thenReturn(Optional.ofNullable(this.mockedPageSaved));
+
+        //action
+        final var pageViewExportQuery = this.pageService.pageViewExport(1, null, null, "NDJSON");
+
+        //assertions
+        Assertions.assertEquals(new PageViewExportQuery(1, LocalDate.EPOCH, LocalDate.now(ZoneOffset.UTC),
+                PageViewExportFormat.NDJSON), pageViewExportQuery);
+    }
+
+    @Test
+    @DisplayName("Should throw RuleViolationException when export format is unknown")
+    void pageViewExportInvalidFormat(){
+        //arrange
+        when(this.accountService.findByEmail(userDetails.getUsername())).thenReturn(this.mockedAccount);
+        when(this.pageRepository.findById(1)).thenReturn(Optional.ofNullable(this.mockedPageSaved));
+
+        //action
+        RuleViolationException ruleViolationException = Assertions.assertThrows(RuleViolationException.class,
+                () -> this.pageService.pageViewExport(1, null, null, "xlsx"));
+
+        //assertions
+        Assertions.assertEquals(List.of(String.format(INVALID_EXPORT_FORMAT_ERROR, "xlsx")),
+                ruleViolationException.getIssue().getDetails());
+    }
+
+    @Test
+    @DisplayName("Should list the top sources of the page between the requested days capping the limit")
+    void pageViewSourcesHappyPath(){
+        //arrange
+        final var from = LocalDate.parse("2023-06-01");
+        final var to = LocalDate.parse("2023-06-07");
+        final var sources = List.of(new PageViewSourceTotal("instagram", 12L), new PageViewSourceTotal("newsletter", 4L));
+
+        when(this.accountService.findByEmail(userDetails.getUsername())).thenReturn(this.mockedAccount);
+        when(this.pageRepository.findById(1)).thenReturn(Optional.ofNullable(this.mockedPageSaved));
+        when(this.pageViewRepository.findTopSources(1, PageViewDimension.UTM_SOURCE,
+                OffsetDateTime.parse("2023-06-01T00:00:00Z"), OffsetDateTime.parse("2023-06-08T00:00:00Z"), 100))
+                .thenReturn(sources);
+
+        //action
+        final var pageViewSourcesResponse = this.pageService.pageViewSources(1, from, to, "utm_source", 5000);
+
+        //assertions
+        Assertions.assertEquals(PageViewDimension.UTM_SOURCE, pageViewSourcesResponse.getDimension());
+        Assertions.assertEquals(from, pageViewSourcesResponse.getFrom());
+        Assertions.assertEquals(to, pageViewSourcesResponse.getTo());
+        Assertions.assertEquals(sources, pageViewSourcesResponse.getSources());
+    }
+
+    @Test
+    @DisplayName("Should list the click through rates of the links of the page between the requested days")
+    void pageClickThroughRatesHappyPath(){
+        //arrange
+        final var from = LocalDate.parse("2023-06-01");
+        final var to = LocalDate.parse("2023-06-07");
+        final var rates = PageClickThroughRatesResponse.builder()
+                .withFrom(from)
+                .withTo(to)
+                .withViews(40L)
+                .withLinks(List.of(new LinkClickThroughRate(1, "Instagram", 8L, 0.2)))
+                .build();
+
+        when(this.accountService.findByEmail(userDetails.getUsername())).thenReturn(this.mockedAccount);
+        when(this.pageRepository.findById(1)).thenReturn(Optional.ofNullable(this.mockedPageSaved));
+        when(this.pageViewRepository.findClickThroughRates(1, from, to)).thenReturn(rates);
+
+        //action
+        final var pageClickThroughRatesResponse = this.pageService.pageClickThroughRates(1, from, to);
+
+        //assertions
+        Assertions.assertEquals(rates, pageClickThroughRatesResponse);
+    }
+
+    @Test
+    @DisplayName("Should throw RuleViolationException when the click through rates range is inverted")
+    void pageClickThroughRatesInvalidRange(){
+        //arrange
+        final var from = LocalDate.parse("2023-06-07");
+        final var to = LocalDate.parse("2023-06-01");
+
+        when(this.accountService.findByEmail(userDetails.getUsername())).thenReturn(this.mockedAccount);
+        when(this.pageRepository.findById(1)).thenReturn(Optional.ofNullable(this.mockedPageSaved));
+
+        //action
+        RuleViolationException ruleViolationException = Assertions.assertThrows(RuleViolationException.class,
+                () -> this.pageService.pageClickThroughRates(1, from, to));
+
+        //assertions
+        Assertions.assertEquals(List.of(String.format(INVALID_DATE_RANGE_ERROR, from, to)),
+                ruleViolationException.getIssue().getDetails());
+        verifyNoInteractions(this.pageViewRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw RuleViolationException when the click through rates range splits a compacted month")
+    void pageClickThroughRatesSplitMonth(){
+        //arrange
+        final var from = LocalDate.parse("2023-02-15");
+        final var to = LocalDate.parse("2023-06-07");
+        final var month = OffsetDateTime.parse("2023-02-01T00:00:00Z");
+
+        when(this.accountService.findByEmail(userDetails.getUsername())).thenReturn(this.mockedAccount);
+        when(this.pageRepository.findById(1)).thenReturn(Optional.ofNullable(this.mockedPageSaved));
+        when(this.pageViewRepository.findSplitBucket(1, OffsetDateTime.parse("2023-02-15T00:00:00Z"),
+                OffsetDateTime.parse("2023-06-08T00:00:00Z"))).thenReturn(Optional.of(month));
+
+        //action
+        RuleViolationException ruleViolationException = Assertions.assertThrows(RuleViolationException.class,
+                () -> this.pageService.pageClickThroughRates(1, from, to));
+
+        //assertions
+        Assertions.assertEquals(List.of(String.format(COMPACTED_RANGE_ERROR, month.toLocalDate())),
+                ruleViolationException.getIssue().getDetails());
+        verify(this.pageViewRepository, never()).findClickThroughRates(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should throw RuleViolationException when sources dimension is unknown")
+    void pageViewSourcesInvalidDimension(){
+        //arrange
+        final var from = LocalDate.parse("2023-06-01");
+        final var to = LocalDate.parse("2023-06-07");
+
+        when(this.accountService.findByEmail(userDetails.getUsername())).thenReturn(this.mockedAccount);
+        when(this.pageRepository.findById(1)).thenReturn(Optional.ofNullable(this.mockedPageSaved));
+
+        //action
+        RuleViolationException ruleViolationException = Assertions.assertThrows(RuleViolationException.class,
+                () -> this.pageService.pageViewSources(1, from, to, "country", 10));
+
+        //assertions
+        Assertions.assertEquals(List.of(String.format(INVALID_SOURCE_DIMENSION_ERROR, "country")),
+                ruleViolationException.getIssue().getDetails());
+        verifyNoInteractions(this.pageViewRepository);
+    }
+
+    @Test
+    @DisplayName("Should list trending pages in score order skipping pages deleted since")
+    void findTrendingHappyPath(){
+        //arrange
+        final var otherPage = PageMockBuilder.getBuilder().mock().withId().build();
+        otherPage.setId(2);
+        otherPage.setSlug("other");
+
+        when(this.pageViewTrendingService.top()).thenReturn(List.of(
+                new TrendingPage(2, 40.4), new TrendingPage(3, 20d), new TrendingPage(1, 10.6)));
+        when(this.pageRepository.findAllById(List.of(2, 3, 1))).thenReturn(List.of(this.mockedPageSaved, otherPage));
+
+        //action
+        final var trendingPages = this.pageService.findTrending();
+
+        //assertions
+        Assertions.assertEquals(2, trendingPages.size());
+        Assertions.assertEquals(2, trendingPages.get(0).getId());
+        Assertions.assertEquals("other", trendingPages.get(0).getSlug());
+        Assertions.assertEquals(40L, trendingPages.get(0).getScore());
+        Assertions.assertEquals(this.mockedPageSaved.getId(), trendingPages.get(1).getId());
+        Assertions.assertEquals(11L, trendingPages.get(1).getScore());
+    }
+
+    @Test
+    @DisplayName("Should not enqueue page view when mode is not async")
+    void enqueuePageViewSyncMode(){
+        //arrange
+        final var pageViewRequest = PageViewRequest.builder().withPageId(1).build();
+
+        //action
+        final var queued = this.pageService.enqueuePageView(pageViewRequest);
+
+        //assertions
+        Assertions.assertFalse(queued);
+        verifyNoInteractions(this.pageViewQueueService);
+    }
+
+    @Test
+    @DisplayName("Should enqueue page view when mode is async and queue has room")
+    void enqueuePageViewHappyPath(){
+        //arrange
+        this.pageViewProperties.setMode(PageViewMode.ASYNC);
+        final var pageViewRequest = PageViewRequest.builder().withPageId(1).build();
+
+        when(this.pageIdCacheService.exists(1)).thenReturn(Boolean.TRUE);
+        when(this.pageViewQueueService.offer(eq(1), any())).thenReturn(Boolean.TRUE);
+
+        //action
+        final var queued = this.pageService.enqueuePageView(pageViewRequest);
+
+        //assertions
+        Assertions.assertTrue(queued);
+        verifyNoInteractions(this.pageViewRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw ObjectNotFoundException when enqueuing view of a page that not exists")
+    void enqueuePageViewNotFound(){
+        //arrange
+        this.pageViewProperties.setMode(PageViewMode.ASYNC);
+        final var pageViewRequest = PageViewRequest.builder().withPageId(1).build();
+
+        when(this.pageIdCacheService.exists(1)).thenReturn(Boolean.FALSE);
+
+        //action
+        ObjectNotFoundException objectNotFoundException = Assertions.assertThrows(ObjectNotFoundException.class,
+                () -> this.pageService.enqueuePageView(pageViewRequest));
+
+        //assertions
+        Assertions.assertEquals(List.of(String.format(ID_NOT_FOUND_ERROR, 1)),
+                objectNotFoundException.getIssue().getDetails());
+        verifyNoInteractions(this.pageViewQueueService, this.pageViewTrendingService);
+    }
+
+    @Test
+    @DisplayName("Should accept and drop page view when queue is full and policy is drop")
+    void enqueuePageViewQueueFullDrop(){
+        //arrange
+        this.pageViewProperties.setMode(PageViewMode.ASYNC);
+        this.pageViewProperties.getQueue().setOverflow(PageViewOverflowPolicy.DROP);
+        final var pageViewRequest = PageViewRequest.builder().withPageId(1).build();
+
+        when(this.pageIdCacheService.exists(1)).thenReturn(Boolean.TRUE);
+        when(this.pageViewQueueService.offer(eq(1), any())).thenReturn(Boolean.FALSE);
+
+        //action
+        final var queued = this.pageService.enqueuePageView(pageViewRequest);
+
+        //assertions
+        Assertions.assertTrue(queued);
+    }
+
+    @Test
+    @DisplayName("Should throw ServiceUnavailableException when queue is full and policy is reject")
+    void enqueuePageViewQueueFullReject(){
+        //arrange
+        this.pageViewProperties.setMode(PageViewMode.ASYNC);
+        this.pageViewProperties.getQueue().setOverflow(PageViewOverflowPolicy.REJECT);
+        final var pageViewRequest = PageViewRequest.builder().withPageId(1).build();
+
+        when(this.pageIdCacheService.exists(1)).thenReturn(Boolean.TRUE);
+        when(this.pageViewQueueService.offer(eq(1), any())).thenReturn(Boolean.FALSE);
+
+        //action
+        ServiceUnavailableException serviceUnavailableException = Assertions.assertThrows(ServiceUnavailableException.class,
+                () -> this.pageService.enqueuePageView(pageViewRequest));
+
+        //assertions
+        Assertions.assertEquals(SERVICE_UNAVAILABLE.getMessage(), serviceUnavailableException.getIssue().getMessage());
+        Assertions.assertEquals(List.of(PAGE_VIEW_QUEUE_FULL_ERROR), serviceUnavailableException.getIssue().getDetails());
+    }
+
+    @Test
+    @DisplayName("Should fall back to synchronous counting when queue is full and policy is sync")
+    void enqueuePageViewQueueFullSync(){
+        //arrange
+        this.pageViewProperties.setMode(PageViewMode.ASYNC);
+        this.pageViewProperties.getQueue().setOverflow(PageViewOverflowPolicy.SYNC);
+        final var pageViewRequest = PageViewRequest.builder().withPageId(1).build();
+
+        when(this.pageIdCacheService.exists(1)).thenReturn(Boolean.TRUE);
+        when(this.pageViewQueueService.offer(eq(1), any())).thenReturn(Boolean.FALSE);
+
+        //action
+        final var queued = this.pageService.enqueuePageView(pageViewRequest);
+
+        //assertions
+        Assertions.assertFalse(queued);
+    }
+
+    @Test
+    @DisplayName("Should assemble the public page and its links from the aggregate rows")
+    void findPublicPageHappyPath(){
+        //arrange
+        final var rows = List.of(
+                new PublicPageRow(1, "kibe", "Kibe", null, "default.png", "#212121", "COLOR", "#F4F4F4",
+                        3, "Github", "https://github.com/kibe", "#cacaca", "#212121", "square"),
+                new PublicPageRow(1, "kibe", "Kibe", null, "default.png", "#212121", "COLOR", "#F4F4F4",
+                        1, "Instagram", "https://instagram.com/kibe", "#cacaca", "#212121", "rounded"));
+
+        when(this.pageRepository.findPublicPageRows("kibe")).thenReturn(rows);
+        this.loadThroughCache("kibe");
+
+        //action
+        final var publicPageResponse = this.pageService.findPublicPage("kibe");
+
+        //assertions
+        Assertions.assertEquals("Kibe", publicPageResponse.getTitle());
+        Assertions.assertEquals(List.of(3, 1), publicPageResponse.getLinks().stream().map(PublicLinkResponse::getId).toList());
+        verify(this.pageRepository, never()).findBySlug("kibe");
+    }
+
+    @Test
+    @DisplayName("Should throw ObjectNotFoundException when no page has the slug")
+    void findPublicPageNotFound(){
+        //arrange
+        when(this.pageRepository.findPublicPageRows("ghost")).thenReturn(List.of());
+        this.loadThroughCache("ghost");
+
+        //action
+        ObjectNotFoundException objectNotFoundException = Assertions.assertThrows(ObjectNotFoundException.class,
+                () -> this.pageService.findPublicPage("ghost"));
+
+        //assertions
+        Assertions.assertEquals(List.of(String.format(SLUG_NOT_FOUND_ERROR, "ghost")),
+                objectNotFoundException.getIssue().getDetails());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void loadThroughCache(String slug) {
+        when(this.publicPageCacheService.find(eq(slug), any())).thenAnswer(invocation ->
+                invocation.getArgument(1, Function.class).apply(slug));
+    }
 }
\ No newline at end of file
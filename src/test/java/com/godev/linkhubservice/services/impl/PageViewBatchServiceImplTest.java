@@ -0,0 +1,201 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.godev.linkhubservice.domain.enums.PageViewGranularity;
+import com.godev.linkhubservice.domain.exceptions.BadRequestException;
+import com.godev.linkhubservice.domain.repository.PageRepository;
+import com.godev.linkhubservice.domain.repository.PageViewRepository;
+import com.godev.linkhubservice.domain.vo.PageViewKey;
+import com.godev.linkhubservice.properties.PageViewProperties;
+import com.godev.linkhubservice.services.PageViewEventService;
+import com.godev.linkhubservice.services.PageViewRollupService;
+import com.godev.linkhubservice.services.PageViewSourceService;
+import com.godev.linkhubservice.services.PageViewVisitorService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PageViewBatchServiceImplTest {
+
+    @Mock
+    private PageViewRepository pageViewRepository;
+
+    @Mock
+    private PageRepository pageRepository;
+
+    @Mock
+    private PageViewRollupService pageViewRollupService;
+
+    @Mock
+    private PageViewVisitorService pageViewVisitorService;
+
+    @Mock
+    private PageViewSourceService pageViewSourceService;
+
+    @Mock
+    private PageViewEventService pageViewEventService;
+
+    private PageViewProperties pageViewProperties;
+
+    private PageViewBatchServiceImpl pageViewBatchService;
+
+    private final OffsetDateTime day = OffsetDateTime.parse("2023-06-09T00:00:00Z");
+
+    @BeforeEach
+    void setup(){
+        final var authentication = mock(Authentication.class);
+        final var securityContext = mock(SecurityContext.class);
+        Mockito.lenient().when(securityContext.getAuthentication()).thenReturn(authentication);
+        Mockito.lenient().when(authentication.getPrincipal())
+                .thenReturn(new User("kibe@email.com", "123456", Collections.emptyList()));
+        SecurityContextHolder.setContext(securityContext);
+        Mockito.lenient().when(this.pageRepository.findIdsByAccountEmail("kibe@email.com")).thenReturn(Set.of(1, 2, 3));
+
+        this.pageViewProperties = new PageViewProperties();
+        this.pageViewBatchService = new PageViewBatchServiceImpl(this.pageViewRepository, this.pageRepository,
+                this.pageViewRollupService,
+                this.pageViewVisitorService, this.pageViewSourceService, this.pageViewEventService,
+                this.pageViewProperties,
+                new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    @DisplayName("Should collapse a JSON array of page views by page and day")
+    @SuppressWarnings("unchecked")
+    void ingestJsonArray(){
+        //arrange
+        final var body = body("""
+                [
+                  {"pageId": 1, "timestamp": "2023-06-09T08:00:00Z", "count": 2},
+                  {"pageId": 1, "timestamp": "2023-06-09T21:30:00-03:00", "count": 3},
+                  {"pageId": 2, "timestamp": "2023-06-09T10:00:00Z", "visitor": "kibe"}
+                ]
+                """);
+        final var captor = ArgumentCaptor.forClass(Map.class);
+
+        when(this.pageViewRollupService.tierFor(any())).thenReturn(PageViewGranularity.DAY);
+
+        //action
+        final var response = this.pageViewBatchService.ingest(body);
+
+        //assertions
+        verify(this.pageViewRepository).incrementTotals(captor.capture());
+        Assertions.assertEquals(Map.of(
+                new PageViewKey(1, PageViewGranularity.DAY, this.day), 2L,
+                new PageViewKey(1, PageViewGranularity.DAY, this.day.plusDays(1)), 3L,
+                new PageViewKey(2, PageViewGranularity.DAY, this.day), 1L
+        ), captor.getValue());
+        Assertions.assertEquals(3, response.getRecords());
+        Assertions.assertEquals(0, response.getSkipped());
+        Assertions.assertEquals(6, response.getViews());
+        verify(this.pageViewVisitorService).offer(2, OffsetDateTime.parse("2023-06-09T10:00:00Z"), "kibe");
+    }
+
+    @Test
+    @DisplayName("Should read a NDJSON stream writing one statement per chunk and skipping invalid records")
+    @SuppressWarnings("unchecked")
+    void ingestNdjsonInChunks(){
+        //arrange
+        this.pageViewProperties.getBatch().setChunkSize(2);
+        final var body = body("""
+                {"pageId": 1, "timestamp": "2023-06-09T08:00:00Z", "count": 4}
+                {"pageId": 1, "timestamp": "2023-06-09T09:00:00Z", "count": 1}
+                {"timestamp": "2023-06-09T09:00:00Z", "count": 1}
+                {"pageId": 2, "timestamp": "2023-06-09T09:00:00Z", "count": 0}
+                {"pageId": 2, "timestamp": "2023-06-09T10:00:00Z", "count": 2}
+                {"pageId": 3, "timestamp": "2023-06-09T10:00:00Z", "count": 7}
+                """);
+        final var captor = ArgumentCaptor.forClass(Map.class);
+
+        when(this.pageViewRollupService.tierFor(any())).thenReturn(PageViewGranularity.DAY);
+
+        //action
+        final var response = this.pageViewBatchService.ingest(body);
+
+        //assertions
+        verify(this.pageViewRepository, times(2)).incrementTotals(captor.capture());
+        Assertions.assertEquals(Map.of(
+                new PageViewKey(1, PageViewGranularity.DAY, this.day), 5L,
+                new PageViewKey(2, PageViewGranularity.DAY, this.day), 2L
+        ), captor.getAllValues().get(0));
+        Assertions.assertEquals(Map.of(new PageViewKey(3, PageViewGranularity.DAY, this.day), 7L), captor.getAllValues().get(1));
+        Assertions.assertEquals(6, response.getRecords());
+        Assertions.assertEquals(2, response.getSkipped());
+        Assertions.assertEquals(14, response.getViews());
+    }
+
+    @Test
+    @DisplayName("Should skip records of pages the logged user does not own")
+    @SuppressWarnings("unchecked")
+    void ingestSkipsPagesOfOtherAccounts(){
+        //arrange
+        final var body = body("""
+                {"pageId": 1, "timestamp": "2023-06-09T08:00:00Z", "count": 2}
+                {"pageId": 4, "timestamp": "2023-06-09T08:00:00Z", "count": 500, "visitor": "kibe"}
+                """);
+        final var captor = ArgumentCaptor.forClass(Map.class);
+
+        when(this.pageViewRollupService.tierFor(any())).thenReturn(PageViewGranularity.DAY);
+
+        //action
+        final var response = this.pageViewBatchService.ingest(body);
+
+        //assertions
+        verify(this.pageViewRepository).incrementTotals(captor.capture());
+        Assertions.assertEquals(Map.of(new PageViewKey(1, PageViewGranularity.DAY, this.day), 2L), captor.getValue());
+        Assertions.assertEquals(2, response.getRecords());
+        Assertions.assertEquals(1, response.getSkipped());
+        Assertions.assertEquals(2, response.getViews());
+        verifyNoInteractions(this.pageViewVisitorService);
+    }
+
+    @Test
+    @DisplayName("Should throw BadRequestException when a record cannot be parsed")
+    void ingestMalformedRecord(){
+        //arrange
+        final var body = body("""
+                {"pageId": 1, "count": 1}
+                {"pageId": "one", "count": 1}
+                """);
+
+        when(this.pageViewRollupService.tierFor(any())).thenReturn(PageViewGranularity.HOUR);
+
+        //action
+        final var exception = Assertions.assertThrows(BadRequestException.class,
+                () -> this.pageViewBatchService.ingest(body));
+
+        //assertions
+        Assertions.assertEquals("Não foi possível ler o registro 2 do lote de visualizações.",
+                exception.getIssue().getDetails().get(0));
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,162 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.godev.linkhubservice.domain.enums.PageViewGranularity;
+import com.godev.linkhubservice.domain.repository.PageViewRepository;
+import com.godev.linkhubservice.domain.vo.PageViewKey;
+import com.godev.linkhubservice.services.PageViewJournalService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PageViewBufferServiceImplTest {
+
+    @Mock
+    private PageViewRepository pageViewRepository;
+
+    @Mock
+    private PageViewJournalService pageViewJournalService;
+
+    private PageViewBufferServiceImpl pageViewBufferService;
+
+    private final OffsetDateTime today = OffsetDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.DAYS);
+
+    @BeforeEach
+    void setup(){
+        this.pageViewBufferService = new PageViewBufferServiceImpl(this.pageViewRepository, this.pageViewJournalService);
+    }
+
+    @Test
+    @DisplayName("Should flush increments aggregated by page and day")
+    void flushAggregatedDeltas(){
+        //arrange
+        this.pageViewBufferService.increment(1, this.today);
+        this.pageViewBufferService.increment(1, this.today);
+        this.pageViewBufferService.increment(2, this.today);
+
+        //action
+        this.pageViewBufferService.flush();
+
+        //assertions
+        verify(this.pageViewRepository, times(1)).incrementTotals(Map.of(
+                new PageViewKey(1, PageViewGranularity.HOUR, this.today), 2L,
+                new PageViewKey(2, PageViewGranularity.HOUR, this.today), 1L));
+    }
+
+    @Test
+    @DisplayName("Should journal every increment and checkpoint the journal only after a successful flush")
+    void flushCheckpointsJournal(){
+        //arrange
+        final var key = new PageViewKey(1, PageViewGranularity.HOUR, this.today);
+        when(this.pageViewJournalService.mark()).thenReturn(64L, 96L);
+        doThrow(new QueryTimeoutException("timeout"))
+                .doNothing()
+                .when(this.pageViewRepository).incrementTotals(anyMap());
+        this.pageViewBufferService.increment(1, this.today);
+
+        //action
+        this.pageViewBufferService.flush();
+        this.pageViewBufferService.flush();
+
+        //assertions
+        verify(this.pageViewJournalService, times(1)).append(key, 1);
+        verify(this.pageViewJournalService, never()).checkpoint(64L);
+        verify(this.pageViewJournalService, times(1)).checkpoint(96L);
+    }
+
+    @Test
+    @DisplayName("Should buffer the increments replayed from the journal on startup")
+    void restoreFromJournal(){
+        //arrange
+        final var key = new PageViewKey(1, PageViewGranularity.HOUR, this.today);
+        when(this.pageViewJournalService.replay()).thenReturn(Map.of(key, 5L));
+
+        //action
+        this.pageViewBufferService.restore();
+        this.pageViewBufferService.flush();
+
+        //assertions
+        verify(this.pageViewRepository, times(1)).incrementTotals(Map.of(key, 5L));
+    }
+
+    @Test
+    @DisplayName("Should not touch database when there is nothing buffered")
+    void flushEmptyBuffer(){
+        //action
+        this.pageViewBufferService.flush();
+
+        //assertions
+        verify(this.pageViewRepository, never()).incrementTotals(anyMap());
+    }
+
+    @Test
+    @DisplayName("Should keep deltas buffered when flush fails")
+    void flushFailureKeepsDeltas(){
+        //arrange
+        this.pageViewBufferService.increment(1, this.today);
+        doThrow(new QueryTimeoutException("timeout"))
+                .doNothing()
+                .when(this.pageViewRepository).incrementTotals(anyMap());
+
+        //action
+        this.pageViewBufferService.flush();
+        this.pageViewBufferService.increment(1, this.today);
+        this.pageViewBufferService.flush();
+
+        //assertions
+        verify(this.pageViewRepository, times(1)).incrementTotals(Map.of(new PageViewKey(1, PageViewGranularity.HOUR, this.today), 2L));
+    }
+
+    @Test
+    @DisplayName("Should not lose increments made concurrently with flushes")
+    void concurrentIncrementsAreExact() throws InterruptedException {
+        //arrange
+        final var captor = ArgumentCaptor.forClass(Map.class);
+        final var executor = Executors.newFixedThreadPool(8);
+
+        //action
+        for (int i = 0; i < 8; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    this.pageViewBufferService.increment(j % 4, this.today);
+                    if (j % 1_000 == 0) {
+                        this.pageViewBufferService.flush();
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        this.pageViewBufferService.flush();
+        this.pageViewBufferService.flush();
+
+        //assertions
+        verify(this.pageViewRepository, atLeastOnce()).incrementTotals(captor.capture());
+        final var total = captor.getAllValues().stream()
+                .flatMap(deltas -> ((Map<?, ?>) deltas).values().stream())
+                .mapToLong(delta -> (Long) delta)
+                .sum();
+        Assertions.assertEquals(80_000L, total);
+    }
+}
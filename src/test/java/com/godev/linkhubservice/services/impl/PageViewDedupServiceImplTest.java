@@ -0,0 +1,93 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.godev.linkhubservice.properties.PageViewProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+class PageViewDedupServiceImplTest {
+
+    private PageViewProperties pageViewProperties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setup(){
+        this.pageViewProperties = new PageViewProperties();
+        this.pageViewProperties.getDedup().setEnabled(true);
+        this.pageViewProperties.getDedup().setSlices(2);
+        this.pageViewProperties.getDedup().setCapacity(10_000L);
+        this.meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Should drop repeat views of the same visitor and page inside the window")
+    void repeatInsideWindow(){
+        //arrange
+        final var pageViewDedupService = new PageViewDedupServiceImpl(this.pageViewProperties, this.meterRegistry);
+
+        //action
+        final var first = pageViewDedupService.isRepeat(1, "kibe");
+        final var refresh = pageViewDedupService.isRepeat(1, "kibe");
+        final var otherPage = pageViewDedupService.isRepeat(2, "kibe");
+        pageViewDedupService.rotate();
+        final var afterRotation = pageViewDedupService.isRepeat(1, "kibe");
+
+        //assertions
+        Assertions.assertFalse(first);
+        Assertions.assertTrue(refresh);
+        Assertions.assertFalse(otherPage);
+        Assertions.assertTrue(afterRotation);
+        Assertions.assertEquals(2, this.meterRegistry.get("page.view.dedup.repeats").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should count the visitor again once the window has passed")
+    void countAgainAfterWindow(){
+        //arrange
+        final var pageViewDedupService = new PageViewDedupServiceImpl(this.pageViewProperties, this.meterRegistry);
+        pageViewDedupService.isRepeat(1, "kibe");
+
+        //action
+        pageViewDedupService.rotate();
+        pageViewDedupService.rotate();
+
+        //assertions
+        Assertions.assertFalse(pageViewDedupService.isRepeat(1, "kibe"));
+    }
+
+    @Test
+    @DisplayName("Should expose window, memory and false positive rates as metrics")
+    void metrics(){
+        //arrange
+        final var pageViewDedupService = new PageViewDedupServiceImpl(this.pageViewProperties, this.meterRegistry);
+
+        //action
+        IntStream.range(0, 5_000).forEach(i -> pageViewDedupService.isRepeat(i, "visitor-" + i));
+
+        //assertions
+        Assertions.assertEquals(1800, this.meterRegistry.get("page.view.dedup.window").gauge().value());
+        Assertions.assertEquals(0.01, this.meterRegistry.get("page.view.dedup.false.positive.rate.target").gauge().value());
+        Assertions.assertTrue(this.meterRegistry.get("page.view.dedup.memory").gauge().value() > 0);
+        Assertions.assertEquals(0.005, this.meterRegistry.get("page.view.dedup.false.positive.rate").gauge().value(), 0.004);
+    }
+
+    @Test
+    @DisplayName("Should let every view through when dedup is disabled")
+    void disabled(){
+        //arrange
+        this.pageViewProperties.getDedup().setEnabled(false);
+        final var pageViewDedupService = new PageViewDedupServiceImpl(this.pageViewProperties, this.meterRegistry);
+
+        //action
+        pageViewDedupService.isRepeat(1, "kibe");
+
+        //assertions
+        Assertions.assertFalse(pageViewDedupService.isRepeat(1, "kibe"));
+        Assertions.assertEquals(0, this.meterRegistry.get("page.view.dedup.memory").gauge().value());
+    }
+}
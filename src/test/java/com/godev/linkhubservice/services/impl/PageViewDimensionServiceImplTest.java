@@ -0,0 +1,140 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.godev.linkhubservice.domain.enums.PageViewDimension;
+import com.godev.linkhubservice.domain.models.ViewDimension;
+import com.godev.linkhubservice.domain.repository.ViewDimensionRepository;
+import com.godev.linkhubservice.properties.PageViewProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PageViewDimensionServiceImplTest {
+
+    @Mock
+    private ViewDimensionRepository viewDimensionRepository;
+
+    private PageViewDimensionServiceImpl pageViewDimensionService;
+
+    private PageViewProperties properties;
+
+    @BeforeEach
+    void setup(){
+        this.properties = new PageViewProperties();
+        this.pageViewDimensionService = new PageViewDimensionServiceImpl(this.viewDimensionRepository,
+                this.properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Should create an unknown value once and serve it from memory afterwards")
+    void idOfCachesCreatedValue(){
+        //arrange
+        when(this.viewDimensionRepository.findByDimensionAndValue(PageViewDimension.UTM_SOURCE, "instagram"))
+                .thenReturn(Optional.empty());
+        when(this.viewDimensionRepository.save(ArgumentMatchers.any(ViewDimension.class)))
+                .thenReturn(new ViewDimension(7, PageViewDimension.UTM_SOURCE, "instagram"));
+
+        //action
+        final var first = this.pageViewDimensionService.idOf(PageViewDimension.UTM_SOURCE, "instagram");
+        final var second = this.pageViewDimensionService.idOf(PageViewDimension.UTM_SOURCE, "instagram");
+
+        //assertions
+        Assertions.assertEquals(7, first);
+        Assertions.assertEquals(7, second);
+        verify(this.viewDimensionRepository, times(1)).save(ArgumentMatchers.any(ViewDimension.class));
+    }
+
+    @Test
+    @DisplayName("Should read the value back when another instance created it first")
+    void idOfAfterConcurrentInsert(){
+        //arrange
+        when(this.viewDimensionRepository.findByDimensionAndValue(PageViewDimension.REFERRER, "instagram.com"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(new ViewDimension(3, PageViewDimension.REFERRER, "instagram.com")));
+        when(this.viewDimensionRepository.save(ArgumentMatchers.any(ViewDimension.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        //action
+        final var id = this.pageViewDimensionService.idOf(PageViewDimension.REFERRER, "instagram.com");
+
+        //assertions
+        Assertions.assertEquals(3, id);
+    }
+
+    @Test
+    @DisplayName("Should count new values as other once a dimension is full, without asking the database again")
+    void idOfFoldsValuesPastTheCap(){
+        //arrange
+        this.properties.getDimensions().setMaxValues(2);
+        when(this.viewDimensionRepository.findByDimensionAndValue(ArgumentMatchers.eq(PageViewDimension.UTM_CAMPAIGN),
+                ArgumentMatchers.anyString())).thenReturn(Optional.empty());
+        when(this.viewDimensionRepository.countByDimension(PageViewDimension.UTM_CAMPAIGN)).thenReturn(2L);
+        when(this.viewDimensionRepository.findByDimension(PageViewDimension.UTM_CAMPAIGN)).thenReturn(List.of(
+                new ViewDimension(1, PageViewDimension.UTM_CAMPAIGN, "launch"),
+                new ViewDimension(2, PageViewDimension.UTM_CAMPAIGN, "summer")));
+        when(this.viewDimensionRepository.save(ArgumentMatchers.any(ViewDimension.class)))
+                .thenReturn(new ViewDimension(3, PageViewDimension.UTM_CAMPAIGN, "other"));
+
+        //action
+        final var folded = this.pageViewDimensionService.idOf(PageViewDimension.UTM_CAMPAIGN, "random-1");
+        final var stored = this.pageViewDimensionService.idOf(PageViewDimension.UTM_CAMPAIGN, "summer");
+        final var foldedAgain = this.pageViewDimensionService.idOf(PageViewDimension.UTM_CAMPAIGN, "random-2");
+
+        //assertions
+        Assertions.assertEquals(3, folded);
+        Assertions.assertEquals(2, stored);
+        Assertions.assertEquals(3, foldedAgain);
+        Assertions.assertEquals("other", this.pageViewDimensionService.valueOf(3));
+        verify(this.viewDimensionRepository, times(1)).countByDimension(PageViewDimension.UTM_CAMPAIGN);
+        verify(this.viewDimensionRepository, times(1)).save(ArgumentMatchers.any(ViewDimension.class));
+    }
+
+    @Test
+    @DisplayName("Should count a value the database refuses as other instead of failing")
+    void idOfFoldsRefusedValue(){
+        //arrange
+        when(this.viewDimensionRepository.findByDimensionAndValue(PageViewDimension.UTM_SOURCE, "\uD83D\uDE80"))
+                .thenReturn(Optional.empty());
+        when(this.viewDimensionRepository.findByDimensionAndValue(PageViewDimension.UTM_SOURCE, "other"))
+                .thenReturn(Optional.of(new ViewDimension(4, PageViewDimension.UTM_SOURCE, "other")));
+        when(this.viewDimensionRepository.save(ArgumentMatchers.any(ViewDimension.class)))
+                .thenThrow(new DataIntegrityViolationException("Incorrect string value"));
+
+        //action
+        final var id = this.pageViewDimensionService.idOf(PageViewDimension.UTM_SOURCE, "\uD83D\uDE80");
+
+        //assertions
+        Assertions.assertEquals(4, id);
+    }
+
+    @Test
+    @DisplayName("Should resolve ids back to values loading unknown ids only once")
+    void valueOfLoadsOnce(){
+        //arrange
+        when(this.viewDimensionRepository.findById(9))
+                .thenReturn(Optional.of(new ViewDimension(9, PageViewDimension.UTM_MEDIUM, "social")));
+
+        //action
+        final var first = this.pageViewDimensionService.valueOf(9);
+        final var second = this.pageViewDimensionService.valueOf(9);
+
+        //assertions
+        Assertions.assertEquals("social", first);
+        Assertions.assertEquals("social", second);
+        verify(this.viewDimensionRepository, times(1)).findById(9);
+    }
+}
@@ -0,0 +1,202 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.godev.linkhubservice.domain.enums.PageViewDimension;
+import com.godev.linkhubservice.domain.vo.PageViewEventsQuery;
+import com.godev.linkhubservice.domain.vo.PageViewRequest;
+import com.godev.linkhubservice.domain.vo.ViewEvent;
+import com.godev.linkhubservice.properties.PageViewProperties;
+import com.godev.linkhubservice.services.PageViewDimensionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PageViewEventServiceImplTest {
+
+    @Mock
+    private PageViewDimensionService pageViewDimensionService;
+
+    @TempDir
+    private Path directory;
+
+    private PageViewProperties pageViewProperties;
+
+    private final OffsetDateTime day = OffsetDateTime.parse("2023-06-09T00:00:00Z");
+
+    @BeforeEach
+    void setup(){
+        this.pageViewProperties = new PageViewProperties();
+        this.pageViewProperties.getEvents().setPath(this.directory.toString());
+        this.pageViewProperties.getEvents().setSegmentSize(2);
+        this.pageViewProperties.getEvents().setRetention(Duration.ofDays(36_500));
+    }
+
+    @Test
+    @DisplayName("Should seal pending events into segments that survive a restart")
+    void sealedEventsAreReadAfterReopen() throws IOException {
+        //arrange
+        when(this.pageViewDimensionService.idOf(PageViewDimension.UTM_SOURCE, "instagram")).thenReturn(5);
+        final var store = this.store();
+        store.open();
+        store.append(this.request(1, "Instagram"), this.day.plusHours(1), 1);
+        store.append(this.request(2, null), this.day.plusHours(2), 1);
+        store.append(this.request(1, null), this.day.plusHours(3), 3);
+        store.append(this.request(1, null), this.day.plusDays(1), 1);
+
+        //action
+        store.seal();
+        final var reopened = this.store();
+        reopened.open();
+        final var events = new ArrayList<ViewEvent>();
+        reopened.scan(1, this.day, this.day.plusDays(1), events::add);
+
+        //assertions
+        try (var files = Files.list(this.directory)) {
+            Assertions.assertEquals(2, files.count());
+        }
+        Assertions.assertEquals(List.of(
+                new ViewEvent(this.day.plusHours(1).toInstant().toEpochMilli(), 1, 1, 0, 5, 0, 0),
+                new ViewEvent(this.day.plusHours(3).toInstant().toEpochMilli(), 1, 3, 0, 0, 0, 0)), events);
+    }
+
+    @Test
+    @DisplayName("Should write the events of the page with their source values as JSON")
+    void writeEvents() throws IOException {
+        //arrange
+        when(this.pageViewDimensionService.idOf(PageViewDimension.UTM_SOURCE, "instagram")).thenReturn(5);
+        when(this.pageViewDimensionService.valueOf(5)).thenReturn("instagram");
+        final var store = this.store();
+        final var output = new ByteArrayOutputStream();
+        store.open();
+        store.append(this.request(1, "instagram"), this.day.plusHours(1), 1);
+        store.seal();
+
+        //action
+        store.write(new PageViewEventsQuery(1, LocalDate.parse("2023-06-09"), LocalDate.parse("2023-06-09")), output);
+
+        //assertions
+        Assertions.assertEquals("{\"from\":\"2023-06-09\",\"to\":\"2023-06-09\",\"events\":"
+                + "[{\"timestamp\":\"2023-06-09T01:00:00Z\",\"count\":1,\"utmSource\":\"instagram\"}]}", output.toString());
+    }
+
+    @Test
+    @DisplayName("Should seal every event even when the dictionary refuses one of their values")
+    void sealSurvivesDictionaryFailure() throws IOException {
+        //arrange
+        when(this.pageViewDimensionService.idOf(PageViewDimension.UTM_SOURCE, "instagram")).thenReturn(5);
+        when(this.pageViewDimensionService.idOf(PageViewDimension.UTM_SOURCE, "broken"))
+                .thenThrow(new IllegalStateException("Incorrect string value"));
+        final var store = this.store();
+        final var events = new ArrayList<ViewEvent>();
+        store.open();
+        store.append(this.request(1, "broken"), this.day.plusHours(1), 1);
+        store.append(this.request(1, "instagram"), this.day.plusHours(2), 1);
+
+        //action
+        store.seal();
+        store.scan(1, this.day, this.day.plusDays(1), events::add);
+
+        //assertions
+        Assertions.assertEquals(List.of(
+                new ViewEvent(this.day.plusHours(1).toInstant().toEpochMilli(), 1, 1, 0, 0, 0, 0),
+                new ViewEvent(this.day.plusHours(2).toInstant().toEpochMilli(), 1, 1, 0, 5, 0, 0)), events);
+    }
+
+    @Test
+    @DisplayName("Should delete segments whose events are all past the retention")
+    void sealDeletesExpiredSegments() throws IOException {
+        //arrange
+        this.pageViewProperties.getEvents().setRetention(Duration.ofDays(1));
+        final var store = this.store();
+        final var events = new ArrayList<ViewEvent>();
+        final var now = OffsetDateTime.now();
+        store.open();
+        store.append(this.request(1, null), now.minusDays(3), 1);
+        store.seal();
+        store.append(this.request(1, null), now, 1);
+
+        //action
+        store.seal();
+        store.scan(1, now.minusDays(7), now.plusDays(1), events::add);
+
+        //assertions
+        try (var files = Files.list(this.directory)) {
+            Assertions.assertEquals(1, files.count());
+        }
+        Assertions.assertEquals(1, events.size());
+    }
+
+    @Test
+    @DisplayName("Should drop events when too many are waiting to be sealed")
+    void appendBeyondMaxPendingIsDropped() throws IOException {
+        //arrange
+        this.pageViewProperties.getEvents().setMaxPending(1);
+        this.pageViewProperties.getEvents().setSegmentSize(10);
+        final var store = this.store();
+        final var events = new ArrayList<ViewEvent>();
+        store.open();
+
+        //action
+        store.append(this.request(1, null), this.day, 1);
+        store.append(this.request(1, null), this.day, 1);
+        store.seal();
+        store.scan(1, this.day, this.day.plusDays(1), events::add);
+
+        //assertions
+        Assertions.assertEquals(1, events.size());
+    }
+
+    @Test
+    @DisplayName("Should not store anything when no path is configured")
+    void disabledWithoutPath() throws IOException {
+        //arrange
+        this.pageViewProperties.getEvents().setPath(null);
+        final var store = this.store();
+        store.open();
+
+        //action
+        store.append(this.request(1, "instagram"), this.day, 1);
+        store.seal();
+
+        //assertions
+        try (var files = Files.list(this.directory)) {
+            Assertions.assertEquals(0, files.count());
+        }
+        verifyNoInteractions(this.pageViewDimensionService);
+    }
+
+    private PageViewEventServiceImpl store() {
+        return new PageViewEventServiceImpl(this.pageViewProperties, this.pageViewDimensionService,
+                new ObjectMapper().findAndRegisterModules()
+                        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS),
+                new SimpleMeterRegistry());
+    }
+
+    private PageViewRequest request(Integer pageId, String utmSource) {
+        return PageViewRequest.builder()
+                .withPageId(pageId)
+                .withUtmSource(utmSource)
+                .build();
+    }
+}
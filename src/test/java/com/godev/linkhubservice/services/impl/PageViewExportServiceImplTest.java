@@ -0,0 +1,89 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.godev.linkhubservice.domain.enums.PageViewExportFormat;
+import com.godev.linkhubservice.domain.enums.PageViewGranularity;
+import com.godev.linkhubservice.domain.repository.PageViewRepository;
+import com.godev.linkhubservice.domain.vo.PageViewExportQuery;
+import com.godev.linkhubservice.domain.vo.PageViewRow;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.function.Consumer;
+
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class PageViewExportServiceImplTest {
+
+    @Mock
+    private PageViewRepository pageViewRepository;
+
+    private PageViewExportServiceImpl pageViewExportService;
+
+    private final LocalDate from = LocalDate.parse("2023-06-01");
+    private final LocalDate to = LocalDate.parse("2023-06-30");
+
+    @BeforeEach
+    void setup(){
+        this.pageViewExportService = new PageViewExportServiceImpl(this.pageViewRepository,
+                new ObjectMapper().findAndRegisterModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+    }
+
+    @Test
+    @DisplayName("Should write a csv header and one line per row")
+    void writeCsv() throws IOException {
+        //arrange
+        final var output = new ByteArrayOutputStream();
+        this.rows();
+
+        //action
+        this.pageViewExportService.write(new PageViewExportQuery(1, this.from, this.to, PageViewExportFormat.CSV), output);
+
+        //assertions
+        Assertions.assertEquals("""
+                date,granularity,total
+                2023-06-01T00:00:00Z,DAY,12
+                2023-06-09T13:00:00Z,HOUR,3
+                """, output.toString());
+    }
+
+    @Test
+    @DisplayName("Should write one json object per line")
+    void writeNdjson() throws IOException {
+        //arrange
+        final var output = new ByteArrayOutputStream();
+        this.rows();
+
+        //action
+        this.pageViewExportService.write(new PageViewExportQuery(1, this.from, this.to, PageViewExportFormat.NDJSON), output);
+
+        //assertions
+        Assertions.assertEquals("""
+                {"date":"2023-06-01T00:00:00Z","granularity":"DAY","total":12}
+                {"date":"2023-06-09T13:00:00Z","granularity":"HOUR","total":3}
+                """, output.toString());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void rows() {
+        doAnswer(invocation -> {
+            final var consumer = (Consumer<PageViewRow>) invocation.getArgument(3);
+            consumer.accept(new PageViewRow(OffsetDateTime.parse("2023-06-01T00:00:00Z"), PageViewGranularity.DAY, 12L));
+            consumer.accept(new PageViewRow(OffsetDateTime.parse("2023-06-09T13:00:00Z"), PageViewGranularity.HOUR, 3L));
+            return null;
+        }).when(this.pageViewRepository).streamRows(ArgumentMatchers.eq(1), ArgumentMatchers.eq(this.from),
+                ArgumentMatchers.eq(this.to), ArgumentMatchers.any());
+    }
+}
@@ -0,0 +1,141 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.godev.linkhubservice.domain.enums.PageViewGranularity;
+import com.godev.linkhubservice.domain.enums.PageViewMode;
+import com.godev.linkhubservice.domain.vo.PageViewKey;
+import com.godev.linkhubservice.properties.PageViewProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+class PageViewJournalServiceImplTest {
+
+    private PageViewProperties pageViewProperties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @TempDir
+    private Path directory;
+
+    private final PageViewKey first = new PageViewKey(1, PageViewGranularity.HOUR, OffsetDateTime.parse("2023-06-09T10:00:00Z"));
+
+    private final PageViewKey second = new PageViewKey(2, PageViewGranularity.HOUR, OffsetDateTime.parse("2023-06-09T11:00:00Z"));
+
+    @BeforeEach
+    void setup(){
+        this.pageViewProperties = new PageViewProperties();
+        this.pageViewProperties.setMode(PageViewMode.WRITE_BEHIND);
+        this.pageViewProperties.getJournal().setPath(this.directory.resolve("page-views.journal").toString());
+        this.pageViewProperties.getJournal().setCapacity(16);
+        this.meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Should replay only the increments written after the last checkpoint")
+    void replayAfterCheckpoint() throws IOException {
+        //arrange
+        final var journal = this.open();
+        journal.append(this.first, 1);
+        journal.append(this.first, 1);
+        final var mark = journal.mark();
+        journal.append(this.first, 1);
+        journal.append(this.second, 1);
+
+        //action
+        journal.checkpoint(mark);
+        final var replayed = this.open().replay();
+
+        //assertions
+        Assertions.assertEquals(Map.of(this.first, 1L, this.second, 1L), replayed);
+    }
+
+    @Test
+    @DisplayName("Should replay every increment when no flush was checkpointed")
+    void replayWithoutCheckpoint() throws IOException {
+        //arrange
+        final var journal = this.open();
+        journal.append(this.first, 1);
+        journal.append(this.second, 3);
+
+        //action
+        final var reopened = this.open();
+
+        //assertions
+        Assertions.assertEquals(Map.of(this.first, 1L, this.second, 3L), reopened.replay());
+        Assertions.assertEquals(Map.of(), reopened.replay());
+        Assertions.assertEquals(2L * PageViewJournalServiceImpl.RECORD_SIZE, reopened.mark());
+    }
+
+    @Test
+    @DisplayName("Should compact the journal down to the pending increments once it is half full")
+    void compactWhenHalfFull() throws IOException {
+        //arrange
+        final var journal = this.open();
+        for (int i = 0; i < 9; i++) {
+            journal.append(this.first, 1);
+        }
+        final var mark = journal.mark();
+        journal.append(this.second, 1);
+
+        //action
+        journal.checkpoint(mark);
+        journal.append(this.second, 1);
+        final var replayed = this.open().replay();
+
+        //assertions
+        Assertions.assertEquals(2L * PageViewJournalServiceImpl.RECORD_SIZE, journal.mark());
+        Assertions.assertEquals(Map.of(this.second, 2L), replayed);
+    }
+
+    @Test
+    @DisplayName("Should compact the journal when it is too full to take the checkpoint")
+    void compactWhenCheckpointDoesNotFit() throws IOException {
+        //arrange
+        final var journal = this.open();
+        journal.append(this.first, 1);
+        journal.append(this.first, 1);
+        final var mark = journal.mark();
+        for (int i = 0; i < 14; i++) {
+            journal.append(this.second, 1);
+        }
+
+        //action
+        journal.checkpoint(mark);
+        final var replayed = this.open().replay();
+
+        //assertions
+        Assertions.assertEquals(14L * PageViewJournalServiceImpl.RECORD_SIZE, journal.mark());
+        Assertions.assertEquals(Map.of(this.second, 14L), replayed);
+    }
+
+    @Test
+    @DisplayName("Should count the increments that did not fit in a full journal")
+    void countOverflow() throws IOException {
+        //arrange
+        final var journal = this.open();
+
+        //action
+        for (int i = 0; i < 20; i++) {
+            journal.append(this.first, 1);
+        }
+
+        //assertions
+        Assertions.assertEquals(16L * PageViewJournalServiceImpl.RECORD_SIZE, journal.mark());
+        Assertions.assertEquals(4, this.meterRegistry.get("page.view.journal.overflow").counter().count());
+        Assertions.assertEquals(Map.of(this.first, 16L), this.open().replay());
+    }
+
+    private PageViewJournalServiceImpl open() throws IOException {
+        final var journal = new PageViewJournalServiceImpl(this.pageViewProperties, this.meterRegistry);
+        journal.open();
+        return journal;
+    }
+}
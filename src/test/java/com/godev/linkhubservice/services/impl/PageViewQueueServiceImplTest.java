@@ -0,0 +1,101 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.godev.linkhubservice.domain.enums.PageViewGranularity;
+import com.godev.linkhubservice.domain.enums.PageViewMode;
+import com.godev.linkhubservice.domain.repository.PageViewRepository;
+import com.godev.linkhubservice.domain.vo.PageViewKey;
+import com.godev.linkhubservice.properties.PageViewProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class PageViewQueueServiceImplTest {
+
+    @Mock
+    private PageViewRepository pageViewRepository;
+
+    private PageViewProperties pageViewProperties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private PageViewQueueServiceImpl pageViewQueueService;
+
+    private final OffsetDateTime today = OffsetDateTime.parse("2023-06-09T00:00:00Z");
+
+    @BeforeEach
+    void setup(){
+        this.pageViewProperties = new PageViewProperties();
+        this.pageViewProperties.getQueue().setCapacity(10);
+        this.meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void teardown() throws InterruptedException {
+        this.pageViewQueueService.stop();
+    }
+
+    @Test
+    @DisplayName("Should refuse page views once the queue is full and expose its depth")
+    void offerQueueFull(){
+        //arrange
+        this.pageViewQueueService = new PageViewQueueServiceImpl(this.pageViewRepository, this.pageViewProperties,
+                this.meterRegistry);
+        this.pageViewQueueService.start();
+
+        //action
+        final var accepted = IntStream.range(0, 15)
+                .filter(i -> this.pageViewQueueService.offer(1, this.today))
+                .count();
+
+        //assertions
+        Assertions.assertEquals(10, accepted);
+        Assertions.assertEquals(10, this.meterRegistry.get("page.view.queue.depth").gauge().value());
+        Assertions.assertEquals(5, this.meterRegistry.get("page.view.queue.overflow").counter().count());
+        verifyNoInteractions(this.pageViewRepository);
+    }
+
+    @Test
+    @DisplayName("Should drain queued page views in batches aggregated by page and day")
+    void consumersDrainQueue() throws InterruptedException {
+        //arrange
+        this.pageViewProperties.setMode(PageViewMode.ASYNC);
+        this.pageViewQueueService = new PageViewQueueServiceImpl(this.pageViewRepository, this.pageViewProperties,
+                this.meterRegistry);
+        final var captor = ArgumentCaptor.forClass(Map.class);
+
+        //action
+        IntStream.range(0, 6).forEach(i -> this.pageViewQueueService.offer(i % 2, this.today));
+        this.pageViewQueueService.start();
+
+        verify(this.pageViewRepository, timeout(5_000).atLeastOnce()).incrementTotals(anyMap());
+        this.pageViewQueueService.stop();
+
+        //assertions
+        verify(this.pageViewRepository, atLeastOnce()).incrementTotals(captor.capture());
+        final var written = captor.getAllValues().stream()
+                .flatMap(deltas -> ((Map<?, ?>) deltas).entrySet().stream())
+                .filter(entry -> entry.getKey().equals(new PageViewKey(0, PageViewGranularity.HOUR, this.today)))
+                .mapToLong(entry -> (Long) entry.getValue())
+                .sum();
+        Assertions.assertEquals(3, written);
+        Assertions.assertEquals(0, this.pageViewQueueService.depth());
+    }
+}
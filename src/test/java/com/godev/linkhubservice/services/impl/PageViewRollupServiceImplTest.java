@@ -0,0 +1,79 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.godev.linkhubservice.domain.enums.PageViewGranularity;
+import com.godev.linkhubservice.domain.repository.PageViewRepository;
+import com.godev.linkhubservice.properties.PageViewProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PageViewRollupServiceImplTest {
+
+    @Mock
+    private PageViewRepository pageViewRepository;
+
+    private PageViewRollupServiceImpl pageViewRollupService;
+
+    private final OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+
+    @BeforeEach
+    void setup(){
+        this.pageViewRollupService = new PageViewRollupServiceImpl(this.pageViewRepository, new PageViewProperties());
+    }
+
+    @Test
+    @DisplayName("Should pick hourly tier for recent views, daily for older ones and monthly past daily retention")
+    void tierForAge(){
+        //assertions
+        Assertions.assertEquals(PageViewGranularity.HOUR, this.pageViewRollupService.tierFor(this.now));
+        Assertions.assertEquals(PageViewGranularity.HOUR, this.pageViewRollupService.tierFor(this.now.minusDays(6)));
+        Assertions.assertEquals(PageViewGranularity.DAY, this.pageViewRollupService.tierFor(this.now.minusDays(9)));
+        Assertions.assertEquals(PageViewGranularity.MONTH, this.pageViewRollupService.tierFor(this.now.minusDays(200)));
+    }
+
+    @Test
+    @DisplayName("Should compact every expired hourly day and daily month until nothing is left behind the cutoffs")
+    void compactUntilCutoff(){
+        //arrange
+        final var oldHour = this.now.minusDays(20).withHour(13);
+        final var olderHour = this.now.minusDays(21).withHour(2);
+        final var oldDay = this.now.minusDays(400);
+
+        when(this.pageViewRepository.findOldestBucket(eq(PageViewGranularity.HOUR), any()))
+                .thenReturn(Optional.of(olderHour))
+                .thenReturn(Optional.of(oldHour))
+                .thenReturn(Optional.empty());
+        when(this.pageViewRepository.findOldestBucket(eq(PageViewGranularity.DAY), any()))
+                .thenReturn(Optional.of(oldDay))
+                .thenReturn(Optional.empty());
+
+        //action
+        this.pageViewRollupService.compact();
+
+        //assertions
+        verify(this.pageViewRepository, times(1)).compact(PageViewGranularity.HOUR, PageViewGranularity.DAY,
+                PageViewGranularity.DAY.truncate(olderHour), 100);
+        verify(this.pageViewRepository, times(1)).compact(PageViewGranularity.HOUR, PageViewGranularity.DAY,
+                PageViewGranularity.DAY.truncate(oldHour), 100);
+        verify(this.pageViewRepository, times(1)).compact(PageViewGranularity.DAY, PageViewGranularity.MONTH,
+                PageViewGranularity.MONTH.truncate(oldDay), 100);
+        verify(this.pageViewRepository, never()).compact(eq(PageViewGranularity.MONTH), any(), any(), anyInt());
+    }
+}
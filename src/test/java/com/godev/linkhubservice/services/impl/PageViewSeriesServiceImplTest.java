@@ -0,0 +1,133 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.godev.linkhubservice.domain.enums.PageViewSeriesGranularity;
+import com.godev.linkhubservice.domain.repository.PageViewRepository;
+import com.godev.linkhubservice.domain.vo.PageViewPoint;
+import com.godev.linkhubservice.domain.vo.PageViewSeriesQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PageViewSeriesServiceImplTest {
+
+    @Mock
+    private PageViewRepository pageViewRepository;
+
+    private PageViewSeriesServiceImpl pageViewSeriesService;
+
+    @BeforeEach
+    void setup(){
+        final var objectMapper = new ObjectMapper().registerModule(new JavaTimeModule()).disable(WRITE_DATES_AS_TIMESTAMPS);
+        this.pageViewSeriesService = new PageViewSeriesServiceImpl(this.pageViewRepository, objectMapper);
+    }
+
+    @Test
+    @DisplayName("Should write every day of the range filling the days without views with zero")
+    void writeDailySeriesWithGaps() throws IOException {
+        //arrange
+        final var from = LocalDate.parse("2023-06-01");
+        final var to = LocalDate.parse("2023-06-05");
+        this.stream(from, to, PageViewSeriesGranularity.DAY,
+                new PageViewPoint(LocalDate.parse("2023-06-02"), 3L),
+                new PageViewPoint(LocalDate.parse("2023-06-04"), 7L));
+        final var outputStream = new ByteArrayOutputStream();
+
+        //action
+        this.pageViewSeriesService.write(new PageViewSeriesQuery(1, from, to, PageViewSeriesGranularity.DAY), outputStream);
+
+        //assertions
+        Assertions.assertEquals("{\"from\":\"2023-06-01\",\"to\":\"2023-06-05\",\"granularity\":\"DAY\",\"series\":[" +
+                "{\"date\":\"2023-06-01\",\"total\":0},{\"date\":\"2023-06-02\",\"total\":3}," +
+                "{\"date\":\"2023-06-03\",\"total\":0},{\"date\":\"2023-06-04\",\"total\":7}," +
+                "{\"date\":\"2023-06-05\",\"total\":0}]}", outputStream.toString());
+    }
+
+    @Test
+    @DisplayName("Should write every month touched by the range when no view was stored")
+    void writeEmptyMonthlySeries() throws IOException {
+        //arrange
+        final var from = LocalDate.parse("2023-05-15");
+        final var to = LocalDate.parse("2023-07-02");
+        this.stream(LocalDate.parse("2023-05-01"), LocalDate.parse("2023-07-31"), PageViewSeriesGranularity.MONTH);
+        final var outputStream = new ByteArrayOutputStream();
+
+        //action
+        this.pageViewSeriesService.write(new PageViewSeriesQuery(1, from, to, PageViewSeriesGranularity.MONTH), outputStream);
+
+        //assertions
+        Assertions.assertTrue(outputStream.toString().endsWith("\"series\":[" +
+                "{\"date\":\"2023-05-01\",\"total\":0},{\"date\":\"2023-06-01\",\"total\":0}," +
+                "{\"date\":\"2023-07-01\",\"total\":0}]}"));
+    }
+
+    @Test
+    @DisplayName("Should read whole months so a compacted month the range starts inside keeps its total")
+    void writeCompactedFirstMonth() throws IOException {
+        //arrange
+        final var from = LocalDate.parse("2023-02-15");
+        final var to = LocalDate.parse("2023-03-10");
+        this.stream(LocalDate.parse("2023-02-01"), LocalDate.parse("2023-03-31"), PageViewSeriesGranularity.MONTH,
+                new PageViewPoint(LocalDate.parse("2023-02-01"), 40L),
+                new PageViewPoint(LocalDate.parse("2023-03-01"), 5L));
+        final var outputStream = new ByteArrayOutputStream();
+
+        //action
+        this.pageViewSeriesService.write(new PageViewSeriesQuery(1, from, to, PageViewSeriesGranularity.MONTH), outputStream);
+
+        //assertions
+        Assertions.assertTrue(outputStream.toString().endsWith("\"series\":[" +
+                "{\"date\":\"2023-02-01\",\"total\":40},{\"date\":\"2023-03-01\",\"total\":5}]}"));
+    }
+
+    @Test
+    @DisplayName("Should write the days and weeks of a compacted month as gaps instead of zeros")
+    void writeCompactedMonthAsGaps() throws IOException {
+        //arrange
+        final var from = LocalDate.parse("2023-02-27");
+        final var to = LocalDate.parse("2023-03-13");
+        this.stream(from, to, PageViewSeriesGranularity.WEEK,
+                new PageViewPoint(LocalDate.parse("2023-02-27"), 4L),
+                new PageViewPoint(LocalDate.parse("2023-03-06"), 9L));
+        final var outputStream = new ByteArrayOutputStream();
+
+        when(this.pageViewRepository.findCompactedMonths(1, from, to)).thenReturn(List.of(LocalDate.parse("2023-02-01")));
+
+        //action
+        this.pageViewSeriesService.write(new PageViewSeriesQuery(1, from, to, PageViewSeriesGranularity.WEEK), outputStream);
+
+        //assertions
+        Assertions.assertTrue(outputStream.toString().endsWith("\"series\":[" +
+                "{\"date\":\"2023-02-27\",\"total\":null},{\"date\":\"2023-03-06\",\"total\":9}," +
+                "{\"date\":\"2023-03-13\",\"total\":0}]}"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stream(LocalDate from, LocalDate to, PageViewSeriesGranularity granularity, PageViewPoint... points) {
+        doAnswer(invocation -> {
+            final var consumer = (Consumer<PageViewPoint>) invocation.getArgument(4);
+            for (PageViewPoint point : points) {
+                consumer.accept(point);
+            }
+            return null;
+        }).when(this.pageViewRepository).streamSeries(eq(1), eq(granularity), eq(from), eq(to), any());
+    }
+}
@@ -0,0 +1,68 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.godev.linkhubservice.properties.PageViewProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.stream.IntStream;
+
+class PageViewShardServiceImplTest {
+
+    private PageViewProperties pageViewProperties;
+
+    private PageViewShardServiceImpl pageViewShardService;
+
+    @BeforeEach
+    void setup(){
+        this.pageViewProperties = new PageViewProperties();
+        this.pageViewProperties.getShards().setMax(8);
+        this.pageViewProperties.getShards().setWritesPerSecond(10);
+        this.pageViewProperties.getShards().setWindow(Duration.ofSeconds(1));
+
+        this.pageViewShardService = new PageViewShardServiceImpl(this.pageViewProperties);
+    }
+
+    @Test
+    @DisplayName("Should write every view of a quiet page on shard zero")
+    void quietPageUsesSingleShard(){
+        //action
+        IntStream.range(0, 5).forEach(i -> this.pageViewShardService.shardFor(1));
+        this.pageViewShardService.rebalance();
+
+        //assertions
+        Assertions.assertEquals(1, this.pageViewShardService.shardCount(1));
+        Assertions.assertEquals(0, this.pageViewShardService.shardFor(1));
+    }
+
+    @Test
+    @DisplayName("Should spread a busy page over a power of two shards once it crosses the threshold")
+    void busyPageScalesUp(){
+        //action
+        IntStream.range(0, 35).forEach(i -> this.pageViewShardService.shardFor(1));
+        this.pageViewShardService.rebalance();
+
+        //assertions
+        Assertions.assertEquals(4, this.pageViewShardService.shardCount(1));
+        IntStream.range(0, 100).forEach(i -> {
+            final var shard = this.pageViewShardService.shardFor(1);
+            Assertions.assertTrue(shard >= 0 && shard < 4);
+        });
+    }
+
+    @Test
+    @DisplayName("Should cap the shard count and scale back down when the page cools off")
+    void shardCountIsCappedAndDecays(){
+        //action
+        IntStream.range(0, 1_000).forEach(i -> this.pageViewShardService.shardFor(1));
+        this.pageViewShardService.rebalance();
+        final var busyShards = this.pageViewShardService.shardCount(1);
+        this.pageViewShardService.rebalance();
+
+        //assertions
+        Assertions.assertEquals(8, busyShards);
+        Assertions.assertEquals(1, this.pageViewShardService.shardCount(1));
+    }
+}
@@ -0,0 +1,116 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.godev.linkhubservice.domain.enums.PageViewDimension;
+import com.godev.linkhubservice.domain.repository.PageViewRepository;
+import com.godev.linkhubservice.domain.vo.PageViewRequest;
+import com.godev.linkhubservice.domain.vo.PageViewSourceKey;
+import com.godev.linkhubservice.services.PageViewDimensionService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PageViewSourceServiceImplTest {
+
+    @Mock
+    private PageViewRepository pageViewRepository;
+
+    @Mock
+    private PageViewDimensionService pageViewDimensionService;
+
+    private PageViewSourceServiceImpl pageViewSourceService;
+
+    private final OffsetDateTime day = OffsetDateTime.parse("2023-06-09T00:00:00Z");
+
+    @BeforeEach
+    void setup(){
+        this.pageViewSourceService = new PageViewSourceServiceImpl(this.pageViewRepository, this.pageViewDimensionService);
+    }
+
+    @Test
+    @DisplayName("Should flush one counter per page, day and normalized source")
+    @SuppressWarnings("unchecked")
+    void flushCountersBySource(){
+        //arrange
+        final var captor = ArgumentCaptor.forClass(Map.class);
+        when(this.pageViewDimensionService.idOf(PageViewDimension.REFERRER, "instagram.com")).thenReturn(1);
+        when(this.pageViewDimensionService.idOf(PageViewDimension.UTM_SOURCE, "instagram")).thenReturn(2);
+        when(this.pageViewDimensionService.idOf(PageViewDimension.UTM_CAMPAIGN, "launch")).thenReturn(3);
+
+        this.pageViewSourceService.offer(this.request("https://www.Instagram.com/stories/kibe", "Instagram ", "launch"),
+                this.day.plusHours(8), 1);
+        this.pageViewSourceService.offer(this.request("instagram.com", "instagram", null),
+                this.day.plusHours(20), 2);
+        this.pageViewSourceService.offer(this.request("not a url", " ", null), this.day.plusHours(21), 1);
+
+        //action
+        this.pageViewSourceService.flush();
+        this.pageViewSourceService.flush();
+
+        //assertions
+        verify(this.pageViewRepository, times(1)).incrementSources(captor.capture());
+        final var deltas = (Map<PageViewSourceKey, Long>) captor.getValue();
+        Assertions.assertEquals(Map.of(
+                new PageViewSourceKey(1, this.day, 1), 3L,
+                new PageViewSourceKey(1, this.day, 2), 3L,
+                new PageViewSourceKey(1, this.day, 3), 1L), deltas);
+    }
+
+    @Test
+    @DisplayName("Should keep source counters in memory when flush fails")
+    @SuppressWarnings("unchecked")
+    void flushFailureKeepsCounters(){
+        //arrange
+        final var captor = ArgumentCaptor.forClass(Map.class);
+        when(this.pageViewDimensionService.idOf(PageViewDimension.UTM_SOURCE, "instagram")).thenReturn(2);
+        doThrow(new QueryTimeoutException("timeout"))
+                .doNothing()
+                .when(this.pageViewRepository).incrementSources(anyMap());
+        this.pageViewSourceService.offer(this.request(null, "instagram", null), this.day, 1);
+
+        //action
+        this.pageViewSourceService.flush();
+        this.pageViewSourceService.offer(this.request(null, "instagram", null), this.day, 1);
+        this.pageViewSourceService.flush();
+
+        //assertions
+        verify(this.pageViewRepository, times(2)).incrementSources(captor.capture());
+        Assertions.assertEquals(Map.of(new PageViewSourceKey(1, this.day, 2), 2L), captor.getAllValues().get(1));
+    }
+
+    @Test
+    @DisplayName("Should not touch the dictionary when views carry no source")
+    void offerWithoutSource(){
+        //action
+        this.pageViewSourceService.offer(this.request(null, null, null), this.day, 1);
+        this.pageViewSourceService.flush();
+
+        //assertions
+        verifyNoInteractions(this.pageViewRepository, this.pageViewDimensionService);
+    }
+
+    private PageViewRequest request(String referrer, String utmSource, String utmCampaign) {
+        return PageViewRequest.builder()
+                .withPageId(1)
+                .withReferrer(referrer)
+                .withUtmSource(utmSource)
+                .withUtmCampaign(utmCampaign)
+                .build();
+    }
+}
@@ -0,0 +1,173 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.godev.linkhubservice.domain.vo.TrendingPage;
+import com.godev.linkhubservice.properties.PageViewProperties;
+import com.godev.linkhubservice.services.PageIdCacheService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PageViewTrendingServiceImplTest {
+
+    @Mock
+    private PageIdCacheService pageIdCacheService;
+
+    private PageViewProperties pageViewProperties;
+
+    @TempDir
+    private Path directory;
+
+    @BeforeEach
+    void setup(){
+        this.pageViewProperties = new PageViewProperties();
+        this.pageViewProperties.getTrending().setSize(2);
+        this.pageViewProperties.getTrending().setHalfLife(Duration.ofMinutes(1));
+        this.pageViewProperties.getTrending().setDecayInterval(Duration.ofMinutes(1));
+        this.pageViewProperties.getTrending().setSnapshotPath(this.directory.resolve("trending.snapshot").toString());
+
+        Mockito.lenient().when(this.pageIdCacheService.exists(anyInt())).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("Should keep only the most viewed pages, most viewed first")
+    void keepTopPages(){
+        //arrange
+        final var pageViewTrendingService = new PageViewTrendingServiceImpl(this.pageIdCacheService, this.pageViewProperties,
+                new SimpleMeterRegistry());
+
+        //action
+        pageViewTrendingService.record(1, 5);
+        pageViewTrendingService.record(2, 3);
+        pageViewTrendingService.record(3, 1);
+        pageViewTrendingService.record(3, 6);
+
+        //assertions
+        Assertions.assertEquals(List.of(new TrendingPage(3, 7d), new TrendingPage(1, 5d)), pageViewTrendingService.top());
+    }
+
+    @Test
+    @DisplayName("Should let recent views overtake older ones as scores decay")
+    void decayOldViews(){
+        //arrange
+        final var pageViewTrendingService = new PageViewTrendingServiceImpl(this.pageIdCacheService, this.pageViewProperties,
+                new SimpleMeterRegistry());
+        pageViewTrendingService.record(1, 8);
+
+        //action
+        pageViewTrendingService.decay();
+        pageViewTrendingService.decay();
+        pageViewTrendingService.record(2, 3);
+
+        //assertions
+        Assertions.assertEquals(List.of(new TrendingPage(2, 3d), new TrendingPage(1, 2d)), pageViewTrendingService.top());
+    }
+
+    @Test
+    @DisplayName("Should resume from the last snapshot after a restart")
+    void restoreFromSnapshot(){
+        //arrange
+        this.pageViewProperties.getTrending().setHalfLife(Duration.ofDays(365));
+        final var pageViewTrendingService = new PageViewTrendingServiceImpl(this.pageIdCacheService, this.pageViewProperties,
+                new SimpleMeterRegistry());
+        pageViewTrendingService.record(1, 4);
+        pageViewTrendingService.record(2, 9);
+        pageViewTrendingService.snapshot();
+
+        //action
+        final var restarted = new PageViewTrendingServiceImpl(this.pageIdCacheService, this.pageViewProperties,
+                new SimpleMeterRegistry());
+        restarted.restore();
+        restarted.record(1, 1);
+
+        //assertions
+        Assertions.assertEquals(2, restarted.top().size());
+        Assertions.assertEquals(2, restarted.top().get(0).pageId());
+        Assertions.assertEquals(9, restarted.top().get(0).score(), 0.01);
+        Assertions.assertEquals(5, restarted.top().get(1).score(), 0.01);
+    }
+
+    @Test
+    @DisplayName("Should leave pages that do not exist out of the ranking")
+    void skipUnknownPages(){
+        //arrange
+        final var pageViewTrendingService = new PageViewTrendingServiceImpl(this.pageIdCacheService, this.pageViewProperties,
+                new SimpleMeterRegistry());
+
+        when(this.pageIdCacheService.exists(404)).thenReturn(false);
+
+        //action
+        pageViewTrendingService.record(404, 50);
+        pageViewTrendingService.record(1, 2);
+
+        //assertions
+        Assertions.assertEquals(List.of(new TrendingPage(1, 2d)), pageViewTrendingService.top());
+    }
+
+    @Test
+    @DisplayName("Should only hold the pages viewed since the last fold")
+    void dropFoldedCounters(){
+        //arrange
+        this.pageViewProperties.getTrending().setHalfLife(Duration.ofDays(365));
+        final var meterRegistry = new SimpleMeterRegistry();
+        final var pageViewTrendingService = new PageViewTrendingServiceImpl(this.pageIdCacheService, this.pageViewProperties,
+                meterRegistry);
+        pageViewTrendingService.record(1, 3);
+        pageViewTrendingService.record(2, 1);
+
+        //action
+        pageViewTrendingService.fold();
+        final var afterFold = meterRegistry.get("page.view.trending.pending").gauge().value();
+        pageViewTrendingService.record(1, 2);
+
+        //assertions
+        Assertions.assertEquals(0, afterFold);
+        Assertions.assertEquals(1, meterRegistry.get("page.view.trending.pending").gauge().value());
+        Assertions.assertEquals(List.of(new TrendingPage(1, 5d), new TrendingPage(2, 1d)), pageViewTrendingService.top());
+        Assertions.assertEquals(0, meterRegistry.get("page.view.trending.pending").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should count every view recorded concurrently while folding")
+    void concurrentRecordsAreFolded() throws InterruptedException {
+        //arrange
+        this.pageViewProperties.getTrending().setHalfLife(Duration.ofDays(365));
+        final var pageViewTrendingService = new PageViewTrendingServiceImpl(this.pageIdCacheService, this.pageViewProperties,
+                new SimpleMeterRegistry());
+        final var executor = Executors.newFixedThreadPool(8);
+
+        //action
+        for (int i = 0; i < 8_000; i++) {
+            final var pageId = i % 2 + 1;
+            executor.execute(() -> {
+                pageViewTrendingService.record(pageId, 1);
+                if (pageId == 1) {
+                    pageViewTrendingService.fold();
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+
+        //assertions
+        Assertions.assertEquals(Set.of(new TrendingPage(1, 4_000d), new TrendingPage(2, 4_000d)),
+                Set.copyOf(pageViewTrendingService.top()));
+    }
+}
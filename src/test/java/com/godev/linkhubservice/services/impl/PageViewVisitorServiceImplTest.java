@@ -0,0 +1,100 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.godev.linkhubservice.domain.enums.PageViewGranularity;
+import com.godev.linkhubservice.domain.repository.PageViewRepository;
+import com.godev.linkhubservice.domain.sketches.Hashing;
+import com.godev.linkhubservice.domain.sketches.HyperLogLog;
+import com.godev.linkhubservice.domain.vo.PageViewKey;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PageViewVisitorServiceImplTest {
+
+    @Mock
+    private PageViewRepository pageViewRepository;
+
+    private PageViewVisitorServiceImpl pageViewVisitorService;
+
+    private final OffsetDateTime day = OffsetDateTime.parse("2023-06-09T00:00:00Z");
+
+    @BeforeEach
+    void setup(){
+        this.pageViewVisitorService = new PageViewVisitorServiceImpl(this.pageViewRepository);
+    }
+
+    @Test
+    @DisplayName("Should flush one sketch per page and day with every hashed visitor")
+    @SuppressWarnings("unchecked")
+    void flushSketchesByPageAndDay(){
+        //arrange
+        final var captor = ArgumentCaptor.forClass(Map.class);
+        final var expected = new HyperLogLog();
+        expected.offer(Hashing.hash64("kibe"));
+        expected.offer(Hashing.hash64("esfiha"));
+
+        this.pageViewVisitorService.offer(1, this.day.plusHours(8), "kibe");
+        this.pageViewVisitorService.offer(1, this.day.plusHours(9), "kibe");
+        this.pageViewVisitorService.offer(1, this.day.plusHours(20), "esfiha");
+        this.pageViewVisitorService.offer(2, this.day.plusHours(8), "kibe");
+
+        //action
+        this.pageViewVisitorService.flush();
+        this.pageViewVisitorService.flush();
+
+        //assertions
+        verify(this.pageViewRepository, times(1)).mergeVisitors(captor.capture());
+        final var sketches = (Map<PageViewKey, HyperLogLog>) captor.getValue();
+        Assertions.assertEquals(2, sketches.size());
+        Assertions.assertEquals(expected, sketches.get(new PageViewKey(1, PageViewGranularity.DAY, this.day)));
+        Assertions.assertEquals(1, sketches.get(new PageViewKey(2, PageViewGranularity.DAY, this.day)).estimate());
+    }
+
+    @Test
+    @DisplayName("Should keep sketches in memory when flush fails")
+    @SuppressWarnings("unchecked")
+    void flushFailureKeepsSketches(){
+        //arrange
+        final var captor = ArgumentCaptor.forClass(Map.class);
+        this.pageViewVisitorService.offer(1, this.day, "kibe");
+        doThrow(new QueryTimeoutException("timeout"))
+                .doNothing()
+                .when(this.pageViewRepository).mergeVisitors(anyMap());
+
+        //action
+        this.pageViewVisitorService.flush();
+        this.pageViewVisitorService.offer(1, this.day, "esfiha");
+        this.pageViewVisitorService.flush();
+
+        //assertions
+        verify(this.pageViewRepository, times(2)).mergeVisitors(captor.capture());
+        final var sketches = (Map<PageViewKey, HyperLogLog>) captor.getAllValues().get(1);
+        Assertions.assertEquals(2, sketches.get(new PageViewKey(1, PageViewGranularity.DAY, this.day)).estimate());
+    }
+
+    @Test
+    @DisplayName("Should not touch database when there is no visitor to flush")
+    void flushEmpty(){
+        //action
+        this.pageViewVisitorService.flush();
+
+        //assertions
+        verify(this.pageViewRepository, never()).mergeVisitors(anyMap());
+    }
+}
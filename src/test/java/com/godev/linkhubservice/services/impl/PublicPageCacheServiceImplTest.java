@@ -0,0 +1,144 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.godev.linkhubservice.domain.exceptions.Issue;
+import com.godev.linkhubservice.domain.exceptions.ObjectNotFoundException;
+import com.godev.linkhubservice.domain.vo.PublicPageResponse;
+import com.godev.linkhubservice.properties.PageProperties;
+import com.godev.linkhubservice.services.PublicPageSnapshotService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static com.godev.linkhubservice.domain.exceptions.IssueEnum.OBJECT_NOT_FOUND;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PublicPageCacheServiceImplTest {
+
+    private final List<String> loads = new ArrayList<>();
+
+    @Mock
+    private PublicPageSnapshotService publicPageSnapshotService;
+
+    private PublicPageCacheServiceImpl publicPageCacheService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setup(){
+        final var pageProperties = new PageProperties();
+        pageProperties.getPublicCache().setMaxSize(2);
+
+        this.publicPageCacheService = new PublicPageCacheServiceImpl(this.publicPageSnapshotService, pageProperties,
+                this.meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should read a slug once and load it again only after its page is evicted, rebuilding its snapshot")
+    void evictPageReloads(){
+        //arrange
+        this.publicPageCacheService.find("kibe", this::load);
+
+        //action
+        this.publicPageCacheService.find("kibe", this::load);
+        this.publicPageCacheService.evictPage(1);
+        final var page = this.publicPageCacheService.find("kibe", this::load);
+
+        //assertions
+        Assertions.assertEquals("kibe", page.getSlug());
+        Assertions.assertEquals(List.of("kibe", "kibe"), this.loads);
+        verify(this.publicPageSnapshotService, times(1)).schedule(1);
+    }
+
+    @Test
+    @DisplayName("Should keep no more pages than the configured maximum")
+    void fullCacheIsBounded(){
+        //arrange
+        this.publicPageCacheService.find("kibe", this::load);
+        this.publicPageCacheService.find("godev", this::load);
+
+        //action
+        this.publicPageCacheService.find("linkhub", this::load);
+
+        //assertions
+        Assertions.assertEquals(2.0, this.meterRegistry.get("page.public.cached").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should not keep a page that was evicted while it was being read")
+    void evictionDuringLoadIsNotCached(){
+        //arrange
+        this.publicPageCacheService.find("kibe", slug -> {
+            this.publicPageCacheService.evictPage(1);
+            return this.load(slug);
+        });
+
+        //action
+        this.publicPageCacheService.find("kibe", this::load);
+
+        //assertions
+        Assertions.assertEquals(List.of("kibe", "kibe"), this.loads);
+    }
+
+    @Test
+    @DisplayName("Should keep a page when another page is evicted while it is being read")
+    void evictionOfAnotherPageDuringLoadIsCached(){
+        //arrange
+        this.publicPageCacheService.find("kibe", slug -> {
+            this.publicPageCacheService.evictPage(2);
+            return this.load(slug);
+        });
+
+        //action
+        this.publicPageCacheService.find("kibe", this::load);
+
+        //assertions
+        Assertions.assertEquals(List.of("kibe"), this.loads);
+    }
+
+    @Test
+    @DisplayName("Should answer a missing slug from memory until a page takes it")
+    void missingSlugFromMemory(){
+        //arrange
+        final Function<String, PublicPageResponse> missing = slug -> {
+            this.loads.add(slug);
+            throw new ObjectNotFoundException(new Issue(OBJECT_NOT_FOUND, "Slug " + slug + " não encontrado."));
+        };
+
+        //action
+        final var first = Assertions.assertThrows(ObjectNotFoundException.class,
+                () -> this.publicPageCacheService.find("kibe", missing));
+        final var second = Assertions.assertThrows(ObjectNotFoundException.class,
+                () -> this.publicPageCacheService.find("kibe", missing));
+        this.publicPageCacheService.evictSlug("kibe");
+        final var page = this.publicPageCacheService.find("kibe", this::load);
+
+        //assertions
+        Assertions.assertEquals("Slug kibe não encontrado.", first.getIssue().getDetails().get(0));
+        Assertions.assertEquals("Slug kibe não encontrado.", second.getIssue().getDetails().get(0));
+        Assertions.assertEquals("kibe", page.getSlug());
+        Assertions.assertEquals(List.of("kibe", "kibe"), this.loads);
+    }
+
+    private PublicPageResponse load(String slug) {
+        this.loads.add(slug);
+        return PublicPageResponse.builder()
+                .withId(switch (slug) {
+                    case "kibe" -> 1;
+                    case "godev" -> 2;
+                    default -> 3;
+                })
+                .withSlug(slug)
+                .build();
+    }
+}
@@ -0,0 +1,224 @@
+package com.godev.linkhubservice.services.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.godev.linkhubservice.domain.repository.PageRepository;
+import com.godev.linkhubservice.domain.vo.PageRevision;
+import com.godev.linkhubservice.domain.vo.PublicPageResponse;
+import com.godev.linkhubservice.domain.vo.PublicPageRow;
+import com.godev.linkhubservice.properties.PageProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PublicPageSnapshotServiceImplTest {
+
+    private static final OffsetDateTime UPDATED_AT = OffsetDateTime.parse("2023-06-09T13:45:00Z");
+
+    @Mock
+    private PageRepository pageRepository;
+
+    @TempDir
+    private Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private PublicPageSnapshotServiceImpl publicPageSnapshotService;
+
+    @BeforeEach
+    void setup() throws IOException {
+        this.publicPageSnapshotService = this.open();
+    }
+
+    @AfterEach
+    void cleanup() throws IOException {
+        this.publicPageSnapshotService.close();
+    }
+
+    @Test
+    @DisplayName("Should write a snapshot of every page on refresh, reading them in batches")
+    void refreshWritesEveryPage() throws IOException {
+        //arrange
+        when(this.pageRepository.findRevisions()).thenReturn(List.of(this.revision(1, 0), this.revision(2, 0),
+                this.revision(3, 0)));
+        when(this.pageRepository.findPublicPageRowsByIds(ArgumentMatchers.anyList())).thenAnswer(invocation ->
+                invocation.<List<Integer>>getArgument(0).stream().map(id -> this.row(id, "page-" + id, 10 + id)).toList());
+
+        //action
+        this.publicPageSnapshotService.refresh();
+        this.publicPageSnapshotService.rebuild();
+
+        //assertions
+        verify(this.pageRepository, times(2)).findPublicPageRowsByIds(ArgumentMatchers.anyList());
+        for (var id : List.of(1, 2, 3)) {
+            final var snapshot = this.publicPageSnapshotService.find("page-" + id).orElseThrow();
+            final var page = this.objectMapper.readValue(Files.readAllBytes(snapshot), PublicPageResponse.class);
+            Assertions.assertEquals(id, page.getId());
+            Assertions.assertEquals(10 + id, page.getLinks().get(0).getId());
+        }
+    }
+
+    @Test
+    @DisplayName("Should write again only the pages changed since the last refresh")
+    void refreshWritesChangedPages() {
+        //arrange
+        when(this.pageRepository.findRevisions()).thenReturn(List.of(this.revision(1, 0), this.revision(2, 0)));
+        when(this.pageRepository.findRevisionsUpdatedSince(UPDATED_AT.minusMinutes(1)))
+                .thenReturn(List.of(this.revision(1, 0), this.revision(2, 5)));
+        when(this.pageRepository.findPublicPageRowsByIds(ArgumentMatchers.anyList())).thenAnswer(invocation ->
+                invocation.<List<Integer>>getArgument(0).stream().map(id -> this.row(id, "page-" + id, 10 + id)).toList());
+        this.publicPageSnapshotService.refresh();
+        this.publicPageSnapshotService.rebuild();
+
+        //action
+        this.publicPageSnapshotService.refresh();
+        this.publicPageSnapshotService.rebuild();
+
+        //assertions
+        verify(this.pageRepository).findPublicPageRowsByIds(List.of(2));
+    }
+
+    @Test
+    @DisplayName("Should stop serving a snapshot older than its ttl and write it again")
+    void expiredSnapshotIsWrittenAgain() throws IOException {
+        //arrange
+        this.publicPageSnapshotService.close();
+        this.publicPageSnapshotService = this.open(Duration.ZERO);
+        when(this.pageRepository.findPublicPageRowsByIds(List.of(1))).thenReturn(List.of(this.row(1, "kibe", 10)));
+        this.publicPageSnapshotService.schedule(1);
+        this.publicPageSnapshotService.rebuild();
+
+        //action
+        final var expired = this.publicPageSnapshotService.find("kibe");
+        this.publicPageSnapshotService.rebuild();
+
+        //assertions
+        Assertions.assertTrue(expired.isEmpty());
+        verify(this.pageRepository, times(2)).findPublicPageRowsByIds(List.of(1));
+    }
+
+    @Test
+    @DisplayName("Should follow a slug change and drop the files of deleted pages")
+    void slugChangesAndDeletes() throws IOException {
+        //arrange
+        when(this.pageRepository.findPublicPageRowsByIds(List.of(1)))
+                .thenReturn(List.of(this.row(1, "kibe", 10)))
+                .thenReturn(List.of(this.row(1, "kibe-dev", 10)))
+                .thenReturn(List.of());
+        this.publicPageSnapshotService.schedule(1);
+        this.publicPageSnapshotService.rebuild();
+        final var first = this.publicPageSnapshotService.find("kibe").orElseThrow();
+
+        //action
+        this.publicPageSnapshotService.schedule(1);
+        this.publicPageSnapshotService.rebuild();
+        final var renamed = this.publicPageSnapshotService.find("kibe-dev");
+        final var old = this.publicPageSnapshotService.find("kibe");
+        this.publicPageSnapshotService.schedule(1);
+        this.publicPageSnapshotService.rebuild();
+        this.publicPageSnapshotService.rebuild();
+
+        //assertions
+        Assertions.assertTrue(renamed.isPresent());
+        Assertions.assertTrue(old.isEmpty());
+        Assertions.assertTrue(this.publicPageSnapshotService.find("kibe-dev").isEmpty());
+        Assertions.assertFalse(Files.exists(first));
+        try (var files = Files.list(first.getParent())) {
+            Assertions.assertEquals(0, files.filter(file -> file.toString().endsWith(".json")).count());
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the files of another instance sharing the path and clean up the ones nobody owns")
+    void instancesSharingThePath() throws IOException {
+        //arrange
+        when(this.pageRepository.findPublicPageRowsByIds(List.of(1))).thenReturn(List.of(this.row(1, "kibe", 10)));
+        when(this.pageRepository.findPublicPageRowsByIds(List.of(2))).thenReturn(List.of(this.row(2, "other", 20)));
+        this.publicPageSnapshotService.schedule(1);
+        this.publicPageSnapshotService.rebuild();
+        final var abandoned = Files.createDirectories(this.directory.resolve("abandoned"));
+        Files.createFile(abandoned.resolve("owner.lock"));
+        Files.createFile(abandoned.resolve("00000000000000000000.json"));
+
+        //action
+        final var other = this.open();
+        other.schedule(2);
+        other.rebuild();
+        final var mine = this.publicPageSnapshotService.find("kibe").orElseThrow();
+        final var theirs = other.find("other").orElseThrow();
+        final var page = this.objectMapper.readValue(Files.readAllBytes(mine), PublicPageResponse.class);
+        other.close();
+
+        //assertions
+        Assertions.assertEquals(1, page.getId());
+        Assertions.assertNotEquals(mine.getParent(), theirs.getParent());
+        Assertions.assertFalse(Files.exists(abandoned));
+        Assertions.assertFalse(Files.exists(theirs.getParent()));
+        Assertions.assertTrue(Files.exists(mine));
+    }
+
+    @Test
+    @DisplayName("Should keep the pages pending when reading them fails")
+    void failedRebuildIsRetried() {
+        //arrange
+        when(this.pageRepository.findPublicPageRowsByIds(List.of(1)))
+                .thenThrow(new RuntimeException("connection refused"))
+                .thenReturn(List.of(this.row(1, "kibe", 10)));
+        this.publicPageSnapshotService.schedule(1);
+
+        //action
+        this.publicPageSnapshotService.rebuild();
+        final Optional<Path> missing = this.publicPageSnapshotService.find("kibe");
+        this.publicPageSnapshotService.rebuild();
+
+        //assertions
+        Assertions.assertTrue(missing.isEmpty());
+        Assertions.assertTrue(this.publicPageSnapshotService.find("kibe").isPresent());
+    }
+
+    private PublicPageSnapshotServiceImpl open() throws IOException {
+        return this.open(Duration.ofMinutes(5));
+    }
+
+    private PublicPageSnapshotServiceImpl open(Duration ttl) throws IOException {
+        final var pageProperties = new PageProperties();
+        pageProperties.getSnapshots().setTtl(ttl);
+        pageProperties.getSnapshots().setPath(this.directory.toString());
+        pageProperties.getSnapshots().setBatchSize(2);
+        pageProperties.getSnapshots().setRetention(Duration.ZERO);
+
+        final var service = new PublicPageSnapshotServiceImpl(this.pageRepository, this.objectMapper,
+                pageProperties, new SimpleMeterRegistry());
+        service.open();
+        return service;
+    }
+
+    private PageRevision revision(Integer id, long seconds) {
+        return new PageRevision(id, UPDATED_AT.plusSeconds(seconds));
+    }
+
+    private PublicPageRow row(Integer id, String slug, Integer linkId) {
+        return new PublicPageRow(id, slug, "Kibe", null, "default.png", "#212121", "COLOR", "#F4F4F4",
+                linkId, "Github", "https://github.com/kibe", "#cacaca", "#212121", "square");
+    }
+}